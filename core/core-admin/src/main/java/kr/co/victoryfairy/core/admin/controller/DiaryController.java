@@ -28,7 +28,7 @@ public class DiaryController {
     public CustomResponse<List<DiaryDomain.DiaryListResponse>> findAll(
             @Validated DiaryDomain.DiaryListRequest request) {
         var result = diaryService.findAll(request);
-        return CustomResponse.ok(result.getContents(), result.getTotal());
+        return CustomResponse.ok(result.getContents(), result);
     }
 
 }
@@ -28,7 +28,7 @@ public class MemberController {
     public CustomResponse<List<MemberDomain.MemberListResponse>> findList(
             @Validated MemberDomain.MemberListRequest request) {
         var result = memberService.findList(request);
-        return CustomResponse.ok(result.getContents(), result.getTotal());
+        return CustomResponse.ok(result.getContents(), result);
     }
 
 }
@@ -0,0 +1,44 @@
+package kr.co.victoryfairy.core.admin.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.co.victoryfairy.core.admin.domain.ReferenceDomain;
+import kr.co.victoryfairy.core.admin.service.ReferenceService;
+import kr.co.victoryfairy.support.constant.MessageEnum;
+import kr.co.victoryfairy.support.model.CustomResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Reference", description = "팀 / 경기장 기준 정보")
+@RestController
+@RequestMapping("/reference")
+@RequiredArgsConstructor
+public class ReferenceController {
+
+    private final ReferenceService referenceService;
+
+    @SecurityRequirement(name = "accessToken")
+    @Operation(summary = "팀 정보 수정")
+    @PatchMapping("/team/{id}")
+    public CustomResponse<MessageEnum> updateTeam(@PathVariable Long id,
+            @RequestBody @Validated ReferenceDomain.TeamUpdateRequest request) {
+        referenceService.updateTeam(id, request);
+        return CustomResponse.ok(MessageEnum.Common.UPDATE);
+    }
+
+    @SecurityRequirement(name = "accessToken")
+    @Operation(summary = "경기장 정보 수정")
+    @PatchMapping("/stadium/{id}")
+    public CustomResponse<MessageEnum> updateStadium(@PathVariable Long id,
+            @RequestBody @Validated ReferenceDomain.StadiumUpdateRequest request) {
+        referenceService.updateStadium(id, request);
+        return CustomResponse.ok(MessageEnum.Common.UPDATE);
+    }
+
+}
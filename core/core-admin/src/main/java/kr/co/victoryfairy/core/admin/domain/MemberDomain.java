@@ -13,8 +13,13 @@ public interface MemberDomain {
                     requiredMode = Schema.RequiredMode.NOT_REQUIRED) MemberEnum.SnsType snsType,
             @Schema(description = "검색", requiredMode = Schema.RequiredMode.NOT_REQUIRED) String keyword,
 
-            @Schema(description = "페이지 No", example = "1", requiredMode = Schema.RequiredMode.REQUIRED) Integer page,
-            @Schema(description = "페이지 크기", example = "10", requiredMode = Schema.RequiredMode.REQUIRED) Integer size) {
+            @Schema(description = "페이지 No (cursor 가 없을 때만 사용)", example = "1",
+                    requiredMode = Schema.RequiredMode.NOT_REQUIRED) Integer page,
+            @Schema(description = "페이지 크기", example = "10", requiredMode = Schema.RequiredMode.REQUIRED) Integer size,
+            @Schema(description = "이전 응답의 nextCursor (첫 페이지는 생략)",
+                    requiredMode = Schema.RequiredMode.NOT_REQUIRED) String cursor,
+            @Schema(description = "정확한 전체 건수 조회 여부 (기본은 캐시된 추정치 허용)",
+                    requiredMode = Schema.RequiredMode.NOT_REQUIRED) Boolean exactTotal) {
     }
 
     record MemberListResponse(Long id, String nickNm, MemberEnum.SnsType snsType, String email, Long teamId,
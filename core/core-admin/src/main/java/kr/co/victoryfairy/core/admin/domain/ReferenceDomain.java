@@ -0,0 +1,22 @@
+package kr.co.victoryfairy.core.admin.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public interface ReferenceDomain {
+
+    @Schema(name = "Reference.TeamUpdateRequest")
+    record TeamUpdateRequest(
+            @Schema(description = "스폰서 명", requiredMode = Schema.RequiredMode.NOT_REQUIRED) String sponsorNm,
+            @Schema(description = "라벨", requiredMode = Schema.RequiredMode.NOT_REQUIRED) String label,
+            @Schema(description = "정렬 순서", requiredMode = Schema.RequiredMode.NOT_REQUIRED) Short orderNo) {
+    }
+
+    @Schema(name = "Reference.StadiumUpdateRequest")
+    record StadiumUpdateRequest(
+            @Schema(description = "경기장 전체 이름", requiredMode = Schema.RequiredMode.REQUIRED) String fullName,
+            @Schema(description = "경기장 약칭", requiredMode = Schema.RequiredMode.REQUIRED) String shortName,
+            @Schema(description = "지역명 (KBO 일정 표기 기준)",
+                    requiredMode = Schema.RequiredMode.REQUIRED) String region) {
+    }
+
+}
@@ -0,0 +1,11 @@
+package kr.co.victoryfairy.core.admin.service;
+
+import kr.co.victoryfairy.core.admin.domain.ReferenceDomain;
+
+public interface ReferenceService {
+
+    void updateTeam(Long id, ReferenceDomain.TeamUpdateRequest request);
+
+    void updateStadium(Long id, ReferenceDomain.StadiumUpdateRequest request);
+
+}
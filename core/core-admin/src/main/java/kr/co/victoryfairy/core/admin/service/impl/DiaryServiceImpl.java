@@ -77,7 +77,7 @@ public class DiaryServiceImpl implements DiaryService {
         default PageResult<DiaryDomain.DiaryListResponse> toPageResult(
                 PageResult<DiaryModel.DiaryListResponse> pageResult) {
             var response = toDiaryListResponse(pageResult.getContents());
-            return new PageResult<>(response, pageResult.getTotal());
+            return pageResult.withContents(response);
         }
 
     }
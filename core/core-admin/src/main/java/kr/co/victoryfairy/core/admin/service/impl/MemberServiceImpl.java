@@ -38,7 +38,7 @@ public class MemberServiceImpl implements MemberService {
         default PageResult<MemberDomain.MemberListResponse> toPageResult(
                 PageResult<MemberModel.MemberListResponse> pageResult) {
             var response = toMemberListResponse(pageResult.getContents());
-            return new PageResult<>(response, pageResult.getTotal());
+            return pageResult.withContents(response);
         }
 
     }
@@ -0,0 +1,46 @@
+package kr.co.victoryfairy.core.admin.service.impl;
+
+import kr.co.victoryfairy.common.cache.ReferenceDataCache;
+import kr.co.victoryfairy.core.admin.domain.ReferenceDomain;
+import kr.co.victoryfairy.core.admin.service.ReferenceService;
+import kr.co.victoryfairy.storage.db.core.repository.StadiumRepository;
+import kr.co.victoryfairy.storage.db.core.repository.TeamRepository;
+import kr.co.victoryfairy.support.constant.MessageEnum;
+import kr.co.victoryfairy.support.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 팀 / 경기장 기준 정보 수정 (커밋 후 모든 노드의 기준 정보 캐시 갱신)
+ */
+@Service
+@RequiredArgsConstructor
+public class ReferenceServiceImpl implements ReferenceService {
+
+    private final TeamRepository teamRepository;
+
+    private final StadiumRepository stadiumRepository;
+
+    private final ReferenceDataCache referenceDataCache;
+
+    @Override
+    @Transactional
+    public void updateTeam(Long id, ReferenceDomain.TeamUpdateRequest request) {
+        var teamEntity = teamRepository.findById(id)
+            .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, MessageEnum.Data.FAIL_NO_RESULT));
+        teamEntity.update(request.sponsorNm(), request.label(), request.orderNo());
+        referenceDataCache.publishChangeAfterCommit();
+    }
+
+    @Override
+    @Transactional
+    public void updateStadium(Long id, ReferenceDomain.StadiumUpdateRequest request) {
+        var stadiumEntity = stadiumRepository.findById(id)
+            .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, MessageEnum.Data.FAIL_NO_RESULT));
+        stadiumEntity.update(request.fullName(), request.shortName(), request.region());
+        referenceDataCache.publishChangeAfterCommit();
+    }
+
+}
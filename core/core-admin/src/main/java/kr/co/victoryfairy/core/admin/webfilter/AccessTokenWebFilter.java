@@ -8,7 +8,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import kr.co.victoryfairy.support.constant.MessageEnum;
 import kr.co.victoryfairy.support.exception.CustomException;
 import kr.co.victoryfairy.support.model.CustomResponse;
-import kr.co.victoryfairy.support.properties.JwtProperties;
+import kr.co.victoryfairy.support.service.AccessTokenVerifier;
 import kr.co.victoryfairy.support.utils.AccessTokenUtils;
 import kr.co.victoryfairy.support.webfilter.PathPatternWebFilter;
 import org.springframework.stereotype.Component;
@@ -17,28 +17,24 @@ import java.io.IOException;
 
 @Component
 public class AccessTokenWebFilter extends PathPatternWebFilter {
-    private final JwtProperties jwtProperties;
+    private final AccessTokenVerifier accessTokenVerifier;
 
-    public AccessTokenWebFilter(JwtProperties jwtProperties) {
-        this.jwtProperties = jwtProperties;
-
-        this.addIncludePathPatterns("/v2/admin/member/**");
-        this.addIncludePathPatterns("/v2/admin/diary/**");
-        this.addIncludePathPatterns("/member/**");
-        this.addIncludePathPatterns("/diary/**");
-        this.addExcludePathPatterns(
-                "/",
-                "/swagger-ui/**",
-                "/swagger/**",
-                "/v2/admin/auth/login",
-                "/auth/login"
-        );
+    public AccessTokenWebFilter(AccessTokenVerifier accessTokenVerifier) {
+        super(Routes.include("/v2/admin/member/**", "/v2/admin/diary/**", "/member/**", "/diary/**")
+                .exclude(
+                        "/",
+                        "/swagger-ui/**",
+                        "/swagger/**",
+                        "/v2/admin/auth/login",
+                        "/auth/login"
+                ));
+        this.accessTokenVerifier = accessTokenVerifier;
     }
 
     @Override
     public void filterMatched(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
-            AccessTokenUtils.checkToken(request, jwtProperties);
+            AccessTokenUtils.checkToken(request, accessTokenVerifier);
         } catch (Exception e) {
             ObjectMapper objectMapper = new ObjectMapper();
             response.setContentType("application/json");
@@ -0,0 +1,32 @@
+package kr.co.victoryfairy.core.api.config;
+
+import kr.co.victoryfairy.common.cache.MemberStatsCache;
+import kr.co.victoryfairy.common.service.ScoreboardDomainService;
+import kr.co.victoryfairy.core.api.service.match.ScoreStreamHub;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis pub/sub 채널 구독 설정 (실시간 점수 변경 / 회원 통계 캐시 무효화 채널이 구독 연결 하나를 공유)
+ */
+@Configuration
+public class RedisListenerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+            ScoreStreamHub scoreStreamHub, MemberStatsCache memberStatsCache) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(scoreStreamHub, new ChannelTopic(ScoreboardDomainService.DELTA_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> memberStatsCache.onEvicted(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(MemberStatsCache.EVICT_CHANNEL));
+        return container;
+    }
+
+}
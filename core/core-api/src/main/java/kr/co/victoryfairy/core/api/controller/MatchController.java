@@ -1,16 +1,25 @@
 package kr.co.victoryfairy.core.api.controller;
 
 import io.dodn.springboot.core.enums.MatchEnum;
+import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import kr.co.victoryfairy.core.api.domain.MatchDomain;
 import kr.co.victoryfairy.core.api.service.MatchService;
+import kr.co.victoryfairy.core.api.service.match.ScoreStreamHub;
 import kr.co.victoryfairy.support.model.CustomResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.time.LocalDate;
 
 @Tag(name = "Match", description = "경기")
@@ -21,13 +30,36 @@ public class MatchController {
 
     private final MatchService matchService;
 
+    private final ScoreStreamHub scoreStreamHub;
+
     @Operation(summary = "특정 날짜 경기 불러오기")
     @GetMapping("/list")
-    public CustomResponse<MatchDomain.MatchListResponse> findList(
+    @Timed("match.list")
+    public ResponseEntity<CustomResponse<MatchDomain.MatchListResponse>> findList(
             @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate date,
-            @RequestParam(required = false) MatchEnum.LeagueType league) {
+            @RequestParam(required = false) MatchEnum.LeagueType league,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletResponse servletResponse) throws IOException {
+        // 비로그인 요청은 배치가 발행한 스냅샷을 ETag 와 함께 반환
+        var scoreboard = matchService.findScoreboard(date, league).orElse(null);
+        if (scoreboard != null) {
+            if (scoreboard.isNotModified(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(scoreboard.eTag()).build();
+            }
+            // 미리 렌더링된 본문을 다시 직렬화하지 않고 그대로 기록 (null 을 반환하면 응답 처리가 끝난 것으로 봄)
+            writeScoreboard(scoreboard, servletResponse);
+            return null;
+        }
+
         var response = matchService.findList(date, league);
-        return CustomResponse.ok(response);
+        return ResponseEntity.ok(CustomResponse.ok(response));
+    }
+
+    @Operation(summary = "실시간 점수 변경 구독", description = "경기 id 를 지정하면 해당 경기, 아니면 해당 날짜 전체 경기의 변경분만 전송")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate date,
+            @RequestParam(required = false) String matchId) {
+        return scoreStreamHub.subscribe(date, matchId);
     }
 
     @Operation(summary = "오늘 경기 목록")
@@ -45,9 +77,19 @@ public class MatchController {
 
     @Operation(summary = "경기 기록")
     @GetMapping("/record/{id}")
+    @Timed("match.record")
     public CustomResponse<MatchDomain.RecordResponse> findRecordById(@PathVariable String id) {
         var response = matchService.findRecordById(id);
         return CustomResponse.ok(response);
     }
 
+    private void writeScoreboard(MatchDomain.Scoreboard scoreboard, HttpServletResponse servletResponse)
+            throws IOException {
+        servletResponse.setStatus(HttpStatus.OK.value());
+        servletResponse.setHeader(HttpHeaders.ETAG, "\"" + scoreboard.eTag() + "\"");
+        servletResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        servletResponse.setContentLength(scoreboard.body().length);
+        servletResponse.getOutputStream().write(scoreboard.body());
+    }
+
 }
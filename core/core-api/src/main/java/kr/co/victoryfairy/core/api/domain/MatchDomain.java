@@ -62,4 +62,30 @@ public interface MatchDomain {
     record TodayMatchListResponse(List<MatchListDto> matchList) {
     }
 
+    /**
+     * 배치가 발행한 스코어보드 스냅샷 (ETag, 비로그인 응답 바이트, 회원별 오버레이용 원본)
+     */
+    record Scoreboard(String eTag, byte[] body, MatchListResponse response) {
+
+        /**
+         * If-None-Match 헤더가 현재 ETag 와 일치하는지 확인
+         */
+        public boolean isNotModified(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                var value = candidate.trim();
+                if (value.startsWith("W/")) {
+                    value = value.substring(2);
+                }
+                if (value.equals("*") || value.replace("\"", "").equals(eTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
 }
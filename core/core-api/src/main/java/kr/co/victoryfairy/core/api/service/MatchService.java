@@ -5,6 +5,7 @@ import kr.co.victoryfairy.core.api.domain.MatchDomain;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface MatchService {
 
@@ -12,6 +13,8 @@ public interface MatchService {
 
     MatchDomain.MatchListResponse findList(LocalDate date, MatchEnum.LeagueType league);
 
+    Optional<MatchDomain.Scoreboard> findScoreboard(LocalDate date, MatchEnum.LeagueType league);
+
     MatchDomain.MatchInfoResponse findById(String id);
 
     MatchDomain.RecordResponse findRecordById(String id);
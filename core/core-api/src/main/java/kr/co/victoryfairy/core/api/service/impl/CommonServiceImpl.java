@@ -1,12 +1,11 @@
 package kr.co.victoryfairy.core.api.service.impl;
 
+import kr.co.victoryfairy.common.cache.ReferenceDataCache;
 import kr.co.victoryfairy.core.api.domain.CommonDomain;
 import kr.co.victoryfairy.core.api.service.CommonService;
 import io.dodn.springboot.core.enums.MatchEnum;
 import kr.co.victoryfairy.storage.db.core.entity.SeatEntity;
-import kr.co.victoryfairy.storage.db.core.entity.TeamEntity;
 import kr.co.victoryfairy.storage.db.core.repository.SeatRepository;
-import kr.co.victoryfairy.storage.db.core.repository.TeamRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -17,18 +16,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommonServiceImpl implements CommonService {
 
-    private final TeamRepository teamRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     private final SeatRepository seatRepository;
 
     @Override
     public List<CommonDomain.TeamListResponse> findAll(MatchEnum.LeagueType league) {
-        List<TeamEntity> teams = (league == null) ? teamRepository.findAllByOrderByOrderNo()
-                : teamRepository.findByLeagueOrderByOrderNo(league);
-
-        return teams.stream()
-            .map(entity -> new CommonDomain.TeamListResponse(entity.getId(), entity.getName(), entity.getLabel(),
-                    entity.getLeague(), entity.getCountryCode()))
+        return referenceDataCache.findTeams(league)
+            .stream()
+            .map(team -> new CommonDomain.TeamListResponse(team.id(), team.name(), team.label(), team.league(),
+                    team.countryCode()))
             .toList();
     }
 
@@ -1,11 +1,13 @@
 package kr.co.victoryfairy.core.api.service.impl;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import io.dodn.springboot.core.enums.EventType;
 import io.dodn.springboot.core.enums.MatchEnum;
 import io.dodn.springboot.core.enums.RefType;
 import kr.co.victoryfairy.core.api.domain.DiaryDomain;
 import kr.co.victoryfairy.core.api.domain.MatchDomain;
 import kr.co.victoryfairy.core.api.service.DiaryService;
+import kr.co.victoryfairy.common.cache.MemberStatsCache;
 import kr.co.victoryfairy.redis.handler.RedisHandler;
 import kr.co.victoryfairy.redis.lock.DistributedLock;
 import kr.co.victoryfairy.redis.lock.LockName;
@@ -15,6 +17,7 @@ import kr.co.victoryfairy.common.service.FileRefDomainService;
 import kr.co.victoryfairy.common.service.PartnerDomainService;
 import kr.co.victoryfairy.storage.db.core.entity.*;
 import kr.co.victoryfairy.storage.db.core.model.DiaryModel;
+import kr.co.victoryfairy.storage.db.core.model.WinningRateModel;
 import kr.co.victoryfairy.storage.db.core.repository.*;
 import kr.co.victoryfairy.support.constant.MessageEnum;
 import kr.co.victoryfairy.support.exception.CustomException;
@@ -52,6 +55,8 @@ public class DiaryServiceImpl implements DiaryService {
 
     private final GameRecordRepository gameRecordRepository;
 
+    private final WinningRateCustomRepository winningRateCustomRepository;
+
     private final MemberRepository memberRepository;
 
     private final TeamRepository teamRepository;
@@ -66,6 +71,8 @@ public class DiaryServiceImpl implements DiaryService {
 
     private final RedisHandler redisHandler;
 
+    private final MemberStatsCache memberStatsCache;
+
     @Override
     @Transactional
     @DistributedLock(value = LockName.DIARY_WRITE, key = "#memberId + '_' + #diaryDto.gameMatchId()")
@@ -132,6 +139,7 @@ public class DiaryServiceImpl implements DiaryService {
                 }
             }
         });
+        memberStatsCache.evictAfterCommit(memberId);
 
         return new DiaryDomain.WriteResponse(diaryEntity.getId());
     }
@@ -195,13 +203,17 @@ public class DiaryServiceImpl implements DiaryService {
 
         // 경기 결과 수정 반영
         if (gameRecordEntity != null && !gameRecordEntity.getTeamEntity().getId().equals(teamEntity.getId())) {
+            var removed = winningRateDelta(gameRecordEntity, -1);
             var bfMyTeamEntity = gameRecordEntity.getTeamEntity();
             var bfResult = gameRecordEntity.getResultType();
             gameRecordEntity.updateRecord(teamEntity, bfMyTeamEntity,
                     bfResult.equals(MatchEnum.ResultType.WIN) ? MatchEnum.ResultType.LOSS
                             : bfResult.equals(MatchEnum.ResultType.LOSS) ? MatchEnum.ResultType.WIN : bfResult);
             gameRecordRepository.save(gameRecordEntity);
+            // 시즌 집계에서 이전 결과를 빼고 바뀐 결과를 더함
+            winningRateCustomRepository.applyAll(List.of(removed, winningRateDelta(gameRecordEntity, 1)));
         }
+        memberStatsCache.evictAfterCommit(id);
     }
 
     @Override
@@ -220,6 +232,7 @@ public class DiaryServiceImpl implements DiaryService {
         var gameRecordEntity = gameRecordRepository.findByMemberAndDiaryEntityId(member, diaryId);
         if (gameRecordEntity != null) {
             gameRecordRepository.delete(gameRecordEntity);
+            winningRateCustomRepository.applyAll(List.of(winningRateDelta(gameRecordEntity, -1)));
         }
 
         // 도메인 서비스를 통한 연관 데이터 삭제
@@ -238,6 +251,7 @@ public class DiaryServiceImpl implements DiaryService {
         }
 
         diaryRepository.delete(diaryEntity);
+        memberStatsCache.evictAfterCommit(id);
     }
 
     @Override
@@ -373,7 +387,14 @@ public class DiaryServiceImpl implements DiaryService {
 
         // Redis에서 해당 날짜 경기 정보 조회
         var formatDate = date.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        var matchRedis = redisHandler.getHashMap(formatDate + "_match_list");
+        var matchIds = diaryEntities.stream()
+            .map(DiaryModel.DiaryDto::getGameMatchId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        var matchRedis = redisHandler.getHashFields(formatDate + "_match_list", matchIds,
+                new TypeReference<Map<String, Object>>() {
+                });
 
         var diaryIds = diaryEntities.stream().map(DiaryModel.DiaryDto::getId).toList();
 
@@ -429,7 +450,7 @@ public class DiaryServiceImpl implements DiaryService {
 
             // Redis에 데이터가 있으면 status 우선 적용
             var status = entity.getStatus();
-            if (!matchRedis.isEmpty() && entity.getGameMatchId() != null) {
+            if (entity.getGameMatchId() != null) {
                 var matchData = matchRedis.get(entity.getGameMatchId());
                 if (matchData != null && matchData.get("status") != null) {
                     status = MatchEnum.MatchStatus.valueOf((String) matchData.get("status"));
@@ -513,4 +534,18 @@ public class DiaryServiceImpl implements DiaryService {
         return partnerDtoList.stream().map(dto -> new CommonDto.PartnerSaveRequest(dto.name(), dto.teamId())).toList();
     }
 
+    /**
+     * game_record 한 건의 시즌 집계 증감분
+     * @param sign 추가는 1, 삭제는 -1
+     */
+    private WinningRateModel.Delta winningRateDelta(GameRecordEntity gameRecordEntity, int sign) {
+        var homeTeamEntity = gameRecordEntity.getGameMatchEntity().getHomeTeamEntity();
+        var isHome = homeTeamEntity != null && gameRecordEntity.getTeamEntity() != null
+                && homeTeamEntity.getId().equals(gameRecordEntity.getTeamEntity().getId());
+        var fact = new WinningRateModel.Fact(gameRecordEntity.getViewType(), gameRecordEntity.getStatus(),
+                gameRecordEntity.getResultType(), isHome);
+        return WinningRateModel.Delta.of(gameRecordEntity.getMember().getId(), gameRecordEntity.getSeason(), fact,
+                sign);
+    }
+
 }
@@ -1,13 +1,18 @@
 package kr.co.victoryfairy.core.api.service.impl;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dodn.springboot.core.enums.MatchEnum;
+import kr.co.victoryfairy.common.cache.ReferenceDataCache;
 import kr.co.victoryfairy.core.api.domain.MatchDomain;
 import kr.co.victoryfairy.core.api.service.MatchService;
+import kr.co.victoryfairy.core.api.service.match.MatchListAssembler;
+import kr.co.victoryfairy.core.api.service.match.ScoreboardCache;
 import kr.co.victoryfairy.storage.db.core.entity.GameMatchEntity;
 import kr.co.victoryfairy.storage.db.core.entity.HitterRecordEntity;
 import kr.co.victoryfairy.storage.db.core.entity.MemberInfoEntity;
 import kr.co.victoryfairy.storage.db.core.entity.PitcherRecordEntity;
+import kr.co.victoryfairy.storage.db.core.entity.StadiumEntity;
 import kr.co.victoryfairy.storage.db.core.entity.TeamEntity;
 import kr.co.victoryfairy.storage.db.core.repository.*;
 import kr.co.victoryfairy.support.constant.MessageEnum;
@@ -22,15 +27,21 @@ import org.springframework.util.StringUtils;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MatchServiceImpl implements MatchService {
 
-    private final TeamRepository teamRepository;
+    private static final TypeReference<Map<String, Object>> MATCH_DATA_TYPE = new TypeReference<>() {
+    };
 
-    private final StadiumRepository stadiumRepository;
+    private static final TypeReference<List<Object>> RECORD_DATA_TYPE = new TypeReference<>() {
+    };
+
+    private static final List<String> RECORD_KEYS = List.of("away_pitcher", "home_pitcher", "away_hitter",
+            "home_hitter");
 
     private final GameMatchRepository gameMatchRepository;
 
@@ -44,10 +55,14 @@ public class MatchServiceImpl implements MatchService {
 
     private final MemberInfoRepository memberInfoRepository;
 
-    private final DiaryRepository diaryRepository;
-
     private final RedisHandler redisHandler;
 
+    private final MatchListAssembler assembler;
+
+    private final ReferenceDataCache referenceDataCache;
+
+    private final ScoreboardCache scoreboardCache;
+
     @Override
     public MatchDomain.MatchListResponse findList(LocalDate date) {
         return findList(date, null);
@@ -64,6 +79,12 @@ public class MatchServiceImpl implements MatchService {
 
         var formatDate = date.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
 
+        // 배치가 발행한 스냅샷이 있으면 회원별 일기 작성 여부만 덧씌워 반환
+        var scoreboard = scoreboardCache.find(date, league).orElse(null);
+        if (scoreboard != null) {
+            return overlay(memberId, teamEntity, scoreboard.response());
+        }
+
         // 당일 경기 경우 redis 에서 가져오기
         List<MatchDomain.MatchListDto> matchList = new ArrayList();
 
@@ -81,22 +102,20 @@ public class MatchServiceImpl implements MatchService {
                 return new MatchDomain.MatchListResponse(date, matchList);
             }
 
+            var lookup = loadLookup(memberId, matchEntities);
+
             matchList = matchEntities.stream().map(entity -> {
 
                 var matchAt = entity.getMatchAt();
-                var awayTeamEntity = entity.getAwayTeamEntity() != null
-                        ? teamRepository.findById(entity.getAwayTeamEntity().getId()).orElse(null)
-                        : null;
-                var homeTeamEntity = entity.getHomeTeamEntity() != null
-                        ? teamRepository.findById(entity.getHomeTeamEntity().getId()).orElse(null)
-                        : null;
-                var stadiumEntity = entity.getStadiumEntity() != null
-                        ? stadiumRepository.findById(entity.getStadiumEntity().getId()).orElse(null)
-                        : null;
-
-                var diaryEntity = diaryRepository.findByMemberIdAndGameMatchEntityId(memberId, entity.getId());
-                var isWrited = diaryEntity.isPresent();
-                var diaryId = diaryEntity.map(d -> d.getId()).orElse(null);
+                var awayTeam = entity.getAwayTeamEntity() != null
+                        ? lookup.team(entity.getAwayTeamEntity().getId()) : null;
+                var homeTeam = entity.getHomeTeamEntity() != null
+                        ? lookup.team(entity.getHomeTeamEntity().getId()) : null;
+                var stadium = entity.getStadiumEntity() != null
+                        ? lookup.stadium(entity.getStadiumEntity().getId()) : null;
+
+                var isWrited = lookup.isWrited(entity.getId());
+                var diaryId = lookup.diaryId(entity.getId());
 
                 var awayScore = entity.getAwayScore();
                 var homeScore = entity.getHomeScore();
@@ -108,15 +127,15 @@ public class MatchServiceImpl implements MatchService {
                         : (homeScore == awayScore ? MatchEnum.ResultType.DRAW
                                 : (homeScore > awayScore) ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS);
 
-                var awayTeamDto = awayTeamEntity != null
-                        ? new MatchDomain.TeamDto(awayTeamEntity.getId(), awayTeamEntity.getName(), awayScore, awayResult)
+                var awayTeamDto = awayTeam != null
+                        ? new MatchDomain.TeamDto(awayTeam.id(), awayTeam.name(), awayScore, awayResult)
                         : new MatchDomain.TeamDto(null, entity.getAwayNm(), awayScore, awayResult);
 
-                var homeTeamDto = homeTeamEntity != null
-                        ? new MatchDomain.TeamDto(homeTeamEntity.getId(), homeTeamEntity.getName(), homeScore, homeResult)
+                var homeTeamDto = homeTeam != null
+                        ? new MatchDomain.TeamDto(homeTeam.id(), homeTeam.name(), homeScore, homeResult)
                         : new MatchDomain.TeamDto(null, entity.getHomeNm(), homeScore, homeResult);
 
-                var stadiumName = stadiumEntity != null ? stadiumEntity.getShortName() : "";
+                var stadiumName = stadium != null ? stadium.shortName() : "";
 
                 return new MatchDomain.MatchListDto(entity.getId(), matchAt.toLocalDate(),
                         matchAt.format(DateTimeFormatter.ofPattern("HH:mm")), stadiumName,
@@ -128,6 +147,8 @@ public class MatchServiceImpl implements MatchService {
             return new MatchDomain.MatchListResponse(date, matchList);
         }
 
+        var lookup = loadLookup(memberId, matchRedis);
+
         for (Map.Entry<String, Map<String, Object>> entry : matchRedis.entrySet()) {
             Map<String, Object> matchData = entry.getValue();
 
@@ -152,11 +173,10 @@ public class MatchServiceImpl implements MatchService {
             Object awayScoreObj = matchData.get("awayScore");
             Object homeScoreObj = matchData.get("homeScore");
 
-            var awayEntity = teamRepository.findById(awayId).orElse(null);
-            var homeEntity = teamRepository.findById(homeId).orElse(null);
-            var diaryEntity = diaryRepository.findByMemberIdAndGameMatchEntityId(memberId, id);
-            var isWrited = diaryEntity.isPresent();
-            var diaryId = diaryEntity.map(d -> d.getId()).orElse(null);
+            var awayTeam = lookup.team(awayId);
+            var homeTeam = lookup.team(homeId);
+            var isWrited = lookup.isWrited(id);
+            var diaryId = lookup.diaryId(id);
 
             var awayScore = awayScoreObj != null ? Short.valueOf(String.valueOf(awayScoreObj)) : null;
             var homeScore = homeScoreObj != null ? Short.valueOf(String.valueOf(homeScoreObj)) : null;
@@ -171,11 +191,11 @@ public class MatchServiceImpl implements MatchService {
                             : (homeScore > awayScore) ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS)
                     : null;
 
-            var awayTeamDto = awayEntity != null
-                    ? new MatchDomain.TeamDto(awayEntity.getId(), awayEntity.getName(), awayScore, awayResult) : null;
+            var awayTeamDto = awayTeam != null
+                    ? new MatchDomain.TeamDto(awayTeam.id(), awayTeam.name(), awayScore, awayResult) : null;
 
-            var homeTeamDto = homeEntity != null
-                    ? new MatchDomain.TeamDto(homeEntity.getId(), homeEntity.getName(), homeScore, homeResult) : null;
+            var homeTeamDto = homeTeam != null
+                    ? new MatchDomain.TeamDto(homeTeam.id(), homeTeam.name(), homeScore, homeResult) : null;
 
             String matchLeague = (String) matchData.get("league");
             MatchEnum.LeagueType leagueType = matchLeague != null ? MatchEnum.LeagueType.valueOf(matchLeague) : null;
@@ -195,6 +215,15 @@ public class MatchServiceImpl implements MatchService {
         return new MatchDomain.MatchListResponse(date, matchList);
     }
 
+    @Override
+    public Optional<MatchDomain.Scoreboard> findScoreboard(LocalDate date, MatchEnum.LeagueType league) {
+        // 회원 요청은 일기 작성 여부가 달라지므로 공유 스냅샷을 그대로 내려주지 않음
+        if (RequestUtils.getId() != null) {
+            return Optional.empty();
+        }
+        return scoreboardCache.find(date, league);
+    }
+
     @Override
     public MatchDomain.MatchInfoResponse findById(String id) {
         if (!StringUtils.hasText(id)) {
@@ -210,18 +239,19 @@ public class MatchServiceImpl implements MatchService {
         }
 
         var formatDate = id.substring(0, 8);
-        var matchRedis = redisHandler.getHashMap(formatDate + "_match_list");
+        // 당일 전체 경기가 아닌 해당 경기 필드만 조회
+        var matchData = redisHandler.getHashField(formatDate + "_match_list", id, MATCH_DATA_TYPE);
 
-        if (matchRedis.isEmpty()) {
+        if (matchData == null) {
             var matchAt = matchEntity.getMatchAt();
-            var awayTeamEntity = matchEntity.getAwayTeamEntity() != null
-                    ? teamRepository.findById(matchEntity.getAwayTeamEntity().getId()).orElse(null)
+            var awayTeam = matchEntity.getAwayTeamEntity() != null
+                    ? referenceDataCache.findTeam(matchEntity.getAwayTeamEntity().getId()).orElse(null)
                     : null;
-            var homeTeamEntity = matchEntity.getHomeTeamEntity() != null
-                    ? teamRepository.findById(matchEntity.getHomeTeamEntity().getId()).orElse(null)
+            var homeTeam = matchEntity.getHomeTeamEntity() != null
+                    ? referenceDataCache.findTeam(matchEntity.getHomeTeamEntity().getId()).orElse(null)
                     : null;
-            var stadiumEntity = matchEntity.getStadiumEntity() != null
-                    ? stadiumRepository.findById(matchEntity.getStadiumEntity().getId()).orElse(null)
+            var stadium = matchEntity.getStadiumEntity() != null
+                    ? referenceDataCache.findStadium(matchEntity.getStadiumEntity().getId()).orElse(null)
                     : null;
 
             var awayScore = matchEntity.getAwayScore();
@@ -234,17 +264,16 @@ public class MatchServiceImpl implements MatchService {
                     : (homeScore == awayScore ? MatchEnum.ResultType.DRAW
                             : (homeScore > awayScore) ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS);
 
-            var awayTeamDto = awayTeamEntity != null
-                    ? new MatchDomain.TeamDto(awayTeamEntity.getId(), awayTeamEntity.getName(), awayScore, awayResult)
+            var awayTeamDto = awayTeam != null
+                    ? new MatchDomain.TeamDto(awayTeam.id(), awayTeam.name(), awayScore, awayResult)
                     : new MatchDomain.TeamDto(null, matchEntity.getAwayNm(), awayScore, awayResult);
 
-            var homeTeamDto = homeTeamEntity != null
-                    ? new MatchDomain.TeamDto(homeTeamEntity.getId(), homeTeamEntity.getName(), homeScore, homeResult)
+            var homeTeamDto = homeTeam != null
+                    ? new MatchDomain.TeamDto(homeTeam.id(), homeTeam.name(), homeScore, homeResult)
                     : new MatchDomain.TeamDto(null, matchEntity.getHomeNm(), homeScore, homeResult);
 
-            var stadiumDto = stadiumEntity != null
-                    ? new MatchDomain.StadiumDto(stadiumEntity.getId(), stadiumEntity.getShortName(),
-                            stadiumEntity.getFullName())
+            var stadiumDto = stadium != null
+                    ? new MatchDomain.StadiumDto(stadium.id(), stadium.shortName(), stadium.fullName())
                     : null;
 
             // 취소된 경기는 취소 사유를 statusDetail로 반환
@@ -256,7 +285,6 @@ public class MatchServiceImpl implements MatchService {
                     statusDetail, awayTeamDto, homeTeamDto, matchEntity.getLeague());
         }
 
-        var matchData = matchRedis.get(id);
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
         LocalDate date = LocalDate.parse(formatDate, formatter);
 
@@ -272,9 +300,9 @@ public class MatchServiceImpl implements MatchService {
         Object awayScoreObj = matchData.get("awayScore");
         Object homeScoreObj = matchData.get("homeScore");
 
-        var awayEntity = teamRepository.findById(awayId).orElse(null);
-        var homeEntity = teamRepository.findById(homeId).orElse(null);
-        var stadiumEntity = stadiumId != null ? stadiumRepository.findById(stadiumId).orElse(null) : null;
+        var awayTeam = referenceDataCache.findTeam(awayId).orElse(null);
+        var homeTeam = referenceDataCache.findTeam(homeId).orElse(null);
+        var stadium = stadiumId != null ? referenceDataCache.findStadium(stadiumId).orElse(null) : null;
 
         var awayScore = awayScoreObj != null ? Short.valueOf(String.valueOf(awayScoreObj)) : null;
         var homeScore = homeScoreObj != null ? Short.valueOf(String.valueOf(homeScoreObj)) : null;
@@ -285,14 +313,14 @@ public class MatchServiceImpl implements MatchService {
         var homeResult = status.equals(MatchEnum.MatchStatus.END) ? (homeScore == awayScore ? MatchEnum.ResultType.DRAW
                 : (homeScore > awayScore) ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS) : null;
 
-        var awayTeamDto = awayEntity != null
-                ? new MatchDomain.TeamDto(awayEntity.getId(), awayEntity.getName(), awayScore, awayResult) : null;
+        var awayTeamDto = awayTeam != null
+                ? new MatchDomain.TeamDto(awayTeam.id(), awayTeam.name(), awayScore, awayResult) : null;
 
-        var homeTeamDto = homeEntity != null
-                ? new MatchDomain.TeamDto(homeEntity.getId(), homeEntity.getName(), homeScore, homeResult) : null;
+        var homeTeamDto = homeTeam != null
+                ? new MatchDomain.TeamDto(homeTeam.id(), homeTeam.name(), homeScore, homeResult) : null;
 
-        var stadiumDto = stadiumEntity != null ? new MatchDomain.StadiumDto(stadiumEntity.getId(),
-                stadiumEntity.getShortName(), stadiumEntity.getFullName()) : null;
+        var stadiumDto = stadium != null
+                ? new MatchDomain.StadiumDto(stadium.id(), stadium.shortName(), stadium.fullName()) : null;
 
         return new MatchDomain.MatchInfoResponse(id, date, time, stadiumDto, status, statusDetail, awayTeamDto,
                 homeTeamDto, matchEntity.getLeague());
@@ -303,25 +331,22 @@ public class MatchServiceImpl implements MatchService {
         var matchEntity = gameMatchRepository.findById(id)
             .orElseThrow(() -> new CustomException(MessageEnum.Data.FAIL_NO_RESULT));
 
-        var awayTeamEntity = matchEntity.getAwayTeamEntity() != null
-                ? teamRepository.findById(matchEntity.getAwayTeamEntity().getId()).orElse(null)
+        var awayTeam = matchEntity.getAwayTeamEntity() != null
+                ? referenceDataCache.findTeam(matchEntity.getAwayTeamEntity().getId()).orElse(null)
                 : null;
 
-        var homeTeamEntity = matchEntity.getHomeTeamEntity() != null
-                ? teamRepository.findById(matchEntity.getHomeTeamEntity().getId()).orElse(null)
+        var homeTeam = matchEntity.getHomeTeamEntity() != null
+                ? referenceDataCache.findTeam(matchEntity.getHomeTeamEntity().getId()).orElse(null)
                 : null;
 
-        var awayPitcherRedis = redisHandler.getHashMapList("away_pitcher");
-        var homePitcherRedis = redisHandler.getHashMapList("home_pitcher");
+        // 4개 기록 hash 에서 해당 경기 필드만 한 번의 왕복으로 조회
+        var recordRedis = redisHandler.getHashFieldFromKeys(RECORD_KEYS, id, RECORD_DATA_TYPE);
 
-        var awayBatterRedis = redisHandler.getHashMapList("away_hitter");
-        var homeBatterRedis = redisHandler.getHashMapList("home_hitter");
+        var awayPitcherData = recordRedis.get("away_pitcher");
+        var awayBatterData = recordRedis.get("away_hitter");
 
-        var awayPitcherData = awayPitcherRedis.get(id);
-        var awayBatterData = awayBatterRedis.get(id);
-
-        var homePitcherData = homePitcherRedis.get(id);
-        var homeBatterData = homeBatterRedis.get(id);
+        var homePitcherData = recordRedis.get("home_pitcher");
+        var homeBatterData = recordRedis.get("home_hitter");
 
         List<MatchDomain.PitcherRecordDto> awayPitchers = new ArrayList<>();
         List<MatchDomain.BatterRecordDto> awayBatters = new ArrayList<>();
@@ -333,10 +358,8 @@ public class MatchServiceImpl implements MatchService {
         List<HitterRecordEntity> hitterEntities = Collections.emptyList();
 
         // redis 에 저장된 데이터가 없으면 DB 조회
-        if (((awayPitcherRedis.isEmpty() || awayPitcherData == null)
-                && (awayBatterRedis.isEmpty() || awayBatterData == null))
-                || ((homePitcherRedis.isEmpty() || homePitcherData == null)
-                        && (homeBatterRedis.isEmpty() || homeBatterData == null))) {
+        if ((awayPitcherData == null && awayBatterData == null)
+                || (homePitcherData == null && homeBatterData == null)) {
 
             pitcherEntities = pitcherRecordRepository.findByGameMatchEntityId(id);
             hitterEntities = hitterRecordRepository.findByGameMatchEntityId(id);
@@ -433,8 +456,8 @@ public class MatchServiceImpl implements MatchService {
             }
         }
 
-        var awayTeamName = awayTeamEntity != null ? awayTeamEntity.getName() : matchEntity.getAwayNm();
-        var homeTeamName = homeTeamEntity != null ? homeTeamEntity.getName() : matchEntity.getHomeNm();
+        var awayTeamName = awayTeam != null ? awayTeam.name() : matchEntity.getAwayNm();
+        var homeTeamName = homeTeam != null ? homeTeam.name() : matchEntity.getHomeNm();
 
         var awayTeamDto = new MatchDomain.TeamRecordDto(awayTeamName, awayPitchers, awayBatters);
         var homeTeamDto = new MatchDomain.TeamRecordDto(homeTeamName, homePitchers, homeBatters);
@@ -462,7 +485,6 @@ public class MatchServiceImpl implements MatchService {
 
         var now = LocalDate.now();
         var formatDate = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        var matchRedis = redisHandler.getHashMap(formatDate + "_match_list");
 
         var matchEntity = gameMatchCustomRepository.findByTeamIdIn(memberInfoEntity.getTeamEntity().getId(), now);
 
@@ -470,51 +492,43 @@ public class MatchServiceImpl implements MatchService {
             return new ArrayList<>();
         }
 
-        if (matchRedis.isEmpty()) {
-            return matchEntity.stream().map(entity -> {
-                var matchAt = entity.getMatchAt();
-                var awayTeamEntity = entity.getAwayTeamEntity() != null
-                        ? teamRepository.findById(entity.getAwayTeamEntity().getId()).orElse(null)
-                        : null;
-                var homeTeamEntity = entity.getHomeTeamEntity() != null
-                        ? teamRepository.findById(entity.getHomeTeamEntity().getId()).orElse(null)
-                        : null;
-                var stadiumEntity = entity.getStadiumEntity() != null
-                        ? stadiumRepository.findById(entity.getStadiumEntity().getId()).orElse(null)
-                        : null;
-                var isWrited = diaryRepository.findByMemberIdAndGameMatchEntityId(id, entity.getId()).isPresent();
-
-                var awayScore = entity.getAwayScore();
-                var homeScore = entity.getHomeScore();
-
-                MatchEnum.ResultType awayResult = awayScore == null ? null
-                        : (awayScore == homeScore ? MatchEnum.ResultType.DRAW
-                                : (awayScore > homeScore) ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS);
-                MatchEnum.ResultType homeResult = homeScore == null ? null
-                        : (homeScore == awayScore ? MatchEnum.ResultType.DRAW
-                                : (homeScore > awayScore) ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS);
-
-                var awayTeamDto = awayTeamEntity != null
-                        ? new MatchDomain.TeamDto(awayTeamEntity.getId(), awayTeamEntity.getName(), awayScore, awayResult)
-                        : new MatchDomain.TeamDto(null, entity.getAwayNm(), awayScore, awayResult);
+        // 관심 팀 경기 필드만 조회
+        var matchRedis = redisHandler.getHashFields(formatDate + "_match_list",
+                matchEntity.stream().map(GameMatchEntity::getId).toList(), MATCH_DATA_TYPE);
 
-                var homeTeamDto = homeTeamEntity != null
-                        ? new MatchDomain.TeamDto(homeTeamEntity.getId(), homeTeamEntity.getName(), homeScore, homeResult)
-                        : new MatchDomain.TeamDto(null, entity.getHomeNm(), homeScore, homeResult);
-
-                var stadiumDto = stadiumEntity != null
-                        ? new MatchDomain.StadiumDto(stadiumEntity.getId(), stadiumEntity.getShortName(),
-                                stadiumEntity.getFullName())
-                        : null;
-                return new MatchDomain.InterestTeamMatchInfoResponse(entity.getId(), matchAt.toLocalDate(),
-                        matchAt.format(DateTimeFormatter.ofPattern("HH:mm")), stadiumDto, entity.getStatus(),
-                        entity.getStatus().getDesc(), awayTeamDto, homeTeamDto, isWrited);
-            }).toList();
+        if (matchRedis.isEmpty()) {
+            var lookup = loadLookup(id, matchEntity);
+            return matchEntity.stream().map(entity -> toInterestTeamMatch(entity, lookup)).toList();
         }
 
+        // 스냅샷에 없는 경기는 DB 값으로 대체하므로 팀, 경기장도 함께 조회
+        var missingEntities = matchEntity.stream().filter(entity -> !matchRedis.containsKey(entity.getId())).toList();
+        var redisMatches = matchEntity.stream()
+            .map(entity -> matchRedis.get(entity.getId()))
+            .filter(Objects::nonNull)
+            .toList();
+        var teamIds = Stream.concat(
+                redisMatches.stream().flatMap(data -> toIds(data.get("awayId"), data.get("homeId")).stream()),
+                missingEntities.stream()
+                    .flatMap(entity -> Stream.of(entity.getAwayTeamEntity(), entity.getHomeTeamEntity()))
+                    .filter(Objects::nonNull)
+                    .map(TeamEntity::getId))
+            .toList();
+        var stadiumIds = Stream.concat(redisMatches.stream().flatMap(data -> toIds(data.get("stadiumId")).stream()),
+                missingEntities.stream()
+                    .map(GameMatchEntity::getStadiumEntity)
+                    .filter(Objects::nonNull)
+                    .map(StadiumEntity::getId))
+            .toList();
+        var lookup = assembler.load(id, matchEntity.stream().map(GameMatchEntity::getId).toList(), teamIds,
+                stadiumIds);
+
         return matchEntity.stream().map(entity -> {
 
             var matchData = matchRedis.get(entity.getId());
+            if (matchData == null) {
+                return toInterestTeamMatch(entity, lookup);
+            }
             DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
             LocalDate date = LocalDate.parse(formatDate, formatter);
 
@@ -524,15 +538,16 @@ public class MatchServiceImpl implements MatchService {
 
             Long awayId = Long.valueOf(String.valueOf(matchData.get("awayId")));
             Long homeId = Long.valueOf(String.valueOf(matchData.get("homeId")));
-            Long stadiumId = Long.valueOf(String.valueOf(matchData.get("stadiumId")));
+            Object stadiumIdObj = matchData.get("stadiumId");
+            Long stadiumId = stadiumIdObj != null ? Long.valueOf(String.valueOf(stadiumIdObj)) : null;
 
             Object awayScoreObj = matchData.get("awayScore");
             Object homeScoreObj = matchData.get("homeScore");
 
-            var awayEntity = teamRepository.findById(awayId).orElse(null);
-            var homeEntity = teamRepository.findById(homeId).orElse(null);
-            var stadiumEntity = stadiumRepository.findById(stadiumId).orElse(null);
-            var isWrited = diaryRepository.findByMemberIdAndGameMatchEntityId(id, entity.getId()).isPresent();
+            var awayTeam = lookup.team(awayId);
+            var homeTeam = lookup.team(homeId);
+            var stadium = stadiumId != null ? lookup.stadium(stadiumId) : null;
+            var isWrited = lookup.isWrited(entity.getId());
 
             var awayScore = awayScoreObj != null ? Short.valueOf(String.valueOf(awayScoreObj)) : null;
             var homeScore = homeScoreObj != null ? Short.valueOf(String.valueOf(homeScoreObj)) : null;
@@ -547,14 +562,14 @@ public class MatchServiceImpl implements MatchService {
                             : (homeScore > awayScore) ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS)
                     : null;
 
-            var awayTeamDto = awayEntity != null
-                    ? new MatchDomain.TeamDto(awayEntity.getId(), awayEntity.getName(), awayScore, awayResult) : null;
+            var awayTeamDto = awayTeam != null
+                    ? new MatchDomain.TeamDto(awayTeam.id(), awayTeam.name(), awayScore, awayResult) : null;
 
-            var homeTeamDto = homeEntity != null
-                    ? new MatchDomain.TeamDto(homeEntity.getId(), homeEntity.getName(), homeScore, homeResult) : null;
+            var homeTeamDto = homeTeam != null
+                    ? new MatchDomain.TeamDto(homeTeam.id(), homeTeam.name(), homeScore, homeResult) : null;
 
-            var stadiumDto = stadiumEntity != null ? new MatchDomain.StadiumDto(stadiumEntity.getId(),
-                    stadiumEntity.getShortName(), stadiumEntity.getFullName()) : null;
+            var stadiumDto = stadium != null
+                ? new MatchDomain.StadiumDto(stadium.id(), stadium.shortName(), stadium.fullName()) : null;
 
             return new MatchDomain.InterestTeamMatchInfoResponse(entity.getId(), date, time, stadiumDto, status,
                     statusDetail, awayTeamDto, homeTeamDto, isWrited);
@@ -586,22 +601,20 @@ public class MatchServiceImpl implements MatchService {
                 return new MatchDomain.TodayMatchListResponse(matchList);
             }
 
+            var lookup = loadLookup(memberId, matchEntities);
+
             matchList = matchEntities.stream().map(entity -> {
 
                 var matchAt = entity.getMatchAt();
-                var awayTeamEntity = entity.getAwayTeamEntity() != null
-                        ? teamRepository.findById(entity.getAwayTeamEntity().getId()).orElse(null)
-                        : null;
-                var homeTeamEntity = entity.getHomeTeamEntity() != null
-                        ? teamRepository.findById(entity.getHomeTeamEntity().getId()).orElse(null)
-                        : null;
-                var stadiumEntity = entity.getStadiumEntity() != null
-                        ? stadiumRepository.findById(entity.getStadiumEntity().getId()).orElse(null)
-                        : null;
-
-                var diaryEntity = diaryRepository.findByMemberIdAndGameMatchEntityId(memberId, entity.getId());
-                var isWrited = diaryEntity.isPresent();
-                var diaryId = diaryEntity.map(d -> d.getId()).orElse(null);
+                var awayTeam = entity.getAwayTeamEntity() != null
+                        ? lookup.team(entity.getAwayTeamEntity().getId()) : null;
+                var homeTeam = entity.getHomeTeamEntity() != null
+                        ? lookup.team(entity.getHomeTeamEntity().getId()) : null;
+                var stadium = entity.getStadiumEntity() != null
+                        ? lookup.stadium(entity.getStadiumEntity().getId()) : null;
+
+                var isWrited = lookup.isWrited(entity.getId());
+                var diaryId = lookup.diaryId(entity.getId());
 
                 var awayScore = entity.getAwayScore();
                 var homeScore = entity.getHomeScore();
@@ -613,15 +626,15 @@ public class MatchServiceImpl implements MatchService {
                         : (homeScore == awayScore ? MatchEnum.ResultType.DRAW
                                 : (homeScore > awayScore) ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS);
 
-                var awayTeamDto = awayTeamEntity != null
-                        ? new MatchDomain.TeamDto(awayTeamEntity.getId(), awayTeamEntity.getName(), awayScore, awayResult)
+                var awayTeamDto = awayTeam != null
+                        ? new MatchDomain.TeamDto(awayTeam.id(), awayTeam.name(), awayScore, awayResult)
                         : new MatchDomain.TeamDto(null, entity.getAwayNm(), awayScore, awayResult);
 
-                var homeTeamDto = homeTeamEntity != null
-                        ? new MatchDomain.TeamDto(homeTeamEntity.getId(), homeTeamEntity.getName(), homeScore, homeResult)
+                var homeTeamDto = homeTeam != null
+                        ? new MatchDomain.TeamDto(homeTeam.id(), homeTeam.name(), homeScore, homeResult)
                         : new MatchDomain.TeamDto(null, entity.getHomeNm(), homeScore, homeResult);
 
-                var stadiumName = stadiumEntity != null ? stadiumEntity.getShortName() : "";
+                var stadiumName = stadium != null ? stadium.shortName() : "";
 
                 return new MatchDomain.MatchListDto(entity.getId(), matchAt.toLocalDate(),
                         matchAt.format(DateTimeFormatter.ofPattern("HH:mm")), stadiumName,
@@ -633,6 +646,8 @@ public class MatchServiceImpl implements MatchService {
             return new MatchDomain.TodayMatchListResponse(matchList);
         }
 
+        var lookup = loadLookup(memberId, matchRedis);
+
         for (Map.Entry<String, Map<String, Object>> entry : matchRedis.entrySet()) {
             Map<String, Object> matchData = entry.getValue();
 
@@ -649,11 +664,10 @@ public class MatchServiceImpl implements MatchService {
             Object awayScoreObj = matchData.get("awayScore");
             Object homeScoreObj = matchData.get("homeScore");
 
-            var awayEntity = teamRepository.findById(awayId).orElse(null);
-            var homeEntity = teamRepository.findById(homeId).orElse(null);
-            var diaryEntity = diaryRepository.findByMemberIdAndGameMatchEntityId(memberId, id);
-            var isWrited = diaryEntity.isPresent();
-            var diaryId = diaryEntity.map(d -> d.getId()).orElse(null);
+            var awayTeam = lookup.team(awayId);
+            var homeTeam = lookup.team(homeId);
+            var isWrited = lookup.isWrited(id);
+            var diaryId = lookup.diaryId(id);
 
             var awayScore = awayScoreObj != null ? Short.valueOf(String.valueOf(awayScoreObj)) : null;
             var homeScore = homeScoreObj != null ? Short.valueOf(String.valueOf(homeScoreObj)) : null;
@@ -668,11 +682,11 @@ public class MatchServiceImpl implements MatchService {
                             : (homeScore > awayScore) ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS)
                     : null;
 
-            var awayTeamDto = awayEntity != null
-                    ? new MatchDomain.TeamDto(awayEntity.getId(), awayEntity.getName(), awayScore, awayResult) : null;
+            var awayTeamDto = awayTeam != null
+                    ? new MatchDomain.TeamDto(awayTeam.id(), awayTeam.name(), awayScore, awayResult) : null;
 
-            var homeTeamDto = homeEntity != null
-                    ? new MatchDomain.TeamDto(homeEntity.getId(), homeEntity.getName(), homeScore, homeResult) : null;
+            var homeTeamDto = homeTeam != null
+                    ? new MatchDomain.TeamDto(homeTeam.id(), homeTeam.name(), homeScore, homeResult) : null;
 
             String matchLeague = (String) matchData.get("league");
             MatchEnum.LeagueType todayLeagueType = matchLeague != null ? MatchEnum.LeagueType.valueOf(matchLeague)
@@ -692,6 +706,102 @@ public class MatchServiceImpl implements MatchService {
         return new MatchDomain.TodayMatchListResponse(matchList);
     }
 
+    /**
+     * 캐시된 스코어보드 스냅샷에 회원별 일기 상태를 합침
+     * <p>
+     * 실시간 점수 / 경기 상태는 배치가 발행한 스냅샷 값을 그대로 쓰고, 회원의 일기 작성 여부 / 일기 id 만 일괄 조회해 채웁니다. 결과는 시간순,
+     * 같은 시간이면 응원 팀 경기 우선으로 정렬합니다.
+     */
+    private MatchDomain.MatchListResponse overlay(Long memberId, TeamEntity teamEntity,
+            MatchDomain.MatchListResponse response) {
+        var matches = response.matchList();
+        var lookup = assembler.load(memberId, matches.stream().map(MatchDomain.MatchListDto::id).toList(), List.of(),
+                List.of());
+
+        var matchList = matches.stream()
+            .map(match -> new MatchDomain.MatchListDto(match.id(), match.date(), match.time(), match.stadium(),
+                    match.status(), match.statusDetail(), match.awayTeam(), match.homeTeam(),
+                    lookup.isWrited(match.id()), lookup.diaryId(match.id()), match.leagueType()))
+            .sorted(Comparator.comparing((MatchDomain.MatchListDto m) -> m.time())
+                .thenComparing(m -> !isMyTeamMatch(m, teamEntity)))
+            .toList();
+
+        return new MatchDomain.MatchListResponse(response.date(), matchList);
+    }
+
+    /**
+     * DB 경기 정보로 관심 팀 경기 응답 생성 (Redis 스냅샷이 없거나 해당 경기가 빠진 경우)
+     */
+    private MatchDomain.InterestTeamMatchInfoResponse toInterestTeamMatch(GameMatchEntity entity,
+            MatchListAssembler.MatchLookup lookup) {
+        var matchAt = entity.getMatchAt();
+        var awayTeam = entity.getAwayTeamEntity() != null
+                ? lookup.team(entity.getAwayTeamEntity().getId()) : null;
+        var homeTeam = entity.getHomeTeamEntity() != null
+                ? lookup.team(entity.getHomeTeamEntity().getId()) : null;
+        var stadium = entity.getStadiumEntity() != null
+                ? lookup.stadium(entity.getStadiumEntity().getId()) : null;
+        var isWrited = lookup.isWrited(entity.getId());
+
+        var awayScore = entity.getAwayScore();
+        var homeScore = entity.getHomeScore();
+
+        MatchEnum.ResultType awayResult = awayScore == null ? null
+                : (awayScore == homeScore ? MatchEnum.ResultType.DRAW
+                        : (awayScore > homeScore) ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS);
+        MatchEnum.ResultType homeResult = homeScore == null ? null
+                : (homeScore == awayScore ? MatchEnum.ResultType.DRAW
+                        : (homeScore > awayScore) ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS);
+
+        var awayTeamDto = awayTeam != null
+                ? new MatchDomain.TeamDto(awayTeam.id(), awayTeam.name(), awayScore, awayResult)
+                : new MatchDomain.TeamDto(null, entity.getAwayNm(), awayScore, awayResult);
+
+        var homeTeamDto = homeTeam != null
+                ? new MatchDomain.TeamDto(homeTeam.id(), homeTeam.name(), homeScore, homeResult)
+                : new MatchDomain.TeamDto(null, entity.getHomeNm(), homeScore, homeResult);
+
+        var stadiumDto = stadium != null
+                ? new MatchDomain.StadiumDto(stadium.id(), stadium.shortName(), stadium.fullName())
+                : null;
+        return new MatchDomain.InterestTeamMatchInfoResponse(entity.getId(), matchAt.toLocalDate(),
+                matchAt.format(DateTimeFormatter.ofPattern("HH:mm")), stadiumDto, entity.getStatus(),
+                entity.getStatus().getDesc(), awayTeamDto, homeTeamDto, isWrited);
+    }
+
+    private MatchListAssembler.MatchLookup loadLookup(Long memberId, List<GameMatchEntity> matchEntities) {
+        var matchIds = matchEntities.stream().map(GameMatchEntity::getId).toList();
+        var teamIds = matchEntities.stream()
+            .flatMap(entity -> Stream.of(entity.getAwayTeamEntity(), entity.getHomeTeamEntity()))
+            .filter(Objects::nonNull)
+            .map(TeamEntity::getId)
+            .toList();
+        var stadiumIds = matchEntities.stream()
+            .map(GameMatchEntity::getStadiumEntity)
+            .filter(Objects::nonNull)
+            .map(StadiumEntity::getId)
+            .toList();
+        return assembler.load(memberId, matchIds, teamIds, stadiumIds);
+    }
+
+    /**
+     * redis 경기 목록 기준 팀, 일기 일괄 조회
+     */
+    private MatchListAssembler.MatchLookup loadLookup(Long memberId, Map<String, Map<String, Object>> matchRedis) {
+        var teamIds = matchRedis.values()
+            .stream()
+            .flatMap(data -> toIds(data.get("awayId"), data.get("homeId")).stream())
+            .toList();
+        return assembler.load(memberId, matchRedis.keySet(), teamIds, List.of());
+    }
+
+    private List<Long> toIds(Object... values) {
+        return Arrays.stream(values)
+            .filter(Objects::nonNull)
+            .map(value -> Long.valueOf(String.valueOf(value)))
+            .toList();
+    }
+
     private boolean isMyTeamMatch(MatchDomain.MatchListDto match, TeamEntity teamEntity) {
         if (teamEntity == null) {
             return false;
@@ -704,14 +814,14 @@ public class MatchServiceImpl implements MatchService {
 
     private MatchDomain.MatchInfoResponse findByIdFromDb(GameMatchEntity matchEntity) {
         var matchAt = matchEntity.getMatchAt();
-        var awayTeamEntity = matchEntity.getAwayTeamEntity() != null
-                ? teamRepository.findById(matchEntity.getAwayTeamEntity().getId()).orElse(null)
+        var awayTeam = matchEntity.getAwayTeamEntity() != null
+                ? referenceDataCache.findTeam(matchEntity.getAwayTeamEntity().getId()).orElse(null)
                 : null;
-        var homeTeamEntity = matchEntity.getHomeTeamEntity() != null
-                ? teamRepository.findById(matchEntity.getHomeTeamEntity().getId()).orElse(null)
+        var homeTeam = matchEntity.getHomeTeamEntity() != null
+                ? referenceDataCache.findTeam(matchEntity.getHomeTeamEntity().getId()).orElse(null)
                 : null;
-        var stadiumEntity = matchEntity.getStadiumEntity() != null
-                ? stadiumRepository.findById(matchEntity.getStadiumEntity().getId()).orElse(null)
+        var stadium = matchEntity.getStadiumEntity() != null
+                ? referenceDataCache.findStadium(matchEntity.getStadiumEntity().getId()).orElse(null)
                 : null;
 
         var awayScore = matchEntity.getAwayScore();
@@ -724,17 +834,16 @@ public class MatchServiceImpl implements MatchService {
                 : (homeScore == awayScore ? MatchEnum.ResultType.DRAW
                         : (homeScore > awayScore) ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS);
 
-        var awayTeamDto = awayTeamEntity != null
-                ? new MatchDomain.TeamDto(awayTeamEntity.getId(), awayTeamEntity.getName(), awayScore, awayResult)
+        var awayTeamDto = awayTeam != null
+                ? new MatchDomain.TeamDto(awayTeam.id(), awayTeam.name(), awayScore, awayResult)
                 : new MatchDomain.TeamDto(null, matchEntity.getAwayNm(), awayScore, awayResult);
 
-        var homeTeamDto = homeTeamEntity != null
-                ? new MatchDomain.TeamDto(homeTeamEntity.getId(), homeTeamEntity.getName(), homeScore, homeResult)
+        var homeTeamDto = homeTeam != null
+                ? new MatchDomain.TeamDto(homeTeam.id(), homeTeam.name(), homeScore, homeResult)
                 : new MatchDomain.TeamDto(null, matchEntity.getHomeNm(), homeScore, homeResult);
 
-        var stadiumDto = stadiumEntity != null
-                ? new MatchDomain.StadiumDto(stadiumEntity.getId(), stadiumEntity.getShortName(),
-                        stadiumEntity.getFullName())
+        var stadiumDto = stadium != null
+                ? new MatchDomain.StadiumDto(stadium.id(), stadium.shortName(), stadium.fullName())
                 : null;
 
         var statusDetail = matchEntity.getStatus().equals(MatchEnum.MatchStatus.CANCELED)
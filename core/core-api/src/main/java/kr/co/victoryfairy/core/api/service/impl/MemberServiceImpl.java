@@ -1,11 +1,12 @@
 package kr.co.victoryfairy.core.api.service.impl;
 
 import io.dodn.springboot.core.enums.DiaryEnum;
-import io.dodn.springboot.core.enums.MatchEnum;
 import io.dodn.springboot.core.enums.MemberEnum;
 import io.dodn.springboot.core.enums.RefType;
+import kr.co.victoryfairy.common.cache.MemberStatsCache;
 import kr.co.victoryfairy.core.api.domain.MemberDomain;
 import kr.co.victoryfairy.core.api.service.MemberService;
+import kr.co.victoryfairy.core.api.service.record.RecordAggregator;
 import kr.co.victoryfairy.redis.lock.DistributedLock;
 import kr.co.victoryfairy.redis.lock.LockName;
 import kr.co.victoryfairy.support.model.AuthModel;
@@ -46,7 +47,9 @@ public class MemberServiceImpl implements MemberService {
 
     private final FileRefRepository fileRefRepository;
 
-    private final GameRecordRepository gameRecordRepository;
+    private final WinningRateRepository winningRateRepository;
+
+    private final MemberStatsCache memberStatsCache;
 
     private final JwtService jwtService;
 
@@ -212,49 +215,26 @@ public class MemberServiceImpl implements MemberService {
         if (id == null)
             throw new CustomException(MessageEnum.Auth.FAIL_EXPIRE_AUTH);
 
-        var memberEntity = memberRepository.findById(id)
-            .orElseThrow(() -> new CustomException(MessageEnum.Data.FAIL_NO_RESULT));
-
         var year = String.valueOf(LocalDate.now().getYear());
+        return memberStatsCache.get(id, MemberStatsCache.HOME_WIN_RATE, year,
+                MemberDomain.MemberHomeWinRateResponse.class, () -> computeHomeWinRate(id, year));
+    }
 
-        var recordList = gameRecordRepository.findByMemberAndSeason(memberEntity, year);
-
-        var stadiumRecord = recordList.stream()
-            .filter(record -> record.getViewType() == DiaryEnum.ViewType.STADIUM)
-            .toList();
+    private MemberDomain.MemberHomeWinRateResponse computeHomeWinRate(Long id, String year) {
+        var memberEntity = memberRepository.findById(id)
+            .orElseThrow(() -> new CustomException(MessageEnum.Data.FAIL_NO_RESULT));
 
-        if (recordList.isEmpty() || stadiumRecord.isEmpty()) {
+        // 시즌 집계 한 행으로 계산 (무 / 취소 기준은 마이페이지 리포트와 동일)
+        var stadium = winningRateRepository.findByMemberAndSeason(memberEntity, year)
+            .map(RecordAggregator::from)
+            .map(stats -> stats.viewType(DiaryEnum.ViewType.STADIUM))
+            .orElse(null);
+        if (stadium == null) {
             return new MemberDomain.MemberHomeWinRateResponse((short) 0, (short) 0, (short) 0, (short) 0, (short) 0);
         }
 
-        var winCount = (short) stadiumRecord.stream()
-            .filter(record -> record.getResultType() == MatchEnum.ResultType.WIN)
-            .count();
-
-        var loseCount = (short) stadiumRecord.stream()
-            .filter(record -> record.getResultType() == MatchEnum.ResultType.LOSS)
-            .count();
-
-        var drawCount = (short) stadiumRecord.stream()
-            .filter(record -> record.getResultType() == MatchEnum.ResultType.DRAW)
-            .count();
-
-        var cancelCount = (short) stadiumRecord.stream()
-            .filter(record -> record.getResultType() == MatchEnum.ResultType.CANCEL)
-            .count();
-
-        // 승 + 패 경기 수
-        var validGameCount = winCount + loseCount;
-
-        // 승률 계산
-        short winAvg = 0;
-        if (validGameCount > 0) {
-            double avg = (double) winCount / validGameCount * 100;
-            winAvg = (short) Math.round(avg); // 소수점 첫째자리 반올림
-        }
-
-        return new MemberDomain.MemberHomeWinRateResponse(winAvg, (short) winCount, (short) loseCount,
-                (short) drawCount, (short) cancelCount);
+        return new MemberDomain.MemberHomeWinRateResponse(stadium.winAvg(), stadium.win(), stadium.lose(),
+                stadium.draw(), stadium.cancel());
     }
 
     @Override
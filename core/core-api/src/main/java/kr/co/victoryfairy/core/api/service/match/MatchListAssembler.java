@@ -0,0 +1,83 @@
+package kr.co.victoryfairy.core.api.service.match;
+
+import kr.co.victoryfairy.common.cache.ReferenceDataCache;
+import kr.co.victoryfairy.common.model.CommonDto;
+import kr.co.victoryfairy.storage.db.core.entity.DiaryEntity;
+import kr.co.victoryfairy.storage.db.core.repository.DiaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 경기 목록 조립 단계
+ * <p>
+ * 경기 목록에 필요한 팀, 경기장 정보는 기준 정보 캐시에서, 회원 일기 정보는 경기 수와 무관하게 한 번의 쿼리로 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchListAssembler {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    private final DiaryRepository diaryRepository;
+
+    /**
+     * 경기 목록 조립에 필요한 참조 데이터 일괄 조회
+     * @param memberId 로그인 회원 id (비로그인 시 null)
+     * @param matchIds 경기 id 목록
+     * @param teamIds 팀 id 목록
+     * @param stadiumIds 경기장 id 목록
+     */
+    public MatchLookup load(Long memberId, Collection<String> matchIds, Collection<Long> teamIds,
+            Collection<Long> stadiumIds) {
+        return new MatchLookup(referenceDataCache.findTeamMap(teamIds), referenceDataCache.findStadiumMap(stadiumIds),
+                findDiaryIds(memberId, matchIds));
+    }
+
+    private Map<String, Long> findDiaryIds(Long memberId, Collection<String> matchIds) {
+        var ids = distinct(matchIds);
+        if (memberId == null || ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Long> diaryIds = new HashMap<>();
+        for (DiaryEntity diaryEntity : diaryRepository.findByMemberIdAndGameMatchEntityIdIn(memberId, ids)) {
+            diaryIds.putIfAbsent(diaryEntity.getGameMatchEntity().getId(), diaryEntity.getId());
+        }
+        return diaryIds;
+    }
+
+    private <T> Set<T> distinct(Collection<T> values) {
+        if (values == null) {
+            return Set.of();
+        }
+        return values.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    public record MatchLookup(Map<Long, CommonDto.TeamDto> teams, Map<Long, CommonDto.StadiumDto> stadiums,
+            Map<String, Long> diaryIds) {
+
+        public CommonDto.TeamDto team(Long id) {
+            return id != null ? teams.get(id) : null;
+        }
+
+        public CommonDto.StadiumDto stadium(Long id) {
+            return id != null ? stadiums.get(id) : null;
+        }
+
+        public boolean isWrited(String matchId) {
+            return diaryIds.containsKey(matchId);
+        }
+
+        public Long diaryId(String matchId) {
+            return diaryIds.get(matchId);
+        }
+
+    }
+
+}
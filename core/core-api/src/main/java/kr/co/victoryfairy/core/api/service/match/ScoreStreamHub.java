@@ -0,0 +1,259 @@
+package kr.co.victoryfairy.core.api.service.match;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.victoryfairy.common.model.ScoreboardDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+/**
+ * 실시간 점수 SSE 구독 관리
+ * <p>
+ * 배치가 Redis pub/sub 으로 발행한 경기별 변경분을 날짜 / 경기 id 구독자에게 그대로 전달합니다. 연결은 서블릿 비동기 요청으로 유지되므로
+ * 구독자 수만큼 스레드를 점유하지 않습니다.
+ * <p>
+ * 전송은 Redis 리스너 / heartbeat 스레드가 아닌 전용 스레드 풀에서 구독자별 순서대로 처리합니다. 느린 연결 하나가 다른 구독자나 리스너를 막지
+ * 않도록, 밀린 이벤트가 maxPending 을 넘거나 전송에 실패한 연결은 끊습니다.
+ */
+@Slf4j
+@Component
+public class ScoreStreamHub implements MessageListener {
+
+    private static final String EVENT_NAME = "score";
+
+    // 동시에 전송을 기다릴 수 있는 구독자 수 (넘으면 새로 밀린 구독자를 끊음)
+    private static final int SEND_QUEUE_CAPACITY = 10_000;
+
+    private final ObjectMapper objectMapper;
+
+    private final ExecutorService sender;
+
+    private final LongFunction<SseEmitter> emitterFactory;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    @Value("${match.stream.timeout-millis:1800000}")
+    private long timeoutMillis;
+
+    @Value("${match.stream.heartbeat-millis:25000}")
+    private long heartbeatMillis;
+
+    // 구독자별로 밀려 있을 수 있는 이벤트 수
+    @Value("${match.stream.max-pending:32}")
+    private int maxPending;
+
+    private ScheduledExecutorService heartbeat;
+
+    @Autowired
+    public ScoreStreamHub(ObjectMapper objectMapper, @Value("${match.stream.send-threads:4}") int sendThreads) {
+        this(objectMapper, newSender(sendThreads), SseEmitter::new);
+    }
+
+    ScoreStreamHub(ObjectMapper objectMapper, ExecutorService sender, LongFunction<SseEmitter> emitterFactory) {
+        this.objectMapper = objectMapper;
+        this.sender = sender;
+        this.emitterFactory = emitterFactory;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "score-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+        sender.shutdownNow();
+        subscribers.values().forEach(registered -> registered.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    /**
+     * 구독 등록
+     * @param date 경기 일자 (해당 날짜 전체 경기 변경분 수신)
+     * @param matchId 경기 id (지정 시 해당 경기 변경분만 수신)
+     */
+    public SseEmitter subscribe(LocalDate date, String matchId) {
+        var topic = matchId != null ? matchId : dateTopic(date);
+        var subscriber = new Subscriber(topic, emitterFactory.apply(timeoutMillis));
+
+        subscribers.compute(topic, (key, registered) -> {
+            var updated = registered != null ? registered : ConcurrentHashMap.<Subscriber>newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(subscriber));
+
+        // 연결 직후 응답 헤더를 내려보내기 위한 주석 이벤트
+        send(subscriber, SseEmitter.event().comment("connected"));
+        return subscriber.emitter;
+    }
+
+    /**
+     * 현재 구독 중인 연결 수
+     */
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        var payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        ScoreboardDto.Delta delta;
+        try {
+            delta = objectMapper.readValue(payload, ScoreboardDto.Delta.class);
+        }
+        catch (Exception e) {
+            log.warn("점수 변경 이벤트 역직렬화 실패 - payload: {}", payload, e);
+            return;
+        }
+
+        // 역직렬화 결과는 라우팅에만 사용하고, 본문은 받은 JSON 을 그대로 전달
+        for (String topic : List.of(delta.id(), dateTopic(delta.date()))) {
+            var registered = subscribers.get(topic);
+            if (registered == null || registered.isEmpty()) {
+                continue;
+            }
+            registered.forEach(subscriber -> send(subscriber,
+                    SseEmitter.event().name(EVENT_NAME).id(delta.id()).data(payload, MediaType.APPLICATION_JSON)));
+        }
+    }
+
+    void sendHeartbeat() {
+        subscribers.values()
+            .forEach(registered -> registered.forEach(subscriber -> send(subscriber, SseEmitter.event().comment(""))));
+    }
+
+    /**
+     * 구독자 큐에 넣고 전송 스레드에 넘김 (호출 스레드는 전송을 기다리지 않음)
+     */
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.pending.incrementAndGet() > maxPending) {
+            drop(subscriber, new IllegalStateException("too many pending events"));
+            return;
+        }
+        subscriber.events.add(event);
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            }
+            catch (RejectedExecutionException e) {
+                drop(subscriber, e);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.events.poll()) != null) {
+                subscriber.pending.decrementAndGet();
+                try {
+                    subscriber.emitter.send(event);
+                }
+                catch (Exception e) {
+                    // 끊어진 연결은 즉시 정리
+                    drop(subscriber, e);
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // 마지막 poll 과 플래그 해제 사이에 들어온 이벤트 처리
+        } while (!subscriber.events.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private void drop(Subscriber subscriber, Exception cause) {
+        if (unsubscribe(subscriber)) {
+            log.debug("점수 구독 연결 정리 - topic: {}, cause: {}", subscriber.topic, cause.toString());
+            subscriber.events.clear();
+            subscriber.emitter.completeWithError(cause);
+        }
+    }
+
+    /**
+     * @return 이번 호출로 구독이 해제되었는지
+     */
+    private boolean unsubscribe(Subscriber subscriber) {
+        var removed = new AtomicBoolean();
+        subscribers.computeIfPresent(subscriber.topic, (key, registered) -> {
+            removed.set(registered.remove(subscriber));
+            return registered.isEmpty() ? null : registered;
+        });
+        return removed.get();
+    }
+
+    private String dateTopic(LocalDate date) {
+        return date != null ? date.format(DateTimeFormatter.ofPattern("yyyyMMdd")) : "";
+    }
+
+    private static ExecutorService newSender(int threads) {
+        var counter = new AtomicInteger();
+        var executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(SEND_QUEUE_CAPACITY), runnable -> {
+                    var thread = new Thread(runnable, "score-stream-send-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 구독 연결과 아직 보내지 않은 이벤트
+     */
+    private static final class Subscriber {
+
+        private final String topic;
+
+        private final SseEmitter emitter;
+
+        private final Queue<SseEmitter.SseEventBuilder> events = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(String topic, SseEmitter emitter) {
+            this.topic = topic;
+            this.emitter = emitter;
+        }
+
+    }
+
+}
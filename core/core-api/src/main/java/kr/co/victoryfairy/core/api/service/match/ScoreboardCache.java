@@ -0,0 +1,89 @@
+package kr.co.victoryfairy.core.api.service.match;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dodn.springboot.core.enums.MatchEnum;
+import kr.co.victoryfairy.common.model.ScoreboardDto;
+import kr.co.victoryfairy.common.service.ScoreboardDomainService;
+import kr.co.victoryfairy.core.api.domain.MatchDomain;
+import kr.co.victoryfairy.support.model.CustomResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 스코어보드 스냅샷 로컬 캐시
+ * <p>
+ * 요청마다 Redis 에서는 ETag 만 확인하고, 버전이 바뀐 경우에만 본문을 읽어 응답 바이트와 응답 객체를 다시 만듭니다. 날짜 / 리그 조합이
+ * {@link #MAX_ENTRIES} 를 넘으면 가장 오래 조회되지 않은 항목부터 제거합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScoreboardCache {
+
+    static final int MAX_ENTRIES = 32;
+
+    private final ScoreboardDomainService scoreboardDomainService;
+
+    private final ObjectMapper objectMapper;
+
+    // accessOrder = true 인 LinkedHashMap 으로 LRU 제거 (조회도 순서를 바꾸므로 전체를 동기화)
+    private final Map<String, MatchDomain.Scoreboard> entries = Collections
+        .synchronizedMap(new LinkedHashMap<String, MatchDomain.Scoreboard>(MAX_ENTRIES * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MatchDomain.Scoreboard> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        });
+
+    /**
+     * 날짜 / 리그별 스냅샷 조회
+     * @param league 리그 (null 이면 전체)
+     * @return 발행된 스냅샷이 없으면 empty
+     */
+    public Optional<MatchDomain.Scoreboard> find(LocalDate date, MatchEnum.LeagueType league) {
+        var eTag = scoreboardDomainService.findETag(date, league);
+        if (eTag == null) {
+            return Optional.empty();
+        }
+
+        var key = date + ":" + (league != null ? league.name() : "ALL");
+        var cached = entries.get(key);
+        if (cached != null && Objects.equals(cached.eTag(), eTag)) {
+            return Optional.of(cached);
+        }
+
+        var loaded = scoreboardDomainService.find(date, league).map(this::render).orElse(null);
+        if (loaded == null) {
+            return Optional.empty();
+        }
+
+        entries.put(key, loaded);
+        return Optional.of(loaded);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private MatchDomain.Scoreboard render(ScoreboardDto.Snapshot snapshot) {
+        try {
+            var response = objectMapper.readValue(snapshot.body(), MatchDomain.MatchListResponse.class);
+            var body = objectMapper.writeValueAsBytes(CustomResponse.ok(response));
+            return new MatchDomain.Scoreboard(snapshot.eTag(), body, response);
+        }
+        catch (JsonProcessingException e) {
+            log.error("스코어보드 스냅샷 역직렬화 실패 - eTag: {}", snapshot.eTag(), e);
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,240 @@
+package kr.co.victoryfairy.core.api.service.record;
+
+import io.dodn.springboot.core.enums.DiaryEnum;
+import io.dodn.springboot.core.enums.MatchEnum;
+import kr.co.victoryfairy.core.api.domain.MyPageDomain;
+import kr.co.victoryfairy.storage.db.core.entity.WinningRateEntity;
+import kr.co.victoryfairy.storage.db.core.model.GameRecordModel;
+import kr.co.victoryfairy.storage.db.core.model.WinningRateModel;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 시즌 응원 기록 집계
+ * <p>
+ * 기록을 한 번만 순회하며 관람 방식별 승 / 패 / 무 / 취소는 {@link WinningRateModel.Counter} 순서의 int 배열에, 상대 팀 / 구장별 횟수는
+ * id 를 키로 한 카운터에 모읍니다. 카운터 기준이 저장된 시즌 집계와 같으므로 {@link #from(WinningRateEntity)} 로 만든 집계도 같은 값을
+ * 계산합니다. 연승은 기록을 경기 시각 순으로 넣어야 맞게 계산됩니다.
+ */
+public class RecordAggregator {
+
+    private static final WinningRateModel.Counter[] COUNTERS = WinningRateModel.Counter.values();
+
+    private final int[] counts = new int[COUNTERS.length];
+
+    private final Map<Long, Tally> winTeams = new HashMap<>();
+
+    private final Map<Long, Tally> loseTeams = new HashMap<>();
+
+    private final Map<Long, Tally> stadiums = new HashMap<>();
+
+    private int currentStreak;
+
+    private int maxStreak;
+
+    /**
+     * @param rows 경기 시각 순 기록
+     */
+    public static RecordAggregator of(List<GameRecordModel.StatRow> rows) {
+        var aggregator = new RecordAggregator();
+        rows.forEach(aggregator::accept);
+        return aggregator;
+    }
+
+    /**
+     * 저장된 시즌 집계로 생성 (승 / 패 / 무 / 취소, 승률만 계산 가능)
+     */
+    public static RecordAggregator from(WinningRateEntity winningRate) {
+        var aggregator = new RecordAggregator();
+        var counts = aggregator.counts;
+        counts[WinningRateModel.Counter.TOTAL.ordinal()] = value(winningRate.getTotalCnt());
+        counts[WinningRateModel.Counter.TOTAL_WIN.ordinal()] = value(winningRate.getTotalWinCnt());
+        counts[WinningRateModel.Counter.STADIUM.ordinal()] = value(winningRate.getStadiumCnt());
+        counts[WinningRateModel.Counter.STADIUM_WIN.ordinal()] = value(winningRate.getStadiumWinCnt());
+        counts[WinningRateModel.Counter.STADIUM_LOSE.ordinal()] = value(winningRate.getStadiumLoseCnt());
+        counts[WinningRateModel.Counter.STADIUM_DRAW.ordinal()] = value(winningRate.getStadiumDrawCnt());
+        counts[WinningRateModel.Counter.STADIUM_CANCEL.ordinal()] = value(winningRate.getStadiumCancelCnt());
+        counts[WinningRateModel.Counter.HOME.ordinal()] = value(winningRate.getHomeCnt());
+        counts[WinningRateModel.Counter.HOME_WIN.ordinal()] = value(winningRate.getHomeWinCnt());
+        counts[WinningRateModel.Counter.HOME_LOSE.ordinal()] = value(winningRate.getHomeLoseCnt());
+        counts[WinningRateModel.Counter.HOME_DRAW.ordinal()] = value(winningRate.getHomeDrawCnt());
+        counts[WinningRateModel.Counter.HOME_CANCEL.ordinal()] = value(winningRate.getHomeCancelCnt());
+        counts[WinningRateModel.Counter.STADIUM_HOME_GAME.ordinal()] = value(winningRate.getStadiumHomeGameCnt());
+        counts[WinningRateModel.Counter.STADIUM_HOME_GAME_WIN.ordinal()] = value(
+                winningRate.getStadiumHomeGameWinCnt());
+        counts[WinningRateModel.Counter.STADIUM_AWAY_GAME.ordinal()] = value(winningRate.getStadiumAwayGameCnt());
+        counts[WinningRateModel.Counter.STADIUM_AWAY_GAME_WIN.ordinal()] = value(
+                winningRate.getStadiumAwayGameWinCnt());
+        return aggregator;
+    }
+
+    public void accept(GameRecordModel.StatRow row) {
+        var fact = new WinningRateModel.Fact(row.viewType(), row.status(), row.resultType(),
+                row.homeTeamId() != null && Objects.equals(row.homeTeamId(), row.teamId()));
+        for (WinningRateModel.Counter counter : COUNTERS) {
+            if (counter.test(fact)) {
+                counts[counter.ordinal()]++;
+            }
+        }
+
+        var result = row.resultType();
+        if (result == MatchEnum.ResultType.WIN) {
+            tally(winTeams, row.opponentTeamId(), row.opponentTeamName(), row.matchAt());
+        }
+        else if (result == MatchEnum.ResultType.LOSS) {
+            tally(loseTeams, row.opponentTeamId(), row.opponentTeamName(), row.matchAt());
+        }
+
+        if (row.viewType() != DiaryEnum.ViewType.STADIUM) {
+            return;
+        }
+        if (row.stadiumId() != null) {
+            tally(stadiums, row.stadiumId(), row.stadiumName(), row.matchAt());
+        }
+        // 직관 연승 (승 이외의 결과는 연승 끊김)
+        currentStreak = result == MatchEnum.ResultType.WIN ? currentStreak + 1 : 0;
+        maxStreak = Math.max(maxStreak, currentStreak);
+    }
+
+    public int count(WinningRateModel.Counter counter) {
+        return counts[counter.ordinal()];
+    }
+
+    public boolean isEmpty() {
+        return count(WinningRateModel.Counter.TOTAL) == 0;
+    }
+
+    /**
+     * 관람 방식별 승 / 패 / 무 / 취소 (기록이 없으면 null)
+     */
+    public MyPageDomain.ViewTypeDto viewType(DiaryEnum.ViewType viewType) {
+        var stadium = viewType == DiaryEnum.ViewType.STADIUM;
+        if (count(stadium ? WinningRateModel.Counter.STADIUM : WinningRateModel.Counter.HOME) == 0) {
+            return null;
+        }
+        var win = count(stadium ? WinningRateModel.Counter.STADIUM_WIN : WinningRateModel.Counter.HOME_WIN);
+        var lose = count(stadium ? WinningRateModel.Counter.STADIUM_LOSE : WinningRateModel.Counter.HOME_LOSE);
+        var draw = count(stadium ? WinningRateModel.Counter.STADIUM_DRAW : WinningRateModel.Counter.HOME_DRAW);
+        var cancel = count(stadium ? WinningRateModel.Counter.STADIUM_CANCEL : WinningRateModel.Counter.HOME_CANCEL);
+        return new MyPageDomain.ViewTypeDto(rate(win, win + lose), (short) win, (short) lose, (short) draw,
+                (short) cancel);
+    }
+
+    /**
+     * 승리 요정 지수 (직관 / 집관 승률 평균, 승 / 패 기록이 있는 관람 방식만 반영)
+     */
+    public short power() {
+        var stadiumGames = count(WinningRateModel.Counter.STADIUM_WIN) + count(WinningRateModel.Counter.STADIUM_LOSE);
+        var homeGames = count(WinningRateModel.Counter.HOME_WIN) + count(WinningRateModel.Counter.HOME_LOSE);
+        var stadiumWinAvg = rate(count(WinningRateModel.Counter.STADIUM_WIN), stadiumGames);
+        var homeWinAvg = rate(count(WinningRateModel.Counter.HOME_WIN), homeGames);
+
+        if (stadiumGames > 0 && homeGames > 0) {
+            return (short) Math.round((stadiumWinAvg + homeWinAvg) / 2.0);
+        }
+        else if (stadiumGames > 0) {
+            return stadiumWinAvg;
+        }
+        return homeWinAvg; // 직관/집관 모두 없으면 0
+    }
+
+    /**
+     * 직관 중 응원 팀 홈 경기 승률
+     */
+    public short homeGameWinRate() {
+        return rate(count(WinningRateModel.Counter.STADIUM_HOME_GAME_WIN),
+                count(WinningRateModel.Counter.STADIUM_HOME_GAME));
+    }
+
+    /**
+     * 직관 중 응원 팀 원정 경기 승률
+     */
+    public short awayGameWinRate() {
+        return rate(count(WinningRateModel.Counter.STADIUM_AWAY_GAME_WIN),
+                count(WinningRateModel.Counter.STADIUM_AWAY_GAME));
+    }
+
+    /**
+     * 최다 승리 상대 팀 (횟수가 같으면 마지막 경기가 늦은 팀, 없으면 "-")
+     */
+    public String maxWinTeam() {
+        var tally = max(winTeams);
+        return tally != null ? tally.name : "-";
+    }
+
+    /**
+     * 최다 패배 상대 팀 (횟수가 같으면 마지막 경기가 늦은 팀, 없으면 "-")
+     */
+    public String maxLoseTeam() {
+        var tally = max(loseTeams);
+        return tally != null ? tally.name : "-";
+    }
+
+    /**
+     * 최다 방문 구장 (방문 수가 같으면 마지막 방문일이 늦은 구장, 없으면 null)
+     */
+    public String maxVisitedStadium() {
+        var tally = max(stadiums);
+        return tally != null ? tally.name : null;
+    }
+
+    public short maxStreak() {
+        return (short) maxStreak;
+    }
+
+    private void tally(Map<Long, Tally> tallies, Long id, String name, LocalDateTime at) {
+        var tally = tallies.get(id);
+        if (tally == null) {
+            tally = new Tally(name);
+            tallies.put(id, tally);
+        }
+        tally.count++;
+        if (tally.last == null || (at != null && at.isAfter(tally.last))) {
+            tally.last = at;
+        }
+    }
+
+    private Tally max(Map<Long, Tally> tallies) {
+        Tally max = null;
+        for (Tally tally : tallies.values()) {
+            if (max == null || tally.count > max.count || (tally.count == max.count && isAfter(tally.last, max.last))) {
+                max = tally;
+            }
+        }
+        return max;
+    }
+
+    private boolean isAfter(LocalDateTime a, LocalDateTime b) {
+        return a != null && (b == null || a.isAfter(b));
+    }
+
+    /**
+     * 백분율 (소수점 첫째자리 반올림, 분모가 0 이면 0)
+     */
+    private static short rate(int count, int total) {
+        return (short) (total == 0 ? 0 : Math.round((double) count / total * 100));
+    }
+
+    private static int value(Short count) {
+        return count != null ? count : 0;
+    }
+
+    private static final class Tally {
+
+        private final String name;
+
+        private int count;
+
+        private LocalDateTime last;
+
+        private Tally(String name) {
+            this.name = name;
+        }
+
+    }
+
+}
@@ -8,7 +8,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import kr.co.victoryfairy.support.constant.MessageEnum;
 import kr.co.victoryfairy.support.exception.CustomException;
 import kr.co.victoryfairy.support.model.CustomResponse;
-import kr.co.victoryfairy.support.properties.JwtProperties;
+import kr.co.victoryfairy.support.service.AccessTokenVerifier;
 import kr.co.victoryfairy.support.utils.AccessTokenUtils;
 import kr.co.victoryfairy.support.webfilter.PathPatternWebFilter;
 import org.springframework.stereotype.Component;
@@ -19,22 +19,14 @@ import java.io.IOException;
 @Component
 public class AccessTokenPublicWebFilter extends PathPatternWebFilter {
 
-    private final JwtProperties jwtProperties;
+    private final AccessTokenVerifier accessTokenVerifier;
 
-    public AccessTokenPublicWebFilter(JwtProperties jwtProperties) {
-        this.jwtProperties = jwtProperties;
-        this.addIncludePathPatterns("/v2/api/match/list");
-        this.addIncludePathPatterns("/v2/api/diary/list");
-        this.addIncludePathPatterns("/v2/api/diary/daily-list");
-        this.addIncludePathPatterns("/v2/api/member/match-today");
-        this.addIncludePathPatterns("/v2/api/my-page/member");
-        this.addIncludePathPatterns("/v2/api/my-page/victory-power");
-        this.addIncludePathPatterns("/match/list");
-        this.addIncludePathPatterns("/diary/list");
-        this.addIncludePathPatterns("/diary/daily-list");
-        this.addIncludePathPatterns("/member/match-today");
-        this.addIncludePathPatterns("/my-page/member");
-        this.addIncludePathPatterns("/my-page/victory-power");
+    public AccessTokenPublicWebFilter(AccessTokenVerifier accessTokenVerifier) {
+        super(Routes.include("/v2/api/match/list", "/v2/api/diary/list", "/v2/api/diary/daily-list",
+                "/v2/api/member/match-today", "/v2/api/my-page/member", "/v2/api/my-page/victory-power",
+                "/match/list", "/diary/list", "/diary/daily-list",
+                "/member/match-today", "/my-page/member", "/my-page/victory-power"));
+        this.accessTokenVerifier = accessTokenVerifier;
     }
 
     @Override
@@ -42,7 +34,7 @@ public class AccessTokenPublicWebFilter extends PathPatternWebFilter {
         try {
             String accessToken = AccessTokenUtils.getAccessToken(request);
             if (StringUtils.hasText(accessToken)) {
-                AccessTokenUtils.checkAccessToken(accessToken, jwtProperties, request);
+                AccessTokenUtils.checkAccessToken(accessToken, accessTokenVerifier, request);
             }
         } catch (Exception e) {
             ObjectMapper objectMapper = new ObjectMapper();
@@ -8,7 +8,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import kr.co.victoryfairy.support.constant.MessageEnum;
 import kr.co.victoryfairy.support.exception.CustomException;
 import kr.co.victoryfairy.support.model.CustomResponse;
-import kr.co.victoryfairy.support.properties.JwtProperties;
+import kr.co.victoryfairy.support.service.AccessTokenVerifier;
 import kr.co.victoryfairy.support.utils.AccessTokenUtils;
 import kr.co.victoryfairy.support.webfilter.PathPatternWebFilter;
 import org.springframework.stereotype.Component;
@@ -17,29 +17,26 @@ import java.io.IOException;
 
 @Component
 public class AccessTokenWebFilter extends PathPatternWebFilter {
-    private final JwtProperties jwtProperties;
+    private final AccessTokenVerifier accessTokenVerifier;
 
-    public AccessTokenWebFilter(JwtProperties jwtProperties) {
-        this.jwtProperties = jwtProperties;
-        this.addIncludePathPatterns("/v2/api/member/**");
-        this.addIncludePathPatterns("/v2/api/my-page/**");
-        this.addIncludePathPatterns("/v2/api/diary/**");
-        this.addIncludePathPatterns("/member/**");
-        this.addIncludePathPatterns("/my-page/**");
-        this.addIncludePathPatterns("/diary/**");
-        this.addExcludePathPatterns("/", "/swagger-ui/**", "/swagger/**", "/v2/api/member/auth-path",
-                "/v2/api/member/login", "/member/login", "/member/auth-path",
-                "/v2/api/member/refresh-token", "/member/refresh-token",
-                "/v2/api/match/list", "/match/list",
-                "/v2/api/diary/list", "/diary/list", "/v2/api/diary/daily-list", "/diary/daily-list",
-                "/v2/api/member/match-today", "/member/match-today", "/v2/api/my-page/member", "/my-page/member",
-                "/v2/api/my-page/victory-power", "/my-page/victory-power");
+    public AccessTokenWebFilter(AccessTokenVerifier accessTokenVerifier) {
+        super(Routes.include("/v2/api/member/**", "/v2/api/my-page/**", "/v2/api/diary/**",
+                        "/member/**", "/my-page/**", "/diary/**")
+                .exclude("/", "/swagger-ui/**", "/swagger/**", "/v2/api/member/auth-path",
+                        "/v2/api/member/login", "/member/login", "/member/auth-path",
+                        "/v2/api/member/refresh-token", "/member/refresh-token",
+                        "/v2/api/match/list", "/match/list",
+                        "/v2/api/diary/list", "/diary/list", "/v2/api/diary/daily-list", "/diary/daily-list",
+                        "/v2/api/member/match-today", "/member/match-today",
+                        "/v2/api/my-page/member", "/my-page/member",
+                        "/v2/api/my-page/victory-power", "/my-page/victory-power"));
+        this.accessTokenVerifier = accessTokenVerifier;
     }
 
     @Override
     public void filterMatched(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
-            AccessTokenUtils.checkToken(request, jwtProperties);
+            AccessTokenUtils.checkToken(request, accessTokenVerifier);
         } catch (Exception e) {
             ObjectMapper objectMapper = new ObjectMapper();
             response.setContentType("application/json");
@@ -12,17 +12,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -166,6 +170,44 @@ class MatchControllerE2ETest {
                 .andExpect(jsonPath("$.data.matchList[0].homeTeam.name").value("LG"));
         }
 
+        @Test
+        @DisplayName("스냅샷이 있으면 ETag 와 함께 미리 렌더링된 본문을 그대로 반환한다")
+        void findList_withScoreboard_shouldReturnSnapshotBody() throws Exception {
+            // given
+            LocalDate localDate = LocalDate.of(2025, 9, 30);
+            var body = "{\"status\":200,\"data\":{\"date\":\"2025-09-30\",\"matchList\":[]}}"
+                .getBytes(StandardCharsets.UTF_8);
+            given(matchService.findScoreboard(eq(localDate), eq(null)))
+                .willReturn(Optional.of(new MatchDomain.Scoreboard("abc123", body, null)));
+
+            // when & then
+            mockMvc.perform(get("/match/list").param("date", "20250930"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(body));
+
+            verify(matchService, never()).findList(localDate, null);
+        }
+
+        @Test
+        @DisplayName("If-None-Match 가 현재 ETag 와 같으면 304 를 반환한다")
+        void findList_withMatchingETag_shouldReturnNotModified() throws Exception {
+            // given
+            LocalDate localDate = LocalDate.of(2025, 9, 30);
+            given(matchService.findScoreboard(eq(localDate), eq(null)))
+                .willReturn(Optional.of(new MatchDomain.Scoreboard("abc123", new byte[0], null)));
+
+            // when & then
+            mockMvc
+                .perform(get("/match/list").param("date", "20250930")
+                    .header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+            verify(matchService, never()).findList(localDate, null);
+        }
+
     }
 
     @Nested
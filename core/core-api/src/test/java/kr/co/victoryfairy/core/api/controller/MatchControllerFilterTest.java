@@ -0,0 +1,101 @@
+package kr.co.victoryfairy.core.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import kr.co.victoryfairy.core.api.service.MatchService;
+import kr.co.victoryfairy.core.api.service.match.ScoreStreamHub;
+import kr.co.victoryfairy.support.config.BeanConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 실제 필터 체인(RequestResponseCachingFilter)을 거친 실시간 점수 구독 테스트
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchController 필터 체인 테스트")
+class MatchControllerFilterTest {
+
+    @Mock
+    private MatchService matchService;
+
+    private ScoreStreamHub scoreStreamHub;
+
+    private MockMvc mockMvc;
+
+    // 캐싱 필터 다음에서 본 응답 객체 (래핑 여부 확인)
+    private final List<Object> seenResponses = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        scoreStreamHub = new ScoreStreamHub(new ObjectMapper().findAndRegisterModules(), 1);
+        ReflectionTestUtils.setField(scoreStreamHub, "timeoutMillis", 5_000L);
+        ReflectionTestUtils.setField(scoreStreamHub, "maxPending", 32);
+
+        Filter probe = (request, response, chain) -> {
+            seenResponses.add(response);
+            chain.doFilter(request, response);
+        };
+        mockMvc = MockMvcBuilders.standaloneSetup(new MatchController(matchService, scoreStreamHub))
+            .addFilters(new BeanConfig().requestResponseCachingFilter(), probe)
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoreStreamHub.shutdown();
+    }
+
+    @Test
+    @DisplayName("SSE 구독은 캐싱 없이 연결이 끝나기 전에 이벤트를 내려준다")
+    void stream_shouldDeliverEventsBeforeCompletion() throws Exception {
+        // given
+        var result = mockMvc
+            .perform(get("/match/stream").param("date", "20250801").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        var response = result.getResponse();
+
+        // when
+        scoreStreamHub.onMessage(new DefaultMessage("score".getBytes(StandardCharsets.UTF_8),
+                "{\"id\":\"20250801LGOB0\",\"date\":\"2025-08-01\",\"status\":\"PROGRESS\"}"
+                    .getBytes(StandardCharsets.UTF_8)),
+                null);
+
+        // then
+        awaitContent(response, "event:score");
+        assertThat(response.getContentAsString()).contains(":connected").contains("\"id\":\"20250801LGOB0\"");
+        // 연결은 아직 열려 있음 (완료되면 구독에서 제거)
+        assertThat(scoreStreamHub.subscriberCount()).isEqualTo(1);
+        assertThat(seenResponses).singleElement().isNotInstanceOf(ContentCachingResponseWrapper.class);
+    }
+
+    private void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        var deadline = System.currentTimeMillis() + 2_000;
+        while (!response.getContentAsString().contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package kr.co.victoryfairy.core.api.service.match;
+
+import io.dodn.springboot.core.enums.MatchEnum;
+import kr.co.victoryfairy.common.cache.ReferenceDataCache;
+import kr.co.victoryfairy.common.model.CommonDto;
+import kr.co.victoryfairy.storage.db.core.entity.DiaryEntity;
+import kr.co.victoryfairy.storage.db.core.entity.GameMatchEntity;
+import kr.co.victoryfairy.storage.db.core.repository.DiaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@DisplayName("MatchListAssembler 일괄 조회 테스트")
+class MatchListAssemblerTest {
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private DiaryRepository diaryRepository;
+
+    @InjectMocks
+    private MatchListAssembler assembler;
+
+    @ParameterizedTest(name = "경기 {0}건")
+    @ValueSource(ints = { 1, 5, 30 })
+    @DisplayName("경기 수가 늘어나도 조회 쿼리 수는 일정하다")
+    void load_queryCountIsConstant(int matchCount) {
+        // given
+        var matchIds = IntStream.range(0, matchCount).mapToObj(i -> "2025093" + i + "SSLG0").toList();
+        var teamIds = IntStream.range(0, matchCount * 2).mapToObj(i -> (long) (i % 10)).toList();
+        var stadiumIds = IntStream.range(0, matchCount).mapToObj(i -> (long) (i % 9)).toList();
+
+        given(referenceDataCache.findTeamMap(any())).willReturn(Map.of(1L,
+                new CommonDto.TeamDto(1L, "삼성", "SS", "삼성 라이온즈", null, (short) 1, MatchEnum.LeagueType.KBO, null)));
+        given(referenceDataCache.findStadiumMap(any()))
+            .willReturn(Map.of(1L, new CommonDto.StadiumDto(1L, "잠실야구장", "잠실", "잠실", 2)));
+        given(diaryRepository.findByMemberIdAndGameMatchEntityIdIn(eq(1L), anyCollection()))
+            .willReturn(List.of(DiaryEntity.builder()
+                .id(10L)
+                .gameMatchEntity(GameMatchEntity.builder().id(matchIds.get(0)).build())
+                .build()));
+
+        // when
+        var lookup = assembler.load(1L, matchIds, teamIds, stadiumIds);
+
+        // then
+        verify(diaryRepository, times(1)).findByMemberIdAndGameMatchEntityIdIn(eq(1L), anyCollection());
+        verifyNoMoreInteractions(diaryRepository);
+
+        assertThat(lookup.team(1L).name()).isEqualTo("삼성");
+        assertThat(lookup.stadium(1L).shortName()).isEqualTo("잠실");
+        assertThat(lookup.isWrited(matchIds.get(0))).isTrue();
+        assertThat(lookup.diaryId(matchIds.get(0))).isEqualTo(10L);
+    }
+
+    @ParameterizedTest(name = "경기 {0}건")
+    @ValueSource(ints = { 1, 30 })
+    @DisplayName("비로그인 사용자는 일기를 조회하지 않는다")
+    void load_withoutMember_shouldSkipDiaryQuery(int matchCount) {
+        // given
+        var matchIds = IntStream.range(0, matchCount).mapToObj(i -> "2025093" + i + "SSLG0").toList();
+
+        // when
+        var lookup = assembler.load(null, matchIds, List.of(), List.of());
+
+        // then
+        verifyNoMoreInteractions(diaryRepository);
+        assertThat(lookup.isWrited(matchIds.get(0))).isFalse();
+        assertThat(lookup.diaryId(matchIds.get(0))).isNull();
+    }
+
+}
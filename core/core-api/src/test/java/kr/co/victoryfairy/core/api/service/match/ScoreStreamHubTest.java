@@ -0,0 +1,220 @@
+package kr.co.victoryfairy.core.api.service.match;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("ScoreStreamHub 테스트")
+class ScoreStreamHubTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 8, 1);
+
+    private static final int MAX_PENDING = 4;
+
+    private final ManualExecutor sender = new ManualExecutor();
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    private ScoreStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new ScoreStreamHub(new ObjectMapper().findAndRegisterModules(), sender, timeout -> {
+            var emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            return emitter;
+        });
+        ReflectionTestUtils.setField(hub, "maxPending", MAX_PENDING);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독하면 연결 확인 이벤트를 보내고 구독 수에 포함한다")
+    void subscribe_shouldRegisterAndSendConnected() {
+        // when
+        hub.subscribe(DATE, null);
+        sender.runAll();
+
+        // then
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+        assertThat(emitters.get(0).sent).singleElement().asString().contains("connected");
+    }
+
+    @Test
+    @DisplayName("변경분은 해당 경기와 날짜 구독자에게만 전달한다")
+    void onMessage_shouldFanOutToMatchAndDateTopics() {
+        // given
+        hub.subscribe(DATE, null);
+        hub.subscribe(null, "20250801LGOB0");
+        hub.subscribe(null, "20250801SSHT0");
+        sender.runAll();
+        emitters.forEach(emitter -> emitter.sent.clear());
+
+        // when
+        hub.onMessage(message("{\"id\":\"20250801LGOB0\",\"date\":\"2025-08-01\",\"status\":\"PROGRESS\"}"), null);
+        sender.runAll();
+
+        // then
+        assertThat(emitters.get(0).sent).singleElement().asString().contains("\"id\":\"20250801LGOB0\"");
+        assertThat(emitters.get(1).sent).singleElement().asString().contains("\"id\":\"20250801LGOB0\"");
+        assertThat(emitters.get(2).sent).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 연결은 구독에서 제거하고 종료한다")
+    void send_whenEmitterFails_shouldRemoveSubscriber() {
+        // given
+        hub.subscribe(DATE, null);
+        hub.subscribe(DATE, null);
+        sender.runAll();
+        emitters.get(0).failing = true;
+
+        // when
+        hub.onMessage(message("{\"id\":\"20250801LGOB0\",\"date\":\"2025-08-01\"}"), null);
+        sender.runAll();
+
+        // then
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+        assertThat(emitters.get(0).failed).isTrue();
+        assertThat(emitters.get(1).sent).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("heartbeat 는 모든 구독자에게 주석 이벤트를 보낸다")
+    void sendHeartbeat_shouldSendCommentToAll() {
+        // given
+        hub.subscribe(DATE, null);
+        hub.subscribe(null, "20250801LGOB0");
+        sender.runAll();
+
+        // when
+        hub.sendHeartbeat();
+        sender.runAll();
+
+        // then
+        assertThat(emitters).allSatisfy(emitter -> assertThat(emitter.sent).hasSize(2));
+        assertThat(hub.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전송이 밀려 maxPending 을 넘은 연결은 호출 스레드를 막지 않고 끊는다")
+    void send_whenPendingExceedsLimit_shouldDropSubscriber() {
+        // given (전송 스레드가 멈춘 상태)
+        hub.subscribe(DATE, null);
+
+        // when
+        for (int i = 0; i < MAX_PENDING; i++) {
+            hub.sendHeartbeat();
+        }
+
+        // then
+        assertThat(hub.subscriberCount()).isZero();
+        assertThat(emitters.get(0).failed).isTrue();
+        assertThat(emitters.get(0).sent).isEmpty();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("match:delta".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 보낸 이벤트를 문자열로 기록하는 emitter
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+
+        private volatile boolean failing;
+
+        private volatile boolean failed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("broken pipe");
+            }
+            sent.add(builder.build().stream().map(data -> data.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failed = true;
+        }
+
+    }
+
+    /**
+     * runAll 을 호출할 때만 작업을 실행하는 executor
+     */
+    private static final class ManualExecutor extends AbstractExecutorService {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        private boolean shutdown;
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            var remaining = new ArrayList<>(tasks);
+            tasks.clear();
+            return remaining;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown && tasks.isEmpty();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return isTerminated();
+        }
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package kr.co.victoryfairy.core.api.service.match;
+
+import io.dodn.springboot.core.enums.MatchEnum;
+import kr.co.victoryfairy.common.model.ScoreboardDto;
+import kr.co.victoryfairy.common.service.ScoreboardDomainService;
+import kr.co.victoryfairy.core.api.domain.MatchDomain;
+import kr.co.victoryfairy.support.config.BeanConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@DisplayName("ScoreboardCache 테스트")
+class ScoreboardCacheTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 8, 1);
+
+    @Mock
+    private ScoreboardDomainService scoreboardDomainService;
+
+    private ScoreboardCache scoreboardCache;
+
+    @BeforeEach
+    void setUp() {
+        scoreboardCache = new ScoreboardCache(scoreboardDomainService, new BeanConfig().objectMapper());
+    }
+
+    @Test
+    @DisplayName("ETag 가 같으면 본문을 다시 읽지 않는다")
+    void find_whenETagUnchanged_shouldUseCachedEntry() {
+        // given
+        given(scoreboardDomainService.findETag(DATE, null)).willReturn("v1");
+        given(scoreboardDomainService.find(DATE, null)).willReturn(Optional.of(snapshot(DATE, "v1")));
+
+        // when
+        var first = scoreboardCache.find(DATE, null);
+        var second = scoreboardCache.find(DATE, null);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second).containsSame(first.get());
+        assertThat(second.get().response().date()).isEqualTo(DATE);
+        // 비로그인 응답 본문은 공통 응답으로 감싸 한 번만 렌더링
+        assertThat(new String(second.get().body(), StandardCharsets.UTF_8))
+            .isEqualTo("{\"status\":200,\"data\":{\"date\":\"2025-08-01\",\"matchList\":[]}}");
+        verify(scoreboardDomainService, times(1)).find(DATE, null);
+    }
+
+    @Test
+    @DisplayName("ETag 가 바뀌면 본문을 다시 읽는다")
+    void find_whenETagChanged_shouldReload() {
+        // given
+        given(scoreboardDomainService.findETag(DATE, MatchEnum.LeagueType.KBO)).willReturn("v1", "v2");
+        given(scoreboardDomainService.find(DATE, MatchEnum.LeagueType.KBO))
+            .willReturn(Optional.of(snapshot(DATE, "v1")), Optional.of(snapshot(DATE, "v2")));
+
+        // when
+        scoreboardCache.find(DATE, MatchEnum.LeagueType.KBO);
+        var reloaded = scoreboardCache.find(DATE, MatchEnum.LeagueType.KBO);
+
+        // then
+        assertThat(reloaded).map(MatchDomain.Scoreboard::eTag).contains("v2");
+        verify(scoreboardDomainService, times(2)).find(DATE, MatchEnum.LeagueType.KBO);
+    }
+
+    @Test
+    @DisplayName("발행된 스냅샷이 없으면 empty 를 반환한다")
+    void find_whenNotPublished_shouldReturnEmpty() {
+        // given
+        given(scoreboardDomainService.findETag(DATE, null)).willReturn(null);
+
+        // when
+        var result = scoreboardCache.find(DATE, null);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(scoreboardDomainService, never()).find(any(), any());
+    }
+
+    @Test
+    @DisplayName("항목 수가 최대치를 넘으면 가장 오래 조회되지 않은 항목만 제거한다")
+    void find_whenFull_shouldEvictLeastRecentlyUsed() {
+        // given
+        given(scoreboardDomainService.findETag(any(), any())).willReturn("v1");
+        given(scoreboardDomainService.find(any(), any()))
+            .willAnswer(invocation -> Optional.of(snapshot(invocation.getArgument(0), "v1")));
+        for (int i = 0; i < ScoreboardCache.MAX_ENTRIES; i++) {
+            scoreboardCache.find(DATE.plusDays(i), null);
+        }
+        // 첫 날짜를 다시 조회해 최근 사용으로 만듦
+        scoreboardCache.find(DATE, null);
+
+        // when
+        scoreboardCache.find(DATE.plusDays(ScoreboardCache.MAX_ENTRIES), null);
+        scoreboardCache.find(DATE, null);
+        scoreboardCache.find(DATE.plusDays(1), null);
+
+        // then
+        assertThat(scoreboardCache.size()).isEqualTo(ScoreboardCache.MAX_ENTRIES);
+        verify(scoreboardDomainService, times(1)).find(DATE, null);
+        verify(scoreboardDomainService, times(2)).find(DATE.plusDays(1), null);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 의 따옴표 / 약한 ETag / 목록 / * 를 현재 ETag 와 비교한다")
+    void isNotModified_shouldMatchIfNoneMatchForms() {
+        // given
+        var scoreboard = new MatchDomain.Scoreboard("v1", null, null);
+
+        // when & then
+        assertThat(scoreboard.isNotModified("\"v1\"")).isTrue();
+        assertThat(scoreboard.isNotModified("W/\"v1\"")).isTrue();
+        assertThat(scoreboard.isNotModified("\"v0\", \"v1\"")).isTrue();
+        assertThat(scoreboard.isNotModified("*")).isTrue();
+        assertThat(scoreboard.isNotModified("\"v2\"")).isFalse();
+        assertThat(scoreboard.isNotModified(null)).isFalse();
+    }
+
+    private ScoreboardDto.Snapshot snapshot(LocalDate date, String eTag) {
+        return new ScoreboardDto.Snapshot(eTag, "{\"date\":\"" + date + "\",\"matchList\":[]}");
+    }
+
+}
@@ -0,0 +1,189 @@
+package kr.co.victoryfairy.core.api.service.record;
+
+import io.dodn.springboot.core.enums.DiaryEnum;
+import io.dodn.springboot.core.enums.MatchEnum;
+import io.dodn.springboot.test.benchmark.JmhRunner;
+import kr.co.victoryfairy.core.api.domain.MyPageDomain;
+import kr.co.victoryfairy.storage.db.core.model.GameRecordModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시즌 기록 500건 회원의 리포트 계산 시간 / 할당량 비교 (기존 findReport 다중 순회 방식 vs RecordAggregator)
+ */
+@Tag("develop")
+@DisplayName("RecordAggregator 벤치마크")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordAggregatorBenchmarkTest {
+
+    private static final int RECORDS = 500;
+
+    private static final long MY_TEAM = 1L;
+
+    private List<GameRecordModel.StatRow> rows;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        var results = new MatchEnum.ResultType[] { MatchEnum.ResultType.WIN, MatchEnum.ResultType.LOSS,
+                MatchEnum.ResultType.DRAW };
+        var startAt = LocalDateTime.of(2025, 3, 22, 14, 0);
+
+        rows = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            var opponent = 2L + random.nextInt(9);
+            var home = random.nextBoolean();
+            var stadiumId = home ? 1L : opponent;
+            var status = random.nextInt(20) == 0 ? MatchEnum.MatchStatus.CANCELED : MatchEnum.MatchStatus.END;
+            var viewType = random.nextBoolean() ? DiaryEnum.ViewType.STADIUM : DiaryEnum.ViewType.HOME;
+            var result = results[random.nextInt(results.length)];
+            rows.add(new GameRecordModel.StatRow(viewType, status, result, MY_TEAM, home ? MY_TEAM : opponent,
+                    opponent, "팀" + opponent, stadiumId, "구장" + stadiumId, startAt.plusHours(i * 6L)));
+        }
+    }
+
+    @Benchmark
+    public MyPageDomain.ReportResponse legacy() {
+        return legacyReport(rows);
+    }
+
+    @Benchmark
+    public MyPageDomain.ReportResponse aggregator() {
+        var stats = RecordAggregator.of(rows);
+        return new MyPageDomain.ReportResponse(stats.viewType(DiaryEnum.ViewType.STADIUM),
+                stats.viewType(DiaryEnum.ViewType.HOME),
+                new MyPageDomain.ViewStatisticsDto(stats.maxWinTeam(), stats.maxLoseTeam(), stats.maxVisitedStadium(),
+                        stats.maxStreak(), stats.homeGameWinRate(), stats.awayGameWinRate()));
+    }
+
+    @Test
+    @DisplayName("기록 500건")
+    void heavyUser() throws Exception {
+        var results = JmhRunner.run(getClass());
+
+        var legacy = results.get("legacy");
+        var aggregator = results.get("aggregator");
+        assertThat(aggregator.score()).isLessThan(legacy.score());
+        assertThat(aggregator.allocated()).isLessThan(legacy.allocated());
+    }
+
+    /**
+     * 변경 전 MyPageServiceImpl.findReport 와 같은 방식 (관람 방식 / 결과마다 스트림을 다시 돌고, 기록마다 합계 객체 생성)
+     */
+    private static MyPageDomain.ReportResponse legacyReport(List<GameRecordModel.StatRow> records) {
+        var recordList = records.stream().sorted(Comparator.comparing(GameRecordModel.StatRow::matchAt)).toList();
+
+        Map<String, MyPageDomain.VisitInfoDto> stadiumVisitCount = new HashMap<>();
+        var winMap = new HashMap<String, MyPageDomain.TeamResultDto>();
+        var loseMap = new HashMap<String, MyPageDomain.TeamResultDto>();
+        short homeGameCount = 0;
+        short homeGameWinCount = 0;
+        short awayGameCount = 0;
+        short awayGameWinCount = 0;
+        short currentStreak = 0;
+        short maxStreak = 0;
+
+        for (var record : recordList) {
+            var matchAt = record.matchAt();
+            if (record.resultType() == MatchEnum.ResultType.WIN) {
+                winMap.merge(record.opponentTeamName(), new MyPageDomain.TeamResultDto(1, matchAt),
+                        (oldVal, newVal) -> new MyPageDomain.TeamResultDto(oldVal.count() + 1,
+                                matchAt.isAfter(oldVal.lastPlayedAt()) ? matchAt : oldVal.lastPlayedAt()));
+            }
+            else if (record.resultType() == MatchEnum.ResultType.LOSS) {
+                loseMap.merge(record.opponentTeamName(), new MyPageDomain.TeamResultDto(1, matchAt),
+                        (oldVal, newVal) -> new MyPageDomain.TeamResultDto(oldVal.count() + 1,
+                                matchAt.isAfter(oldVal.lastPlayedAt()) ? matchAt : oldVal.lastPlayedAt()));
+            }
+        }
+
+        var stadiumRecord = recordList.stream()
+            .filter(record -> record.viewType() == DiaryEnum.ViewType.STADIUM)
+            .toList();
+        MyPageDomain.ViewTypeDto stadiumViewDto = null;
+        if (!stadiumRecord.isEmpty()) {
+            stadiumViewDto = legacyViewType(stadiumRecord);
+            for (var record : stadiumRecord) {
+                var matchAt = record.matchAt();
+                stadiumVisitCount.merge(record.stadiumName(), new MyPageDomain.VisitInfoDto(1, matchAt),
+                        (oldVal, newVal) -> new MyPageDomain.VisitInfoDto(oldVal.count() + 1,
+                                matchAt.isAfter(oldVal.lastVisited()) ? matchAt : oldVal.lastVisited()));
+
+                var win = record.resultType() == MatchEnum.ResultType.WIN;
+                if (record.homeTeamId().equals(record.teamId())) {
+                    homeGameCount++;
+                    homeGameWinCount += win ? 1 : 0;
+                }
+                else {
+                    awayGameCount++;
+                    awayGameWinCount += win ? 1 : 0;
+                }
+                currentStreak = win ? (short) (currentStreak + 1) : 0;
+                maxStreak = (short) Math.max(maxStreak, currentStreak);
+            }
+        }
+
+        var homeRecord = recordList.stream().filter(record -> record.viewType() == DiaryEnum.ViewType.HOME).toList();
+        var homeViewDto = homeRecord.isEmpty() ? null : legacyViewType(homeRecord);
+
+        Comparator<Map.Entry<String, MyPageDomain.TeamResultDto>> teamOrder = Comparator
+            .comparingInt((Map.Entry<String, MyPageDomain.TeamResultDto> e) -> e.getValue().count())
+            .thenComparing(e -> e.getValue().lastPlayedAt());
+        var maxWinTeam = winMap.entrySet().stream().max(teamOrder).map(Map.Entry::getKey).orElse("-");
+        var maxLoseTeam = loseMap.entrySet().stream().max(teamOrder).map(Map.Entry::getKey).orElse("-");
+        var maxVisitedStadium = stadiumVisitCount.entrySet()
+            .stream()
+            .max(Comparator.comparingInt((Map.Entry<String, MyPageDomain.VisitInfoDto> e) -> e.getValue().count())
+                .thenComparing(e -> e.getValue().lastVisited()))
+            .map(Map.Entry::getKey)
+            .orElse(null);
+
+        var homeWinRate = homeGameCount == 0 ? 0 : (short) Math.round((double) homeGameWinCount / homeGameCount * 100);
+        var awayWinRate = awayGameCount == 0 ? 0 : (short) Math.round((double) awayGameWinCount / awayGameCount * 100);
+        return new MyPageDomain.ReportResponse(stadiumViewDto, homeViewDto, new MyPageDomain.ViewStatisticsDto(
+                maxWinTeam, maxLoseTeam, maxVisitedStadium, maxStreak, (short) homeWinRate, (short) awayWinRate));
+    }
+
+    private static MyPageDomain.ViewTypeDto legacyViewType(List<GameRecordModel.StatRow> records) {
+        var winCount = (short) records.stream()
+            .filter(record -> record.status().equals(MatchEnum.MatchStatus.END)
+                    && record.resultType().equals(MatchEnum.ResultType.WIN))
+            .count();
+        var loseCount = (short) records.stream()
+            .filter(record -> record.status().equals(MatchEnum.MatchStatus.END)
+                    && record.resultType().equals(MatchEnum.ResultType.LOSS))
+            .count();
+        var drawCount = (short) records.stream()
+            .filter(record -> record.status() != MatchEnum.MatchStatus.CANCELED
+                    && record.resultType().equals(MatchEnum.ResultType.DRAW))
+            .count();
+        var cancelCount = (short) records.stream()
+            .filter(record -> record.status() == MatchEnum.MatchStatus.CANCELED)
+            .count();
+        var validGameCount = winCount + loseCount;
+        var winAvg = validGameCount == 0 ? 0 : (short) Math.round((double) winCount / validGameCount * 100);
+        return new MyPageDomain.ViewTypeDto((short) winAvg, winCount, loseCount, drawCount, cancelCount);
+    }
+
+}
@@ -0,0 +1,105 @@
+package kr.co.victoryfairy.core.api.service.record;
+
+import io.dodn.springboot.core.enums.DiaryEnum;
+import io.dodn.springboot.core.enums.MatchEnum;
+import kr.co.victoryfairy.storage.db.core.entity.WinningRateEntity;
+import kr.co.victoryfairy.storage.db.core.model.GameRecordModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("RecordAggregator 테스트")
+class RecordAggregatorTest {
+
+    private static final long SAMSUNG = 1L;
+
+    private static final long LG = 2L;
+
+    private static final long KIA = 3L;
+
+    @Test
+    @DisplayName("한 번 순회로 관람 방식별 전적과 상대 팀 / 구장 / 연승 통계를 계산한다")
+    void of_shouldAggregateAllDimensions() {
+        // given (삼성 팬, 직관 4경기 + 집관 2경기)
+        var rows = List.of(
+                row(DiaryEnum.ViewType.STADIUM, MatchEnum.ResultType.WIN, LG, LG, 10L, "잠실", 1),
+                row(DiaryEnum.ViewType.STADIUM, MatchEnum.ResultType.WIN, LG, LG, 10L, "잠실", 2),
+                row(DiaryEnum.ViewType.STADIUM, MatchEnum.ResultType.LOSS, SAMSUNG, KIA, 20L, "대구", 3),
+                row(DiaryEnum.ViewType.STADIUM, MatchEnum.ResultType.WIN, SAMSUNG, KIA, 20L, "대구", 4),
+                row(DiaryEnum.ViewType.HOME, MatchEnum.ResultType.DRAW, LG, LG, 10L, "잠실", 5),
+                row(DiaryEnum.ViewType.HOME, MatchEnum.ResultType.LOSS, LG, LG, 10L, "잠실", 6));
+
+        // when
+        var stats = RecordAggregator.of(rows);
+
+        // then
+        var stadium = stats.viewType(DiaryEnum.ViewType.STADIUM);
+        assertThat(stadium.win()).isEqualTo((short) 3);
+        assertThat(stadium.lose()).isEqualTo((short) 1);
+        assertThat(stadium.winAvg()).isEqualTo((short) 75);
+
+        var home = stats.viewType(DiaryEnum.ViewType.HOME);
+        assertThat(home.draw()).isEqualTo((short) 1);
+        assertThat(home.lose()).isEqualTo((short) 1);
+        assertThat(home.winAvg()).isZero();
+
+        // 직관 75, 집관 0 의 평균
+        assertThat(stats.power()).isEqualTo((short) 38);
+        assertThat(stats.maxWinTeam()).isEqualTo("팀" + LG);
+        // 패배 / 방문 수가 같으면 마지막 경기가 늦은 쪽
+        assertThat(stats.maxLoseTeam()).isEqualTo("팀" + LG);
+        assertThat(stats.maxVisitedStadium()).isEqualTo("대구");
+        assertThat(stats.maxStreak()).isEqualTo((short) 2);
+        // 삼성 홈(대구) 직관 2경기 중 1승, 원정 직관 2경기 2승
+        assertThat(stats.homeGameWinRate()).isEqualTo((short) 50);
+        assertThat(stats.awayGameWinRate()).isEqualTo((short) 100);
+    }
+
+    @Test
+    @DisplayName("저장된 시즌 집계로 만든 결과는 기록으로 계산한 결과와 같다")
+    void from_shouldMatchAggregatedRecords() {
+        // given
+        var winningRate = WinningRateEntity.builder()
+            .totalCnt((short) 6)
+            .totalWinCnt((short) 3)
+            .stadiumCnt((short) 4)
+            .stadiumWinCnt((short) 3)
+            .stadiumLoseCnt((short) 1)
+            .stadiumDrawCnt((short) 0)
+            .stadiumCancelCnt((short) 0)
+            .homeCnt((short) 2)
+            .homeWinCnt((short) 0)
+            .homeLoseCnt((short) 1)
+            .homeDrawCnt((short) 1)
+            .homeCancelCnt((short) 0)
+            .build();
+
+        // when
+        var stats = RecordAggregator.from(winningRate);
+
+        // then
+        assertThat(stats.power()).isEqualTo((short) 38);
+        assertThat(stats.viewType(DiaryEnum.ViewType.STADIUM))
+            .isEqualTo(RecordAggregator.of(List.of(
+                    row(DiaryEnum.ViewType.STADIUM, MatchEnum.ResultType.WIN, SAMSUNG, LG, 10L, "잠실", 1),
+                    row(DiaryEnum.ViewType.STADIUM, MatchEnum.ResultType.WIN, SAMSUNG, LG, 10L, "잠실", 2),
+                    row(DiaryEnum.ViewType.STADIUM, MatchEnum.ResultType.WIN, SAMSUNG, LG, 10L, "잠실", 3),
+                    row(DiaryEnum.ViewType.STADIUM, MatchEnum.ResultType.LOSS, SAMSUNG, LG, 10L, "잠실", 4)))
+                .viewType(DiaryEnum.ViewType.STADIUM));
+        // 홈 / 원정 구분은 집계 행에 없으면 0
+        assertThat(stats.homeGameWinRate()).isZero();
+    }
+
+    private GameRecordModel.StatRow row(DiaryEnum.ViewType viewType, MatchEnum.ResultType result, long homeTeamId,
+            long opponentId, long stadiumId, String stadiumName, int day) {
+        return new GameRecordModel.StatRow(viewType, MatchEnum.MatchStatus.END, result, SAMSUNG, homeTeamId,
+                opponentId, "팀" + opponentId, stadiumId, stadiumName, LocalDateTime.of(2025, 4, day, 18, 30));
+    }
+
+}
@@ -1,12 +1,15 @@
 package kr.co.victoryfairy;
 
+import kr.co.victoryfairy.support.browser.BrowserPoolConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableScheduling
 @SpringBootApplication
+@Import(BrowserPoolConfig.class)
 public class CoreBatchApplication {
 
     public static void main(String[] args) {
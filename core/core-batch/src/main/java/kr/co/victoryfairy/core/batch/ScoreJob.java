@@ -1,6 +1,9 @@
 package kr.co.victoryfairy.core.batch;
 
 import kr.co.victoryfairy.core.batch.service.BatchService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -9,6 +12,10 @@ public class ScoreJob {
 
     private final BatchService batchService;
 
+    // 기동 시 winning_rate 백필 여부
+    @Value("${batch.check.winning-rate-on-startup:true}")
+    private boolean checkWinningRateOnStartup;
+
     public ScoreJob(BatchService batchService) {
         this.batchService = batchService;
     }
@@ -38,4 +45,19 @@ public class ScoreJob {
         batchService.checkMissFile();
     }
 
+    @Scheduled(cron = "${batch.check.winning-rate:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void checkWinningRate() {
+        batchService.checkWinningRate();
+    }
+
+    /**
+     * 배포 직후 비어 있는 winning_rate 를 새벽 배치까지 두지 않도록 기동 시 한 번 검증 / 재계산 (집계가 없는 시즌은 모두 다시 계산)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillWinningRate() {
+        if (checkWinningRateOnStartup) {
+            batchService.checkWinningRate();
+        }
+    }
+
 }
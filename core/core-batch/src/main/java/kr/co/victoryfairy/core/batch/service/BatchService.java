@@ -12,4 +12,6 @@ public interface BatchService {
 
     void checkMissFile();
 
+    void checkWinningRate();
+
 }
@@ -0,0 +1,290 @@
+package kr.co.victoryfairy.core.batch.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import kr.co.victoryfairy.storage.db.core.model.FileModel;
+import kr.co.victoryfairy.storage.db.core.repository.FileCustomRepository;
+import kr.co.victoryfairy.storage.db.core.repository.FileVariantCustomRepository;
+import kr.co.victoryfairy.support.properties.FileProperties;
+import kr.co.victoryfairy.support.utils.FileNameUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 참조가 끊긴 파일 정리
+ * <p>
+ * 정리 대상을 id 순으로 페이지 단위로 읽고, 원본 / 변환본 파일명은 DB 에 저장된 정보로 계산해 디렉토리를 훑지 않고 바로 삭제합니다.
+ * 페이지마다 마지막 id 를 Redis 에 기록하므로 중간에 중단되어도 다음 실행이 이어서 진행합니다. 세션이 만료된 업로드 임시 파일도 함께 지웁니다.
+ * 실행 시간은 {@code file.sweep} 타이머, 처리 건수는 {@code file.sweep.files}(result 태그) / {@code file.sweep.bytes} 카운터로
+ * 페이지마다 노출합니다.
+ */
+@Component
+public class FileSweeper {
+
+    static final String STATE_KEY = "file_sweep";
+
+    static final String CHECKPOINT_FIELD = "lastId";
+
+    private final Logger log = LoggerFactory.getLogger(FileSweeper.class);
+
+    private final FileCustomRepository fileCustomRepository;
+
+    private final FileVariantCustomRepository fileVariantCustomRepository;
+
+    private final FileProperties fileProperties;
+
+    private final RedisHandler redisHandler;
+
+    private final Timer sweepTimer;
+
+    private final Counter scannedCounter;
+
+    private final Counter deletedCounter;
+
+    private final Counter failedCounter;
+
+    private final Counter skippedCounter;
+
+    private final Counter bytesCounter;
+
+    private volatile Result lastResult;
+
+    public FileSweeper(FileCustomRepository fileCustomRepository,
+            FileVariantCustomRepository fileVariantCustomRepository, FileProperties fileProperties,
+            RedisHandler redisHandler, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.fileCustomRepository = fileCustomRepository;
+        this.fileVariantCustomRepository = fileVariantCustomRepository;
+        this.fileProperties = fileProperties;
+        this.redisHandler = redisHandler;
+
+        var meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        this.sweepTimer = meterRegistry.timer("file.sweep");
+        this.scannedCounter = meterRegistry.counter("file.sweep.files", "result", "scanned");
+        this.deletedCounter = meterRegistry.counter("file.sweep.files", "result", "deleted");
+        this.failedCounter = meterRegistry.counter("file.sweep.files", "result", "failed");
+        this.skippedCounter = meterRegistry.counter("file.sweep.files", "result", "skipped");
+        this.bytesCounter = meterRegistry.counter("file.sweep.bytes");
+    }
+
+    /**
+     * @param before 이 시각 이후 등록 / 재사용된 파일은 정리하지 않음
+     */
+    public Result sweep(LocalDateTime before) {
+        var startedAt = System.nanoTime();
+        var stats = new Stats();
+        var lastId = readCheckpoint();
+        if (lastId != null) {
+            log.info("file sweep resumed - lastId: {}", lastId);
+        }
+
+        var pageSize = fileProperties.getSweepPageSize();
+        ExecutorService executor = Executors.newFixedThreadPool(fileProperties.getSweepParallelism(), runnable -> {
+            var thread = new Thread(runnable, "file-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<FileModel.Orphan> page;
+            do {
+                page = fileCustomRepository.findMissingFile(before, lastId, pageSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+                sweepPage(page, executor, stats);
+                lastId = page.get(page.size() - 1).id();
+                redisHandler.setMap(STATE_KEY, Map.of(CHECKPOINT_FIELD, String.valueOf(lastId)));
+            }
+            while (page.size() == pageSize);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        sweepTemp();
+
+        // 끝까지 진행한 경우에만 체크포인트 제거 (예외로 중단되면 남겨 두고 다음 실행이 이어서 진행)
+        redisHandler.delete(STATE_KEY, CHECKPOINT_FIELD);
+        var result = stats.toResult((System.nanoTime() - startedAt) / 1_000_000);
+        redisHandler.setMap(STATE_KEY, result.toMap());
+        sweepTimer.record(result.elapsedMillis(), TimeUnit.MILLISECONDS);
+        lastResult = result;
+        log.info("file sweep finished - scanned: {}, deleted: {}, failed: {}, skipped: {}, bytes: {}, "
+                + "elapsed: {}ms, {} files/s", result.scanned(), result.deleted(), result.failed(), result.skipped(),
+                result.bytes(), result.elapsedMillis(), String.format("%.1f", result.filesPerSecond()));
+        return result;
+    }
+
+    /**
+     * 마지막으로 끝난 정리 결과 (실행 이력이 없으면 null)
+     */
+    public Result lastResult() {
+        return lastResult;
+    }
+
+    /**
+     * 세션이 만료된 분할 업로드 / 수신 중 중단된 업로드의 임시 파일 정리
+     */
+    private void sweepTemp() {
+        var directory = Path.of(fileProperties.getStoragePath(), FileNameUtils.TEMP_DIRECTORY);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        var expiredBefore = Instant.now().minus(Duration.ofHours(fileProperties.getUploadSessionHours()));
+        var deleted = 0;
+        try (var temps = Files.newDirectoryStream(directory)) {
+            for (Path temp : temps) {
+                if (Files.getLastModifiedTime(temp).toInstant().isBefore(expiredBefore) && Files.deleteIfExists(temp)) {
+                    deleted++;
+                }
+            }
+        }
+        catch (IOException e) {
+            log.error("Failed to clean up upload temp files: {}", directory, e);
+        }
+        if (deleted > 0) {
+            log.info("expired upload temp files deleted - count: {}", deleted);
+        }
+    }
+
+    private void sweepPage(List<FileModel.Orphan> page, ExecutorService executor, Stats stats) {
+        stats.scanned += page.size();
+        scannedCounter.increment(page.size());
+
+        // 조회 이후 다시 참조된 파일(중복 업로드 재사용)은 남김
+        var referenced = new HashSet<>(
+                fileCustomRepository.findReferencedIds(page.stream().map(FileModel.Orphan::id).toList()));
+        var targets = page.stream().filter(orphan -> !referenced.contains(orphan.id())).toList();
+        stats.skipped += page.size() - targets.size();
+        skippedCounter.increment(page.size() - targets.size());
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        var widths = fileVariantCustomRepository.findWidths(targets.stream().map(FileModel.Orphan::id).toList())
+            .stream()
+            .collect(Collectors.groupingBy(FileModel.VariantWidth::fileId,
+                    Collectors.mapping(FileModel.VariantWidth::width, Collectors.toList())));
+
+        var futures = targets.stream()
+            .map(orphan -> CompletableFuture.supplyAsync(() -> deleteBlobs(orphan, widths.get(orphan.id())),
+                    executor))
+            .toList();
+
+        var deletedIds = new ArrayList<Long>();
+        var bytes = 0L;
+        var failed = 0L;
+        for (int i = 0; i < targets.size(); i++) {
+            var orphan = targets.get(i);
+            if (futures.get(i).join()) {
+                deletedIds.add(orphan.id());
+                bytes += orphan.size() != null ? orphan.size() : 0;
+            }
+            else {
+                failed++;
+            }
+        }
+        // 디스크 삭제에 성공한 파일만 행 삭제 (실패한 파일은 다음 실행에서 다시 시도)
+        var deleted = fileCustomRepository.deleteFiles(deletedIds);
+
+        stats.bytes += bytes;
+        stats.failed += failed;
+        stats.deleted += deleted;
+        bytesCounter.increment(bytes);
+        failedCounter.increment(failed);
+        deletedCounter.increment(deleted);
+    }
+
+    /**
+     * @param widths 등록된 변환본 너비 (변환본 행이 없는 이전 데이터는 설정된 너비 전체)
+     * @return 원본 / 변환본을 모두 지웠거나 이미 없으면 true
+     */
+    private boolean deleteBlobs(FileModel.Orphan orphan, List<Integer> widths) {
+        var isVideo = FileNameUtils.isVideo(orphan.path());
+        var names = new ArrayList<String>();
+        names.add(FileNameUtils.original(orphan.saveName(), orphan.ext()));
+        for (Integer width : widths != null ? widths : configuredWidths(isVideo)) {
+            names.add(FileNameUtils.variant(orphan.saveName(), orphan.ext(), width, isVideo));
+        }
+
+        var directory = Path.of(fileProperties.getStoragePath(), orphan.path());
+        var deleted = true;
+        for (String name : names) {
+            var target = directory.resolve(name);
+            try {
+                Files.deleteIfExists(target);
+            }
+            catch (Exception e) {
+                deleted = false;
+                log.error("Failed to delete file: {}", target, e);
+            }
+        }
+        return deleted;
+    }
+
+    private Collection<Integer> configuredWidths(boolean isVideo) {
+        var widths = isVideo ? fileProperties.getVideoResizes() : fileProperties.getImageResizes();
+        return widths != null ? Arrays.stream(widths).filter(Objects::nonNull).toList() : List.of();
+    }
+
+    private Long readCheckpoint() {
+        var value = redisHandler.get(STATE_KEY, CHECKPOINT_FIELD);
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    public record Result(long scanned, long deleted, long failed, long skipped, long bytes, long elapsedMillis) {
+
+        public double filesPerSecond() {
+            return elapsedMillis > 0 ? deleted * 1000.0 / elapsedMillis : deleted;
+        }
+
+        Map<String, String> toMap() {
+            return Map.of("scanned", String.valueOf(scanned), "deleted", String.valueOf(deleted), "failed",
+                    String.valueOf(failed), "skipped", String.valueOf(skipped), "bytes", String.valueOf(bytes),
+                    "elapsedMillis", String.valueOf(elapsedMillis), "finishedAt", LocalDateTime.now().toString());
+        }
+
+    }
+
+    private static class Stats {
+
+        private long scanned;
+
+        private long deleted;
+
+        private long failed;
+
+        private long skipped;
+
+        private long bytes;
+
+        private Result toResult(long elapsedMillis) {
+            return new Result(scanned, deleted, failed, skipped, bytes, elapsedMillis);
+        }
+
+    }
+
+}
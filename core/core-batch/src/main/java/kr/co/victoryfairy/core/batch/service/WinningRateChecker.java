@@ -0,0 +1,64 @@
+package kr.co.victoryfairy.core.batch.service;
+
+import kr.co.victoryfairy.storage.db.core.model.WinningRateModel;
+import kr.co.victoryfairy.storage.db.core.repository.WinningRateCustomRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시즌 집계(winning_rate) 검증 / 재계산
+ * <p>
+ * 시즌마다 game_record 로 계산한 값과 저장된 집계를 비교해 다른 회원이 있으면 그 시즌만 다시 계산합니다. 집계가 없던 기존 기록도 같은
+ * 경로로 채워지므로 core-batch 기동 시 한 번 실행해 백필합니다 (스키마 변경은 storage/db-core/migration 참고).
+ */
+@Component
+public class WinningRateChecker {
+
+    private static final int LOG_SAMPLE_SIZE = 10;
+
+    private final Logger log = LoggerFactory.getLogger(WinningRateChecker.class);
+
+    private final WinningRateCustomRepository winningRateCustomRepository;
+
+    public WinningRateChecker(WinningRateCustomRepository winningRateCustomRepository) {
+        this.winningRateCustomRepository = winningRateCustomRepository;
+    }
+
+    /**
+     * 전체 시즌 검증 후 값이 다른 시즌 재계산
+     */
+    public Result check() {
+        var startedAt = System.currentTimeMillis();
+        var seasons = winningRateCustomRepository.findSeasons();
+        var mismatched = 0;
+        var rebuilt = 0;
+        for (String season : seasons) {
+            var mismatches = winningRateCustomRepository.findMismatches(season);
+            if (mismatches.isEmpty()) {
+                continue;
+            }
+            mismatched += mismatches.size();
+            log.warn("winning_rate mismatch - season: {}, members: {}, sample: {}", season, mismatches.size(),
+                    mismatches.stream().limit(LOG_SAMPLE_SIZE).map(this::describe).toList());
+            rebuilt += winningRateCustomRepository.rebuild(season);
+        }
+
+        var result = new Result(seasons.size(), mismatched, rebuilt, System.currentTimeMillis() - startedAt);
+        log.info("winning_rate check finished - seasons: {}, mismatched: {}, rebuilt: {}, elapsed: {}ms",
+                result.seasons(), result.mismatched(), result.rebuilt(), result.elapsedMillis());
+        return result;
+    }
+
+    private String describe(WinningRateModel.Mismatch mismatch) {
+        return mismatch.memberId() + mismatch.counters().toString();
+    }
+
+    /**
+     * @param mismatched 집계가 달랐던 회원 수 (시즌별 합계)
+     * @param rebuilt 다시 계산한 회원 수
+     */
+    public record Result(int seasons, int mismatched, int rebuilt, long elapsedMillis) {
+    }
+
+}
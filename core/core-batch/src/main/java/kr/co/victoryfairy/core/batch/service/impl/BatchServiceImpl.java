@@ -3,14 +3,24 @@ package kr.co.victoryfairy.core.batch.service.impl;
 import com.microsoft.playwright.*;
 import io.dodn.springboot.core.enums.EventType;
 import io.dodn.springboot.core.enums.MatchEnum;
+import io.micrometer.core.annotation.Timed;
+import kr.co.victoryfairy.common.cache.ReferenceDataCache;
+import kr.co.victoryfairy.common.model.CommonDto;
+import kr.co.victoryfairy.common.model.ScoreboardDto;
+import kr.co.victoryfairy.common.service.ScoreboardDomainService;
 import kr.co.victoryfairy.core.batch.model.PushEventDto;
 import kr.co.victoryfairy.core.batch.model.WriteEventDto;
 import kr.co.victoryfairy.core.batch.service.BatchService;
+import kr.co.victoryfairy.core.batch.service.FileSweeper;
+import kr.co.victoryfairy.core.batch.service.WinningRateChecker;
 import kr.co.victoryfairy.storage.db.core.entity.*;
 import kr.co.victoryfairy.storage.db.core.repository.*;
 import kr.co.victoryfairy.redis.handler.RedisHandler;
 import kr.co.victoryfairy.redis.handler.RedisOperator;
-import kr.co.victoryfairy.support.properties.FileProperties;
+import kr.co.victoryfairy.support.browser.BoxScore;
+import kr.co.victoryfairy.support.browser.BoxScoreScraper;
+import kr.co.victoryfairy.support.browser.BrowserLease;
+import kr.co.victoryfairy.support.browser.BrowserPool;
 import kr.co.victoryfairy.support.utils.SlackUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,7 +31,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.io.File;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -36,6 +45,8 @@ import java.util.stream.Collectors;
 @Service
 public class BatchServiceImpl implements BatchService {
 
+    private static final int WRITE_BATCH_SIZE = 20;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final MemberRepository memberRepository;
@@ -50,18 +61,12 @@ public class BatchServiceImpl implements BatchService {
 
     private final GameMatchCustomRepository gameMatchEntityCustomRepository;
 
-    private final HitterRecordRepository hitterRecordRepository;
+    private final HitterRecordCustomRepository hitterRecordCustomRepository;
 
-    private final PitcherRecordRepository pitcherRecordRepository;
+    private final PitcherRecordCustomRepository pitcherRecordCustomRepository;
 
     private final StadiumRepository stadiumRepository;
 
-    private final FileRepository fileRepository;
-
-    private final FileCustomRepository fileCustomRepository;
-
-    private final FileProperties fileProperties;
-
     private final RedisHandler redisHandler;
 
     private final SlackUtils slackUtils;
@@ -70,41 +75,58 @@ public class BatchServiceImpl implements BatchService {
 
     private final RedisTemplate<String, Object> redisTemplate;
 
+    private final ReferenceDataCache referenceDataCache;
+
+    private final ScoreboardDomainService scoreboardDomainService;
+
+    private final BrowserPool browserPool;
+
+    private final BoxScoreScraper boxScoreScraper;
+
+    private final FileSweeper fileSweeper;
+
+    private final WinningRateChecker winningRateChecker;
+
     public BatchServiceImpl(MemberRepository memberRepository, DiaryRepository diaryRepository,
             TeamRepository teamRepository, GameMatchRepository gameMatchRepository,
             GameMatchCustomRepository gameMatchEntityCustomRepository, GameRecordRepository gameRecordRepository,
-            HitterRecordRepository hitterRecordRepository, PitcherRecordRepository pitcherRecordRepository,
-            FileRepository fileRepository, FileCustomRepository fileCustomRepository, FileProperties fileProperties,
+            HitterRecordCustomRepository hitterRecordCustomRepository,
+            PitcherRecordCustomRepository pitcherRecordCustomRepository,
             RedisTemplate<String, Object> redisTemplate, StadiumRepository stadiumRepository, RedisHandler redisHandler,
-            SlackUtils slackUtils, RedisOperator redisOperator) {
+            SlackUtils slackUtils, RedisOperator redisOperator, ReferenceDataCache referenceDataCache,
+            ScoreboardDomainService scoreboardDomainService, BrowserPool browserPool,
+            BoxScoreScraper boxScoreScraper, FileSweeper fileSweeper, WinningRateChecker winningRateChecker) {
         this.memberRepository = memberRepository;
         this.diaryRepository = diaryRepository;
         this.teamRepository = teamRepository;
         this.gameMatchRepository = gameMatchRepository;
         this.gameMatchEntityCustomRepository = gameMatchEntityCustomRepository;
         this.gameRecordRepository = gameRecordRepository;
-        this.hitterRecordRepository = hitterRecordRepository;
-        this.pitcherRecordRepository = pitcherRecordRepository;
-        this.fileRepository = fileRepository;
-        this.fileCustomRepository = fileCustomRepository;
-        this.fileProperties = fileProperties;
+        this.hitterRecordCustomRepository = hitterRecordCustomRepository;
+        this.pitcherRecordCustomRepository = pitcherRecordCustomRepository;
         this.redisHandler = redisHandler;
         this.slackUtils = slackUtils;
         this.redisOperator = redisOperator;
         this.stadiumRepository = stadiumRepository;
         this.redisTemplate = redisTemplate;
+        this.referenceDataCache = referenceDataCache;
+        this.scoreboardDomainService = scoreboardDomainService;
+        this.browserPool = browserPool;
+        this.boxScoreScraper = boxScoreScraper;
+        this.fileSweeper = fileSweeper;
+        this.winningRateChecker = winningRateChecker;
     }
 
     @Override
     @Transactional
+    @Timed("batch.score")
     public void batchScore() {
         logger.info("========== Batch  Start ==========");
 
         var id = "";
         var formattedDate = "";
-        try (Playwright playwright = Playwright.create()) {
-            Browser browser = playwright.chromium().launch();
-            Page page = browser.newPage();
+        try (BrowserLease lease = browserPool.lease()) {
+            Page page = lease.page();
             page.navigate("https://m.koreabaseball.com/Kbo/Schedule.aspx");
             // page.evaluate("getGameDateList('20250503')");
 
@@ -119,6 +141,7 @@ public class BatchServiceImpl implements BatchService {
 
             String now = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
             if (now.equals(formattedDate)) {
+                List<ScoreboardDto.Match> scoreboard = new ArrayList<>();
                 for (ElementHandle game : gameElements) {
                     String classAttr = game.getAttribute("class");
                     String statusClass = classAttr.replace("list", "").trim();
@@ -201,9 +224,19 @@ public class BatchServiceImpl implements BatchService {
                     map.put("stadium", stadiumEntity.getShortName());
                     map.put("stadiumId", stadiumEntity.getId());
                     map.put("reason", reason);
+                    map.put("league", matchEntity.getLeague());
 
                     redisHandler.pushHash(formattedDate + "_match_list", id, map);
 
+                    scoreboard.add(new ScoreboardDto.Match(id, matchEntity.getMatchAt().toLocalDate(), time,
+                            stadiumEntity.getShortName(), matchStatus,
+                            matchStatus.equals(MatchEnum.MatchStatus.CANCELED) ? reason : matchStatus.getDesc(),
+                            scoreboardTeam(matchEntity.getAwayTeamEntity().getId(), matchEntity.getAwayNm(),
+                                    matchStatus, awayScore, homeScore),
+                            scoreboardTeam(matchEntity.getHomeTeamEntity().getId(), matchEntity.getHomeNm(),
+                                    matchStatus, homeScore, awayScore),
+                            false, null, matchEntity.getLeague()));
+
                     // 경기 상태 변경
                     if (matchEntity.getStatus().equals(MatchEnum.MatchStatus.READY)
                             || matchEntity.getStatus().equals(MatchEnum.MatchStatus.PROGRESS)) {
@@ -274,10 +307,12 @@ public class BatchServiceImpl implements BatchService {
                         }
                     }
                 }
-            }
 
-            page.close(); // 안전하게 닫기
-            browser.close();
+                // API 노드가 그대로 내려줄 수 있도록 렌더링된 스냅샷 발행
+                if (!scoreboard.isEmpty()) {
+                    scoreboardDomainService.publish(LocalDate.now(), scoreboard);
+                }
+            }
         }
         catch (Exception e) {
             logger.error("점수 불러오는 중 에러 발생: {}", id, e);
@@ -295,98 +330,103 @@ public class BatchServiceImpl implements BatchService {
          */
     }
 
+    private ScoreboardDto.Team scoreboardTeam(Long teamId, String defaultName, MatchEnum.MatchStatus status,
+            Short score, Short opponentScore) {
+        var name = referenceDataCache.findTeam(teamId).map(CommonDto.TeamDto::name).orElse(defaultName);
+
+        MatchEnum.ResultType result = null;
+        if (status.equals(MatchEnum.MatchStatus.END) && score != null && opponentScore != null) {
+            result = score.equals(opponentScore) ? MatchEnum.ResultType.DRAW
+                    : score > opponentScore ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS;
+        }
+        return new ScoreboardDto.Team(teamId, name, score, result);
+    }
+
     @Override
     @Transactional
     public void batchMatchInfo() {
         logger.info("========== Match Info Craw  Start ==========");
         // 오늘 일자 경기 목록 조회
         var now = LocalDate.now();
-        var matches = gameMatchEntityCustomRepository.findByMatchAt(now);
+        var season = String.valueOf(now.getYear());
 
-        // status 가 end, isMatchInfoCraw 가 false or null 인 요소
-        matches = matches.stream()
-            .filter(entity -> (entity.getIsMatchInfoCraw() == null || !entity.getIsMatchInfoCraw()))
+        // 시작 전 / 취소 / 이미 수집한 경기 제외
+        var matches = gameMatchEntityCustomRepository.findByMatchAt(now)
+            .stream()
+            .filter(entity -> !entity.getStatus().equals(MatchEnum.MatchStatus.READY)
+                    && !entity.getStatus().equals(MatchEnum.MatchStatus.CANCELED)
+                    && (entity.getIsMatchInfoCraw() == null || !entity.getIsMatchInfoCraw()))
+            .toList();
+
+        var matchMap = matches.stream().collect(Collectors.toMap(GameMatchEntity::getId, entity -> entity));
+        var games = matches.stream()
+            .map(entity -> new BoxScoreScraper.Game(entity.getId(), entity.getSeries().getValue()))
             .toList();
 
-        // id 로 match detail 조회
         List<HitterRecordEntity> hitterEntities = new ArrayList<>();
         List<PitcherRecordEntity> pitcherEntities = new ArrayList<>();
+        List<String> endedIds = new ArrayList<>();
 
-        List<HitterRecordEntity> awayHitter = new ArrayList<>();
-        List<PitcherRecordEntity> awayPitcher = new ArrayList<>();
-        List<HitterRecordEntity> homeHitter = new ArrayList<>();
-        List<PitcherRecordEntity> homePitcher = new ArrayList<>();
-
-        for (var entity : matches) {
-
-            if (entity.getStatus().equals(MatchEnum.MatchStatus.READY)
-                    || entity.getStatus().equals(MatchEnum.MatchStatus.CANCELED) || entity.getIsMatchInfoCraw()) {
-                continue;
-            }
-
-            try (Playwright playwright = Playwright.create()) {
-                Browser browser = playwright.chromium().launch();
-                Page page = browser.newPage();
-
-                page.navigate("https://m.koreabaseball.com/Kbo/Live/Record.aspx?p_le_id=1&p_sr_id="
-                        + entity.getSeries().getValue() + "&p_g_id=" + entity.getId());
-
-                page.waitForSelector("#HitterRank table tbody tr"); // 타자
-                page.waitForSelector("#PitcherRank table tbody tr"); // 투수
-                awayHitter = this.scrapeHitterEntity(page, false, String.valueOf(now.getYear()), entity);
-                var awayHitterMap = scrapeHitterMap(page, false, String.valueOf(now.getYear()), entity);
-                page.waitForTimeout(500);
-                awayPitcher = this.scrapPitcherEntity(page, false, String.valueOf(now.getYear()), entity);
-                var awayPitcherMap = scrapPitcherMap(page, false, String.valueOf(now.getYear()), entity);
-
-                page.click("#liveRecordSubTabB");
-                page.waitForTimeout(1500); // 탭 전환 후 데이터 로딩 기다림
-
-                page.waitForSelector("#HitterRank table tbody tr"); // 타자
-                page.waitForSelector("#PitcherRank table tbody tr"); // 투수
-                homeHitter = this.scrapeHitterEntity(page, true, String.valueOf(now.getYear()), entity);
-                var homeHitterMap = scrapeHitterMap(page, true, String.valueOf(now.getYear()), entity);
-                page.waitForTimeout(500);
-                homePitcher = this.scrapPitcherEntity(page, true, String.valueOf(now.getYear()), entity);
-                var homePitcherMap = scrapPitcherMap(page, true, String.valueOf(now.getYear()), entity);
-
-                redisHandler.pushHash("away_hitter", entity.getId(), awayHitterMap);
-                redisHandler.pushHash("away_pitcher", entity.getId(), awayPitcherMap);
-
-                redisHandler.pushHash("home_hitter", entity.getId(), homeHitterMap);
-                redisHandler.pushHash("home_pitcher", entity.getId(), homePitcherMap);
-
-            }
-            catch (Exception e) {
-                logger.error("상세 불러오는 중 에러 발생: {}", entity.getId(), e);
+        boxScoreScraper.scrape(games, result -> {
+            var entity = matchMap.get(result.game().id());
+            if (!result.isSuccess()) {
+                logger.error("상세 불러오는 중 에러 발생: {}", entity.getId(), result.error());
                 slackUtils.message(entity.getId() + " 상세 불러오는 중 에러 발생");
+                return;
             }
 
-            if (entity.getStatus().equals(MatchEnum.MatchStatus.END)
-                    || entity.getStatus().equals(MatchEnum.MatchStatus.CANCELED)) {
-                // 저장 후 game_match is_match_info_craw true 처리
-                entity = entity.toBuilder().isMatchInfoCraw(true).build();
-
-                gameMatchRepository.save(entity);
-
-                hitterEntities.addAll(awayHitter);
-                hitterEntities.addAll(homeHitter);
-                pitcherEntities.addAll(awayPitcher);
-                pitcherEntities.addAll(homePitcher);
-
-                hitterRecordRepository.saveAll(hitterEntities);
-                pitcherRecordRepository.saveAll(pitcherEntities);
+            var boxScore = result.boxScore();
+            if (entity.getStatus().equals(MatchEnum.MatchStatus.END)) {
+                // 종료된 경기는 DB 에 저장하고 진행 중 기록은 삭제
+                hitterEntities.addAll(toHitterEntities(boxScore.awayHitters(), false, season, entity));
+                hitterEntities.addAll(toHitterEntities(boxScore.homeHitters(), true, season, entity));
+                pitcherEntities.addAll(toPitcherEntities(boxScore.awayPitchers(), false, season, entity));
+                pitcherEntities.addAll(toPitcherEntities(boxScore.homePitchers(), true, season, entity));
+                endedIds.add(entity.getId());
 
                 redisHandler.deleteHash("away_hitter", entity.getId());
                 redisHandler.deleteHash("away_pitcher", entity.getId());
                 redisHandler.deleteHash("home_hitter", entity.getId());
                 redisHandler.deleteHash("home_pitcher", entity.getId());
+
+                if (endedIds.size() >= WRITE_BATCH_SIZE) {
+                    writeBoxScores(hitterEntities, pitcherEntities, endedIds);
+                }
+                return;
             }
-        }
+
+            redisHandler.pushHash("away_hitter", entity.getId(),
+                    boxScore.awayHitters().stream().map(BoxScore.Hitter::toMap).toList());
+            redisHandler.pushHash("away_pitcher", entity.getId(),
+                    boxScore.awayPitchers().stream().map(BoxScore.Pitcher::toMap).toList());
+            redisHandler.pushHash("home_hitter", entity.getId(),
+                    boxScore.homeHitters().stream().map(BoxScore.Hitter::toMap).toList());
+            redisHandler.pushHash("home_pitcher", entity.getId(),
+                    boxScore.homePitchers().stream().map(BoxScore.Pitcher::toMap).toList());
+        });
+
+        writeBoxScores(hitterEntities, pitcherEntities, endedIds);
 
         logger.info("========== Match Info Craw  END ==========");
     }
 
+    /**
+     * 종료된 경기 기록 저장 후 game_match is_match_info_craw true 처리 ({@link #WRITE_BATCH_SIZE} 경기마다 호출)
+     */
+    private void writeBoxScores(List<HitterRecordEntity> hitterEntities, List<PitcherRecordEntity> pitcherEntities,
+            List<String> endedIds) {
+        if (endedIds.isEmpty()) {
+            return;
+        }
+        hitterRecordCustomRepository.saveAllInBatch(hitterEntities);
+        pitcherRecordCustomRepository.saveAllInBatch(pitcherEntities);
+        gameMatchEntityCustomRepository.updateMatchInfoCraw(endedIds);
+
+        hitterEntities.clear();
+        pitcherEntities.clear();
+        endedIds.clear();
+    }
+
     @Override
     @Transactional
     public void checkEvent() {
@@ -557,14 +597,6 @@ public class BatchServiceImpl implements BatchService {
         // 다음 주 일요일
         var nextWeekSunday = nextWeekMonday.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
 
-        var teamEntities = teamRepository.findAll()
-            .stream()
-            .collect(Collectors.toMap(TeamEntity::getKboNm, entity -> entity));
-
-        var stadiumEntities = stadiumRepository.findAll()
-            .stream()
-            .collect(Collectors.toMap(StadiumEntity::getRegion, entity -> entity));
-
         // 다음 주 하루씩 반복
         for (var date = nextWeekMonday; !date.isAfter(nextWeekSunday); date = date.plusDays(1)) {
             logger.info("date : {}", date);
@@ -572,11 +604,10 @@ public class BatchServiceImpl implements BatchService {
             if (matchEntities.isEmpty()) {
                 continue;
             }
-            try (Playwright playwright = Playwright.create()) {
+            try (BrowserLease lease = browserPool.lease()) {
                 var formatDate = date.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
 
-                Browser browser = playwright.chromium().launch();
-                Page page = browser.newPage();
+                Page page = lease.page();
                 page.navigate("https://m.koreabaseball.com/Kbo/Schedule.aspx");
                 page.evaluate("getGameDateList('" + formatDate + "')");
 
@@ -687,8 +718,8 @@ public class BatchServiceImpl implements BatchService {
                             }
                         }
 
-                        var awayEntity = teamEntities.get(awayTeamName);
-                        var homeEntity = teamEntities.get(homeTeamName);
+                        var awayTeam = referenceDataCache.findTeamByKboNm(awayTeamName).orElseThrow();
+                        var homeTeam = referenceDataCache.findTeamByKboNm(homeTeamName).orElseThrow();
 
                         Locator dataP = page.locator("div.data > p:not(.broadcast)");
 
@@ -703,7 +734,9 @@ public class BatchServiceImpl implements BatchService {
                             LocalTime parseTime = LocalTime.parse(time, DateTimeFormatter.ofPattern("HH:mm"));
 
                             matchAt = LocalDateTime.of(date, parseTime);
-                            stadiumEntity = stadiumEntities.get(stadium);
+                            stadiumEntity = referenceDataCache.findStadiumByRegion(stadium)
+                                .map(dto -> stadiumRepository.getReferenceById(dto.id()))
+                                .orElse(null);
                         }
 
                         var matchEntity = GameMatchEntity.builder()
@@ -712,11 +745,11 @@ public class BatchServiceImpl implements BatchService {
                             .series(seriesType)
                             .season(String.valueOf(thisDay.getYear()))
                             .matchAt(matchAt)
-                            .awayTeamEntity(awayEntity)
-                            .awayNm(awayEntity.getSponsorNm())
+                            .awayTeamEntity(teamRepository.getReferenceById(awayTeam.id()))
+                            .awayNm(awayTeam.sponsorNm())
                             .awayScore(awayScore)
-                            .homeTeamEntity(homeEntity)
-                            .homeNm(homeEntity.getSponsorNm())
+                            .homeTeamEntity(teamRepository.getReferenceById(homeTeam.id()))
+                            .homeNm(homeTeam.sponsorNm())
                             .homeScore(homeScore)
                             .stadiumEntity(stadiumEntity)
                             .reason(reason)
@@ -737,221 +770,41 @@ public class BatchServiceImpl implements BatchService {
     @Override
     public void checkMissFile() {
         logger.info("========== Check Miss File Start ==========");
-        var date = LocalDateTime.now().minusDays(3);
-
-        var fileEntities = fileCustomRepository.findMissingFile(date);
-
-        var deletedFiles = new ArrayList<FileEntity>();
         try {
-            if (!fileEntities.isEmpty()) {
-                for (FileEntity fileEntity : fileEntities) {
-                    String directoryPath = fileEntity.getPath();
-                    String saveName = fileEntity.getSaveName();
-                    String ext = fileEntity.getExt();
-
-                    File directory = new File(fileProperties.getStoragePath(), directoryPath);
-                    if (directory.exists() && directory.isDirectory()) {
-                        File[] filesToDelete = directory.listFiles(
-                                file -> file.getName().startsWith(saveName) && file.getName().endsWith("." + ext));
-
-                        if (filesToDelete != null) {
-                            for (File file : filesToDelete) {
-                                boolean deleted = file.delete();
-                                if (deleted) {
-                                    logger.info("Deleted file: {}", file.getAbsolutePath());
-                                    deletedFiles.add(fileEntity);
-                                }
-                                else {
-                                    logger.error("Failed to delete file: {}", file.getAbsolutePath());
-                                }
-                            }
-                        }
-                    }
-                }
-
-                fileRepository.deleteAll(deletedFiles);
-            }
+            fileSweeper.sweep(LocalDateTime.now().minusDays(3));
         }
         catch (Exception e) {
             logger.error("Failed to clean up files", e);
         }
     }
 
-    private static List<HitterRecordEntity> scrapeHitterEntity(Page page, Boolean isHome, String year,
-            GameMatchEntity gameMatchEntity) {
-        List<ElementHandle> infoRows = page.querySelectorAll("#HitterRank table.tbl-new.fixed tbody tr");
-        List<ElementHandle> statRows = page.querySelectorAll("#HitterRank .scroll-box table.tbl-new tbody tr");
-
-        int count = Math.min(infoRows.size(), statRows.size());
-        List<HitterRecordEntity> hitterEntities = new ArrayList<>();
-        for (int i = 0; i < count; i++) {
-            ElementHandle infoRow = infoRows.get(i);
-            ElementHandle statRow = statRows.get(i);
-
-            var turn = Short.parseShort(infoRow.querySelector("td").innerText().trim());
-
-            ElementHandle nameCell = infoRow.querySelector("td.name");
-            String name = "", position = "";
-            if (nameCell != null) {
-                ElementHandle p = nameCell.querySelector("p");
-                ElementHandle span = nameCell.querySelector("span");
-                name = (p != null) ? p.innerText().trim() : "";
-                position = (span != null) ? span.innerText().trim() : "";
-            }
-
-            List<ElementHandle> stats = statRow.querySelectorAll("td");
-            var hitCount = Short.parseShort(stats.get(0).innerText());
-            var score = Short.parseShort(stats.get(1).innerText());
-            var hit = Short.parseShort(stats.get(2).innerText());
-            var homeRun = Short.parseShort(stats.get(3).innerText());
-            var hitScore = Short.parseShort(stats.get(4).innerText());
-            var ballFour = Short.parseShort(stats.get(5).innerText());
-            var strikeOut = Short.parseShort(stats.get(6).innerText());
-
-            hitterEntities.add(new HitterRecordEntity(turn, name, position, hitCount, score, hit, homeRun, hitScore,
-                    ballFour, strikeOut, gameMatchEntity, year, isHome));
+    @Override
+    public void checkWinningRate() {
+        logger.info("========== Check Winning Rate Start ==========");
+        try {
+            winningRateChecker.check();
         }
-
-        return hitterEntities;
-    }
-
-    private static List<Map<String, String>> scrapeHitterMap(Page page, Boolean isHome, String year,
-            GameMatchEntity gameMatchEntity) {
-        List<ElementHandle> infoRows = page.querySelectorAll("#HitterRank table.tbl-new.fixed tbody tr");
-        List<ElementHandle> statRows = page.querySelectorAll("#HitterRank .scroll-box table.tbl-new tbody tr");
-
-        int count = Math.min(infoRows.size(), statRows.size());
-        List<Map<String, String>> result = new ArrayList<>();
-
-        for (int i = 0; i < count; i++) {
-            ElementHandle infoRow = infoRows.get(i);
-            ElementHandle statRow = statRows.get(i);
-
-            var turn = Short.parseShort(infoRow.querySelector("td").innerText().trim());
-
-            ElementHandle nameCell = infoRow.querySelector("td.name");
-            String name = "", position = "";
-            if (nameCell != null) {
-                ElementHandle p = nameCell.querySelector("p");
-                ElementHandle span = nameCell.querySelector("span");
-                name = (p != null) ? p.innerText().trim() : "";
-                position = (span != null) ? span.innerText().trim() : "";
-            }
-
-            List<ElementHandle> stats = statRow.querySelectorAll("td");
-            var hitCount = Short.parseShort(stats.get(0).innerText());
-            var score = Short.parseShort(stats.get(1).innerText());
-            var hit = Short.parseShort(stats.get(2).innerText());
-            var homeRun = Short.parseShort(stats.get(3).innerText());
-            var hitScore = Short.parseShort(stats.get(4).innerText());
-            var ballFour = Short.parseShort(stats.get(5).innerText());
-            var strikeOut = Short.parseShort(stats.get(6).innerText());
-
-            Map<String, String> map = new HashMap<>();
-            map.put("turn", String.valueOf(turn));
-            map.put("name", name);
-            map.put("position", position);
-            map.put("hitCount", String.valueOf(hitCount));
-            map.put("score", String.valueOf(score));
-            map.put("hit", String.valueOf(hit));
-            map.put("homeRun", String.valueOf(homeRun));
-            map.put("hitScore", String.valueOf(hitScore));
-            map.put("ballFour", String.valueOf(ballFour));
-            map.put("strikeOut", String.valueOf(strikeOut));
-
-            result.add(map);
+        catch (Exception e) {
+            logger.error("Failed to check winning rate", e);
         }
-
-        return result;
     }
 
-    private static List<PitcherRecordEntity> scrapPitcherEntity(Page page, Boolean isHome, String year,
-            GameMatchEntity gameMatchEntity) {
-        List<ElementHandle> infoRows = page.querySelectorAll("#PitcherRank table.tbl-new.fixed tbody tr");
-        List<ElementHandle> statRows = page.querySelectorAll("#PitcherRank .scroll-box table.tbl-new tbody tr");
-
-        int count = Math.min(infoRows.size(), statRows.size());
-
-        List<PitcherRecordEntity> pitcherEntities = new ArrayList<>();
-        for (int i = 0; i < count; i++) {
-            ElementHandle infoRow = infoRows.get(i);
-            ElementHandle statRow = statRows.get(i);
-
-            var turn = Short.valueOf(infoRow.querySelector("td").innerText().trim());
-            ElementHandle nameCell = infoRow.querySelector("td.name");
-            String name = "";
-            String position = "";
-            if (nameCell != null) {
-                ElementHandle p = nameCell.querySelector("p");
-                ElementHandle span = nameCell.querySelector("span");
-                name = (p != null) ? p.innerText().trim() : "";
-                position = (span != null) ? span.innerText().trim() : "";
-            }
-
-            List<ElementHandle> stats = statRow.querySelectorAll("td");
-            var inning = stats.get(0).innerText();
-            var pitching = Short.parseShort(stats.get(1).innerText());
-            var hit = Short.parseShort(stats.get(4).innerText());
-            var homeRun = Short.parseShort(stats.get(5).innerText());
-            var ballFour = Short.parseShort(stats.get(6).innerText());
-            var strikeOut = Short.parseShort(stats.get(7).innerText());
-            var score = Short.parseShort(stats.get(8).innerText());
-
-            pitcherEntities.add(new PitcherRecordEntity(turn, name, position, inning, pitching, ballFour, strikeOut,
-                    hit, homeRun, score, gameMatchEntity, year, isHome));
-        }
-
-        return pitcherEntities;
+    private static List<HitterRecordEntity> toHitterEntities(List<BoxScore.Hitter> hitters, Boolean isHome,
+            String year, GameMatchEntity gameMatchEntity) {
+        return hitters.stream()
+            .map(hitter -> new HitterRecordEntity(hitter.turn(), hitter.name(), hitter.position(), hitter.hitCount(),
+                    hitter.score(), hitter.hit(), hitter.homeRun(), hitter.hitScore(), hitter.ballFour(),
+                    hitter.strikeOut(), gameMatchEntity, year, isHome))
+            .toList();
     }
 
-    private static List<Map<String, String>> scrapPitcherMap(Page page, Boolean isHome, String year,
-            GameMatchEntity gameMatchEntity) {
-        List<ElementHandle> infoRows = page.querySelectorAll("#PitcherRank table.tbl-new.fixed tbody tr");
-        List<ElementHandle> statRows = page.querySelectorAll("#PitcherRank .scroll-box table.tbl-new tbody tr");
-
-        int count = Math.min(infoRows.size(), statRows.size());
-
-        List<Map<String, String>> result = new ArrayList<>();
-        for (int i = 0; i < count; i++) {
-            ElementHandle infoRow = infoRows.get(i);
-            ElementHandle statRow = statRows.get(i);
-
-            var turn = Short.valueOf(infoRow.querySelector("td").innerText().trim());
-            ElementHandle nameCell = infoRow.querySelector("td.name");
-            String name = "";
-            String position = "";
-            if (nameCell != null) {
-                ElementHandle p = nameCell.querySelector("p");
-                ElementHandle span = nameCell.querySelector("span");
-                name = (p != null) ? p.innerText().trim() : "";
-                position = (span != null) ? span.innerText().trim() : "";
-            }
-
-            List<ElementHandle> stats = statRow.querySelectorAll("td");
-            var inning = stats.get(0).innerText();
-            var pitching = Short.parseShort(stats.get(1).innerText());
-            var hit = Short.parseShort(stats.get(4).innerText());
-            var homeRun = Short.parseShort(stats.get(5).innerText());
-            var ballFour = Short.parseShort(stats.get(6).innerText());
-            var strikeOut = Short.parseShort(stats.get(7).innerText());
-            var score = Short.parseShort(stats.get(8).innerText());
-
-            Map<String, String> map = new HashMap<>();
-            map.put("turn", String.valueOf(turn));
-            map.put("name", name);
-            map.put("position", position);
-            map.put("inning", inning);
-            map.put("pitching", String.valueOf(pitching));
-            map.put("ballFour", String.valueOf(ballFour));
-            map.put("strikeOut", String.valueOf(strikeOut));
-            map.put("hit", String.valueOf(hit));
-            map.put("homeRun", String.valueOf(homeRun));
-            map.put("score", String.valueOf(score));
-
-            result.add(map);
-        }
-
-        return result;
+    private static List<PitcherRecordEntity> toPitcherEntities(List<BoxScore.Pitcher> pitchers, Boolean isHome,
+            String year, GameMatchEntity gameMatchEntity) {
+        return pitchers.stream()
+            .map(pitcher -> new PitcherRecordEntity(pitcher.turn(), pitcher.name(), pitcher.position(),
+                    pitcher.inning(), pitcher.pitching(), pitcher.ballFour(), pitcher.strikeOut(), pitcher.hit(),
+                    pitcher.homeRun(), pitcher.score(), gameMatchEntity, year, isHome))
+            .toList();
     }
 
 }
@@ -0,0 +1,171 @@
+package kr.co.victoryfairy.core.batch.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import kr.co.victoryfairy.storage.db.core.model.FileModel;
+import kr.co.victoryfairy.storage.db.core.repository.FileCustomRepository;
+import kr.co.victoryfairy.storage.db.core.repository.FileVariantCustomRepository;
+import kr.co.victoryfairy.support.properties.FileProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@DisplayName("FileSweeper 테스트")
+class FileSweeperTest {
+
+    private static final LocalDateTime BEFORE = LocalDateTime.of(2025, 10, 1, 0, 0);
+
+    @TempDir
+    Path storage;
+
+    @Mock
+    private FileCustomRepository fileCustomRepository;
+
+    @Mock
+    private FileVariantCustomRepository fileVariantCustomRepository;
+
+    @Mock
+    private RedisHandler redisHandler;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private FileSweeper fileSweeper;
+
+    @BeforeEach
+    void setUp() {
+        var fileProperties = new FileProperties();
+        fileProperties.setStoragePath(storage.toString());
+        fileProperties.setImageResizes(new Integer[] { 320, 640 });
+        fileProperties.setSweepPageSize(2);
+        fileProperties.setSweepParallelism(2);
+        given(meterRegistryProvider.getIfAvailable(any())).willReturn(meterRegistry);
+        fileSweeper = new FileSweeper(fileCustomRepository, fileVariantCustomRepository, fileProperties,
+                redisHandler, meterRegistryProvider);
+    }
+
+    @Test
+    @DisplayName("저장된 변환본 정보로 원본 / 변환본만 지우고 같은 디렉토리의 다른 파일은 건드리지 않는다")
+    void sweep_shouldDeleteBlobsByMetadata() throws Exception {
+        // given
+        var orphan = orphan(1L, "save");
+        var original = write("image/diary/202510/save.png");
+        var variant = write("image/diary/202510/save_320.png");
+        var other = write("image/diary/202510/save_other.png");
+        given(fileCustomRepository.findMissingFile(BEFORE, null, 2)).willReturn(List.of(orphan));
+        given(fileCustomRepository.findReferencedIds(List.of(1L))).willReturn(List.of());
+        given(fileVariantCustomRepository.findWidths(List.of(1L)))
+            .willReturn(List.of(new FileModel.VariantWidth(1L, 320)));
+        given(fileCustomRepository.deleteFiles(List.of(1L))).willReturn(1L);
+
+        // when
+        var result = fileSweeper.sweep(BEFORE);
+
+        // then
+        assertThat(original).doesNotExist();
+        assertThat(variant).doesNotExist();
+        assertThat(other).exists();
+        assertThat(result.scanned()).isEqualTo(1);
+        assertThat(result.deleted()).isEqualTo(1);
+        assertThat(result.bytes()).isEqualTo(100);
+        assertThat(fileSweeper.lastResult()).isEqualTo(result);
+        verify(redisHandler).delete(FileSweeper.STATE_KEY, FileSweeper.CHECKPOINT_FIELD);
+
+        assertThat(meterRegistry.get("file.sweep").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("file.sweep.files").tag("result", "scanned").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("file.sweep.files").tag("result", "deleted").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("file.sweep.files").tag("result", "failed").counter().count()).isZero();
+        assertThat(meterRegistry.get("file.sweep.bytes").counter().count()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("조회 이후 다시 참조된 파일은 디스크 / 행 모두 남긴다")
+    void sweep_referenced_shouldSkip() throws Exception {
+        // given
+        var original = write("image/diary/202510/shared.png");
+        given(fileCustomRepository.findMissingFile(BEFORE, null, 2)).willReturn(List.of(orphan(1L, "shared")));
+        given(fileCustomRepository.findReferencedIds(List.of(1L))).willReturn(List.of(1L));
+
+        // when
+        var result = fileSweeper.sweep(BEFORE);
+
+        // then
+        assertThat(original).exists();
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.deleted()).isZero();
+        verify(fileCustomRepository, never()).deleteFiles(anyCollection());
+    }
+
+    @Test
+    @DisplayName("체크포인트가 있으면 마지막 id 이후부터 이어서 정리한다")
+    void sweep_checkpoint_shouldResume() {
+        // given
+        given(redisHandler.get(FileSweeper.STATE_KEY, FileSweeper.CHECKPOINT_FIELD)).willReturn("10");
+        given(fileCustomRepository.findMissingFile(BEFORE, 10L, 2)).willReturn(List.of());
+
+        // when
+        fileSweeper.sweep(BEFORE);
+
+        // then
+        verify(fileCustomRepository, never()).findMissingFile(any(), isNull(), anyInt());
+        verify(redisHandler).delete(FileSweeper.STATE_KEY, FileSweeper.CHECKPOINT_FIELD);
+    }
+
+    @Test
+    @DisplayName("중간에 실패하면 마지막으로 끝낸 페이지의 체크포인트를 남긴다")
+    void sweep_failure_shouldKeepCheckpoint() {
+        // given
+        given(fileCustomRepository.findMissingFile(BEFORE, null, 2))
+            .willReturn(List.of(orphan(1L, "first"), orphan(2L, "second")));
+        given(fileCustomRepository.findReferencedIds(List.of(1L, 2L))).willReturn(List.of(1L, 2L));
+        given(fileCustomRepository.findMissingFile(BEFORE, 2L, 2)).willThrow(new IllegalStateException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> fileSweeper.sweep(BEFORE)).isInstanceOf(IllegalStateException.class);
+        verify(redisHandler).setMap(eq(FileSweeper.STATE_KEY), eq(Map.of(FileSweeper.CHECKPOINT_FIELD, "2")));
+        verify(redisHandler, never()).delete(FileSweeper.STATE_KEY, FileSweeper.CHECKPOINT_FIELD);
+        // 끝내지 못한 실행도 처리한 페이지만큼은 카운터에 남음
+        assertThat(meterRegistry.get("file.sweep.files").tag("result", "skipped").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("file.sweep").timer().count()).isZero();
+    }
+
+    private FileModel.Orphan orphan(Long id, String saveName) {
+        return new FileModel.Orphan(id, "image/diary/202510", saveName, "png", 100L);
+    }
+
+    private Path write(String path) throws Exception {
+        var target = storage.resolve(path);
+        Files.createDirectories(target.getParent());
+        Files.write(target, new byte[] { 1 });
+        return target;
+    }
+
+}
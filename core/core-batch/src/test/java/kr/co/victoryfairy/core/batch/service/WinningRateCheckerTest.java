@@ -0,0 +1,53 @@
+package kr.co.victoryfairy.core.batch.service;
+
+import kr.co.victoryfairy.storage.db.core.model.WinningRateModel;
+import kr.co.victoryfairy.storage.db.core.repository.WinningRateCustomRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@DisplayName("WinningRateChecker 테스트")
+class WinningRateCheckerTest {
+
+    @Mock
+    private WinningRateCustomRepository winningRateCustomRepository;
+
+    @InjectMocks
+    private WinningRateChecker winningRateChecker;
+
+    @Test
+    @DisplayName("집계가 원본 기록과 다른 시즌만 다시 계산한다")
+    void check_shouldRebuildMismatchedSeasonOnly() {
+        // given
+        given(winningRateCustomRepository.findSeasons()).willReturn(List.of("2024", "2025"));
+        given(winningRateCustomRepository.findMismatches("2024")).willReturn(List.of());
+        given(winningRateCustomRepository.findMismatches("2025")).willReturn(List.of(
+                new WinningRateModel.Mismatch(1L, "2025", List.of(WinningRateModel.Counter.STADIUM_WIN)),
+                new WinningRateModel.Mismatch(2L, "2025", List.of(WinningRateModel.Counter.TOTAL))));
+        given(winningRateCustomRepository.rebuild("2025")).willReturn(120);
+
+        // when
+        var result = winningRateChecker.check();
+
+        // then
+        assertThat(result.seasons()).isEqualTo(2);
+        assertThat(result.mismatched()).isEqualTo(2);
+        assertThat(result.rebuilt()).isEqualTo(120);
+        verify(winningRateCustomRepository).rebuild("2025");
+        verify(winningRateCustomRepository, never()).rebuild("2024");
+    }
+
+}
@@ -1,11 +1,14 @@
 package kr.co.victoryfairy;
 
+import kr.co.victoryfairy.support.browser.BrowserPoolConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.Import;
 
 @ConfigurationPropertiesScan
 @SpringBootApplication
+@Import(BrowserPoolConfig.class)
 public class CoreCrawApplication {
 
     public static void main(String[] args) {
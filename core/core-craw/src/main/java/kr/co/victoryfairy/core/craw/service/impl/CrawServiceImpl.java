@@ -1,16 +1,20 @@
 package kr.co.victoryfairy.core.craw.service.impl;
 
-import com.microsoft.playwright.Browser;
 import com.microsoft.playwright.ElementHandle;
 import com.microsoft.playwright.Page;
-import com.microsoft.playwright.Playwright;
 import io.dodn.springboot.core.enums.MatchEnum;
 import io.dodn.springboot.core.enums.TeamEnum;
 import kr.co.victoryfairy.core.craw.service.CrawService;
 import kr.co.victoryfairy.storage.db.core.entity.*;
 import kr.co.victoryfairy.storage.db.core.repository.*;
+import kr.co.victoryfairy.support.browser.BoxScore;
+import kr.co.victoryfairy.support.browser.BoxScoreScraper;
+import kr.co.victoryfairy.support.browser.BrowserLease;
+import kr.co.victoryfairy.support.browser.BrowserPool;
 import kr.co.victoryfairy.support.constant.MessageEnum;
 import kr.co.victoryfairy.support.exception.CustomException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -25,35 +29,47 @@ import java.util.stream.Collectors;
 @Service
 public class CrawServiceImpl implements CrawService {
 
+    // 경기 기록 저장 단위 (경기 수)
+    private static final int WRITE_BATCH_SIZE = 20;
+
+    private final Logger log = LoggerFactory.getLogger(CrawServiceImpl.class);
+
     private final TeamRepository teamRepository;
 
     private final StadiumRepository stadiumRepository;
 
     private final GameMatchRepository gameMatchRepository;
 
-    private final HitterRecordRepository hitterRecordRepository;
+    private final HitterRecordCustomRepository hitterRecordCustomRepository;
 
-    private final PitcherRecordRepository pitcherRecordRepository;
+    private final PitcherRecordCustomRepository pitcherRecordCustomRepository;
 
     private final GameMatchCustomRepository gameMatchCustomRepository;
 
+    private final BrowserPool browserPool;
+
+    private final BoxScoreScraper boxScoreScraper;
+
     public CrawServiceImpl(TeamRepository teamRepository, StadiumRepository stadiumRepository,
-            GameMatchRepository gameMatchRepository, HitterRecordRepository hitterRecordRepository,
-            PitcherRecordRepository pitcherRecordRepository, GameMatchCustomRepository gameMatchCustomRepository) {
+            GameMatchRepository gameMatchRepository, HitterRecordCustomRepository hitterRecordCustomRepository,
+            PitcherRecordCustomRepository pitcherRecordCustomRepository,
+            GameMatchCustomRepository gameMatchCustomRepository, BrowserPool browserPool,
+            BoxScoreScraper boxScoreScraper) {
         this.teamRepository = teamRepository;
         this.stadiumRepository = stadiumRepository;
         this.gameMatchRepository = gameMatchRepository;
-        this.hitterRecordRepository = hitterRecordRepository;
-        this.pitcherRecordRepository = pitcherRecordRepository;
+        this.hitterRecordCustomRepository = hitterRecordCustomRepository;
+        this.pitcherRecordCustomRepository = pitcherRecordCustomRepository;
         this.gameMatchCustomRepository = gameMatchCustomRepository;
+        this.browserPool = browserPool;
+        this.boxScoreScraper = boxScoreScraper;
     }
 
     @Override
     @Transactional
     public void crawMatchList(String sYear, String sMonth) {
-        try (Playwright playwright = Playwright.create()) {
-            Browser browser = playwright.chromium().launch();
-            Page page = browser.newPage();
+        try (BrowserLease lease = browserPool.lease()) {
+            Page page = lease.page();
             page.navigate("https://www.koreabaseball.com/Schedule/Schedule.aspx");
 
             // 연도 설정
@@ -268,115 +284,70 @@ public class CrawServiceImpl implements CrawService {
             .filter(match -> MatchEnum.MatchStatus.END.equals(match.getStatus()))
             .toList();
 
-        List<HitterRecordEntity> hitterEntities = new ArrayList<>();
-        List<PitcherRecordEntity> pitcherEntities = new ArrayList<>();
-
-        try (Playwright playwright = Playwright.create()) {
-
-            Browser browser = playwright.chromium().launch();
-            Page page = browser.newPage();
-            matches.forEach(match -> {
-                page.navigate("https://m.koreabaseball.com/Kbo/Live/Record.aspx?p_le_id=1&p_sr_id="
-                        + match.getSeries().getValue() + "&p_g_id=" + match.getId());
-
-                page.waitForSelector("#HitterRank table tbody tr"); // 타자
-                page.waitForSelector("#PitcherRank table tbody tr"); // 투수
-                var awayHitter = this.scrapeHitterTable(page, false, sYear, match);
-                page.waitForTimeout(500);
-                var awayPitcher = this.scrapPitcherTable(page, false, sYear, match);
-
-                // 탭 클릭해서 원정팀으로 전환
-                page.click("#liveRecordSubTabB");
-                page.waitForTimeout(1000); // 탭 전환 후 데이터 로딩 기다림
-
-                page.waitForSelector("#HitterRank table tbody tr"); // 타자
-                page.waitForSelector("#PitcherRank table tbody tr"); // 투수
-                var homeHitter = this.scrapeHitterTable(page, true, sYear, match);
-                page.waitForTimeout(500);
-                var homePitcher = this.scrapPitcherTable(page, true, sYear, match);
-
-                hitterEntities.addAll(awayHitter);
-                hitterEntities.addAll(homeHitter);
-                pitcherEntities.addAll(awayPitcher);
-                pitcherEntities.addAll(homePitcher);
-
-                var updatedMatch = new GameMatchEntity(match.getId(), match.getLeague(), match.getType(),
-                        match.getSeries(), match.getSeason(), match.getMatchAt(), match.getAwayTeamEntity(),
-                        match.getAwayNm(), match.getAwayScore(), match.getHomeTeamEntity(), match.getHomeNm(),
-                        match.getHomeScore(), match.getStadiumEntity(), match.getStatus(), match.getReason(), true,
-                        match.getIsSendPush());
-                gameMatchRepository.save(updatedMatch);
-            });
-
-            browser.close();
-
-        }
-        catch (Exception e) {
-            e.printStackTrace();
-        }
-
-        hitterRecordRepository.saveAll(hitterEntities);
-        pitcherRecordRepository.saveAll(pitcherEntities);
+        crawBoxScores(matches, sYear);
     }
 
     @Override
+    @Transactional
     public void crawMatchDetailById(String id) {
         var match = gameMatchRepository.findById(id)
             .orElseThrow(() -> new CustomException(MessageEnum.Data.FAIL_NO_RESULT));
 
-        List<HitterRecordEntity> hitterEntities = new ArrayList<>();
-        List<PitcherRecordEntity> pitcherEntities = new ArrayList<>();
-
-        try (Playwright playwright = Playwright.create()) {
-
-            Browser browser = playwright.chromium().launch();
-            Page page = browser.newPage();
-            page.navigate("https://m.koreabaseball.com/Kbo/Live/Record.aspx?p_le_id=1&p_sr_id="
-                    + match.getSeries().getValue() + "&p_g_id=" + match.getId());
-
-            page.waitForSelector("#HitterRank table tbody tr"); // 타자
-            page.waitForSelector("#PitcherRank table tbody tr"); // 투수
-            var awayHitter = this.scrapeHitterTable(page, false, match.getSeason(), match);
-            page.waitForTimeout(500);
-            var awayPitcher = this.scrapPitcherTable(page, false, match.getSeason(), match);
+        crawBoxScores(List.of(match), match.getSeason());
+    }
 
-            // 탭 클릭해서 원정팀으로 전환
-            page.click("#liveRecordSubTabB");
-            page.waitForTimeout(1000); // 탭 전환 후 데이터 로딩 기다림
+    /**
+     * 경기 기록을 병렬로 수집하고, {@link #WRITE_BATCH_SIZE} 경기마다 모아서 저장
+     */
+    private void crawBoxScores(List<GameMatchEntity> matches, String season) {
+        var matchMap = matches.stream().collect(Collectors.toMap(GameMatchEntity::getId, match -> match));
+        var games = matches.stream()
+            .map(match -> new BoxScoreScraper.Game(match.getId(), match.getSeries().getValue()))
+            .toList();
 
-            page.waitForSelector("#HitterRank table tbody tr"); // 타자
-            page.waitForSelector("#PitcherRank table tbody tr"); // 투수
-            var homeHitter = this.scrapeHitterTable(page, true, match.getSeason(), match);
-            page.waitForTimeout(500);
-            var homePitcher = this.scrapPitcherTable(page, true, match.getSeason(), match);
+        List<HitterRecordEntity> hitterEntities = new ArrayList<>();
+        List<PitcherRecordEntity> pitcherEntities = new ArrayList<>();
+        List<String> crawledIds = new ArrayList<>();
 
-            hitterEntities.addAll(awayHitter);
-            hitterEntities.addAll(homeHitter);
-            pitcherEntities.addAll(awayPitcher);
-            pitcherEntities.addAll(homePitcher);
+        boxScoreScraper.scrape(games, result -> {
+            if (!result.isSuccess()) {
+                log.error("경기 기록 수집 실패: {}", result.game().id(), result.error());
+                return;
+            }
 
-            var updatedMatch = new GameMatchEntity(match.getId(), match.getLeague(), match.getType(), match.getSeries(),
-                    match.getSeason(), match.getMatchAt(), match.getAwayTeamEntity(), match.getAwayNm(),
-                    match.getAwayScore(), match.getHomeTeamEntity(), match.getHomeNm(), match.getHomeScore(),
-                    match.getStadiumEntity(), match.getStatus(), match.getReason(), true, match.getIsSendPush());
-            gameMatchRepository.save(updatedMatch);
+            var match = matchMap.get(result.game().id());
+            var boxScore = result.boxScore();
+            hitterEntities.addAll(toHitterEntities(boxScore.awayHitters(), false, season, match));
+            hitterEntities.addAll(toHitterEntities(boxScore.homeHitters(), true, season, match));
+            pitcherEntities.addAll(toPitcherEntities(boxScore.awayPitchers(), false, season, match));
+            pitcherEntities.addAll(toPitcherEntities(boxScore.homePitchers(), true, season, match));
+            crawledIds.add(match.getId());
 
-            browser.close();
+            if (crawledIds.size() >= WRITE_BATCH_SIZE) {
+                writeBoxScores(hitterEntities, pitcherEntities, crawledIds);
+            }
+        });
+        writeBoxScores(hitterEntities, pitcherEntities, crawledIds);
+    }
 
+    private void writeBoxScores(List<HitterRecordEntity> hitterEntities, List<PitcherRecordEntity> pitcherEntities,
+            List<String> crawledIds) {
+        if (crawledIds.isEmpty()) {
+            return;
         }
-        catch (Exception e) {
-            e.printStackTrace();
-        }
+        hitterRecordCustomRepository.saveAllInBatch(hitterEntities);
+        pitcherRecordCustomRepository.saveAllInBatch(pitcherEntities);
+        gameMatchCustomRepository.updateMatchInfoCraw(crawledIds);
 
-        hitterRecordRepository.saveAll(hitterEntities);
-        pitcherRecordRepository.saveAll(pitcherEntities);
+        hitterEntities.clear();
+        pitcherEntities.clear();
+        crawledIds.clear();
     }
 
     @Override
     public void crawMatchListByMonth(String sYear, String sMonth) {
-        try (Playwright playwright = Playwright.create()) {
-            Browser browser = playwright.chromium().launch();
-            Page page = browser.newPage();
+        try (BrowserLease lease = browserPool.lease()) {
+            Page page = lease.page();
             page.navigate("https://www.koreabaseball.com/Schedule/Schedule.aspx");
 
             // 연도 설정
@@ -615,81 +586,22 @@ public class CrawServiceImpl implements CrawService {
         return stadium;
     }
 
-    private static List<HitterRecordEntity> scrapeHitterTable(Page page, Boolean isHome, String year,
-            GameMatchEntity gameMatchEntity) {
-        List<ElementHandle> infoRows = page.querySelectorAll("#HitterRank table.tbl-new.fixed tbody tr");
-        List<ElementHandle> statRows = page.querySelectorAll("#HitterRank .scroll-box table.tbl-new tbody tr");
-
-        int count = Math.min(infoRows.size(), statRows.size());
-        List<HitterRecordEntity> hitterEntities = new ArrayList<>();
-        for (int i = 0; i < count; i++) {
-            ElementHandle infoRow = infoRows.get(i);
-            ElementHandle statRow = statRows.get(i);
-
-            var turn = Short.parseShort(infoRow.querySelector("td").innerText().trim());
-
-            ElementHandle nameCell = infoRow.querySelector("td.name");
-            String name = "", position = "";
-            if (nameCell != null) {
-                ElementHandle p = nameCell.querySelector("p");
-                ElementHandle span = nameCell.querySelector("span");
-                name = (p != null) ? p.innerText().trim() : "";
-                position = (span != null) ? span.innerText().trim() : "";
-            }
-
-            List<ElementHandle> stats = statRow.querySelectorAll("td");
-            var hitCount = Short.parseShort(stats.get(0).innerText());
-            var score = Short.parseShort(stats.get(1).innerText());
-            var hit = Short.parseShort(stats.get(2).innerText());
-            var homeRun = Short.parseShort(stats.get(3).innerText());
-            var hitScore = Short.parseShort(stats.get(4).innerText());
-            var ballFour = Short.parseShort(stats.get(5).innerText());
-            var strikeOut = Short.parseShort(stats.get(6).innerText());
-
-            hitterEntities.add(new HitterRecordEntity(turn, name, position, hitCount, score, hit, homeRun, hitScore,
-                    ballFour, strikeOut, gameMatchEntity, year, isHome));
-        }
-
-        return hitterEntities;
+    private static List<HitterRecordEntity> toHitterEntities(List<BoxScore.Hitter> hitters, Boolean isHome,
+            String year, GameMatchEntity gameMatchEntity) {
+        return hitters.stream()
+            .map(hitter -> new HitterRecordEntity(hitter.turn(), hitter.name(), hitter.position(), hitter.hitCount(),
+                    hitter.score(), hitter.hit(), hitter.homeRun(), hitter.hitScore(), hitter.ballFour(),
+                    hitter.strikeOut(), gameMatchEntity, year, isHome))
+            .toList();
     }
 
-    private static List<PitcherRecordEntity> scrapPitcherTable(Page page, Boolean isHome, String year,
-            GameMatchEntity gameMatchEntity) {
-        List<ElementHandle> infoRows = page.querySelectorAll("#PitcherRank table.tbl-new.fixed tbody tr");
-        List<ElementHandle> statRows = page.querySelectorAll("#PitcherRank .scroll-box table.tbl-new tbody tr");
-
-        int count = Math.min(infoRows.size(), statRows.size());
-
-        List<PitcherRecordEntity> pitcherEntities = new ArrayList<>();
-        for (int i = 0; i < count; i++) {
-            ElementHandle infoRow = infoRows.get(i);
-            ElementHandle statRow = statRows.get(i);
-
-            var turn = Short.valueOf(infoRow.querySelector("td").innerText().trim());
-            ElementHandle nameCell = infoRow.querySelector("td.name");
-            String name = "";
-            String position = "";
-            if (nameCell != null) {
-                ElementHandle p = nameCell.querySelector("p");
-                ElementHandle span = nameCell.querySelector("span");
-                name = (p != null) ? p.innerText().trim() : "";
-                position = (span != null) ? span.innerText().trim() : "";
-            }
-
-            List<ElementHandle> stats = statRow.querySelectorAll("td");
-            var inning = stats.get(0).innerText();
-            var pitching = Short.parseShort(stats.get(1).innerText());
-            var hit = Short.parseShort(stats.get(4).innerText());
-            var homeRun = Short.parseShort(stats.get(5).innerText());
-            var ballFour = Short.parseShort(stats.get(6).innerText());
-            var strikeOut = Short.parseShort(stats.get(7).innerText());
-            var score = Short.parseShort(stats.get(8).innerText());
-
-            pitcherEntities.add(new PitcherRecordEntity(turn, name, position, inning, pitching, ballFour, strikeOut,
-                    hit, homeRun, score, gameMatchEntity, year, isHome));
-        }
-
-        return pitcherEntities;
+    private static List<PitcherRecordEntity> toPitcherEntities(List<BoxScore.Pitcher> pitchers, Boolean isHome,
+            String year, GameMatchEntity gameMatchEntity) {
+        return pitchers.stream()
+            .map(pitcher -> new PitcherRecordEntity(pitcher.turn(), pitcher.name(), pitcher.position(),
+                    pitcher.inning(), pitcher.pitching(), pitcher.ballFour(), pitcher.strikeOut(), pitcher.hit(),
+                    pitcher.homeRun(), pitcher.score(), gameMatchEntity, year, isHome))
+            .toList();
     }
 
 }
@@ -0,0 +1,17 @@
+package io.dodn.springboot.core.enums;
+
+public interface FileEnum {
+
+    enum VariantStatus {
+
+        PENDING("생성 대기"), READY("생성 완료"), FAILED("생성 실패");
+
+        private String desc;
+
+        VariantStatus(String desc) {
+            this.desc = desc;
+        }
+
+    }
+
+}
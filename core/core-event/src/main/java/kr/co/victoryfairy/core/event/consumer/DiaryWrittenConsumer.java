@@ -1,17 +1,20 @@
 package kr.co.victoryfairy.core.event.consumer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import kr.co.victoryfairy.core.event.model.EventDomain;
 import kr.co.victoryfairy.core.event.service.EventService;
+import kr.co.victoryfairy.redis.consumer.StreamConsumerEngine;
 import kr.co.victoryfairy.redis.handler.RedisHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.connection.stream.MapRecord;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.time.Duration;
 
 @Service
 public class DiaryWrittenConsumer {
@@ -27,42 +30,66 @@ public class DiaryWrittenConsumer {
     @Value("${event.steam.consumer}")
     private String consumer;
 
+    @Value("${event.steam.block-millis:2000}")
+    private long blockMillis;
+
+    @Value("${event.steam.count:50}")
+    private int count;
+
+    @Value("${event.steam.workers:4}")
+    private int workers;
+
+    @Value("${event.steam.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${event.steam.ack-batch-size:20}")
+    private int ackBatchSize;
+
+    @Value("${event.steam.ack-interval-millis:50}")
+    private long ackIntervalMillis;
+
     private final RedisHandler redisHandler;
 
     private final ObjectMapper objectMapper;
 
     private final EventService eventService;
 
+    private StreamConsumerEngine engine;
+
     public DiaryWrittenConsumer(ObjectMapper objectMapper, RedisHandler redisHandler, EventService eventService) {
         this.objectMapper = objectMapper;
         this.redisHandler = redisHandler;
         this.eventService = eventService;
     }
 
-    @Scheduled(fixedDelay = 1000)
-    public void consume() {
-        List<MapRecord<String, Object, Object>> messages = redisHandler.getEventMessages(key, group, consumer);
-        log.info("========== event  Start ==========");
-        for (MapRecord<String, Object, Object> message : messages) {
-            try {
-                var event = objectMapper.convertValue(message.getValue(), EventDomain.WriteEventDto.class);
-
-                boolean success = switch (event.type()) {
-                    case DIARY -> eventService.processDiary(event);
-                    default -> eventService.processBatch(event);
-                };
-
-                if (success) {
-                    redisHandler.eventKnowEdge(key, group, message.getId().getValue());
-                }
-                else {
-                    log.warn("Event processing skipped: {}", message.getId());
-                }
-            }
-            catch (Exception e) {
-                log.error("Error processing diary_written message: {}", message, e);
-            }
+    /**
+     * 소비자 그룹 생성(Initializer) 이후 소비 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        var options = new StreamConsumerEngine.Options(Duration.ofMillis(blockMillis), count, workers, queueCapacity,
+                ackBatchSize, Duration.ofMillis(ackIntervalMillis));
+
+        // 같은 경기의 이벤트는 같은 워커에서 순서대로 처리
+        engine = new StreamConsumerEngine("write-diary", redisHandler, key, group, consumer, options,
+                message -> message.getValue().get("gameId"), this::handle);
+        engine.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (engine != null) {
+            engine.stop();
         }
     }
 
+    boolean handle(MapRecord<String, Object, Object> message) {
+        var event = objectMapper.convertValue(message.getValue(), EventDomain.WriteEventDto.class);
+
+        return switch (event.type()) {
+            case DIARY -> eventService.processDiary(event);
+            default -> eventService.processBatch(event);
+        };
+    }
+
 }
@@ -0,0 +1,32 @@
+package kr.co.victoryfairy.core.event.consumer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.victoryfairy.redis.consumer.StreamMetrics;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * write_diary / push_fcm 스트림의 ack 전 메시지 수와 전달 지연을 주기적으로 갱신
+ */
+@Component
+public class EventStreamMetrics {
+
+    private final List<StreamMetrics> streams;
+
+    public EventStreamMetrics(RedisHandler redisHandler, MeterRegistry meterRegistry,
+            @Value("${event.steam.key}") String diaryKey, @Value("${event.steam.group}") String diaryGroup,
+            @Value("${event.fcm.key}") String fcmKey, @Value("${event.fcm.group}") String fcmGroup) {
+        this.streams = List.of(new StreamMetrics(redisHandler, meterRegistry, diaryKey, diaryGroup),
+                new StreamMetrics(redisHandler, meterRegistry, fcmKey, fcmGroup));
+    }
+
+    @Scheduled(fixedDelayString = "${event.metrics.refresh-millis:10000}")
+    public void refresh() {
+        streams.forEach(StreamMetrics::refresh);
+    }
+
+}
@@ -11,6 +11,7 @@ import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -42,18 +43,31 @@ public class PushFcmConsumer {
     @Scheduled(fixedDelay = 1000)
     public void consume() {
         List<MapRecord<String, Object, Object>> messages = redisHandler.getEventMessages(key, group, consumer);
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
         log.info("========== push fcm  Start ==========");
 
+        List<String> completed = new ArrayList<>();
         for (MapRecord<String, Object, Object> message : messages) {
-            var event = objectMapper.convertValue(message.getValue(), EventDomain.PushEventDto.class);
-
-            boolean success = pushService.processPushFcm(event);
+            try {
+                var event = objectMapper.convertValue(message.getValue(), EventDomain.PushEventDto.class);
+
+                if (pushService.processPushFcm(event)) {
+                    completed.add(message.getId().getValue());
+                }
+                else {
+                    log.warn("Event processing skipped: {}", message.getId());
+                }
+            }
+            catch (Exception e) {
+                log.error("error processing push message: {}", message, e);
+            }
+        }
 
-            /*
-             * if (success) { redisHandler.eventKnowEdge(key, group,
-             * message.getId().getValue()); } else {
-             * log.warn("Event processing skipped: {}", message.getId()); }
-             */
+        // 발송을 마친 메시지는 한 번에 ack
+        if (!completed.isEmpty()) {
+            redisHandler.eventKnowEdge(key, group, completed);
         }
     }
 
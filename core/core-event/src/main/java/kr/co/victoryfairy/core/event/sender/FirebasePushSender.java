@@ -0,0 +1,51 @@
+package kr.co.victoryfairy.core.event.sender;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class FirebasePushSender implements PushSender {
+
+    private final Logger log = LoggerFactory.getLogger(FirebasePushSender.class);
+
+    @Override
+    public Result send(List<String> tokens, String title, String body) {
+        if (tokens.size() > MAX_TOKENS) {
+            throw new IllegalArgumentException("tokens must not exceed " + MAX_TOKENS + ": " + tokens.size());
+        }
+
+        var message = MulticastMessage.builder()
+            .addAllTokens(tokens)
+            .setNotification(Notification.builder().setTitle(title).setBody(body).build())
+            .build();
+
+        try {
+            var response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
+
+            // 응답 순서는 요청한 토큰 순서와 같음
+            List<String> unregistered = new ArrayList<>();
+            var responses = response.getResponses();
+            for (int i = 0; i < responses.size(); i++) {
+                var exception = responses.get(i).getException();
+                if (exception != null && exception.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
+                    unregistered.add(tokens.get(i));
+                }
+            }
+            return new Result(response.getSuccessCount(), response.getFailureCount(), unregistered);
+        }
+        catch (FirebaseMessagingException e) {
+            log.error("fcm multicast failed - tokens: {}, code: {}", tokens.size(), e.getMessagingErrorCode(), e);
+            return Result.failed(tokens.size());
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package kr.co.victoryfairy.core.event.sender;
+
+import java.util.List;
+
+/**
+ * 푸시 발송 클라이언트
+ * <p>
+ * 한 번의 호출로 최대 {@link #MAX_TOKENS} 개의 토큰에 같은 알림을 보냅니다.
+ */
+public interface PushSender {
+
+    /**
+     * FCM multicast 한 번에 보낼 수 있는 최대 토큰 수
+     */
+    int MAX_TOKENS = 500;
+
+    Result send(List<String> tokens, String title, String body);
+
+    /**
+     * @param unregisteredTokens 더 이상 유효하지 않아 삭제해야 하는 토큰
+     */
+    record Result(int successCount, int failureCount, List<String> unregisteredTokens) {
+
+        public static Result failed(int tokenCount) {
+            return new Result(0, tokenCount, List.of());
+        }
+
+    }
+
+}
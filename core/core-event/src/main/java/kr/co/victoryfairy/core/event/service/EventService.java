@@ -1,14 +1,25 @@
 package kr.co.victoryfairy.core.event.service;
 
 import io.dodn.springboot.core.enums.MatchEnum;
+import kr.co.victoryfairy.common.cache.MemberStatsCache;
+import kr.co.victoryfairy.common.cache.ReferenceDataCache;
+import kr.co.victoryfairy.common.model.CommonDto;
 import kr.co.victoryfairy.core.event.model.EventDomain;
+import kr.co.victoryfairy.storage.db.core.entity.GameMatchEntity;
 import kr.co.victoryfairy.storage.db.core.entity.GameRecordEntity;
+import kr.co.victoryfairy.storage.db.core.entity.TeamEntity;
+import kr.co.victoryfairy.storage.db.core.model.DiaryModel;
+import kr.co.victoryfairy.storage.db.core.model.GameRecordModel;
+import kr.co.victoryfairy.storage.db.core.model.WinningRateModel;
 import kr.co.victoryfairy.storage.db.core.repository.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class EventService {
 
@@ -18,23 +29,34 @@ public class EventService {
 
     private final DiaryRepository diaryRepository;
 
-    private final TeamRepository teamRepository;
-
     private final GameMatchRepository matchRepository;
 
     private final GameRecordRepository gameRecordRepository;
 
-    private final WinningRateRepository winningRateRepository;
+    private final ReferenceDataCache referenceDataCache;
+
+    private final DiaryCustomRepository diaryCustomRepository;
+
+    private final GameRecordCustomRepository gameRecordCustomRepository;
+
+    private final WinningRateCustomRepository winningRateCustomRepository;
+
+    private final MemberStatsCache memberStatsCache;
 
     public EventService(MemberRepository memberRepository, DiaryRepository diaryRepository,
-            GameMatchRepository matchRepository, TeamRepository teamRepository,
-            GameRecordRepository gameRecordRepository, WinningRateRepository winningRateRepository) {
+            GameMatchRepository matchRepository, GameRecordRepository gameRecordRepository,
+            ReferenceDataCache referenceDataCache, DiaryCustomRepository diaryCustomRepository,
+            GameRecordCustomRepository gameRecordCustomRepository,
+            WinningRateCustomRepository winningRateCustomRepository, MemberStatsCache memberStatsCache) {
         this.memberRepository = memberRepository;
         this.diaryRepository = diaryRepository;
         this.matchRepository = matchRepository;
-        this.teamRepository = teamRepository;
         this.gameRecordRepository = gameRecordRepository;
-        this.winningRateRepository = winningRateRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.diaryCustomRepository = diaryCustomRepository;
+        this.gameRecordCustomRepository = gameRecordCustomRepository;
+        this.winningRateCustomRepository = winningRateCustomRepository;
+        this.memberStatsCache = memberStatsCache;
     }
 
     @Transactional
@@ -51,36 +73,28 @@ public class EventService {
             return true;
         }
 
-        var teamEntity = teamRepository.findById(diaryEntity.getTeamEntity().getId()).orElse(null);
+        var teamEntity = diaryEntity.getTeamEntity();
+        var team = teamEntity != null ? referenceDataCache.findTeam(teamEntity.getId()).orElse(null) : null;
 
-        if (memberEntity == null || matchEntity == null || teamEntity == null) {
+        if (memberEntity == null || matchEntity == null || team == null) {
             return false;
         }
 
         var awayTeam = matchEntity.getAwayTeamEntity();
         var homeTeam = matchEntity.getHomeTeamEntity();
 
-        var awayScore = matchEntity.getAwayScore() != null ? matchEntity.getAwayScore() : 0;
-        var homeScore = matchEntity.getHomeScore() != null ? matchEntity.getHomeScore() : 0;
-
         var isAway = awayTeam.getId().equals(teamEntity.getId());
 
-        var myScore = isAway ? awayScore : homeScore;
-        var opponentScore = isAway ? homeScore : awayScore;
-
-        var isWin = myScore > opponentScore;
-
-        var matchResult = (myScore == opponentScore) ? MatchEnum.ResultType.DRAW
-                : (isWin ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS);
+        var matchResult = resultType(matchEntity, isAway);
 
         var gameRecordEntity = GameRecordEntity.builder()
             .member(memberEntity)
             .diaryEntity(diaryEntity)
             .gameMatchEntity(matchEntity)
             .teamEntity(teamEntity)
-            .teamName(teamEntity.getName())
+            .teamName(team.name())
             .opponentTeamEntity(isAway ? homeTeam : awayTeam)
-            .opponentTeamName(isAway ? homeTeam.getName() : awayTeam.getName())
+            .opponentTeamName(teamName(isAway ? homeTeam : awayTeam))
             .stadiumEntity(matchEntity.getStadiumEntity())
             .viewType(diaryEntity.getViewType())
             .status(matchEntity.getStatus())
@@ -91,6 +105,12 @@ public class EventService {
         gameRecordRepository.save(gameRecordEntity);
         gameRecordRepository.flush();
 
+        // 시즌 집계 반영 (같은 트랜잭션)
+        var fact = new WinningRateModel.Fact(diaryEntity.getViewType(), matchEntity.getStatus(), matchResult, !isAway);
+        winningRateCustomRepository
+            .applyAll(List.of(WinningRateModel.Delta.of(memberEntity.getId(), matchEntity.getSeason(), fact, 1)));
+        memberStatsCache.evictAfterCommit(memberEntity.getId());
+
         // 이벤트 적용 여부 업데이트
         diaryEntity.updateRated();
         diaryRepository.save(diaryEntity);
@@ -100,64 +120,85 @@ public class EventService {
         return true;
     }
 
+    /**
+     * 경기 종료 후 미평가 일기 일괄 평가
+     * <p>
+     * 대상 일기를 필요한 컬럼만 한 번에 조회해 결과를 메모리에서 계산하고, game_record 는 JDBC 배치 insert 로, 평가 여부는 한 번의
+     * UPDATE 로 반영합니다. 회원별 시즌 집계도 회원당 한 행씩 같은 트랜잭션에서 증가시키고, 커밋 후 해당 회원들의 통계 캐시를
+     * 비웁니다.
+     */
     @Transactional
     public boolean processBatch(EventDomain.WriteEventDto eventDto) {
         var matchEntity = matchRepository.findById(eventDto.gameId()).orElse(null);
+        if (matchEntity == null) {
+            log.info(">>> Match is null: {}", eventDto.gameId());
+            return true;
+        }
 
-        var diaryEntities = diaryRepository.findByGameMatchEntityAndIsRatedFalse(matchEntity);
-
-        if (diaryEntities.isEmpty()) {
+        var startedAt = System.currentTimeMillis();
+        var targets = diaryCustomRepository.findUnratedByGameMatchId(matchEntity.getId());
+        if (targets.isEmpty()) {
             return true;
         }
 
-        diaryEntities.forEach(diaryEntity -> {
-            if (diaryEntity.getIsRated()) {
-                return;
+        var awayTeam = matchEntity.getAwayTeamEntity();
+        var homeTeam = matchEntity.getHomeTeamEntity();
+        var awayTeamName = teamName(awayTeam);
+        var homeTeamName = teamName(homeTeam);
+        var stadiumId = matchEntity.getStadiumEntity() != null ? matchEntity.getStadiumEntity().getId() : null;
+
+        List<GameRecordModel.InsertRow> rows = new ArrayList<>(targets.size());
+        List<Long> ratedIds = new ArrayList<>(targets.size());
+        List<WinningRateModel.Delta> deltas = new ArrayList<>(targets.size());
+        List<Long> unresolvedIds = new ArrayList<>();
+        for (DiaryModel.RatingTarget target : targets) {
+            var team = target.teamId() != null ? referenceDataCache.findTeam(target.teamId()).orElse(null) : null;
+            if (team == null) {
+                // 응원팀을 알 수 없는 일기는 미평가로 남겨 팀 정보 보정 후 다시 평가
+                unresolvedIds.add(target.id());
+                continue;
             }
 
-            var memberEntity = memberRepository.findById(diaryEntity.getMember().getId()).orElse(null);
-
-            var teamEntity = teamRepository.findById(diaryEntity.getTeamEntity().getId()).orElse(null);
-
-            var awayTeam = matchEntity.getAwayTeamEntity();
-            var homeTeam = matchEntity.getHomeTeamEntity();
-
-            var awayScore = matchEntity.getAwayScore() != null ? matchEntity.getAwayScore() : 0;
-            var homeScore = matchEntity.getHomeScore() != null ? matchEntity.getHomeScore() : 0;
-
-            var isAway = awayTeam.getId().equals(teamEntity.getId());
+            var isAway = awayTeam.getId().equals(target.teamId());
+            var result = resultType(matchEntity, isAway);
+            rows.add(new GameRecordModel.InsertRow(target.memberId(), target.id(), matchEntity.getId(),
+                    target.teamId(), team.name(), isAway ? homeTeam.getId() : awayTeam.getId(),
+                    isAway ? homeTeamName : awayTeamName, stadiumId, target.viewType(), matchEntity.getStatus(),
+                    result, matchEntity.getSeason(), matchEntity.getLeague()));
+            ratedIds.add(target.id());
+            deltas.add(WinningRateModel.Delta.of(target.memberId(), matchEntity.getSeason(),
+                    new WinningRateModel.Fact(target.viewType(), matchEntity.getStatus(), result, !isAway), 1));
+        }
 
-            var myScore = isAway ? awayScore : homeScore;
-            var opponentScore = isAway ? homeScore : awayScore;
+        var inserted = gameRecordCustomRepository.saveAllInBatch(rows);
+        var updated = diaryCustomRepository.updateRated(ratedIds);
+        var aggregated = winningRateCustomRepository.applyAll(deltas);
+        memberStatsCache.evictAfterCommit(rows.stream().map(GameRecordModel.InsertRow::memberId).toList());
 
-            var isWin = myScore > opponentScore;
+        if (!unresolvedIds.isEmpty()) {
+            log.warn(">>> Skipped batch rating (unknown team) - gameId: {}, diaryIds: {}", matchEntity.getId(),
+                    unresolvedIds);
+        }
 
-            var matchResult = (myScore == opponentScore) ? MatchEnum.ResultType.DRAW
-                    : (isWin ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS);
+        log.info(">>> Finished batch rating - gameId: {}, targets: {}, inserted: {}, rated: {}, aggregated: {}, "
+                + "elapsed: {}ms", matchEntity.getId(), targets.size(), inserted, updated, aggregated,
+                System.currentTimeMillis() - startedAt);
+        return true;
+    }
 
-            var gameRecordEntity = GameRecordEntity.builder()
-                .member(memberEntity)
-                .diaryEntity(diaryEntity)
-                .teamEntity(teamEntity)
-                .gameMatchEntity(matchEntity)
-                .teamName(teamEntity.getName())
-                .opponentTeamEntity(isAway ? homeTeam : awayTeam)
-                .opponentTeamName(isAway ? homeTeam.getName() : awayTeam.getName())
-                .stadiumEntity(matchEntity.getStadiumEntity())
-                .viewType(diaryEntity.getViewType())
-                .status(matchEntity.getStatus())
-                .resultType(matchResult)
-                .season(matchEntity.getSeason())
-                .leagueType(matchEntity.getLeague()) // WBC 지원: 리그 타입 저장
-                .build();
+    private MatchEnum.ResultType resultType(GameMatchEntity matchEntity, boolean isAway) {
+        var awayScore = matchEntity.getAwayScore() != null ? matchEntity.getAwayScore() : 0;
+        var homeScore = matchEntity.getHomeScore() != null ? matchEntity.getHomeScore() : 0;
 
-            gameRecordRepository.save(gameRecordEntity);
+        var myScore = isAway ? awayScore : homeScore;
+        var opponentScore = isAway ? homeScore : awayScore;
 
-            diaryEntity.updateRated();
-            diaryRepository.save(diaryEntity);
+        return (myScore == opponentScore) ? MatchEnum.ResultType.DRAW
+                : (myScore > opponentScore ? MatchEnum.ResultType.WIN : MatchEnum.ResultType.LOSS);
+    }
 
-        });
-        return true;
+    private String teamName(TeamEntity teamEntity) {
+        return referenceDataCache.findTeam(teamEntity.getId()).map(CommonDto.TeamDto::name).orElse(null);
     }
 
 }
@@ -1,73 +1,160 @@
 package kr.co.victoryfairy.core.event.service;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.MulticastMessage;
-import com.google.firebase.messaging.Notification;
 import io.dodn.springboot.core.enums.MatchEnum;
+import jakarta.annotation.PreDestroy;
+import kr.co.victoryfairy.common.cache.ReferenceDataCache;
 import kr.co.victoryfairy.core.event.model.EventDomain;
+import kr.co.victoryfairy.core.event.sender.PushSender;
 import kr.co.victoryfairy.storage.db.core.model.MemberModel;
 import kr.co.victoryfairy.storage.db.core.repository.MemberCustomRepository;
-import kr.co.victoryfairy.storage.db.core.repository.MemberRepository;
-import kr.co.victoryfairy.storage.db.core.repository.TeamRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 경기 시작 / 취소 푸시 발송
+ * <p>
+ * 응원 팀 회원의 토큰을 id 기준으로 페이지 단위로 읽어 500개씩 나눠 보내고, 동시에 진행 중인 발송은 {@code parallelism} 개로 제한합니다.
+ * FCM 이 만료(UNREGISTERED)로 응답한 토큰은 발송이 끝난 뒤 한 번에 삭제합니다.
+ */
 @Service
 public class PushService {
 
+    private static final String TITLE = "승요의 일기장";
+
+    private static final int CLEAR_CHUNK_SIZE = 1000;
+
     private final Logger log = LoggerFactory.getLogger(PushService.class);
 
     private final MemberCustomRepository memberCustomRepository;
 
-    private final TeamRepository teamRepository;
+    private final ReferenceDataCache referenceDataCache;
+
+    private final PushSender pushSender;
+
+    private final int pageSize;
 
-    public PushService(MemberCustomRepository memberCustomRepository, TeamRepository teamRepository) {
+    private final int parallelism;
+
+    private final ExecutorService executor;
+
+    public PushService(MemberCustomRepository memberCustomRepository, ReferenceDataCache referenceDataCache,
+            PushSender pushSender, @Value("${event.fcm.page-size:5000}") int pageSize,
+            @Value("${event.fcm.parallelism:4}") int parallelism) {
         this.memberCustomRepository = memberCustomRepository;
-        this.teamRepository = teamRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.pushSender = pushSender;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+
+        var sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            var thread = new Thread(runnable, "push-fcm-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
     }
 
+    /**
+     * @return 발송을 마쳤으면 true (일부 토큰 실패 포함), 다시 시도해야 하면 false
+     */
     public boolean processPushFcm(EventDomain.PushEventDto pushEventDto) {
         log.info(">>> Start processing push event: {}", pushEventDto.gameId());
 
-        var awayTeamEntity = teamRepository.findById(pushEventDto.awayId()).orElse(null);
-
-        var homeTeamEntity = teamRepository.findById(pushEventDto.homeId()).orElse(null);
-
-        var memberList = memberCustomRepository.findFcmTokenByTeamId(pushEventDto.awayId(), pushEventDto.homeId());
-
-        if (memberList.isEmpty() || awayTeamEntity == null || homeTeamEntity == null) {
-            return false;
+        var awayTeam = referenceDataCache.findTeam(pushEventDto.awayId()).orElse(null);
+        var homeTeam = referenceDataCache.findTeam(pushEventDto.homeId()).orElse(null);
+        if (awayTeam == null || homeTeam == null) {
+            // 다시 시도해도 결과가 같으므로 완료로 처리
+            log.warn(">>> Push skipped, team not found - gameId: {}", pushEventDto.gameId());
+            return true;
         }
 
-        List<String> fcmList = memberList.stream()
-            .filter(m -> StringUtils.hasText(m.getFcmToken()))
-            .map(s -> s.getFcmToken())
-            .toList();
+        var body = MatchEnum.MatchStatus.PROGRESS.equals(pushEventDto.status()) ? "야구 볼 시간이에요⚾️"
+                : "오늘 경기는 취소 되었어요⚾️";
 
-        MulticastMessage messages = MulticastMessage.builder()
-            .addAllTokens(fcmList)
-            .setNotification(Notification.builder()
-                .setTitle("승요의 일기장")
-                .setBody(pushEventDto.status().equals(MatchEnum.MatchStatus.PROGRESS) ? "야구 볼 시간이에요⚾️"
-                        : "오늘 경기는 취소 되었어요⚾️")
-                .build())
-            .build();
+        var permits = new Semaphore(parallelism);
+        var success = new AtomicInteger();
+        var failure = new AtomicInteger();
+        var unregistered = new ConcurrentLinkedQueue<String>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
 
         try {
-            FirebaseMessaging.getInstance().sendEachForMulticast(messages);
+            Long lastId = null;
+            while (true) {
+                var page = memberCustomRepository.findFcmTokenByTeamId(pushEventDto.awayId(), pushEventDto.homeId(),
+                        lastId, pageSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                var tokens = page.stream().map(MemberModel.FcmToken::fcmToken).toList();
+                for (int from = 0; from < tokens.size(); from += PushSender.MAX_TOKENS) {
+                    var chunk = tokens.subList(from, Math.min(from + PushSender.MAX_TOKENS, tokens.size()));
+
+                    // 발송 중인 청크가 parallelism 개를 넘지 않도록 페이지 조회를 멈춤
+                    permits.acquire();
+                    futures.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            var result = pushSender.send(chunk, TITLE, body);
+                            success.addAndGet(result.successCount());
+                            failure.addAndGet(result.failureCount());
+                            unregistered.addAll(result.unregisteredTokens());
+                        }
+                        catch (Exception e) {
+                            failure.addAndGet(chunk.size());
+                            log.error(">>> Push chunk failed - gameId: {}, size: {}", pushEventDto.gameId(),
+                                    chunk.size(), e);
+                        }
+                        finally {
+                            permits.release();
+                        }
+                    }, executor));
+                }
+
+                if (page.size() < pageSize) {
+                    break;
+                }
+                lastId = page.get(page.size() - 1).id();
+            }
         }
-        catch (Exception e) {
-            e.printStackTrace();
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             return false;
         }
+        finally {
+            // 이미 보낸 청크는 되돌릴 수 없으므로 실패 여부와 관계없이 완료를 기다림
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        }
 
+        var cleared = clearUnregistered(List.copyOf(unregistered));
+
+        log.info(">>> Finished push event - gameId: {}, success: {}, failure: {}, unregistered: {}",
+                pushEventDto.gameId(), success.get(), failure.get(), cleared);
         return true;
     }
 
+    private long clearUnregistered(List<String> tokens) {
+        long cleared = 0;
+        for (int from = 0; from < tokens.size(); from += CLEAR_CHUNK_SIZE) {
+            cleared += memberCustomRepository
+                .clearFcmTokens(tokens.subList(from, Math.min(from + CLEAR_CHUNK_SIZE, tokens.size())));
+        }
+        return cleared;
+    }
+
 }
@@ -0,0 +1,219 @@
+package kr.co.victoryfairy.core.event.service;
+
+import io.dodn.springboot.core.enums.DiaryEnum;
+import io.dodn.springboot.core.enums.EventType;
+import io.dodn.springboot.core.enums.MatchEnum;
+import kr.co.victoryfairy.common.cache.MemberStatsCache;
+import kr.co.victoryfairy.common.cache.ReferenceDataCache;
+import kr.co.victoryfairy.common.model.CommonDto;
+import kr.co.victoryfairy.core.event.model.EventDomain;
+import kr.co.victoryfairy.storage.db.core.entity.GameMatchEntity;
+import kr.co.victoryfairy.storage.db.core.entity.TeamEntity;
+import kr.co.victoryfairy.storage.db.core.model.DiaryModel;
+import kr.co.victoryfairy.storage.db.core.model.GameRecordModel;
+import kr.co.victoryfairy.storage.db.core.model.WinningRateModel;
+import kr.co.victoryfairy.storage.db.core.repository.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@DisplayName("EventService 일괄 평가 테스트")
+class EventServiceBatchTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private DiaryRepository diaryRepository;
+
+    @Mock
+    private GameMatchRepository matchRepository;
+
+    @Mock
+    private GameRecordRepository gameRecordRepository;
+
+    @Mock
+    private WinningRateCustomRepository winningRateCustomRepository;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private MemberStatsCache memberStatsCache;
+
+    @Mock
+    private DiaryCustomRepository diaryCustomRepository;
+
+    @Mock
+    private GameRecordCustomRepository gameRecordCustomRepository;
+
+    @InjectMocks
+    private EventService eventService;
+
+    private final TeamEntity samsungTeam = new TeamEntity(1L, "삼성", "삼성");
+
+    private final TeamEntity lgTeam = new TeamEntity(2L, "LG", "LG");
+
+    @Test
+    @DisplayName("일기 10,000건을 한 번의 배치 insert 와 한 번의 UPDATE 로 평가한다")
+    void processBatch_shouldInsertAndUpdateOnce() {
+        // given
+        var gameId = "20250930SSLG0";
+        var matchEntity = matchEntity(gameId, (short) 4, (short) 2);
+        List<DiaryModel.RatingTarget> targets = LongStream.rangeClosed(1, 10_000)
+            .mapToObj(id -> new DiaryModel.RatingTarget(id, id, id % 2 == 0 ? 1L : 2L, DiaryEnum.ViewType.STADIUM))
+            .toList();
+
+        given(matchRepository.findById(gameId)).willReturn(Optional.of(matchEntity));
+        given(diaryCustomRepository.findUnratedByGameMatchId(gameId)).willReturn(targets);
+        givenTeams(samsungTeam, lgTeam);
+
+        // when
+        var result = eventService.processBatch(new EventDomain.WriteEventDto(gameId, null, null, EventType.BATCH));
+
+        // then
+        assertThat(result).isTrue();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GameRecordModel.InsertRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(gameRecordCustomRepository, times(1)).saveAllInBatch(rows.capture());
+        assertThat(rows.getValue()).hasSize(10_000);
+        assertThat(rows.getValue()).filteredOn(row -> row.teamId().equals(1L))
+            .allMatch(row -> row.resultType() == MatchEnum.ResultType.WIN && row.opponentTeamId().equals(2L)
+                    && "LG".equals(row.opponentTeamName()));
+        assertThat(rows.getValue()).filteredOn(row -> row.teamId().equals(2L))
+            .allMatch(row -> row.resultType() == MatchEnum.ResultType.LOSS && row.opponentTeamId().equals(1L));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> ratedIds = ArgumentCaptor.forClass(Collection.class);
+        verify(diaryCustomRepository, times(1)).updateRated(ratedIds.capture());
+        assertThat(ratedIds.getValue()).hasSize(10_000);
+
+        verifyNoInteractions(memberRepository, diaryRepository, gameRecordRepository);
+    }
+
+    @Test
+    @DisplayName("응원 팀을 찾을 수 없는 일기는 평가하지 않는다")
+    void processBatch_whenTeamMissing_shouldSkipDiary() {
+        // given
+        var gameId = "20250930SSLG0";
+        var matchEntity = matchEntity(gameId, (short) 3, (short) 3);
+        var targets = List.of(new DiaryModel.RatingTarget(1L, 1L, 1L, DiaryEnum.ViewType.HOME),
+                new DiaryModel.RatingTarget(2L, 2L, 99L, DiaryEnum.ViewType.HOME));
+
+        given(matchRepository.findById(gameId)).willReturn(Optional.of(matchEntity));
+        given(diaryCustomRepository.findUnratedByGameMatchId(gameId)).willReturn(targets);
+        given(referenceDataCache.findTeam(99L)).willReturn(Optional.empty());
+        givenTeams(samsungTeam, lgTeam);
+
+        // when
+        eventService.processBatch(new EventDomain.WriteEventDto(gameId, null, null, EventType.BATCH));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GameRecordModel.InsertRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(gameRecordCustomRepository).saveAllInBatch(rows.capture());
+        assertThat(rows.getValue()).singleElement()
+            .satisfies(row -> assertThat(row.resultType()).isEqualTo(MatchEnum.ResultType.DRAW));
+        verify(diaryCustomRepository).updateRated(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("평가한 일기를 같은 트랜잭션에서 회원별 시즌 집계에 반영한다")
+    void processBatch_shouldApplyWinningRateDeltas() {
+        // given
+        var gameId = "20250930SSLG0";
+        var matchEntity = matchEntity(gameId, (short) 4, (short) 2);
+        var targets = List.of(new DiaryModel.RatingTarget(1L, 10L, 1L, DiaryEnum.ViewType.STADIUM),
+                new DiaryModel.RatingTarget(2L, 20L, 2L, DiaryEnum.ViewType.HOME));
+
+        given(matchRepository.findById(gameId)).willReturn(Optional.of(matchEntity));
+        given(diaryCustomRepository.findUnratedByGameMatchId(gameId)).willReturn(targets);
+        givenTeams(samsungTeam, lgTeam);
+
+        // when
+        eventService.processBatch(new EventDomain.WriteEventDto(gameId, null, null, EventType.BATCH));
+
+        // then (삼성 원정 직관 승, LG 집관 패)
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WinningRateModel.Delta>> deltas = ArgumentCaptor.forClass(List.class);
+        verify(winningRateCustomRepository, times(1)).applyAll(deltas.capture());
+        assertThat(deltas.getValue()).hasSize(2);
+
+        var away = deltas.getValue().get(0);
+        assertThat(away.memberId()).isEqualTo(10L);
+        assertThat(away.season()).isEqualTo("2025");
+        assertThat(away.count(WinningRateModel.Counter.STADIUM_WIN)).isEqualTo(1);
+        assertThat(away.count(WinningRateModel.Counter.STADIUM_AWAY_GAME_WIN)).isEqualTo(1);
+        assertThat(away.count(WinningRateModel.Counter.STADIUM_HOME_GAME)).isZero();
+
+        var home = deltas.getValue().get(1);
+        assertThat(home.memberId()).isEqualTo(20L);
+        assertThat(home.count(WinningRateModel.Counter.HOME_LOSE)).isEqualTo(1);
+        assertThat(home.count(WinningRateModel.Counter.STADIUM)).isZero();
+
+        // 평가한 회원들의 통계 캐시는 커밋 후 한 번에 무효화
+        verify(memberStatsCache).evictAfterCommit(List.of(10L, 20L));
+    }
+
+    @Test
+    @DisplayName("미평가 일기가 없으면 저장하지 않는다")
+    void processBatch_whenNoTargets_shouldDoNothing() {
+        // given
+        var gameId = "20250930SSLG0";
+        given(matchRepository.findById(gameId)).willReturn(Optional.of(matchEntity(gameId, (short) 1, (short) 0)));
+        given(diaryCustomRepository.findUnratedByGameMatchId(gameId)).willReturn(List.of());
+
+        // when
+        var result = eventService.processBatch(new EventDomain.WriteEventDto(gameId, null, null, EventType.BATCH));
+
+        // then
+        assertThat(result).isTrue();
+        verify(gameRecordCustomRepository, never()).saveAllInBatch(anyList());
+        verify(diaryCustomRepository, never()).updateRated(any());
+    }
+
+    private GameMatchEntity matchEntity(String gameId, short awayScore, short homeScore) {
+        return GameMatchEntity.builder()
+            .id(gameId)
+            .league(MatchEnum.LeagueType.KBO)
+            .awayTeamEntity(samsungTeam)
+            .homeTeamEntity(lgTeam)
+            .awayScore(awayScore)
+            .homeScore(homeScore)
+            .status(MatchEnum.MatchStatus.END)
+            .season("2025")
+            .matchAt(LocalDateTime.of(2025, 9, 30, 18, 30))
+            .build();
+    }
+
+    private void givenTeams(TeamEntity... teams) {
+        for (TeamEntity team : teams) {
+            given(referenceDataCache.findTeam(team.getId())).willReturn(Optional.of(new CommonDto.TeamDto(team.getId(),
+                    team.getName(), team.getKboNm(), null, null, null, team.getLeague(), team.getCountryCode())));
+        }
+    }
+
+}
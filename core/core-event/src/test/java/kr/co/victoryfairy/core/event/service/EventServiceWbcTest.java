@@ -3,6 +3,9 @@ package kr.co.victoryfairy.core.event.service;
 import io.dodn.springboot.core.enums.DiaryEnum;
 import io.dodn.springboot.core.enums.EventType;
 import io.dodn.springboot.core.enums.MatchEnum;
+import kr.co.victoryfairy.common.cache.MemberStatsCache;
+import kr.co.victoryfairy.common.cache.ReferenceDataCache;
+import kr.co.victoryfairy.common.model.CommonDto;
 import kr.co.victoryfairy.core.event.model.EventDomain;
 import kr.co.victoryfairy.storage.db.core.entity.*;
 import kr.co.victoryfairy.storage.db.core.repository.*;
@@ -35,7 +38,10 @@ class EventServiceWbcTest {
     private DiaryRepository diaryRepository;
 
     @Mock
-    private TeamRepository teamRepository;
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private MemberStatsCache memberStatsCache;
 
     @Mock
     private GameMatchRepository matchRepository;
@@ -44,7 +50,7 @@ class EventServiceWbcTest {
     private GameRecordRepository gameRecordRepository;
 
     @Mock
-    private WinningRateRepository winningRateRepository;
+    private WinningRateCustomRepository winningRateCustomRepository;
 
     @InjectMocks
     private EventService eventService;
@@ -79,6 +85,13 @@ class EventServiceWbcTest {
         return new TeamEntity(id, name, name);
     }
 
+    private void givenTeams(TeamEntity... teams) {
+        for (TeamEntity team : teams) {
+            given(referenceDataCache.findTeam(team.getId())).willReturn(Optional.of(new CommonDto.TeamDto(team.getId(),
+                    team.getName(), team.getKboNm(), null, null, null, team.getLeague(), team.getCountryCode())));
+        }
+    }
+
     @Test
     @DisplayName("WBC 경기 일기 처리 - 승리 케이스 (leagueType=WBC 저장)")
     void processDiary_wbcWin_shouldSaveLeagueTypeWbc() {
@@ -109,7 +122,7 @@ class EventServiceWbcTest {
         given(memberRepository.findById(1L)).willReturn(Optional.of(memberEntity));
         given(matchRepository.findById(gameId)).willReturn(Optional.of(matchEntity));
         given(diaryRepository.findById(1L)).willReturn(Optional.of(diaryEntity));
-        given(teamRepository.findById(101L)).willReturn(Optional.of(koreaTeam));
+        givenTeams(koreaTeam, japanTeam);
 
         // when
         var result = eventService.processDiary(eventDto);
@@ -157,7 +170,7 @@ class EventServiceWbcTest {
         given(memberRepository.findById(1L)).willReturn(Optional.of(memberEntity));
         given(matchRepository.findById(gameId)).willReturn(Optional.of(matchEntity));
         given(diaryRepository.findById(1L)).willReturn(Optional.of(diaryEntity));
-        given(teamRepository.findById(101L)).willReturn(Optional.of(koreaTeam));
+        givenTeams(koreaTeam, japanTeam);
 
         // when
         var result = eventService.processDiary(eventDto);
@@ -203,7 +216,7 @@ class EventServiceWbcTest {
         given(memberRepository.findById(1L)).willReturn(Optional.of(memberEntity));
         given(matchRepository.findById(gameId)).willReturn(Optional.of(matchEntity));
         given(diaryRepository.findById(1L)).willReturn(Optional.of(diaryEntity));
-        given(teamRepository.findById(1L)).willReturn(Optional.of(samsungTeam));
+        givenTeams(samsungTeam, lgTeam);
 
         // when
         var result = eventService.processDiary(eventDto);
@@ -251,7 +264,7 @@ class EventServiceWbcTest {
         given(memberRepository.findById(1L)).willReturn(Optional.of(memberEntity));
         given(matchRepository.findById(gameId)).willReturn(Optional.of(matchEntity));
         given(diaryRepository.findById(1L)).willReturn(Optional.of(diaryEntity));
-        given(teamRepository.findById(101L)).willReturn(Optional.of(koreaTeam));
+        givenTeams(koreaTeam, japanTeam);
 
         // when
         var result = eventService.processDiary(eventDto);
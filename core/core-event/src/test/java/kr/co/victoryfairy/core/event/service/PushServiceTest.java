@@ -0,0 +1,161 @@
+package kr.co.victoryfairy.core.event.service;
+
+import io.dodn.springboot.core.enums.MatchEnum;
+import kr.co.victoryfairy.common.cache.ReferenceDataCache;
+import kr.co.victoryfairy.common.model.CommonDto;
+import kr.co.victoryfairy.core.event.model.EventDomain;
+import kr.co.victoryfairy.core.event.sender.PushSender;
+import kr.co.victoryfairy.storage.db.core.model.MemberModel;
+import kr.co.victoryfairy.storage.db.core.repository.MemberCustomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@DisplayName("PushService 테스트")
+class PushServiceTest {
+
+    @Mock
+    private MemberCustomRepository memberCustomRepository;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
+    private PushService pushService;
+
+    @AfterEach
+    void tearDown() {
+        if (pushService != null) {
+            pushService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("토큰을 페이지 단위로 읽어 500개씩 나눠 보내고 만료 토큰은 한 번에 삭제한다")
+    void processPushFcm_shouldSendInChunksAndClearUnregistered() {
+        // given
+        var sender = new FakePushSender(Set.of("token-3", "token-1200"));
+        pushService = new PushService(memberCustomRepository, referenceDataCache, sender, 1000, 2);
+        givenTeams();
+
+        var tokens = tokens(1200);
+        given(memberCustomRepository.findFcmTokenByTeamId(eq(1L), eq(2L), isNull(), eq(1000)))
+            .willReturn(tokens.subList(0, 1000));
+        given(memberCustomRepository.findFcmTokenByTeamId(1L, 2L, 1000L, 1000)).willReturn(tokens.subList(1000, 1200));
+        given(memberCustomRepository.clearFcmTokens(any())).willReturn(2L);
+
+        // when
+        var result = pushService.processPushFcm(event());
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(sender.chunks).extracting(List::size).containsExactlyInAnyOrder(500, 500, 200);
+        assertThat(sender.chunks.stream().mapToInt(List::size).sum()).isEqualTo(1200);
+        assertThat(sender.maxInFlight.get()).isLessThanOrEqualTo(2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> cleared = ArgumentCaptor.forClass(Collection.class);
+        verify(memberCustomRepository).clearFcmTokens(cleared.capture());
+        assertThat(cleared.getValue()).containsExactlyInAnyOrder("token-3", "token-1200");
+    }
+
+    @Test
+    @DisplayName("일부 청크 발송이 실패해도 나머지 청크는 보내고 완료로 처리한다")
+    void processPushFcm_whenChunkFails_shouldContinue() {
+        // given
+        var sender = new FakePushSender(Set.of());
+        sender.failOnToken = "token-1";
+        pushService = new PushService(memberCustomRepository, referenceDataCache, sender, 1000, 2);
+        givenTeams();
+
+        var tokens = tokens(700);
+        given(memberCustomRepository.findFcmTokenByTeamId(eq(1L), eq(2L), isNull(), anyInt())).willReturn(tokens);
+
+        // when
+        var result = pushService.processPushFcm(event());
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(sender.chunks).extracting(List::size).containsExactlyInAnyOrder(500, 200);
+    }
+
+    private EventDomain.PushEventDto event() {
+        return new EventDomain.PushEventDto("20250930SSLG0", 1L, 2L, MatchEnum.MatchStatus.PROGRESS);
+    }
+
+    private List<MemberModel.FcmToken> tokens(int count) {
+        return LongStream.rangeClosed(1, count).mapToObj(id -> new MemberModel.FcmToken(id, "token-" + id)).toList();
+    }
+
+    private void givenTeams() {
+        given(referenceDataCache.findTeam(1L)).willReturn(Optional
+            .of(new CommonDto.TeamDto(1L, "삼성", "삼성", null, null, null, MatchEnum.LeagueType.KBO, null)));
+        given(referenceDataCache.findTeam(2L)).willReturn(
+                Optional.of(new CommonDto.TeamDto(2L, "LG", "LG", null, null, null, MatchEnum.LeagueType.KBO, null)));
+    }
+
+    /**
+     * FCM 대신 받은 청크를 기록하는 발송 클라이언트
+     */
+    private static class FakePushSender implements PushSender {
+
+        private final Set<String> unregistered;
+
+        private final List<List<String>> chunks = new CopyOnWriteArrayList<>();
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        private String failOnToken;
+
+        FakePushSender(Set<String> unregistered) {
+            this.unregistered = unregistered;
+        }
+
+        @Override
+        public Result send(List<String> tokens, String title, String body) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+                chunks.add(new ArrayList<>(tokens));
+                if (failOnToken != null && tokens.contains(failOnToken)) {
+                    throw new IllegalStateException("fcm unavailable");
+                }
+                return new Result(tokens.size(), 0, tokens.stream().filter(unregistered::contains).toList());
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Result.failed(tokens.size());
+            }
+            finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+    }
+
+}
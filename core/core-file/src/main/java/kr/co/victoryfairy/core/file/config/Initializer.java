@@ -0,0 +1,35 @@
+package kr.co.victoryfairy.core.file.config;
+
+import io.lettuce.core.RedisBusyException;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import kr.co.victoryfairy.support.properties.FileProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.RedisSystemException;
+
+@Configuration
+public class Initializer {
+
+    Logger log = LoggerFactory.getLogger(Initializer.class);
+
+    @Bean
+    public InitializingBean initializeVariantConsumerGroup(RedisHandler redisHandler, FileProperties fileProperties) {
+        return () -> {
+            try {
+                redisHandler.initEvent(fileProperties.getVariantStreamKey(), fileProperties.getVariantStreamGroup());
+            }
+            catch (RedisSystemException e) {
+                if (e.getCause() instanceof RedisBusyException busy && busy.getMessage().contains("BUSYGROUP")) {
+                    log.warn("Consumer group already exists: {}", fileProperties.getVariantStreamGroup());
+                }
+                else {
+                    throw e;
+                }
+            }
+        };
+    }
+
+}
@@ -0,0 +1,102 @@
+package kr.co.victoryfairy.core.file.consumer;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.victoryfairy.core.file.domain.FileDomain;
+import kr.co.victoryfairy.core.file.service.FileVariantProcessor;
+import kr.co.victoryfairy.redis.consumer.StreamConsumerEngine;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import kr.co.victoryfairy.storage.db.core.repository.FileVariantCustomRepository;
+import kr.co.victoryfairy.support.properties.FileProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 변환 작업 큐 소비
+ * <p>
+ * 업로드 요청은 변환본을 PENDING 으로 저장하고 파일 id 를 Redis Stream 에 넣기만 합니다. 이 소비자가 워커 수만큼만 동시에 변환하므로
+ * 업로드가 몰려도 CPU / FFmpeg 프로세스 수가 제한됩니다.
+ */
+@Service
+public class FileVariantConsumer {
+
+    private static final int RECOVER_LIMIT = 1000;
+
+    Logger log = LoggerFactory.getLogger(FileVariantConsumer.class);
+
+    private final FileProperties fileProperties;
+
+    private final RedisHandler redisHandler;
+
+    private final FileVariantCustomRepository fileVariantCustomRepository;
+
+    private final FileVariantProcessor fileVariantProcessor;
+
+    private StreamConsumerEngine engine;
+
+    public FileVariantConsumer(FileProperties fileProperties, RedisHandler redisHandler,
+            FileVariantCustomRepository fileVariantCustomRepository, FileVariantProcessor fileVariantProcessor) {
+        this.fileProperties = fileProperties;
+        this.redisHandler = redisHandler;
+        this.fileVariantCustomRepository = fileVariantCustomRepository;
+        this.fileVariantProcessor = fileVariantProcessor;
+    }
+
+    /**
+     * 소비자 그룹 생성(Initializer) 이후 소비 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        var options = new StreamConsumerEngine.Options(Duration.ofSeconds(2), fileProperties.getVariantWorkers(),
+                fileProperties.getVariantWorkers(), fileProperties.getVariantQueueCapacity(), 10,
+                Duration.ofMillis(500));
+
+        engine = new StreamConsumerEngine("file-variant", redisHandler, fileProperties.getVariantStreamKey(),
+                fileProperties.getVariantStreamGroup(), fileProperties.getVariantStreamConsumer(), options,
+                message -> message.getValue().get("fileId"), this::handle);
+        engine.start();
+
+        recover();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (engine != null) {
+            engine.stop();
+        }
+    }
+
+    /**
+     * 큐에 넣은 뒤 처리되지 못한(재시작 등) 변환본 다시 등록 (이미 처리된 변환본은 건너뜀)
+     */
+    private void recover() {
+        var fileIds = fileVariantCustomRepository.findPendingFileIds(LocalDateTime.now(), RECOVER_LIMIT);
+        fileIds.forEach(fileId -> redisHandler.pushEvent(fileProperties.getVariantStreamKey(),
+                new FileDomain.VariantEventDto(fileId)));
+        if (!fileIds.isEmpty()) {
+            log.info("pending file variants re-queued - files: {}", fileIds.size());
+        }
+    }
+
+    boolean handle(MapRecord<String, Object, Object> message) {
+        var fileId = Long.valueOf(String.valueOf(message.getValue().get("fileId")));
+        var attempt = message.getValue().get("attempt") != null
+                ? Integer.parseInt(String.valueOf(message.getValue().get("attempt"))) : 1;
+        if (fileVariantProcessor.process(fileId, attempt < fileProperties.getVariantMaxAttempts())) {
+            return true;
+        }
+
+        // 일시적 실패로 PENDING 에 남은 변환본은 시도 횟수를 올려 다시 넣고 현재 메시지는 ack
+        log.warn("file variants re-queued - fileId: {}, attempt: {}", fileId, attempt + 1);
+        redisHandler.pushEvent(fileProperties.getVariantStreamKey(),
+                new FileDomain.VariantEventDto(fileId, attempt + 1));
+        return true;
+    }
+
+}
@@ -1,16 +1,24 @@
 package kr.co.victoryfairy.core.file.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import kr.co.victoryfairy.core.file.domain.FileDomain;
 import kr.co.victoryfairy.core.file.service.FileService;
 import kr.co.victoryfairy.support.constant.MessageEnum;
 import kr.co.victoryfairy.support.model.CustomResponse;
 import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -18,8 +26,11 @@ public class FileController {
 
     private final FileService fileService;
 
-    public FileController(FileService fileService) {
+    private final FileResponseWriter fileResponseWriter;
+
+    public FileController(FileService fileService, FileResponseWriter fileResponseWriter) {
         this.fileService = fileService;
+        this.fileResponseWriter = fileResponseWriter;
     }
 
     @Operation(summary = "파일 등록")
@@ -30,4 +41,38 @@ public class FileController {
         return CustomResponse.ok(response);
     }
 
+    @Operation(summary = "분할 업로드 시작", description = "조각 크기와 업로드 id 를 응답, 임시 파일은 전체 크기로 미리 할당")
+    @PostMapping(value = "/upload/chunked", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CustomResponse<FileDomain.ChunkedStatus> initUpload(@RequestBody FileDomain.ChunkedInitRequest request) {
+        return CustomResponse.ok(fileService.initUpload(request));
+    }
+
+    @Operation(summary = "분할 업로드 조각 전송", description = "본문은 조각 바이트 그대로, offset 은 조각 크기의 배수")
+    @PutMapping(value = "/upload/chunked/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public CustomResponse<FileDomain.ChunkedStatus> uploadChunk(@PathVariable String uploadId,
+            @RequestParam long offset, HttpServletRequest request) throws IOException {
+        return CustomResponse.ok(fileService.uploadChunk(uploadId, offset, request.getInputStream()));
+    }
+
+    @Operation(summary = "분할 업로드 상태", description = "재개 시 missingOffsets 의 조각만 다시 전송")
+    @GetMapping(value = "/upload/chunked/{uploadId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CustomResponse<FileDomain.ChunkedStatus> findUpload(@PathVariable String uploadId) {
+        return CustomResponse.ok(fileService.findUpload(uploadId));
+    }
+
+    @Operation(summary = "분할 업로드 완료")
+    @PostMapping(value = "/upload/chunked/{uploadId}/complete", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CustomResponse<FileDomain.Response> completeUpload(@PathVariable String uploadId) {
+        return CustomResponse.ok(fileService.completeUpload(uploadId));
+    }
+
+    @Operation(summary = "파일 조회",
+            description = "저장 파일명(saveName)으로 조회, width 지정 시 해당 너비 이상인 가장 작은 변환본, Range / 조건부 요청 지원")
+    @GetMapping("/files/{saveName}")
+    public void getFile(@PathVariable String saveName, @RequestParam(required = false) Integer width,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        fileResponseWriter.write(fileService.findFile(saveName, width), request, response);
+    }
+
 }
@@ -0,0 +1,179 @@
+package kr.co.victoryfairy.core.file.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * 저장된 파일 응답 (조건부 요청 / 단일 Range 지원)
+ * <p>
+ * ETag 는 파일명 / 크기 / 수정 시각으로 만들어 내용을 읽지 않고 비교합니다. 본문은 컨테이너가 sendfile 을 지원하면 컨테이너에 넘기고,
+ * 아니면 {@link FileChannel#transferTo} 로 응답 스트림에 바로 복사합니다.
+ */
+@Component
+public class FileResponseWriter {
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 매 요청 재검증 (변환본이 준비되면 같은 URL 의 응답이 바뀌므로 304 로만 재사용)
+    private static final String CACHE_CONTROL = "no-cache";
+
+    public void write(Path file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        var length = attributes.size();
+        // HTTP 날짜는 초 단위
+        var lastModified = attributes.lastModifiedTime().toMillis() / 1000 * 1000;
+        var eTag = eTag(file, length, lastModified);
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (isNotModified(request, eTag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+            .orElse(MediaType.APPLICATION_OCTET_STREAM)
+            .toString());
+
+        long start = 0;
+        long end = length - 1;
+        var range = isRangeApplicable(request, eTag, lastModified) ? parseRange(request.getHeader(HttpHeaders.RANGE))
+                : null;
+        if (range != null) {
+            start = range[0] < 0 ? Math.max(0, length + range[0]) : range[0];
+            end = range[1] < 0 ? length - 1 : Math.min(range[1], length - 1);
+            if (start >= length) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        var count = end - start + 1;
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        transfer(file, start, count, response);
+    }
+
+    private void transfer(Path file, long start, long count, HttpServletResponse response) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var target = Channels.newChannel(response.getOutputStream());
+            var position = start;
+            var remaining = count;
+            while (remaining > 0) {
+                var sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    // 전송 중 파일이 줄어든 경우
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    private boolean isNotModified(HttpServletRequest request, String eTag, long lastModified) {
+        var ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                var value = candidate.trim();
+                // If-None-Match 는 약한 비교
+                if ("*".equals(value) || eTag.equals(value.startsWith("W/") ? value.substring(2) : value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        var ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && lastModified <= ifModifiedSince;
+    }
+
+    /**
+     * If-Range 가 현재 파일과 다르면 Range 를 무시하고 전체를 응답
+     */
+    private boolean isRangeApplicable(HttpServletRequest request, String eTag, long lastModified) {
+        var ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // If-Range 는 강한 비교
+            return eTag.equals(ifRange.trim());
+        }
+        return dateHeader(request, HttpHeaders.IF_RANGE) == lastModified;
+    }
+
+    /**
+     * @return {시작, 끝} (끝이 없으면 -1, 접미 범위 "-n" 은 {-n, -1}), 해석할 수 없거나 여러 범위면 null (전체 응답)
+     */
+    static long[] parseRange(String header) {
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        var spec = header.substring("bytes=".length()).trim();
+        var dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            var first = spec.substring(0, dash).trim();
+            var last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                var suffix = Long.parseLong(last);
+                return suffix > 0 ? new long[] { -suffix, -1 } : null;
+            }
+            var start = Long.parseLong(first);
+            var end = last.isEmpty() ? -1 : Long.parseLong(last);
+            return start >= 0 && (end == -1 || end >= start) ? new long[] { start, end } : null;
+        }
+        catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        }
+        catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private String eTag(Path file, long length, long lastModified) {
+        return "\"" + Integer.toHexString(file.getFileName().toString().hashCode()) + "-" + Long.toHexString(length)
+                + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+}
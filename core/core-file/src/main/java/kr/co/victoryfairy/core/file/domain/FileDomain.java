@@ -1,19 +1,30 @@
 package kr.co.victoryfairy.core.file.domain;
 
+import io.dodn.springboot.core.enums.FileEnum;
 import io.dodn.springboot.core.enums.RefType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 public interface FileDomain {
 
     @Schema(name = "File.Response")
     record Response(@Schema(description = "file id") Long id, @Schema(description = "원본 파일명") String name,
             @Schema(description = "저장된 파일명") String saveName, @Schema(description = "경로") String path,
-            @Schema(description = "확장자") String ext) {
+            @Schema(description = "확장자") String ext,
+            @Schema(description = "변환본 목록 (업로드 직후에는 PENDING)") List<Variant> variants) {
+    }
+
+    @Schema(name = "File.Variant")
+    record Variant(@Schema(description = "변환 너비") Integer width,
+            @Schema(description = "변환 상태",
+                    implementation = FileEnum.VariantStatus.class) FileEnum.VariantStatus status) {
     }
 
     @Schema(name = "File.CreateRequest")
@@ -23,7 +34,79 @@ public interface FileDomain {
                     implementation = RefType.class) RefType fileRefType) {
     }
 
-    record File(RefType refType, String name, String saveName, String path, String ext, Long size) {
+    @Schema(name = "File.ChunkedInitRequest")
+    record ChunkedInitRequest(@NotNull @Schema(description = "원본 파일명", example = "clip.mp4") String name,
+            @Schema(description = "content type", example = "video/mp4") String contentType,
+            @NotNull @Schema(description = "전체 크기 (byte)") Long size,
+
+            @NotNull @Schema(description = "참조 타입", example = "DIARY",
+                    implementation = RefType.class) RefType fileRefType) {
+    }
+
+    @Schema(name = "File.ChunkedStatus")
+    record ChunkedStatus(@Schema(description = "업로드 id") String uploadId,
+            @Schema(description = "전체 크기 (byte)") Long size, @Schema(description = "조각 크기 (byte)") Integer chunkSize,
+            @Schema(description = "받은 크기 (byte)") Long received,
+            @Schema(description = "아직 받지 못한 조각의 시작 위치") List<Long> missingOffsets,
+            @Schema(description = "완료된 파일 id (완료 전에는 null)") Long fileId) {
+    }
+
+    /**
+     * 분할 업로드 세션 (Redis)
+     * @param received 받은 조각 번호
+     * @param fileId 완료 후 등록된 파일 id
+     */
+    record UploadSession(String uploadId, String name, String ext, String fileType, RefType refType, long size,
+            int chunkSize, Set<Integer> received, Long fileId) {
+
+        public int chunkCount() {
+            return (int) ((size + chunkSize - 1) / chunkSize);
+        }
+
+        public long chunkLength(int index) {
+            return Math.min(chunkSize, size - (long) index * chunkSize);
+        }
+
+        public boolean isComplete() {
+            return received.size() == chunkCount();
+        }
+
+        public ChunkedStatus toStatus() {
+            var missing = new ArrayList<Long>();
+            long receivedBytes = 0;
+            for (int index = 0; index < chunkCount(); index++) {
+                if (received.contains(index)) {
+                    receivedBytes += chunkLength(index);
+                }
+                else {
+                    missing.add((long) index * chunkSize);
+                }
+            }
+            return new ChunkedStatus(uploadId, size, chunkSize, receivedBytes, missing, fileId);
+        }
+
+    }
+
+    record File(RefType refType, String fileType, String name, String saveName, String path, String ext, Long size,
+            String hash) {
+    }
+
+    /**
+     * 임시 파일로 받은 업로드 (내용 해시 포함)
+     */
+    record Upload(Path tempPath, String hash, Long size) {
+    }
+
+    /**
+     * 변환 작업 큐 메시지
+     * @param attempt 시도 횟수 (1부터, 일시적 실패로 다시 넣을 때 증가)
+     */
+    record VariantEventDto(Long fileId, Integer attempt) {
+
+        public VariantEventDto(Long fileId) {
+            this(fileId, 1);
+        }
+
     }
 
 }
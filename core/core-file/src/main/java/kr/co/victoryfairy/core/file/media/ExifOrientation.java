@@ -0,0 +1,117 @@
+package kr.co.victoryfairy.core.file.media;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * JPEG EXIF 방향(0x0112) 읽기 / 적용
+ * <p>
+ * 휴대폰 사진은 센서 방향 그대로 저장하고 회전 정보만 EXIF 에 남기므로, 적용하지 않으면 변환본이 누워서 저장됩니다. 방향 태그만 필요하므로 APP1
+ * 세그먼트의 IFD0 만 읽습니다.
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int SOI = 0xFFD8;
+
+    private static final int APP1 = 0xFFE1;
+
+    private static final int SOS = 0xFFDA;
+
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * @return EXIF 방향 (1 ~ 8), 없거나 읽을 수 없으면 {@link #NORMAL}
+     */
+    static int read(Path source) {
+        try (InputStream in = Files.newInputStream(source)) {
+            var data = new DataInputStream(in);
+            if (data.readUnsignedShort() != SOI) {
+                return NORMAL;
+            }
+            while (true) {
+                var marker = data.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == SOS) {
+                    return NORMAL;
+                }
+                var length = data.readUnsignedShort() - 2;
+                if (marker != APP1) {
+                    data.skipNBytes(length);
+                    continue;
+                }
+                var segment = data.readNBytes(length);
+                var orientation = parse(segment);
+                if (orientation != 0) {
+                    return orientation;
+                }
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            return NORMAL;
+        }
+    }
+
+    /**
+     * EXIF 방향대로 회전 / 반전한 이미지 (방향이 정상이면 원본 그대로)
+     */
+    static BufferedImage apply(BufferedImage image, int orientation) {
+        if (orientation <= NORMAL || orientation > 8) {
+            return image;
+        }
+
+        int w = image.getWidth();
+        int h = image.getHeight();
+        var transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);
+        };
+        var swap = orientation >= 5;
+        var type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        var oriented = new BufferedImage(swap ? h : w, swap ? w : h, type);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        }
+        finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    private static int parse(byte[] segment) {
+        // "Exif\0\0" + TIFF 헤더
+        if (segment.length < 14 || segment[0] != 'E' || segment[1] != 'x' || segment[2] != 'i' || segment[3] != 'f') {
+            return 0;
+        }
+        var tiff = ByteBuffer.wrap(segment, 6, segment.length - 6).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+
+        var ifd = tiff.getInt(4);
+        var entries = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            var entry = ifd + 2 + i * 12;
+            if ((tiff.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+                return tiff.getShort(entry + 8) & 0xFFFF;
+            }
+        }
+        return 0;
+    }
+
+}
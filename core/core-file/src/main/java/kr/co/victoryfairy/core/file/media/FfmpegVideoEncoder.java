@@ -0,0 +1,45 @@
+package kr.co.victoryfairy.core.file.media;
+
+import kr.co.victoryfairy.support.properties.FileProperties;
+import net.bramp.ffmpeg.FFmpeg;
+import net.bramp.ffmpeg.FFmpegExecutor;
+import net.bramp.ffmpeg.FFprobe;
+import net.bramp.ffmpeg.builder.FFmpegBuilder;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * FFmpeg 로 16:9 해상도 변환 (libx264)
+ */
+@Component
+public class FfmpegVideoEncoder implements VideoEncoder {
+
+    private final FileProperties fileProperties;
+
+    public FfmpegVideoEncoder(FileProperties fileProperties) {
+        this.fileProperties = fileProperties;
+    }
+
+    @Override
+    public void encode(Path source, Path target, int width) throws Exception {
+        int height = width * 9 / 16;
+
+        FFmpeg ffmpeg = new FFmpeg(fileProperties.getStoragePath());
+        FFprobe ffprobe = new FFprobe(fileProperties.getStoragePath());
+        FFmpegBuilder builder = new FFmpegBuilder().overrideOutputFiles(true) // 오버라이드 여부
+            .setInput(source.toAbsolutePath().toString()) // 생성대상 파일
+            .addOutput(target.toAbsolutePath().toString()) // 생성 파일의 Path
+            .setFormat("mp4")
+            .setVideoCodec("libx264") // 비디오 코덱
+            .setVideoFrameRate(30, 1) // 비디오 프레임
+            .setVideoResolution(width, height) // 비디오 해상도
+            .setStrict(FFmpegBuilder.Strict.EXPERIMENTAL) // x264 사용
+            .addExtraArgs("-crf", "28") // 화질
+            .addExtraArgs("-movflags", "use_metadata_tags") // 메타데이터 복사
+            .done();
+        FFmpegExecutor executor = new FFmpegExecutor(ffmpeg, ffprobe);
+        executor.createJob(builder).run();
+    }
+
+}
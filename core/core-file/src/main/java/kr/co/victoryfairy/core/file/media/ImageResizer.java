@@ -0,0 +1,136 @@
+package kr.co.victoryfairy.core.file.media;
+
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * 이미지 리사이즈 엔진
+ * <p>
+ * 원본은 한 번만 디코딩(EXIF 방향 적용)하고, 큰 너비부터 작은 너비 순으로 직전 결과를 다시 줄여 가며 모든 변환본을 한 번에 씁니다. 한 번에
+ * 절반 이하로는 줄이지 않는 단계적 축소로 bilinear 보간의 계단 현상을 막고, PNG / GIF 는 알파 채널을 유지합니다.
+ */
+@Component
+public class ImageResizer {
+
+    private static final Set<String> ALPHA_FORMATS = Set.of("png", "gif");
+
+    private final Logger log = LoggerFactory.getLogger(ImageResizer.class);
+
+    /**
+     * 원본 디코딩 (EXIF 방향 적용)
+     * @return 지원하지 않는 형식이면 null
+     */
+    public BufferedImage decode(Path source) throws IOException {
+        var image = ImageIO.read(source.toFile());
+        if (image == null) {
+            return null;
+        }
+        return ExifOrientation.apply(image, ExifOrientation.read(source));
+    }
+
+    /**
+     * 모든 너비의 변환본 생성 (너비 기준 비율 유지)
+     * @param target 너비별 저장 경로
+     * @param listener 너비마다 저장 / 실패 직후 호출 (다음 너비를 만들기 전)
+     * @return 저장에 성공한 너비별 경로 (실패한 너비는 빠짐)
+     */
+    @Timed("file.resize")
+    public Map<Integer, Path> resizeAll(BufferedImage source, Collection<Integer> widths, String ext,
+            IntFunction<Path> target, Listener listener) {
+        var format = ext.toLowerCase();
+        var type = ALPHA_FORMATS.contains(format) && source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB
+                : BufferedImage.TYPE_INT_RGB;
+
+        Map<Integer, Path> written = new LinkedHashMap<>();
+        BufferedImage previous = null;
+        for (Integer width : widths.stream().distinct().sorted(Comparator.reverseOrder()).toList()) {
+            Path path;
+            try {
+                // 원본보다 큰 너비(확대)의 결과는 다음 단계의 시작점으로 쓰지 않음
+                var from = previous != null && previous.getWidth() <= source.getWidth() ? previous : source;
+                var resized = resize(from, width, height(source, width), type);
+                path = target.apply(width);
+                if (!ImageIO.write(resized, format, path.toFile())) {
+                    throw new IOException("no image writer for " + format);
+                }
+                previous = resized;
+            }
+            catch (Exception e) {
+                log.error("image resize failed - width: {}", width, e);
+                listener.failed(width, e);
+                continue;
+            }
+            written.put(width, path);
+            listener.written(width, path);
+        }
+        return written;
+    }
+
+    private BufferedImage resize(BufferedImage from, int width, int height, int type) {
+        var current = from;
+        // 목표 크기의 2배가 넘는 동안은 절반씩 축소
+        while (current.getWidth() / 2 >= width && current.getHeight() / 2 >= height) {
+            current = scale(current, current.getWidth() / 2, current.getHeight() / 2, type);
+        }
+        if (current.getWidth() == width && current.getHeight() == height && current.getType() == type) {
+            return current;
+        }
+        return scale(current, width, height, type);
+    }
+
+    private BufferedImage scale(BufferedImage from, int width, int height, int type) {
+        var scaled = new BufferedImage(width, height, type);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setComposite(AlphaComposite.Src);
+            graphics.drawImage(from, 0, 0, width, height, null);
+        }
+        finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private int height(BufferedImage source, int width) {
+        // 단계마다 반올림 오차가 쌓이지 않도록 항상 원본 비율로 계산
+        return Math.max(1, (int) Math.round((double) width / source.getWidth() * source.getHeight()));
+    }
+
+    /**
+     * 너비별 변환 결과 (변환본마다 바로 상태를 반영해 큰 너비를 만드는 동안 작은 너비를 기다리지 않도록)
+     */
+    public interface Listener {
+
+        Listener NONE = new Listener() {
+            @Override
+            public void written(int width, Path path) {
+            }
+
+            @Override
+            public void failed(int width, Exception cause) {
+            }
+        };
+
+        void written(int width, Path path);
+
+        void failed(int width, Exception cause);
+
+    }
+
+}
@@ -0,0 +1,12 @@
+package kr.co.victoryfairy.core.file.media;
+
+import java.nio.file.Path;
+
+/**
+ * 동영상 해상도 변환
+ */
+public interface VideoEncoder {
+
+    void encode(Path source, Path target, int width) throws Exception;
+
+}
@@ -0,0 +1,157 @@
+package kr.co.victoryfairy.core.file.service;
+
+import io.dodn.springboot.core.enums.RefType;
+import kr.co.victoryfairy.core.file.domain.FileDomain;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import kr.co.victoryfairy.support.properties.FileProperties;
+import kr.co.victoryfairy.support.utils.FileNameUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 분할 업로드 세션 / 임시 파일
+ * <p>
+ * 세션은 Redis hash 하나에 메타데이터와 받은 조각 번호(필드 하나씩)를 저장하므로 조각을 동시에 받아도 서로 덮어쓰지 않습니다. 임시 파일은 생성 시
+ * 전체 크기로 잡아 두고, 조각은 {@link FileChannel} 로 자기 위치에 바로 씁니다.
+ */
+@Component
+public class ChunkedUploadStore {
+
+    private static final String KEY_PREFIX = "file_upload_";
+
+    private static final String CHUNK_PREFIX = "chunk_";
+
+    private final FileProperties fileProperties;
+
+    private final RedisHandler redisHandler;
+
+    public ChunkedUploadStore(FileProperties fileProperties, RedisHandler redisHandler) {
+        this.fileProperties = fileProperties;
+        this.redisHandler = redisHandler;
+    }
+
+    /**
+     * 세션 생성 (임시 파일을 전체 크기로 미리 할당)
+     */
+    public FileDomain.UploadSession create(String name, String ext, String fileType, RefType refType, long size)
+            throws IOException {
+        var uploadId = UUID.randomUUID().toString();
+        var partPath = partPath(uploadId);
+        Files.createDirectories(partPath.getParent());
+        try (var file = new RandomAccessFile(partPath.toFile(), "rw")) {
+            file.setLength(size);
+        }
+
+        var fields = new HashMap<String, String>();
+        fields.put("name", name);
+        fields.put("ext", ext);
+        fields.put("fileType", fileType);
+        fields.put("refType", refType.name());
+        fields.put("size", String.valueOf(size));
+        fields.put("chunkSize", String.valueOf(fileProperties.getChunkSize()));
+        redisHandler.setMap(key(uploadId), fields);
+        touch(uploadId);
+        return new FileDomain.UploadSession(uploadId, name, ext, fileType, refType, size,
+                fileProperties.getChunkSize(), new HashSet<>(), null);
+    }
+
+    public Optional<FileDomain.UploadSession> find(String uploadId) {
+        if (!isValidId(uploadId)) {
+            return Optional.empty();
+        }
+        var fields = redisHandler.getMap(key(uploadId));
+        if (fields == null || fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toSession(uploadId, fields));
+    }
+
+    /**
+     * 조각을 위치에 맞춰 기록 (요청 본문을 작은 버퍼로 옮겨 조각 크기와 무관하게 메모리 사용이 일정)
+     * @return 본문이 조각 크기와 정확히 같으면 true (짧거나 길면 false, 해당 조각은 다시 받아야 함)
+     */
+    public boolean write(FileDomain.UploadSession session, int index, InputStream body) throws IOException {
+        var length = session.chunkLength(index);
+        try (var channel = FileChannel.open(partPath(session.uploadId()), StandardOpenOption.WRITE)) {
+            var source = Channels.newChannel(body);
+            var position = (long) index * session.chunkSize();
+            long written = 0;
+            while (written < length) {
+                var transferred = channel.transferFrom(source, position + written, length - written);
+                if (transferred <= 0) {
+                    break;
+                }
+                written += transferred;
+            }
+            return written == length && body.read() == -1;
+        }
+    }
+
+    /**
+     * 조각 수신 기록 (세션 만료 시간 연장)
+     */
+    public void markReceived(String uploadId, int index) {
+        redisHandler.setMap(key(uploadId), Map.of(CHUNK_PREFIX + index, "1"));
+        touch(uploadId);
+    }
+
+    /**
+     * 완료 기록 (완료 요청을 다시 보내도 같은 파일을 응답)
+     */
+    public void markCompleted(String uploadId, Long fileId) {
+        redisHandler.setMap(key(uploadId), Map.of("fileId", String.valueOf(fileId)));
+        touch(uploadId);
+    }
+
+    public Path partPath(String uploadId) {
+        return Path.of(fileProperties.getStoragePath(), FileNameUtils.TEMP_DIRECTORY, uploadId + ".part");
+    }
+
+    public String lockKey(String uploadId) {
+        return key(uploadId) + "_lock";
+    }
+
+    private void touch(String uploadId) {
+        redisHandler.expire(key(uploadId), Duration.ofHours(fileProperties.getUploadSessionHours()));
+    }
+
+    private FileDomain.UploadSession toSession(String uploadId, Map<String, String> fields) {
+        var received = new HashSet<Integer>();
+        fields.keySet()
+            .stream()
+            .filter(field -> field.startsWith(CHUNK_PREFIX))
+            .forEach(field -> received.add(Integer.valueOf(field.substring(CHUNK_PREFIX.length()))));
+        var fileId = fields.get("fileId");
+        return new FileDomain.UploadSession(uploadId, fields.get("name"), fields.get("ext"), fields.get("fileType"),
+                RefType.valueOf(fields.get("refType")), Long.parseLong(fields.get("size")),
+                Integer.parseInt(fields.get("chunkSize")), received, fileId != null ? Long.valueOf(fileId) : null);
+    }
+
+    private boolean isValidId(String uploadId) {
+        try {
+            return uploadId != null && UUID.fromString(uploadId).toString().equals(uploadId);
+        }
+        catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private String key(String uploadId) {
+        return KEY_PREFIX + uploadId;
+    }
+
+}
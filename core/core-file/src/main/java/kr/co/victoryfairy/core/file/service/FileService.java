@@ -2,10 +2,42 @@ package kr.co.victoryfairy.core.file.service;
 
 import kr.co.victoryfairy.core.file.domain.FileDomain;
 
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.List;
 
 public interface FileService {
 
     List<FileDomain.Response> createFile(FileDomain.CreateRequest request);
 
+    /**
+     * 내려줄 파일 경로 (요청 너비 이상인 변환본 중 가장 작은 것, 없으면 원본)
+     * <p>
+     * 인증 없이 열리는 경로라 순차 id 대신 추측할 수 없는 저장 파일명(UUID)으로만 조회합니다.
+     * @param saveName 저장 파일명
+     * @param width 요청 너비 (null 이면 원본)
+     */
+    Path findFile(String saveName, Integer width);
+
+    /**
+     * 분할 업로드 시작
+     */
+    FileDomain.ChunkedStatus initUpload(FileDomain.ChunkedInitRequest request);
+
+    /**
+     * 조각 수신 (같은 조각을 다시 보내면 덮어씀)
+     * @param offset 조각 시작 위치 (조각 크기의 배수)
+     */
+    FileDomain.ChunkedStatus uploadChunk(String uploadId, long offset, InputStream body);
+
+    /**
+     * 분할 업로드 진행 상태 (재개 시 받지 못한 조각 확인)
+     */
+    FileDomain.ChunkedStatus findUpload(String uploadId);
+
+    /**
+     * 분할 업로드 완료 (모든 조각을 받은 뒤 일반 업로드와 같은 방식으로 등록)
+     */
+    FileDomain.Response completeUpload(String uploadId);
+
 }
@@ -0,0 +1,202 @@
+package kr.co.victoryfairy.core.file.service;
+
+import io.dodn.springboot.core.enums.FileEnum;
+import kr.co.victoryfairy.core.file.media.ImageResizer;
+import kr.co.victoryfairy.core.file.media.VideoEncoder;
+import kr.co.victoryfairy.storage.db.core.entity.FileEntity;
+import kr.co.victoryfairy.storage.db.core.entity.FileVariantEntity;
+import kr.co.victoryfairy.storage.db.core.repository.FileRepository;
+import kr.co.victoryfairy.storage.db.core.repository.FileVariantRepository;
+import kr.co.victoryfairy.support.properties.FileProperties;
+import kr.co.victoryfairy.support.utils.FileNameUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드 파일의 변환본 생성 (변환 워커 스레드에서 실행)
+ * <p>
+ * 아직 PENDING 인 변환본만 만들고, 하나가 끝날 때마다 READY / FAILED 로 바꿔 저장하므로 같은 파일을 다시 처리해도 안전합니다. 쓰기 /
+ * 인코딩 실패처럼 다시 시도하면 성공할 수 있는 실패는 retryable 이면 PENDING 으로 남기고, 지원하지 않는 형식은 바로 FAILED 로 저장합니다.
+ */
+@Component
+public class FileVariantProcessor {
+
+    private final Logger log = LoggerFactory.getLogger(FileVariantProcessor.class);
+
+    private final FileProperties fileProperties;
+
+    private final FileRepository fileRepository;
+
+    private final FileVariantRepository fileVariantRepository;
+
+    private final ImageResizer imageResizer;
+
+    private final VideoEncoder videoEncoder;
+
+    public FileVariantProcessor(FileProperties fileProperties, FileRepository fileRepository,
+            FileVariantRepository fileVariantRepository, ImageResizer imageResizer, VideoEncoder videoEncoder) {
+        this.fileProperties = fileProperties;
+        this.fileRepository = fileRepository;
+        this.fileVariantRepository = fileVariantRepository;
+        this.imageResizer = imageResizer;
+        this.videoEncoder = videoEncoder;
+    }
+
+    /**
+     * @param retryable 일시적 실패를 PENDING 으로 남길지 (마지막 시도면 false 로 FAILED 저장)
+     * @return 처리할 파일이 없거나 모든 변환본을 READY / FAILED 로 끝냈으면 true, 다시 시도할 변환본이 남았으면 false
+     */
+    public boolean process(Long fileId, boolean retryable) {
+        var fileEntity = fileRepository.findById(fileId).orElse(null);
+        if (fileEntity == null) {
+            return true;
+        }
+
+        var variants = fileVariantRepository.findAllByFileEntityIdAndStatus(fileId,
+                FileEnum.VariantStatus.PENDING);
+        if (variants.isEmpty()) {
+            return true;
+        }
+
+        var startedAt = System.currentTimeMillis();
+        var source = Path.of(fileProperties.getStoragePath(), fileEntity.getPath(),
+                FileNameUtils.original(fileEntity.getSaveName(), fileEntity.getExt()));
+        int retrying;
+        if (FileNameUtils.isVideo(fileEntity.getPath())) {
+            retrying = (int) variants.stream()
+                .filter(variant -> !createVideo(fileEntity, source, variant, retryable))
+                .count();
+        }
+        else {
+            retrying = createImages(fileEntity, source, variants, retryable);
+        }
+
+        log.info("file variants processed - fileId: {}, variants: {}, retrying: {}, elapsed: {}ms", fileId,
+                variants.size(), retrying, System.currentTimeMillis() - startedAt);
+        return retrying == 0;
+    }
+
+    /**
+     * @return PENDING 으로 남긴 (다시 시도할) 변환본 수
+     */
+    private int createImages(FileEntity fileEntity, Path source, List<FileVariantEntity> variants,
+            boolean retryable) {
+        BufferedImage image;
+        try {
+            image = imageResizer.decode(source);
+        }
+        catch (Exception e) {
+            log.error("image decode failed - fileId: {}", fileEntity.getId(), e);
+            return (int) variants.stream().filter(variant -> !failOrRetry(variant, retryable)).count();
+        }
+        if (image == null) {
+            // 지원하지 않는 형식은 다시 시도해도 같은 결과
+            variants.forEach(this::fail);
+            return 0;
+        }
+
+        // 한 번 디코딩한 원본으로 모든 너비를 단계적으로 축소하고, 너비마다 저장 직후 READY / FAILED 반영
+        var listener = new ImageVariantListener(fileEntity, variants, retryable);
+        imageResizer.resizeAll(image, listener.widths(), fileEntity.getExt(), width -> source
+            .resolveSibling(FileNameUtils.variant(fileEntity.getSaveName(), fileEntity.getExt(), width, false)),
+                listener);
+        return listener.retrying;
+    }
+
+    /**
+     * @return READY / FAILED 로 끝냈으면 true, PENDING 으로 남겼으면 false
+     */
+    private boolean createVideo(FileEntity fileEntity, Path source, FileVariantEntity variant, boolean retryable) {
+        var target = source.resolveSibling(
+                FileNameUtils.variant(fileEntity.getSaveName(), fileEntity.getExt(), variant.getWidth(), true));
+        try {
+            videoEncoder.encode(source, target, variant.getWidth());
+            ready(variant, target);
+            return true;
+        }
+        catch (Exception e) {
+            log.error("video encode failed - fileId: {}, width: {}", fileEntity.getId(), variant.getWidth(), e);
+            return failOrRetry(variant, retryable);
+        }
+    }
+
+    private void ready(FileVariantEntity variant, Path target) throws Exception {
+        variant.ready(Files.size(target));
+        fileVariantRepository.save(variant);
+    }
+
+    private void fail(FileVariantEntity variant) {
+        variant.fail();
+        fileVariantRepository.save(variant);
+    }
+
+    /**
+     * @return FAILED 로 저장했으면 true, 다시 시도하도록 PENDING 으로 남겼으면 false
+     */
+    private boolean failOrRetry(FileVariantEntity variant, boolean retryable) {
+        if (retryable) {
+            return false;
+        }
+        fail(variant);
+        return true;
+    }
+
+    /**
+     * 너비별 결과를 해당 변환본 상태에 바로 반영
+     */
+    private final class ImageVariantListener implements ImageResizer.Listener {
+
+        private final FileEntity fileEntity;
+
+        private final Map<Integer, List<FileVariantEntity>> byWidth;
+
+        private final boolean retryable;
+
+        private int retrying;
+
+        private ImageVariantListener(FileEntity fileEntity, List<FileVariantEntity> variants, boolean retryable) {
+            this.fileEntity = fileEntity;
+            this.byWidth = variants.stream().collect(Collectors.groupingBy(FileVariantEntity::getWidth));
+            this.retryable = retryable;
+        }
+
+        private Set<Integer> widths() {
+            return byWidth.keySet();
+        }
+
+        @Override
+        public void written(int width, Path path) {
+            for (FileVariantEntity variant : byWidth.get(width)) {
+                try {
+                    ready(variant, path);
+                }
+                catch (Exception e) {
+                    failed(variant, e);
+                }
+            }
+        }
+
+        @Override
+        public void failed(int width, Exception cause) {
+            byWidth.get(width).forEach(variant -> failed(variant, cause));
+        }
+
+        private void failed(FileVariantEntity variant, Exception cause) {
+            log.error("image resize failed - fileId: {}, width: {}", fileEntity.getId(), variant.getWidth(), cause);
+            if (!failOrRetry(variant, retryable)) {
+                retrying++;
+            }
+        }
+
+    }
+
+}
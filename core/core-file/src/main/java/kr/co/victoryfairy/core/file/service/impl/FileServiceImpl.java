@@ -1,117 +1,346 @@
 package kr.co.victoryfairy.core.file.service.impl;
 
+import io.dodn.springboot.core.enums.FileEnum;
 import io.dodn.springboot.core.enums.RefType;
+import io.micrometer.core.annotation.Timed;
 import kr.co.victoryfairy.core.file.domain.FileDomain;
+import kr.co.victoryfairy.core.file.service.ChunkedUploadStore;
 import kr.co.victoryfairy.core.file.service.FileService;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
 import kr.co.victoryfairy.storage.db.core.entity.FileEntity;
+import kr.co.victoryfairy.storage.db.core.entity.FileVariantEntity;
 import kr.co.victoryfairy.storage.db.core.repository.FileRefRepository;
 import kr.co.victoryfairy.storage.db.core.repository.FileRepository;
+import kr.co.victoryfairy.storage.db.core.repository.FileVariantRepository;
 import kr.co.victoryfairy.support.constant.MessageEnum;
 import kr.co.victoryfairy.support.exception.CustomException;
 import kr.co.victoryfairy.support.properties.FileProperties;
 import kr.co.victoryfairy.support.utils.DateUtils;
-import net.bramp.ffmpeg.FFmpeg;
-import net.bramp.ffmpeg.FFmpegExecutor;
-import net.bramp.ffmpeg.FFprobe;
-import net.bramp.ffmpeg.builder.FFmpegBuilder;
+import kr.co.victoryfairy.support.utils.FileNameUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.imageio.ImageIO;
-import java.awt.*;
-import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.*;
 import java.util.List;
 
 @Service
 public class FileServiceImpl implements FileService {
 
+    private final Logger log = LoggerFactory.getLogger(FileServiceImpl.class);
+
     private final FileProperties fileProperties;
 
     private final FileRepository fileRepository;
 
     private final FileRefRepository fileRefRepository;
 
+    private final FileVariantRepository fileVariantRepository;
+
+    private final RedisHandler redisHandler;
+
+    private final ChunkedUploadStore chunkedUploadStore;
+
     public FileServiceImpl(FileProperties fileProperties, FileRepository fileRepository,
-            FileRefRepository fileRefRepository) {
+            FileRefRepository fileRefRepository, FileVariantRepository fileVariantRepository,
+            RedisHandler redisHandler, ChunkedUploadStore chunkedUploadStore) {
         this.fileProperties = fileProperties;
         this.fileRepository = fileRepository;
         this.fileRefRepository = fileRefRepository;
+        this.fileVariantRepository = fileVariantRepository;
+        this.redisHandler = redisHandler;
+        this.chunkedUploadStore = chunkedUploadStore;
     }
 
+    /**
+     * <li>원본만 저장하고 즉시 응답</li>
+     * <li>내용(SHA-256)이 같은 파일이 이미 있으면 새로 저장하지 않고 기존 파일과 변환본을 그대로 사용</li>
+     * <li>변환본은 PENDING 으로 등록 후, 커밋되면 변환 작업 큐에 넣어 변환 워커가 생성</li>
+     */
     @Override
     @Transactional
+    @Timed(value = "file.upload", extraTags = { "type", "multipart" })
     public List<FileDomain.Response> createFile(FileDomain.CreateRequest request) {
         if (request.file().isEmpty())
             return null;
 
-        var fileDomains = this.convertFile(request.fileRefType(), request.file());
+        List<FileDomain.Response> response = new ArrayList<>();
+        List<Long> pendingFileIds = new ArrayList<>();
+        for (MultipartFile multipartFile : request.file()) {
+            var upload = receiveFile(multipartFile);
+            response.add(register(request.fileRefType(), getFileType(multipartFile.getContentType()),
+                    multipartFile.getOriginalFilename(), upload, pendingFileIds));
+        }
+        queueVariants(pendingFileIds);
 
-        if (fileDomains.isEmpty())
-            return null;
+        return response;
+    }
 
-        var fileEntities = fileDomains.stream()
-            .map(file -> FileEntity.builder()
-                .name(file.name())
-                .saveName(file.saveName())
-                .path(file.path())
-                .ext(file.ext())
-                .size(file.size())
-                .build())
-            .toList();
-        fileRepository.saveAll(fileEntities);
+    /**
+     * <li>세션 생성 후 임시 파일을 전체 크기로 미리 할당</li>
+     */
+    @Override
+    public FileDomain.ChunkedStatus initUpload(FileDomain.ChunkedInitRequest request) {
+        var ext = getExtension(request.name());
+        if (request.size() == null || request.size() <= 0) {
+            throw new CustomException(MessageEnum.Common.REQUEST_PARAMETER);
+        }
+        if (request.size() > fileProperties.getChunkedMaxSize()) {
+            throw new CustomException(MessageEnum.File.FAIL_MAX_SIZE);
+        }
 
-        List<FileDomain.Response> response = new ArrayList<>();
+        try {
+            return chunkedUploadStore
+                .create(request.name(), ext, getFileType(request.contentType()), request.fileRefType(), request.size())
+                .toStatus();
+        }
+        catch (IOException e) {
+            log.error("chunked upload init failed - name: {}", request.name(), e);
+            throw new CustomException(MessageEnum.File.FAIL_UPLOAD);
+        }
+    }
 
-        return fileEntities.stream()
-            .map(entity -> new FileDomain.Response(entity.getId(), entity.getName(), entity.getSaveName(),
-                    entity.getPath(), entity.getExt()))
-            .toList();
+    /**
+     * <li>조각을 임시 파일의 자기 위치에 바로 기록 (본문을 메모리에 모으지 않음)</li>
+     * <li>끝까지 기록한 조각만 받은 것으로 표시하므로, 끊긴 조각은 상태 조회 후 다시 보내면 됨</li>
+     */
+    @Override
+    public FileDomain.ChunkedStatus uploadChunk(String uploadId, long offset, InputStream body) {
+        var session = findSession(uploadId);
+        if (offset < 0 || offset >= session.size() || offset % session.chunkSize() != 0) {
+            throw new CustomException(MessageEnum.Common.REQUEST_PARAMETER);
+        }
+        if (session.fileId() != null) {
+            return session.toStatus();
+        }
+
+        var index = (int) (offset / session.chunkSize());
+        try {
+            if (!chunkedUploadStore.write(session, index, body)) {
+                throw new CustomException(MessageEnum.File.FAIL_UPLOAD);
+            }
+        }
+        catch (IOException e) {
+            throw new CustomException(MessageEnum.File.FAIL_UPLOAD);
+        }
+        chunkedUploadStore.markReceived(uploadId, index);
+        session.received().add(index);
+        return session.toStatus();
     }
 
-    private List<FileDomain.File> convertFile(RefType refType, List<MultipartFile> multipartFiles) {
-        List<FileDomain.File> files = new ArrayList<>();
+    @Override
+    public FileDomain.ChunkedStatus findUpload(String uploadId) {
+        return findSession(uploadId).toStatus();
+    }
 
-        // saveName 만들기
-        multipartFiles.forEach(file -> {
-            String saveName = makeFileSaveName(file);
-            // path 만들기
-            String path = makePath(file, refType);
+    /**
+     * <li>모든 조각을 받았으면 내용 해시 계산 후 일반 업로드와 같이 등록 (중복 제거 / 변환 작업 큐 포함)</li>
+     * <li>이미 완료된 업로드는 등록된 파일을 그대로 응답</li>
+     */
+    @Override
+    @Transactional
+    @Timed(value = "file.upload", extraTags = { "type", "chunked" })
+    public FileDomain.Response completeUpload(String uploadId) {
+        var session = findSession(uploadId);
+        if (session.fileId() != null) {
+            return completedResponse(session.fileId());
+        }
+        if (!session.isComplete()) {
+            throw new CustomException(HttpStatus.CONFLICT, MessageEnum.File.FAIL_UPLOAD);
+        }
+
+        var lockKey = chunkedUploadStore.lockKey(uploadId);
+        if (!redisHandler.tryLock(lockKey, Duration.ofMinutes(1))) {
+            throw new CustomException(MessageEnum.Data.TRY_AGAIN_MOMENT);
+        }
+
+        FileDomain.Response response;
+        try {
+            var partPath = chunkedUploadStore.partPath(uploadId);
+            var upload = new FileDomain.Upload(partPath, digest(partPath), session.size());
+            List<Long> pendingFileIds = new ArrayList<>();
+            response = register(session.refType(), session.fileType(), session.name(), upload, pendingFileIds);
+            queueVariants(pendingFileIds);
+        }
+        catch (RuntimeException e) {
+            redisHandler.releaseLock(lockKey);
+            throw e;
+        }
 
-            // 만들어진 경로에 새로운 이름으로 저장
-            saveFile(saveName, path, file);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                chunkedUploadStore.markCompleted(uploadId, response.id());
+            }
 
-            // 윈도우 시스템 기반 경로 rule 에 대한 대응 (저장 시 역슬래시 '\' 기호를 unix 시스템 호환을 위해 슬래시 '/' 로 변환)
-            if (path.contains("\\")) {
-                path = path.replaceAll("\\\\", "/");
+            @Override
+            public void afterCompletion(int status) {
+                redisHandler.releaseLock(lockKey);
             }
+        });
+        return response;
+    }
+
+    private FileDomain.UploadSession findSession(String uploadId) {
+        return chunkedUploadStore.find(uploadId)
+            .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, MessageEnum.Data.FAIL_NO_RESULT));
+    }
+
+    private FileDomain.Response completedResponse(Long fileId) {
+        var entity = fileRepository.findById(fileId)
+            .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, MessageEnum.Data.FAIL_NO_RESULT));
+        return toResponse(entity, fileVariantRepository.findAllByFileEntityId(fileId));
+    }
+
+    /**
+     * <li>받아 둔 파일 등록 (같은 내용의 파일이 있으면 재사용)</li>
+     * @return response
+     */
+    private FileDomain.Response register(RefType refType, String fileType, String name, FileDomain.Upload upload,
+            List<Long> pendingFileIds) {
+        // 같은 내용의 파일 재사용 (같은 요청 안의 중복도 조회 전 flush 로 찾음)
+        var duplicate = fileRepository.findFirstByHashAndSizeOrderByIdAsc(upload.hash(), upload.size());
+        if (duplicate.isPresent()) {
+            discardFile(upload.tempPath());
+            var entity = duplicate.get();
+            // 참조 전 정리 배치에 지워지지 않도록 재사용 시점 기록
+            entity.update();
+            return toResponse(entity, fileVariantRepository.findAllByFileEntityId(entity.getId()));
+        }
+
+        var file = this.convertFile(refType, fileType, name, upload);
+        var entity = fileRepository.save(FileEntity.builder()
+            .name(file.name())
+            .saveName(file.saveName())
+            .path(file.path())
+            .ext(file.ext())
+            .size(file.size())
+            .hash(file.hash())
+            .build());
+
+        var variants = variantWidths(file.fileType()).stream()
+            .map(width -> FileVariantEntity.builder()
+                .fileEntity(entity)
+                .width(width)
+                .status(FileEnum.VariantStatus.PENDING)
+                .build())
+            .toList();
+        fileVariantRepository.saveAll(variants);
+        if (!variants.isEmpty()) {
+            pendingFileIds.add(entity.getId());
+        }
+
+        return toResponse(entity, variants);
+    }
 
-            FileDomain.File fileDomain = new FileDomain.File(refType, file.getOriginalFilename(), saveName, path,
-                    getExtension(file), file.getSize());
-            files.add(fileDomain);
+    /**
+     * <li>커밋되면 변환 작업 큐에 등록</li>
+     * @param pendingFileIds
+     */
+    private void queueVariants(List<Long> pendingFileIds) {
+        if (pendingFileIds.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pendingFileIds.forEach(fileId -> redisHandler.pushEvent(fileProperties.getVariantStreamKey(),
+                        new FileDomain.VariantEventDto(fileId)));
+            }
         });
+    }
+
+    /**
+     * <li>준비된(READY) 변환본 중 요청 너비 이상인 가장 작은 변환본</li>
+     * <li>변환본 행이 없는 이전 파일은 설정된 너비로 디스크에 있는 변환본을 찾음</li>
+     * <li>맞는 변환본이 없으면 원본</li>
+     */
+    @Override
+    public Path findFile(String saveName, Integer width) {
+        var entity = fileRepository.findBySaveName(saveName)
+            .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, MessageEnum.Data.FAIL_NO_RESULT));
+        var directory = Path.of(fileProperties.getStoragePath(), entity.getPath());
+
+        if (width != null) {
+            var variants = fileVariantRepository.findAllByFileEntityId(entity.getId());
+            var widths = variants.isEmpty() ? variantWidths(entity.getPath().split("/")[0])
+                    : variants.stream()
+                        .filter(variant -> variant.getStatus() == FileEnum.VariantStatus.READY)
+                        .map(FileVariantEntity::getWidth)
+                        .toList();
+            var isVideo = FileNameUtils.isVideo(entity.getPath());
+            var variant = widths.stream()
+                .filter(candidate -> candidate >= width)
+                .sorted()
+                .map(candidate -> directory
+                    .resolve(FileNameUtils.variant(entity.getSaveName(), entity.getExt(), candidate, isVideo)))
+                .filter(Files::isRegularFile)
+                .findFirst();
+            if (variant.isPresent()) {
+                return variant.get();
+            }
+        }
+
+        var original = directory.resolve(FileNameUtils.original(entity.getSaveName(), entity.getExt()));
+        if (!Files.isRegularFile(original)) {
+            throw new CustomException(HttpStatus.NOT_FOUND, MessageEnum.File.WRONG_FILE);
+        }
+        return original;
+    }
 
-        return files;
+    private FileDomain.Response toResponse(FileEntity entity, List<FileVariantEntity> variants) {
+        return new FileDomain.Response(entity.getId(), entity.getName(), entity.getSaveName(), entity.getPath(),
+                entity.getExt(), variants.stream()
+                    .map(variant -> new FileDomain.Variant(variant.getWidth(), variant.getStatus()))
+                    .toList());
     }
 
-    private String makeFileSaveName(MultipartFile file) {
+    private FileDomain.File convertFile(RefType refType, String fileType, String name, FileDomain.Upload upload) {
+        // saveName 만들기
+        String saveName = makeFileSaveName();
+        String ext = getExtension(name);
+        // path 만들기
+        String path = makePath(fileType, refType);
+
+        // 만들어진 경로에 새로운 이름으로 저장
+        saveFile(saveName, path, ext, upload);
+
+        // 윈도우 시스템 기반 경로 rule 에 대한 대응 (저장 시 역슬래시 '\' 기호를 unix 시스템 호환을 위해 슬래시 '/' 로 변환)
+        if (path.contains("\\")) {
+            path = path.replaceAll("\\\\", "/");
+        }
+
+        return new FileDomain.File(refType, fileType, name, saveName, path, ext, upload.size(), upload.hash());
+    }
+
+    private String makeFileSaveName() {
         String uuid = UUID.randomUUID().toString();
         return uuid;
     }
 
     /**
      * <li>파일 확장자 구하기</li>
-     * @param file
+     * @param originalFilename
      * @return
      */
-    private String getExtension(MultipartFile file) {
-        String originalFilename = file.getOriginalFilename();
+    private String getExtension(String originalFilename) {
         String extension = "";
 
         if (originalFilename != null && originalFilename.contains(".")) {
@@ -126,13 +355,12 @@ public class FileServiceImpl implements FileService {
 
     /**
      * <li>저장될 경로 생성 및 가져오기</li>
-     * @param file
+     * @param fileType
      * @param type
      * @return path
      */
-    private String makePath(MultipartFile file, RefType type) {
+    private String makePath(String fileType, RefType type) {
         String yearMonth = DateUtils.now(DateUtils.Format.DATETIME_FORMAT_MONTH_TRIM.getPattern());
-        String fileType = getFileType(file);
         String path = Path.of(fileType, type.name().toLowerCase(), yearMonth).toString();
         if (!new File(fileProperties.getStoragePath(), path).exists()) {
             new File(fileProperties.getStoragePath(), path).mkdirs();
@@ -142,11 +370,10 @@ public class FileServiceImpl implements FileService {
 
     /**
      * <li>경로 분기를 위한 파일 종류 정해주기</li>
-     * @param file
+     * @param contentType
      * @return fileType
      */
-    private String getFileType(MultipartFile file) {
-        String contentType = file.getContentType();
+    private String getFileType(String contentType) {
         String fileType = "etc";
 
         if (!Objects.isNull(contentType)) {
@@ -165,119 +392,109 @@ public class FileServiceImpl implements FileService {
     }
 
     /**
-     * <li>파일 저장</li>
-     * @param saveName
-     * @param path
-     * @param file
+     * <li>파일 종류별 생성할 변환본 너비</li>
+     * @param fileType
+     * @return widths
      */
-    private void saveFile(String saveName, String path, MultipartFile file) {
+    private List<Integer> variantWidths(String fileType) {
+        Integer[] widths = switch (fileType) {
+            case "image" -> fileProperties.getImageResizes();
+            case "video" -> fileProperties.getVideoResizes();
+            default -> null;
+        };
+        return widths != null ? Arrays.asList(widths) : List.of();
+    }
 
-        Path savedPath = Path.of(fileProperties.getStoragePath(), path, saveName + "." + getExtension(file));
+    /**
+     * <li>업로드 수신 (임시 파일에 쓰면서 SHA-256 계산)</li>
+     * @param file
+     * @return upload
+     */
+    private FileDomain.Upload receiveFile(MultipartFile file) {
+        // 확장자가 없는 파일은 받기 전에 거절
+        getExtension(file.getOriginalFilename());
 
+        Path tempPath = null;
         try {
-            // File savedFile = new File(savedPath, saveName);
-            // file.transferTo(savedFile);
-            Files.copy(file.getInputStream(), savedPath, StandardCopyOption.REPLACE_EXISTING);
-            File savedFile = savedPath.toFile();
+            var directory = Files
+                .createDirectories(Path.of(fileProperties.getStoragePath(), FileNameUtils.TEMP_DIRECTORY));
+            tempPath = Files.createTempFile(directory, "upload-", ".tmp");
+
+            var digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(inputStream, tempPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new FileDomain.Upload(tempPath, HexFormat.of().formatHex(digest.digest()), size);
+        }
+        catch (IOException | NoSuchAlgorithmException e) {
+            discardFile(tempPath);
+            throw new CustomException(MessageEnum.File.FAIL_UPLOAD);
+        }
+    }
 
-            Image image = ImageIO.read(savedFile);
+    /**
+     * <li>받아 둔 파일의 SHA-256 (작은 버퍼로 읽어 파일 크기와 무관하게 메모리 사용이 일정)</li>
+     * @param path
+     * @return hash
+     */
+    private String digest(Path path) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream inputStream = new DigestInputStream(Files.newInputStream(path), digest)) {
+                inputStream.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        }
+        catch (IOException | NoSuchAlgorithmException e) {
+            throw new CustomException(MessageEnum.File.FAIL_UPLOAD);
+        }
+    }
 
-            String fileType = getFileType(file);
+    /**
+     * <li>파일 저장 (받아 둔 임시 파일을 저장 경로로 이동, 변환은 변환 워커에서 처리)</li>
+     * @param saveName
+     * @param path
+     * @param ext
+     * @param upload
+     */
+    private void saveFile(String saveName, String path, String ext, FileDomain.Upload upload) {
 
-            if ("image".contains(fileType)) {
-                Arrays.stream(fileProperties.getImageResizes()).forEach(size -> {
-                    resizeImage(file, savedFile, image, size);
-                });
-            }
-            if ("video".contains(fileType)) {
-                Arrays.stream(fileProperties.getVideoResizes()).forEach(size -> {
-                    resizeVideo(file, savedFile, size);
-                });
-            }
+        Path savedPath = Path.of(fileProperties.getStoragePath(), path, saveName + "." + ext);
 
+        try {
+            Files.move(upload.tempPath(), savedPath, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException e) {
+            moveFile(upload.tempPath(), savedPath);
         }
         catch (IOException e) {
+            discardFile(upload.tempPath());
             throw new CustomException(MessageEnum.File.FAIL_UPLOAD);
         }
 
     }
 
-    private void resizeImage(MultipartFile file, File orgFile, Image image, Integer size) {
+    private void moveFile(Path source, Path target) {
         try {
-            String ext = getExtension(file);
-            String filePath = orgFile.getParent();
-            String newFileName = orgFile.getName().replace("." + ext, "") + "_" + size + "." + ext;
-
-            int height = (int) Math.round(((double) size / (double) image.getWidth(null)) * image.getHeight(null));
-            int width = size;
-
-            Image resizeImage = image.getScaledInstance(width, height, Image.SCALE_FAST);
-
-            BufferedImage newImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-            Graphics newImageGraphics = newImage.getGraphics();
-            newImageGraphics.drawImage(resizeImage, 0, 0, null);
-            newImageGraphics.dispose();
-
-            File savedFile = new File(filePath, newFileName);
-            ImageIO.write(newImage, ext, savedFile);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
         }
-        catch (Exception e) {
+        catch (IOException e) {
+            discardFile(source);
             throw new CustomException(MessageEnum.File.FAIL_UPLOAD);
         }
     }
 
-    private void resizeVideo(MultipartFile file, File orgFile, Integer size) {
+    private void discardFile(Path path) {
+        if (path == null) {
+            return;
+        }
         try {
-            int width = 0;
-            int height = 0;
-
-            if (size == 1920) {
-                width = 1920;
-                height = 1080;
-            }
-            else if (size == 1280) {
-                width = 1280;
-                height = 720;
-            }
-            else if (size == 960) {
-                width = 960;
-                height = 540;
-            }
-            else if (size == 640) {
-                width = 640;
-                height = 360;
-            }
-            else if (size == 320) {
-                width = 320;
-                height = 180;
-            }
-
-            String ext = getExtension(file);
-            String filePath = orgFile.getParent();
-            String newFileName = orgFile.getName() + "_" + size + "." + ext;
-
-            File savedFile = new File(filePath, newFileName);
-
-            FFmpeg ffmpeg = new FFmpeg(fileProperties.getStoragePath());
-            FFprobe ffprobe = new FFprobe(fileProperties.getStoragePath());
-            FFmpegBuilder builder = new FFmpegBuilder().overrideOutputFiles(true) // 오버라이드
-                                                                                  // 여부
-                .setInput(orgFile.getAbsolutePath()) // 생성대상 파일
-                .addOutput(savedFile.getAbsolutePath()) // 생성 파일의 Path
-                .setFormat("mp4")
-                .setVideoCodec("libx264") // 비디오 코덱
-                .setVideoFrameRate(30, 1) // 비디오 프레임
-                .setVideoResolution(width, height) // 비디오 해상도
-                .setStrict(FFmpegBuilder.Strict.EXPERIMENTAL) // x264 사용
-                .addExtraArgs("-crf", "28") // 화질
-                .addExtraArgs("-movflags", "use_metadata_tags") // 메타데이터 복사
-                .done();
-            FFmpegExecutor executor = new FFmpegExecutor(ffmpeg, ffprobe);
-            executor.createJob(builder).run();
-
-        }
-        catch (Exception e) {
-            throw new CustomException(MessageEnum.File.FAIL_UPLOAD);
+            Files.deleteIfExists(path);
+        }
+        catch (IOException e) {
+            // 임시 디렉토리는 정리 배치 대상이 아니므로 로그만 남김
+            log.warn("temp upload delete failed - path: {}", path, e);
         }
     }
 
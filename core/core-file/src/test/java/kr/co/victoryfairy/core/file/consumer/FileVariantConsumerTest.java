@@ -0,0 +1,91 @@
+package kr.co.victoryfairy.core.file.consumer;
+
+import kr.co.victoryfairy.core.file.domain.FileDomain;
+import kr.co.victoryfairy.core.file.service.FileVariantProcessor;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import kr.co.victoryfairy.storage.db.core.repository.FileVariantCustomRepository;
+import kr.co.victoryfairy.support.properties.FileProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@DisplayName("FileVariantConsumer 테스트")
+class FileVariantConsumerTest {
+
+    @Mock
+    private RedisHandler redisHandler;
+
+    @Mock
+    private FileVariantCustomRepository fileVariantCustomRepository;
+
+    @Mock
+    private FileVariantProcessor fileVariantProcessor;
+
+    private FileProperties fileProperties;
+
+    private FileVariantConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        fileProperties = new FileProperties();
+        fileProperties.setVariantMaxAttempts(3);
+        consumer = new FileVariantConsumer(fileProperties, redisHandler, fileVariantCustomRepository,
+                fileVariantProcessor);
+    }
+
+    @Test
+    @DisplayName("다시 시도할 변환본이 남으면 시도 횟수를 올려 큐에 다시 넣고 현재 메시지는 ack 한다")
+    void handle_whenRetrying_shouldRequeueWithNextAttempt() {
+        // given
+        given(fileVariantProcessor.process(7L, true)).willReturn(false);
+
+        // when
+        var acked = consumer.handle(message(7L, null));
+
+        // then
+        assertThat(acked).isTrue();
+        verify(redisHandler).pushEvent(fileProperties.getVariantStreamKey(), new FileDomain.VariantEventDto(7L, 2));
+    }
+
+    @Test
+    @DisplayName("마지막 시도는 실패를 FAILED 로 확정하고 다시 넣지 않는다")
+    void handle_onLastAttempt_shouldNotRequeue() {
+        // given
+        given(fileVariantProcessor.process(7L, false)).willReturn(true);
+
+        // when
+        var acked = consumer.handle(message(7L, "3"));
+
+        // then
+        assertThat(acked).isTrue();
+        verify(redisHandler, never()).pushEvent(anyString(), any());
+    }
+
+    private MapRecord<String, Object, Object> message(Long fileId, String attempt) {
+        Map<Object, Object> value = new HashMap<>();
+        value.put("fileId", String.valueOf(fileId));
+        if (attempt != null) {
+            value.put("attempt", attempt);
+        }
+        return StreamRecords.mapBacked(value).withStreamKey(fileProperties.getVariantStreamKey());
+    }
+
+}
@@ -0,0 +1,120 @@
+package kr.co.victoryfairy.core.file.controller;
+
+import jakarta.servlet.Filter;
+import kr.co.victoryfairy.core.file.service.FileService;
+import kr.co.victoryfairy.support.config.BeanConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실제 필터 체인(RequestResponseCachingFilter)을 거친 파일 응답 테스트
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("FileController 필터 체인 테스트")
+class FileControllerFilterTest {
+
+    @TempDir
+    Path storage;
+
+    @Mock
+    private FileService fileService;
+
+    private MockMvc mockMvc;
+
+    private byte[] content;
+
+    // 캐싱 필터 다음에서 본 응답 객체 (래핑 여부 확인)
+    private final List<Object> seenResponses = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        var video = storage.resolve("save.mp4");
+        Files.write(video, content);
+        given(fileService.findFile("save", null)).willReturn(video);
+
+        Filter probe = (request, response, chain) -> {
+            seenResponses.add(response);
+            chain.doFilter(request, response);
+        };
+        mockMvc = MockMvcBuilders.standaloneSetup(new FileController(fileService, new FileResponseWriter()))
+            .addFilters(new BeanConfig().requestResponseCachingFilter(), probe)
+            .build();
+    }
+
+    @Test
+    @DisplayName("GET 은 캐싱 없이 스트리밍하고 Content-Length 를 유지한다")
+    void get_shouldStreamWithContentLength() throws Exception {
+        // when & then
+        mockMvc.perform(get("/files/save"))
+            .andExpect(status().isOk())
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 1000))
+            .andExpect(content().bytes(content));
+        assertThat(seenResponses).singleElement().isNotInstanceOf(ContentCachingResponseWrapper.class);
+    }
+
+    @Test
+    @DisplayName("HEAD 는 본문 없이 전체 크기의 Content-Length 를 내려준다")
+    void head_shouldKeepContentLength() throws Exception {
+        // when & then
+        mockMvc.perform(head("/files/save"))
+            .andExpect(status().isOk())
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 1000))
+            .andExpect(content().bytes(new byte[0]));
+        assertThat(seenResponses).singleElement().isNotInstanceOf(ContentCachingResponseWrapper.class);
+    }
+
+    @Test
+    @DisplayName("Range 요청은 구간 길이의 Content-Length 와 해당 구간만 내려준다")
+    void range_shouldKeepPartialContentLength() throws Exception {
+        // when & then
+        mockMvc.perform(get("/files/save").header(HttpHeaders.RANGE, "bytes=100-199"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/1000"))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+            .andExpect(content().bytes(Arrays.copyOfRange(content, 100, 200)));
+        assertThat(seenResponses).singleElement().isNotInstanceOf(ContentCachingResponseWrapper.class);
+    }
+
+    @Test
+    @DisplayName("파일 / 분할 업로드 조각 외의 경로는 그대로 캐싱한다")
+    void otherPath_shouldStillBeCached() throws Exception {
+        // when
+        mockMvc.perform(get("/upload/chunked"));
+
+        // then
+        assertThat(seenResponses).singleElement().isInstanceOf(ContentCachingResponseWrapper.class);
+    }
+
+}
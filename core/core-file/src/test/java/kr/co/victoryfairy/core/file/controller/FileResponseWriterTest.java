@@ -0,0 +1,180 @@
+package kr.co.victoryfairy.core.file.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("FileResponseWriter 테스트")
+class FileResponseWriterTest {
+
+    private static final Instant MODIFIED = Instant.parse("2025-10-01T12:00:00Z");
+
+    @TempDir
+    Path storage;
+
+    private final FileResponseWriter writer = new FileResponseWriter();
+
+    private Path video;
+
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        video = storage.resolve("save.mp4_640.mp4");
+        Files.write(video, content);
+        Files.setLastModifiedTime(video, FileTime.from(MODIFIED));
+    }
+
+    @Test
+    @DisplayName("Range 없이 요청하면 전체 본문과 캐시 헤더를 내려준다")
+    void write_full_shouldSendBodyAndValidators() throws Exception {
+        // given
+        var response = new MockHttpServletResponse();
+
+        // when
+        writer.write(video, new MockHttpServletRequest("GET", "/files/1"), response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+        assertThat(response.getContentType()).isEqualTo("video/mp4");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"").doesNotStartWith("W/");
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(MODIFIED.toEpochMilli());
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    }
+
+    @Test
+    @DisplayName("Range 요청은 해당 구간만 206 으로 내려준다 (구간 / 열린 구간 / 접미 구간)")
+    void write_range_shouldSendPartialContent() throws Exception {
+        // when
+        var closed = write("bytes=100-199");
+        var open = write("bytes=900-");
+        var suffix = write("bytes=-50");
+        var clamped = write("bytes=990-5000");
+
+        // then
+        assertThat(closed.getStatus()).isEqualTo(206);
+        assertThat(closed.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 100-199/1000");
+        assertThat(closed.getContentLengthLong()).isEqualTo(100);
+        assertThat(closed.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 100, 200));
+        assertThat(open.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 900-999/1000");
+        assertThat(open.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 900, 1000));
+        assertThat(suffix.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 950-999/1000");
+        assertThat(suffix.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 950, 1000));
+        assertThat(clamped.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 990-999/1000");
+    }
+
+    @Test
+    @DisplayName("파일 크기를 벗어난 Range 는 416, 해석할 수 없거나 여러 구간인 Range 는 전체를 내려준다")
+    void write_invalidRange() throws Exception {
+        // when
+        var unsatisfiable = write("bytes=1000-");
+        var multiple = write("bytes=0-1,5-6");
+        var malformed = write("bytes=abc");
+
+        // then
+        assertThat(unsatisfiable.getStatus()).isEqualTo(416);
+        assertThat(unsatisfiable.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */1000");
+        assertThat(unsatisfiable.getContentAsByteArray()).isEmpty();
+        assertThat(multiple.getStatus()).isEqualTo(200);
+        assertThat(multiple.getContentAsByteArray()).hasSize(1000);
+        assertThat(malformed.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("ETag / 수정 시각이 같으면 본문 없이 304 를 내려준다")
+    void write_conditional_shouldReturnNotModified() throws Exception {
+        // given
+        var first = new MockHttpServletResponse();
+        writer.write(video, new MockHttpServletRequest("GET", "/files/1"), first);
+        var eTag = first.getHeader(HttpHeaders.ETAG);
+
+        var byETag = new MockHttpServletRequest("GET", "/files/1");
+        byETag.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", " + eTag);
+        var byDate = new MockHttpServletRequest("GET", "/files/1");
+        byDate.addHeader(HttpHeaders.IF_MODIFIED_SINCE, MODIFIED.toEpochMilli());
+        var stale = new MockHttpServletRequest("GET", "/files/1");
+        stale.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\"");
+        stale.addHeader(HttpHeaders.IF_MODIFIED_SINCE, MODIFIED.toEpochMilli());
+
+        // when
+        var notModifiedByETag = new MockHttpServletResponse();
+        writer.write(video, byETag, notModifiedByETag);
+        var notModifiedByDate = new MockHttpServletResponse();
+        writer.write(video, byDate, notModifiedByDate);
+        var modified = new MockHttpServletResponse();
+        writer.write(video, stale, modified);
+
+        // then
+        assertThat(notModifiedByETag.getStatus()).isEqualTo(304);
+        assertThat(notModifiedByETag.getContentAsByteArray()).isEmpty();
+        assertThat(notModifiedByETag.getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+        assertThat(notModifiedByDate.getStatus()).isEqualTo(304);
+        // If-None-Match 가 있으면 If-Modified-Since 는 보지 않음
+        assertThat(modified.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("If-Range 가 현재 ETag 와 다르면 Range 를 무시하고 전체를 내려준다")
+    void write_ifRangeMismatch_shouldSendFullBody() throws Exception {
+        // given
+        var request = new MockHttpServletRequest("GET", "/files/1");
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+        var response = new MockHttpServletResponse();
+
+        // when
+        writer.write(video, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).hasSize(1000);
+    }
+
+    @Test
+    @DisplayName("컨테이너가 sendfile 을 지원하면 본문을 쓰지 않고 구간만 넘긴다")
+    void write_sendfile_shouldDelegateToContainer() throws Exception {
+        // given
+        var request = new MockHttpServletRequest("GET", "/files/1");
+        request.setAttribute(FileResponseWriter.SENDFILE_SUPPORT, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-19");
+        var response = new MockHttpServletResponse();
+
+        // when
+        writer.write(video, request, response);
+
+        // then
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute(FileResponseWriter.SENDFILE_FILENAME))
+            .isEqualTo(video.toAbsolutePath().toString());
+        assertThat(request.getAttribute(FileResponseWriter.SENDFILE_START)).isEqualTo(10L);
+        assertThat(request.getAttribute(FileResponseWriter.SENDFILE_END)).isEqualTo(20L);
+    }
+
+    private MockHttpServletResponse write(String range) throws Exception {
+        var request = new MockHttpServletRequest("GET", "/files/1");
+        request.addHeader(HttpHeaders.RANGE, range);
+        var response = new MockHttpServletResponse();
+        writer.write(video, request, response);
+        return response;
+    }
+
+}
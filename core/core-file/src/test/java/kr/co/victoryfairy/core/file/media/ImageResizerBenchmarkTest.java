@@ -0,0 +1,122 @@
+package kr.co.victoryfairy.core.file.media;
+
+import io.dodn.springboot.test.benchmark.JmhRunner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.util.FileSystemUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업로드 1건당 변환 시간 / 할당량 비교 (기존 getScaledInstance 방식 vs ImageResizer)
+ */
+@Tag("develop")
+@DisplayName("ImageResizer 벤치마크")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImageResizerBenchmarkTest {
+
+    private static final List<Integer> WIDTHS = List.of(1280, 640, 320);
+
+    private static final Map<String, int[]> SIZES = Map.of("jpg", new int[] { 4000, 3000 }, "png",
+            new int[] { 2400, 1800 });
+
+    @Param({ "jpg", "png" })
+    public String ext;
+
+    private final ImageResizer imageResizer = new ImageResizer();
+
+    private Path directory;
+
+    private Path source;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("image-resizer-benchmark");
+        source = sample(SIZES.get(ext)[0], SIZES.get(ext)[1]);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    /**
+     * 변경 전 FileServiceImpl.resizeImage 와 같은 방식 (너비마다 원본 전체를 다시 축소)
+     */
+    @Benchmark
+    public void legacy() throws Exception {
+        Image image = ImageIO.read(source.toFile());
+        for (Integer size : WIDTHS) {
+            int height = (int) Math.round(((double) size / (double) image.getWidth(null)) * image.getHeight(null));
+            Image resizeImage = image.getScaledInstance(size, height, Image.SCALE_FAST);
+
+            BufferedImage newImage = new BufferedImage(size, height, BufferedImage.TYPE_INT_RGB);
+            Graphics newImageGraphics = newImage.getGraphics();
+            newImageGraphics.drawImage(resizeImage, 0, 0, null);
+            newImageGraphics.dispose();
+
+            ImageIO.write(newImage, ext, directory.resolve("legacy_" + size + "." + ext).toFile());
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, Path> engine() throws Exception {
+        var image = imageResizer.decode(source);
+        return imageResizer.resizeAll(image, WIDTHS, ext, width -> directory.resolve("engine_" + width + "." + ext),
+                ImageResizer.Listener.NONE);
+    }
+
+    @Test
+    @DisplayName("JPEG 4000x3000 / PNG 2400x1800 (알파)")
+    void compare() throws Exception {
+        var results = JmhRunner.run(getClass());
+
+        for (String format : SIZES.keySet()) {
+            var legacy = results.get("legacy", "ext", format);
+            var engine = results.get("engine", "ext", format);
+            assertThat(engine.score()).as(format + " time").isLessThan(legacy.score());
+            // 할당량은 JMH 출력의 gc.alloc.rate.norm 으로 비교 (디코딩이 대부분이라 차이가 작음)
+            assertThat(engine.allocated()).as(format + " allocation").isPositive();
+        }
+    }
+
+    private Path sample(int width, int height) throws Exception {
+        var type = "png".equals(ext) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        var image = new BufferedImage(width, height, type);
+        var graphics = image.createGraphics();
+        graphics.setPaint(
+                new GradientPaint(0, 0, new Color(255, 120, 0, 255), width, height, new Color(0, 80, 255, 90)));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.WHITE);
+        for (int x = 0; x < width; x += 40) {
+            graphics.drawLine(x, 0, width - x, height);
+        }
+        graphics.dispose();
+
+        var path = directory.resolve("sample." + ext);
+        ImageIO.write(image, ext, path.toFile());
+        return path;
+    }
+
+}
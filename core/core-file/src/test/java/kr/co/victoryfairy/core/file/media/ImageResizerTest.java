@@ -0,0 +1,171 @@
+package kr.co.victoryfairy.core.file.media;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("ImageResizer 테스트")
+class ImageResizerTest {
+
+    @TempDir
+    Path directory;
+
+    private final ImageResizer imageResizer = new ImageResizer();
+
+    @Test
+    @DisplayName("모든 너비를 비율대로 만들고 PNG 알파 채널을 유지한다")
+    void resizeAll_png_shouldKeepAlphaAndRatio() throws Exception {
+        // given
+        var source = new BufferedImage(1999, 1001, BufferedImage.TYPE_INT_ARGB);
+        var graphics = source.createGraphics();
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(1000, 0, 999, 1001);
+        graphics.dispose();
+
+        // when
+        var written = imageResizer.resizeAll(source, List.of(320, 1280, 640), "png",
+                width -> directory.resolve("save_" + width + ".png"), ImageResizer.Listener.NONE);
+
+        // then
+        assertThat(written).containsOnlyKeys(1280, 640, 320);
+        for (int width : List.of(1280, 640, 320)) {
+            var resized = ImageIO.read(written.get(width).toFile());
+            assertThat(resized.getWidth()).isEqualTo(width);
+            assertThat(resized.getHeight()).isEqualTo((int) Math.round(width * 1001 / 1999.0));
+            assertThat(resized.getColorModel().hasAlpha()).isTrue();
+            assertThat(resized.getRGB(0, 0) >>> 24).isZero();
+            assertThat(resized.getRGB(width - 1, 0)).isEqualTo(Color.BLUE.getRGB());
+        }
+    }
+
+    @Test
+    @DisplayName("JPEG 은 EXIF 방향대로 회전해서 디코딩한다")
+    void decode_jpeg_shouldApplyExifOrientation() throws Exception {
+        // given (왼쪽 위가 빨간 200x100 사진, 시계 방향 90도 회전 필요)
+        var image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+        var graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 20, 20);
+        graphics.dispose();
+        var source = directory.resolve("photo.jpg");
+        Files.write(source, withOrientation(jpeg(image), 6));
+
+        // when
+        var decoded = imageResizer.decode(source);
+
+        // then (세로 사진이 되고 빨간 영역은 오른쪽 위)
+        assertThat(decoded.getWidth()).isEqualTo(100);
+        assertThat(decoded.getHeight()).isEqualTo(200);
+        assertThat(new Color(decoded.getRGB(95, 5)).getRed()).isGreaterThan(200);
+        assertThat(new Color(decoded.getRGB(5, 5)).getRed()).isLessThan(60);
+    }
+
+    @Test
+    @DisplayName("EXIF 가 없으면 그대로 디코딩한다")
+    void decode_withoutExif_shouldKeepOrientation() throws Exception {
+        // given
+        var source = directory.resolve("photo.jpg");
+        Files.write(source, jpeg(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB)));
+
+        // when
+        var decoded = imageResizer.decode(source);
+
+        // then
+        assertThat(decoded.getWidth()).isEqualTo(200);
+        assertThat(decoded.getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 너비만 결과에서 빠지고 너비마다 결과를 바로 통지한다")
+    void resizeAll_whenWriteFails_shouldSkipOnlyThatWidth() {
+        // given
+        var source = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        var events = new ArrayList<String>();
+        var listener = new ImageResizer.Listener() {
+            @Override
+            public void written(int width, Path path) {
+                events.add("written " + width);
+            }
+
+            @Override
+            public void failed(int width, Exception cause) {
+                events.add("failed " + width);
+            }
+        };
+
+        // when
+        var written = imageResizer.resizeAll(source, List.of(640, 320), "jpg",
+                width -> width == 640 ? directory.resolve("missing/save_640.jpg") : directory.resolve("save_320.jpg"),
+                listener);
+
+        // then
+        assertThat(written).containsOnlyKeys(320);
+        assertThat(events).containsExactly("failed 640", "written 320");
+    }
+
+    @Test
+    @DisplayName("큰 너비는 작은 너비를 만들기 전에 통지한다")
+    void resizeAll_shouldNotifyEachWidthBeforeNext() {
+        // given
+        var source = new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_RGB);
+        var smallExistedOnFirstNotice = new ArrayList<Boolean>();
+        var listener = new ImageResizer.Listener() {
+            @Override
+            public void written(int width, Path path) {
+                smallExistedOnFirstNotice.add(Files.exists(directory.resolve("save_320.jpg")));
+            }
+
+            @Override
+            public void failed(int width, Exception cause) {
+            }
+        };
+
+        // when
+        imageResizer.resizeAll(source, List.of(320, 1280), "jpg", width -> directory.resolve("save_" + width + ".jpg"),
+                listener);
+
+        // then
+        assertThat(smallExistedOnFirstNotice).containsExactly(false, true);
+    }
+
+    static byte[] jpeg(BufferedImage image) throws Exception {
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * SOI 바로 뒤에 방향 태그 하나만 있는 EXIF(APP1) 세그먼트 삽입
+     */
+    static byte[] withOrientation(byte[] jpeg, int orientation) {
+        var tiff = ByteBuffer.allocate(26);
+        tiff.put((byte) 'M').put((byte) 'M').putShort((short) 0x2A).putInt(8);
+        tiff.putShort((short) 1);
+        tiff.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        tiff.putInt(0);
+
+        var exif = new byte[] { 'E', 'x', 'i', 'f', 0, 0 };
+        var segment = ByteBuffer.allocate(4 + exif.length + tiff.capacity());
+        segment.putShort((short) 0xFFE1).putShort((short) (2 + exif.length + tiff.capacity()));
+        segment.put(exif).put(tiff.array());
+
+        var result = ByteBuffer.allocate(jpeg.length + segment.capacity());
+        result.put(jpeg, 0, 2).put(segment.array()).put(jpeg, 2, jpeg.length - 2);
+        return result.array();
+    }
+
+}
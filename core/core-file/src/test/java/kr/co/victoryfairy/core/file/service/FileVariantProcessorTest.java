@@ -0,0 +1,237 @@
+package kr.co.victoryfairy.core.file.service;
+
+import io.dodn.springboot.core.enums.FileEnum;
+import kr.co.victoryfairy.core.file.media.ImageResizer;
+import kr.co.victoryfairy.storage.db.core.entity.FileEntity;
+import kr.co.victoryfairy.storage.db.core.entity.FileVariantEntity;
+import kr.co.victoryfairy.storage.db.core.repository.FileRepository;
+import kr.co.victoryfairy.storage.db.core.repository.FileVariantRepository;
+import kr.co.victoryfairy.support.properties.FileProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@DisplayName("FileVariantProcessor 테스트")
+class FileVariantProcessorTest {
+
+    @TempDir
+    Path storage;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FileVariantRepository fileVariantRepository;
+
+    private FileProperties fileProperties;
+
+    @BeforeEach
+    void setUp() {
+        fileProperties = new FileProperties();
+        fileProperties.setStoragePath(storage.toString());
+    }
+
+    @Test
+    @DisplayName("이미지는 한 번만 읽어 PENDING 변환본을 모두 만들고 READY 로 저장한다")
+    void process_image_shouldCreateVariantsAndMarkReady() throws Exception {
+        // given
+        var file = file(1L, "image/diary/202510", "png");
+        writeImage(file, 1600, 1200);
+        var variants = List.of(variant(file, 320), variant(file, 640));
+        givenPending(file, variants);
+
+        var processor = new FileVariantProcessor(fileProperties, fileRepository, fileVariantRepository,
+                new ImageResizer(), (source, target, width) -> {
+                    throw new AssertionError("video encoder must not be used for images");
+                });
+
+        // when
+        var result = processor.process(1L, true);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(variants).allSatisfy(variant -> {
+            assertThat(variant.getStatus()).isEqualTo(FileEnum.VariantStatus.READY);
+            assertThat(variant.getSize()).isPositive();
+        });
+        var resized = ImageIO.read(storage.resolve("image/diary/202510/save_640.png").toFile());
+        assertThat(resized.getWidth()).isEqualTo(640);
+        assertThat(resized.getHeight()).isEqualTo(480);
+        verify(fileVariantRepository, times(2)).save(any());
+    }
+
+    @Test
+    @DisplayName("이미지 변환본은 너비마다 저장 직후 READY 로 저장한다 (작은 너비를 기다리지 않음)")
+    void process_image_shouldMarkEachWidthReadyAsWritten() throws Exception {
+        // given
+        var file = file(6L, "image/diary/202510", "jpg");
+        writeImage(file, 1600, 1200);
+        var large = variant(file, 1280);
+        var small = variant(file, 320);
+        givenPending(file, List.of(small, large));
+        var smallStatusWhenLargeSaved = new ArrayList<FileEnum.VariantStatus>();
+        given(fileVariantRepository.save(large)).willAnswer(invocation -> {
+            smallStatusWhenLargeSaved.add(small.getStatus());
+            return large;
+        });
+
+        var processor = new FileVariantProcessor(fileProperties, fileRepository, fileVariantRepository,
+                new ImageResizer(), (source, target, width) -> {
+                });
+
+        // when
+        processor.process(6L, true);
+
+        // then
+        assertThat(smallStatusWhenLargeSaved).containsExactly(FileEnum.VariantStatus.PENDING);
+        assertThat(small.getStatus()).isEqualTo(FileEnum.VariantStatus.READY);
+    }
+
+    @Test
+    @DisplayName("동영상 변환에 실패한 너비만 FAILED 로 저장하고 나머지는 계속 처리한다")
+    void process_video_whenEncoderFails_shouldMarkOnlyThatVariantFailed() throws Exception {
+        // given
+        var file = file(2L, "video/diary/202510", "mp4");
+        Files.createDirectories(storage.resolve(file.getPath()));
+        Files.write(storage.resolve(file.getPath()).resolve("save.mp4"), new byte[1024]);
+        var failed = variant(file, 1280);
+        var ready = variant(file, 640);
+        givenPending(file, List.of(failed, ready));
+
+        var processor = new FileVariantProcessor(fileProperties, fileRepository, fileVariantRepository,
+                new ImageResizer(), (source, target, width) -> {
+                    if (width == 1280) {
+                        throw new IllegalStateException("encoder failed");
+                    }
+                    Files.write(target, new byte[width]);
+                });
+
+        // when
+        processor.process(2L, false);
+
+        // then
+        assertThat(failed.getStatus()).isEqualTo(FileEnum.VariantStatus.FAILED);
+        assertThat(ready.getStatus()).isEqualTo(FileEnum.VariantStatus.READY);
+        assertThat(Files.size(storage.resolve("video/diary/202510/save.mp4_640.mp4"))).isEqualTo(640);
+    }
+
+    @Test
+    @DisplayName("다시 시도할 수 있으면 일시적으로 실패한 변환본을 PENDING 으로 남기고 false 를 반환한다")
+    void process_whenTransientFailureAndRetryable_shouldKeepPending() throws Exception {
+        // given
+        var file = file(4L, "video/diary/202510", "mp4");
+        Files.createDirectories(storage.resolve(file.getPath()));
+        Files.write(storage.resolve(file.getPath()).resolve("save.mp4"), new byte[1024]);
+        var retrying = variant(file, 1280);
+        var ready = variant(file, 640);
+        givenPending(file, List.of(retrying, ready));
+
+        var processor = new FileVariantProcessor(fileProperties, fileRepository, fileVariantRepository,
+                new ImageResizer(), (source, target, width) -> {
+                    if (width == 1280) {
+                        throw new IOException("no space left on device");
+                    }
+                    Files.write(target, new byte[width]);
+                });
+
+        // when
+        var result = processor.process(4L, true);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(retrying.getStatus()).isEqualTo(FileEnum.VariantStatus.PENDING);
+        assertThat(ready.getStatus()).isEqualTo(FileEnum.VariantStatus.READY);
+        verify(fileVariantRepository, never()).save(retrying);
+    }
+
+    @Test
+    @DisplayName("마지막 시도에서 실패한 변환본은 FAILED 로 저장하고 true 를 반환한다")
+    void process_whenTransientFailureOnLastAttempt_shouldMarkFailed() throws Exception {
+        // given
+        var file = file(5L, "image/diary/202510", "png");
+        Files.createDirectories(storage.resolve(file.getPath()));
+        var variants = List.of(variant(file, 320));
+        givenPending(file, variants);
+
+        // 원본이 없으면 디코딩에서 IOException
+        var processor = new FileVariantProcessor(fileProperties, fileRepository, fileVariantRepository,
+                new ImageResizer(), (source, target, width) -> {
+                });
+
+        // when
+        var retryable = processor.process(5L, true);
+        var last = processor.process(5L, false);
+
+        // then
+        assertThat(retryable).isFalse();
+        assertThat(last).isTrue();
+        assertThat(variants.get(0).getStatus()).isEqualTo(FileEnum.VariantStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("이미 처리된 파일은 다시 변환하지 않는다")
+    void process_whenNoPendingVariant_shouldSkip() {
+        // given
+        var file = file(3L, "image/diary/202510", "png");
+        givenPending(file, List.of());
+
+        var processor = new FileVariantProcessor(fileProperties, fileRepository, fileVariantRepository,
+                new ImageResizer(), (source, target, width) -> {
+                });
+
+        // when
+        var result = processor.process(3L, true);
+
+        // then
+        assertThat(result).isTrue();
+        verify(fileVariantRepository, never()).save(any());
+    }
+
+    private void givenPending(FileEntity file, List<FileVariantEntity> variants) {
+        given(fileRepository.findById(file.getId())).willReturn(Optional.of(file));
+        given(fileVariantRepository.findAllByFileEntityIdAndStatus(file.getId(), FileEnum.VariantStatus.PENDING))
+            .willReturn(variants);
+    }
+
+    private FileEntity file(Long id, String path, String ext) {
+        return FileEntity.builder().id(id).name("origin." + ext).saveName("save").path(path).ext(ext).build();
+    }
+
+    private FileVariantEntity variant(FileEntity file, int width) {
+        return FileVariantEntity.builder()
+            .fileEntity(file)
+            .width(width)
+            .status(FileEnum.VariantStatus.PENDING)
+            .build();
+    }
+
+    private void writeImage(FileEntity file, int width, int height) throws Exception {
+        var directory = Files.createDirectories(storage.resolve(file.getPath()));
+        var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ImageIO.write(image, file.getExt(), directory.resolve("save." + file.getExt()).toFile());
+    }
+
+}
@@ -0,0 +1,416 @@
+package kr.co.victoryfairy.core.file.service.impl;
+
+import io.dodn.springboot.core.enums.FileEnum;
+import io.dodn.springboot.core.enums.RefType;
+import kr.co.victoryfairy.core.file.domain.FileDomain;
+import kr.co.victoryfairy.core.file.media.ImageResizer;
+import kr.co.victoryfairy.core.file.service.ChunkedUploadStore;
+import kr.co.victoryfairy.core.file.service.FileVariantProcessor;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import kr.co.victoryfairy.storage.db.core.entity.FileEntity;
+import kr.co.victoryfairy.storage.db.core.entity.FileVariantEntity;
+import kr.co.victoryfairy.storage.db.core.repository.FileRefRepository;
+import kr.co.victoryfairy.storage.db.core.repository.FileRepository;
+import kr.co.victoryfairy.storage.db.core.repository.FileVariantRepository;
+import kr.co.victoryfairy.support.exception.CustomException;
+import kr.co.victoryfairy.support.properties.FileProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+/**
+ * 업로드 / 중복 제거 테스트 (합성 이미지, 스텁 인코더, 응답 시간 비교는 {@link FileUploadBenchmarkTest})
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("FileServiceImpl 테스트")
+class FileServiceImplTest {
+
+    private static final int UPLOADS = 200;
+
+    private static final int CLIENTS = 16;
+
+    @TempDir
+    Path storage;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FileRefRepository fileRefRepository;
+
+    @Mock
+    private FileVariantRepository fileVariantRepository;
+
+    @Mock
+    private RedisHandler redisHandler;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Map<Long, FileEntity> files = new ConcurrentHashMap<>();
+
+    private final Map<Long, List<FileVariantEntity>> variants = new ConcurrentHashMap<>();
+
+    private final List<Long> queued = Collections.synchronizedList(new ArrayList<>());
+
+    private final Map<String, Map<String, String>> hashes = new ConcurrentHashMap<>();
+
+    private FileProperties fileProperties;
+
+    private FileServiceImpl fileService;
+
+    @BeforeEach
+    void setUp() {
+        fileProperties = new FileProperties();
+        fileProperties.setStoragePath(storage.toString());
+        fileProperties.setImageResizes(new Integer[] { 320, 640, 1280 });
+        fileProperties.setVideoResizes(new Integer[] { 640, 1280 });
+
+        // 저장소 대신 메모리에 기록 (IDENTITY 처럼 저장한 엔티티에 id 부여)
+        given(fileRepository.save(any(FileEntity.class))).willAnswer(invocation -> {
+            FileEntity entity = invocation.getArgument(0);
+            ReflectionTestUtils.setField(entity, "id", sequence.incrementAndGet());
+            files.put(entity.getId(), entity);
+            return entity;
+        });
+        given(fileRepository.findFirstByHashAndSizeOrderByIdAsc(any(), any()))
+            .willAnswer(invocation -> files.values()
+                .stream()
+                .filter(file -> file.getHash().equals(invocation.getArgument(0))
+                        && file.getSize().equals(invocation.getArgument(1)))
+                .min(Comparator.comparing(FileEntity::getId)));
+        given(fileRepository.findById(anyLong()))
+            .willAnswer(invocation -> Optional.ofNullable(files.get(invocation.<Long>getArgument(0))));
+        given(fileRepository.findBySaveName(anyString()))
+            .willAnswer(invocation -> files.values()
+                .stream()
+                .filter(file -> file.getSaveName().equals(invocation.getArgument(0)))
+                .findFirst());
+        given(fileVariantRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<FileVariantEntity> entities = invocation.getArgument(0);
+            entities.forEach(entity -> variants.computeIfAbsent(entity.getFileEntity().getId(),
+                    key -> Collections.synchronizedList(new ArrayList<>())).add(entity));
+            return entities;
+        });
+        given(fileVariantRepository.findAllByFileEntityId(anyLong()))
+            .willAnswer(invocation -> variants.getOrDefault(invocation.<Long>getArgument(0), List.of()));
+        given(fileVariantRepository.findAllByFileEntityIdAndStatus(anyLong(), any()))
+            .willAnswer(invocation -> variants.getOrDefault(invocation.<Long>getArgument(0), List.of())
+                .stream()
+                .filter(variant -> variant.getStatus() == invocation.getArgument(1))
+                .toList());
+        willAnswer(invocation -> queued.add(invocation.<FileDomain.VariantEventDto>getArgument(1).fileId()))
+            .given(redisHandler).pushEvent(eq(fileProperties.getVariantStreamKey()), any());
+        // 분할 업로드 세션 (Redis hash)
+        willAnswer(invocation -> {
+            hashes.computeIfAbsent(invocation.getArgument(0), key -> new ConcurrentHashMap<>())
+                .putAll(invocation.getArgument(1));
+            return null;
+        }).given(redisHandler).setMap(anyString(), anyMap());
+        given(redisHandler.getMap(anyString()))
+            .willAnswer(invocation -> hashes.getOrDefault(invocation.<String>getArgument(0), Map.of()));
+        given(redisHandler.tryLock(anyString(), any())).willReturn(true);
+
+        fileService = new FileServiceImpl(fileProperties, fileRepository, fileRefRepository, fileVariantRepository,
+                redisHandler, new ChunkedUploadStore(fileProperties, redisHandler));
+    }
+
+    @Test
+    @Tag("unit")
+    @DisplayName("같은 내용의 파일은 다시 저장하지 않고 기존 파일과 변환본을 공유한다")
+    void createFile_duplicate_shouldReuseStoredFile() throws Exception {
+        // given
+        var image = syntheticImage(800, 600);
+        var first = upload(List.of(image("diary.png", image))).get(0);
+
+        // when (같은 요청 안의 중복 포함)
+        var second = upload(List.of(image("profile.png", image), image("free-diary.png", image)));
+
+        // then
+        assertThat(second).extracting(FileDomain.Response::id).containsOnly(first.id());
+        assertThat(second).extracting(FileDomain.Response::saveName).containsOnly(first.saveName());
+        assertThat(files).hasSize(1);
+        assertThat(variants.get(first.id())).hasSize(3);
+        assertThat(queued).containsExactly(first.id());
+        try (var stored = Files.walk(storage)) {
+            assertThat(stored.filter(Files::isRegularFile)).hasSize(1);
+        }
+    }
+
+    @Test
+    @Tag("unit")
+    @DisplayName("내용이 다르면 이름이 같아도 따로 저장한다")
+    void createFile_differentContent_shouldStoreSeparately() throws Exception {
+        // given
+        var image = syntheticImage(800, 600);
+
+        // when
+        var response = upload(List.of(image("photo.png", image), image("photo.png", unique(image, 1))));
+
+        // then
+        assertThat(response).extracting(FileDomain.Response::id).doesNotHaveDuplicates();
+        assertThat(files.values()).extracting(FileEntity::getHash).doesNotHaveDuplicates();
+        assertThat(queued).hasSize(2);
+    }
+
+    @Test
+    @Tag("unit")
+    @DisplayName("분할 업로드는 순서와 무관하게 받은 조각을 모아 일반 업로드와 같이 등록한다")
+    void completeUpload_shouldAssembleChunksAndRegister() throws Exception {
+        // given
+        fileProperties.setChunkSize(64 * 1024);
+        var content = new byte[150_000];
+        new Random(1).nextBytes(content);
+        var init = fileService
+            .initUpload(new FileDomain.ChunkedInitRequest("clip.mp4", "video/mp4", (long) content.length,
+                    RefType.DIARY));
+        var uploadId = init.uploadId();
+
+        // when (끊겼다가 재개)
+        fileService.uploadChunk(uploadId, 131072, chunk(content, 131072));
+        fileService.uploadChunk(uploadId, 0, chunk(content, 0));
+        var resumed = fileService.findUpload(uploadId);
+        fileService.uploadChunk(uploadId, 65536, chunk(content, 65536));
+        var response = complete(uploadId);
+        var retried = complete(uploadId);
+
+        // then
+        assertThat(init.missingOffsets()).containsExactly(0L, 65536L, 131072L);
+        assertThat(resumed.missingOffsets()).containsExactly(65536L);
+        assertThat(resumed.received()).isEqualTo(content.length - 65536);
+        var stored = storage.resolve(response.path()).resolve(response.saveName() + ".mp4");
+        assertThat(Files.readAllBytes(stored)).isEqualTo(content);
+        assertThat(files.get(response.id()).getHash())
+            .isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)));
+        assertThat(response.variants()).extracting(FileDomain.Variant::width).containsExactly(640, 1280);
+        assertThat(queued).containsExactly(response.id());
+        assertThat(retried.id()).isEqualTo(response.id());
+        assertThat(fileService.findUpload(uploadId).fileId()).isEqualTo(response.id());
+    }
+
+    @Test
+    @Tag("unit")
+    @DisplayName("중간에 끊긴 조각은 받지 않은 것으로 남고, 조각이 모자라면 완료할 수 없다")
+    void uploadChunk_truncated_shouldStayMissing() {
+        // given
+        fileProperties.setChunkSize(64 * 1024);
+        var content = new byte[100_000];
+        var uploadId = fileService
+            .initUpload(new FileDomain.ChunkedInitRequest("clip.mp4", "video/mp4", (long) content.length,
+                    RefType.DIARY))
+            .uploadId();
+        fileService.uploadChunk(uploadId, 0, chunk(content, 0));
+
+        // when & then
+        assertThatThrownBy(() -> fileService.uploadChunk(uploadId, 65536,
+                new ByteArrayInputStream(content, 65536, 1000)))
+            .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> fileService.uploadChunk(uploadId, 1000, chunk(content, 0)))
+            .isInstanceOf(CustomException.class);
+        assertThat(fileService.findUpload(uploadId).missingOffsets()).containsExactly(65536L);
+        assertThatThrownBy(() -> complete(uploadId)).isInstanceOf(CustomException.class);
+        assertThat(files).isEmpty();
+    }
+
+    @Test
+    @Tag("unit")
+    @DisplayName("요청 너비 이상인 가장 작은 READY 변환본을 고르고, 없으면 원본을 내려준다")
+    void findFile_shouldPickSmallestReadyVariant() throws Exception {
+        // given
+        var file = FileEntity.builder()
+            .id(1L)
+            .name("photo.png")
+            .saveName("save")
+            .path("image/diary/202510")
+            .ext("png")
+            .build();
+        files.put(1L, file);
+        variants.put(1L, List.of(variant(file, 320, FileEnum.VariantStatus.READY),
+                variant(file, 640, FileEnum.VariantStatus.PENDING),
+                variant(file, 1280, FileEnum.VariantStatus.READY)));
+        var directory = Files.createDirectories(storage.resolve(file.getPath()));
+        for (String name : List.of("save.png", "save_320.png", "save_1280.png")) {
+            Files.write(directory.resolve(name), new byte[] { 1 });
+        }
+
+        // when & then
+        assertThat(fileService.findFile("save", 300)).isEqualTo(directory.resolve("save_320.png"));
+        // 640 은 아직 변환 중
+        assertThat(fileService.findFile("save", 500)).isEqualTo(directory.resolve("save_1280.png"));
+        assertThat(fileService.findFile("save", 2000)).isEqualTo(directory.resolve("save.png"));
+        assertThat(fileService.findFile("save", null)).isEqualTo(directory.resolve("save.png"));
+    }
+
+    @Test
+    @Tag("unit")
+    @DisplayName("저장 파일명이 아닌 값(순차 id 등)으로는 파일을 찾을 수 없다")
+    void findFile_unknownSaveName_shouldThrowNotFound() {
+        // given
+        files.put(1L, FileEntity.builder().id(1L).saveName("save").path("image/diary/202510").ext("png").build());
+
+        // when & then
+        assertThatThrownBy(() -> fileService.findFile("1", null)).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @Tag("develop")
+    @DisplayName("업로드는 원본 저장만 하고 PENDING 으로 응답하며, 변환본은 워커가 만든다")
+    void createFile_shouldReturnPendingAndDeferVariants() throws Exception {
+        // given
+        var image = syntheticImage(4000, 3000);
+        var video = new MockMultipartFile("file", "clip.mp4", "video/mp4", new byte[2 * 1024 * 1024]);
+        var processor = new FileVariantProcessor(fileProperties, fileRepository, fileVariantRepository,
+                new ImageResizer(), (source, target, width) -> Files.write(target, new byte[width]));
+
+        // when
+        var response = upload(List.of(image("photo.png", image), video));
+        queued.forEach(fileId -> processor.process(fileId, false));
+
+        // then
+        assertThat(response).hasSize(2);
+        assertThat(response.get(0).variants()).extracting(FileDomain.Variant::width).containsExactly(320, 640, 1280);
+        assertThat(response.get(1).variants()).extracting(FileDomain.Variant::width).containsExactly(640, 1280);
+        assertThat(queued).hasSize(2);
+        assertThat(variants.values()).allSatisfy(list -> assertThat(list)
+            .allSatisfy(variant -> assertThat(variant.getSize()).isPositive()));
+    }
+
+    @Test
+    @Tag("develop")
+    @DisplayName("동시 업로드도 모두 변환 대기열에 등록하고 변환본은 PENDING 으로 남긴다")
+    void createFile_concurrentUploads() throws Exception {
+        // given
+        var image = syntheticImage(4000, 3000);
+        var executor = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<?>> uploads = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < UPLOADS; i++) {
+            // 중복 제거에 걸리지 않도록 업로드마다 내용을 다르게
+            var content = unique(image, i);
+            uploads.add(executor.submit(() -> upload(List.of(image("photo.png", content)))));
+        }
+        for (Future<?> upload : uploads) {
+            upload.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(queued).hasSize(UPLOADS);
+        assertThat(variants.values()).allSatisfy(list -> assertThat(list)
+            .allSatisfy(variant -> assertThat(variant.getSize()).isNull()));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 콜백까지 실행
+     */
+    private List<FileDomain.Response> upload(List<MockMultipartFile> multipartFiles) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            var response = fileService
+                .createFile(new FileDomain.CreateRequest(new ArrayList<>(multipartFiles), RefType.DIARY));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            return response;
+        }
+        finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private FileVariantEntity variant(FileEntity file, int width, FileEnum.VariantStatus status) {
+        return FileVariantEntity.builder().fileEntity(file).width(width).status(status).build();
+    }
+
+    /**
+     * 트랜잭션 커밋 후 / 종료 콜백까지 실행
+     */
+    private FileDomain.Response complete(String uploadId) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            var response = fileService.completeUpload(uploadId);
+            var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(synchronization -> synchronization
+                .afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            return response;
+        }
+        finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private ByteArrayInputStream chunk(byte[] content, int offset) {
+        var length = Math.min(fileProperties.getChunkSize(), content.length - offset);
+        return new ByteArrayInputStream(content, offset, length);
+    }
+
+    private MockMultipartFile image(String name, byte[] content) {
+        return new MockMultipartFile("file", name, "image/png", content);
+    }
+
+    /**
+     * PNG 끝(IEND 뒤)에 바이트를 덧붙여 이미지는 같고 해시만 다른 내용
+     */
+    private byte[] unique(byte[] image, int seed) {
+        var content = Arrays.copyOf(image, image.length + 4);
+        ByteBuffer.wrap(content, image.length, 4).putInt(seed);
+        return content;
+    }
+
+    private byte[] syntheticImage(int width, int height) throws Exception {
+        var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y += 10) {
+            for (int x = 0; x < width; x += 10) {
+                image.setRGB(x, y, (x * 31 + y * 17) & 0xFFFFFF);
+            }
+        }
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,197 @@
+package kr.co.victoryfairy.core.file.service.impl;
+
+import io.dodn.springboot.core.enums.RefType;
+import io.dodn.springboot.test.benchmark.JmhRunner;
+import kr.co.victoryfairy.core.file.domain.FileDomain;
+import kr.co.victoryfairy.core.file.media.ImageResizer;
+import kr.co.victoryfairy.core.file.service.ChunkedUploadStore;
+import kr.co.victoryfairy.core.file.service.FileVariantProcessor;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import kr.co.victoryfairy.storage.db.core.entity.FileEntity;
+import kr.co.victoryfairy.storage.db.core.entity.FileVariantEntity;
+import kr.co.victoryfairy.storage.db.core.repository.FileRefRepository;
+import kr.co.victoryfairy.storage.db.core.repository.FileRepository;
+import kr.co.victoryfairy.storage.db.core.repository.FileVariantRepository;
+import kr.co.victoryfairy.support.properties.FileProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.FileSystemUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 업로드 응답 시간 (원본 저장 후 PENDING 응답) 과 변환본까지 만든 경우, 동시 업로드 비교 (합성 이미지, 메모리 저장소)
+ */
+@Tag("develop")
+@DisplayName("파일 업로드 벤치마크")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileUploadBenchmarkTest {
+
+    private static final int CLIENTS = 16;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Map<Long, FileEntity> files = new ConcurrentHashMap<>();
+
+    private final Map<Long, List<FileVariantEntity>> variants = new ConcurrentHashMap<>();
+
+    private Path storage;
+
+    private byte[] image;
+
+    private FileServiceImpl fileService;
+
+    private FileVariantProcessor processor;
+
+    @Setup
+    public void setUp() throws Exception {
+        storage = Files.createTempDirectory("file-upload-benchmark");
+        image = syntheticImage(4000, 3000);
+
+        var fileProperties = new FileProperties();
+        fileProperties.setStoragePath(storage.toString());
+        fileProperties.setImageResizes(new Integer[] { 320, 640, 1280 });
+
+        // 호출 기록을 남기지 않는 stub (반복 호출로 메모리가 늘지 않도록)
+        var fileRepository = mock(FileRepository.class, withSettings().stubOnly());
+        var fileVariantRepository = mock(FileVariantRepository.class, withSettings().stubOnly());
+        given(fileRepository.save(any(FileEntity.class))).willAnswer(invocation -> {
+            FileEntity entity = invocation.getArgument(0);
+            ReflectionTestUtils.setField(entity, "id", sequence.incrementAndGet());
+            files.put(entity.getId(), entity);
+            return entity;
+        });
+        // 매번 새 파일로 저장되도록 중복 제거는 항상 미스
+        given(fileRepository.findFirstByHashAndSizeOrderByIdAsc(any(), any())).willReturn(Optional.empty());
+        given(fileRepository.findById(anyLong()))
+            .willAnswer(invocation -> Optional.ofNullable(files.get(invocation.<Long>getArgument(0))));
+        given(fileVariantRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<FileVariantEntity> entities = invocation.getArgument(0);
+            entities.forEach(entity -> variants.put(entity.getFileEntity().getId(), entities));
+            return entities;
+        });
+        given(fileVariantRepository.findAllByFileEntityIdAndStatus(anyLong(), any()))
+            .willAnswer(invocation -> variants.getOrDefault(invocation.<Long>getArgument(0), List.of())
+                .stream()
+                .filter(variant -> variant.getStatus() == invocation.getArgument(1))
+                .toList());
+
+        var redisHandler = mock(RedisHandler.class, withSettings().stubOnly());
+        fileService = new FileServiceImpl(fileProperties, fileRepository, mock(FileRefRepository.class),
+                fileVariantRepository, redisHandler, new ChunkedUploadStore(fileProperties, redisHandler));
+        processor = new FileVariantProcessor(fileProperties, fileRepository, fileVariantRepository,
+                new ImageResizer(), (source, target, width) -> Files.write(target, new byte[width]));
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() throws Exception {
+        files.clear();
+        variants.clear();
+        FileSystemUtils.deleteRecursively(storage);
+        Files.createDirectories(storage);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        FileSystemUtils.deleteRecursively(storage);
+    }
+
+    /**
+     * 현재 방식 - 원본만 저장하고 변환본은 PENDING 으로 응답 (변환은 워커가 처리)
+     */
+    @Benchmark
+    public FileDomain.Response upload() {
+        return createFile(image);
+    }
+
+    /**
+     * 변환본까지 요청 안에서 만들었을 때의 응답 시간
+     */
+    @Benchmark
+    public boolean uploadWithVariants() {
+        return processor.process(createFile(image).id(), false);
+    }
+
+    @Benchmark
+    @Threads(CLIENTS)
+    public FileDomain.Response concurrentUpload() {
+        return createFile(image);
+    }
+
+    @Test
+    @DisplayName("PENDING 응답 업로드가 변환본까지 만드는 업로드보다 빠르다")
+    void compare() throws Exception {
+        var results = JmhRunner.run(getClass());
+
+        var upload = results.get("upload");
+        assertThat(upload.score()).isLessThan(results.get("uploadWithVariants").score());
+        // 동시 업로드는 스레드당 평균 응답 시간 (처리량은 JMH 출력의 ops/ms 로 확인)
+        assertThat(results.get("concurrentUpload").score()).isPositive();
+    }
+
+    /**
+     * 트랜잭션 커밋 후 콜백까지 실행
+     */
+    private FileDomain.Response createFile(byte[] content) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            var multipartFile = new MockMultipartFile("file", "photo.png", "image/png", content);
+            var response = fileService
+                .createFile(new FileDomain.CreateRequest(new ArrayList<>(List.of(multipartFile)), RefType.DIARY));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            return response.get(0);
+        }
+        finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private byte[] syntheticImage(int width, int height) throws Exception {
+        var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y += 10) {
+            for (int x = 0; x < width; x += 10) {
+                image.setRGB(x, y, (x * 31 + y * 17) & 0xFFFFFF);
+            }
+        }
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,282 @@
+package kr.co.victoryfairy.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 통계 응답 캐시 (마이페이지 리포트 / 승리 요정 지수 / 직관 승률)
+ * <p>
+ * 회원마다 Redis hash 하나에 응답 종류 + 시즌을 필드로 저장하고, 각 노드는 같은 값을 짧은 TTL 의 로컬 캐시에 한 번 더 둡니다. 통계는 응원 기록이
+ * 바뀔 때만 달라지므로, 일기 작성 / 수정 / 삭제와 일기 평가 트랜잭션이 커밋된 뒤 {@link #evictAfterCommit} 로 hash 를 지우고
+ * {@link #EVICT_CHANNEL} 로 회원 id 를 발행해 다른 노드의 로컬 캐시도 비웁니다.
+ * <p>
+ * 무효화할 때마다 회원별 세대 키를 증가시키고, 다시 계산한 값은 계산 전에 읽은 세대가 그대로일 때만 저장합니다. 다른 노드에서 계산 도중
+ * 무효화가 일어나도 이전 기록으로 계산한 값이 hash 에 남지 않습니다.
+ */
+@Component
+public class MemberStatsCache {
+
+    public static final String EVICT_CHANNEL = "member_stats_evict";
+
+    public static final String REPORT = "report";
+
+    public static final String VICTORY_POWER = "victory_power";
+
+    public static final String HOME_WIN_RATE = "home_win_rate";
+
+    private static final String KEY_PREFIX = "member_stats_";
+
+    private static final String GENERATION_SUFFIX = "_gen";
+
+    private static final int MAX_LOCAL_MEMBERS = 10000;
+
+    private final Logger log = LoggerFactory.getLogger(MemberStatsCache.class);
+
+    private final RedisHandler redisHandler;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, LocalEntry> locals = new ConcurrentHashMap<>();
+
+    private final Counter localHits;
+
+    private final Counter redisHits;
+
+    private final Counter misses;
+
+    @Value("${member-stats.cache.ttl-minutes:360}")
+    private long ttlMinutes;
+
+    @Value("${member-stats.cache.local-ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    public MemberStatsCache(RedisHandler redisHandler, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.redisHandler = redisHandler;
+        // 메트릭 레지스트리가 없는 모듈에서는 전역 레지스트리에 등록 (레지스트리가 추가되면 함께 노출)
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.localHits = counter("local");
+        this.redisHits = counter("redis");
+        this.misses = counter("miss");
+        this.meterRegistry.gauge("member_stats.cache.hit_ratio", this, cache -> cache.stats().hitRatio());
+    }
+
+    /**
+     * 캐시 조회 (로컬 -> Redis -> loader 순)
+     * @param name 응답 종류 ({@link #REPORT} 등)
+     * @param season 시즌 (응답 종류 안에서 구분)
+     * @param loader 캐시가 없을 때 DB 에서 다시 계산
+     */
+    public <T> T get(Long memberId, String name, String season, Class<T> type, Supplier<T> loader) {
+        var field = name + "_" + season;
+        var local = locals.get(memberId);
+        if (local != null && !local.isExpired()) {
+            var value = local.values().get(field);
+            if (type.isInstance(value)) {
+                localHits.increment();
+                return type.cast(value);
+            }
+        }
+        else {
+            local = putLocal(memberId);
+        }
+
+        var key = key(memberId);
+        var cached = read(key, field, type);
+        if (cached != null) {
+            redisHits.increment();
+            putLocal(memberId, local, field, cached);
+            return cached;
+        }
+
+        misses.increment();
+        var generation = readGeneration(memberId);
+        var sample = Timer.start(meterRegistry);
+        var value = loader.get();
+        sample.stop(meterRegistry.timer("member_stats.recompute", "name", name));
+
+        // 계산 중 무효화된 경우 (로컬 항목이 교체됨 / 세대 키가 바뀜) 이전 기록으로 계산한 값이므로 저장하지 않음
+        if (value != null && locals.get(memberId) == local && write(memberId, field, value, generation)) {
+            putLocal(memberId, local, field, value);
+        }
+        return value;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 무효화 (트랜잭션 밖이면 바로 무효화)
+     */
+    public void evictAfterCommit(Collection<Long> memberIds) {
+        var ids = memberIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(ids);
+            }
+        });
+    }
+
+    public void evictAfterCommit(Long memberId) {
+        evictAfterCommit(List.of(memberId));
+    }
+
+    /**
+     * 세대 키 증가, Redis hash 삭제 후 모든 노드에 무효화 발행 (실패해도 Redis TTL 이 지나면 갱신됨)
+     */
+    public void evict(Collection<Long> memberIds) {
+        evictLocal(memberIds);
+        try {
+            // hash 를 지우기 전에 세대를 올려야 진행 중인 계산이 지운 뒤에 다시 쓰지 못함
+            memberIds.forEach(memberId -> {
+                redisHandler.increment(generationKey(memberId));
+                // INCR 로 만든 키는 TTL 이 없으므로 hash 와 같은 TTL 을 걸어 무효화된 회원의 세대 키가 쌓이지 않게 함
+                redisHandler.expire(generationKey(memberId), Duration.ofMinutes(ttlMinutes));
+            });
+            redisHandler.deleteKeys(memberIds.stream().map(this::key).toList());
+            redisHandler.publish(EVICT_CHANNEL,
+                    memberIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        }
+        catch (Exception e) {
+            log.warn("회원 통계 캐시 무효화 실패 - memberIds: {}", memberIds, e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 수신 (쉼표로 구분한 회원 id)
+     */
+    public void onEvicted(String message) {
+        try {
+            evictLocal(Arrays.stream(message.split(",")).map(String::trim).map(Long::valueOf).toList());
+        }
+        catch (NumberFormatException e) {
+            log.warn("회원 통계 캐시 무효화 메시지 오류 - message: {}", message);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats((long) localHits.count(), (long) redisHits.count(), (long) misses.count(), locals.size());
+    }
+
+    private void evictLocal(Collection<Long> memberIds) {
+        memberIds.forEach(locals::remove);
+    }
+
+    private LocalEntry putLocal(Long memberId) {
+        if (locals.size() >= MAX_LOCAL_MEMBERS) {
+            locals.entrySet().removeIf(entry -> entry.getValue().isExpired());
+            if (locals.size() >= MAX_LOCAL_MEMBERS) {
+                locals.clear();
+            }
+        }
+        var entry = new LocalEntry(new ConcurrentHashMap<>(), System.currentTimeMillis() + localTtlSeconds * 1000);
+        locals.put(memberId, entry);
+        return entry;
+    }
+
+    private void putLocal(Long memberId, LocalEntry local, String field, Object value) {
+        if (locals.get(memberId) == local) {
+            local.values().put(field, value);
+        }
+    }
+
+    private <T> T read(String key, String field, Class<T> type) {
+        try {
+            return redisHandler.getHashValue(key, field, type);
+        }
+        catch (Exception e) {
+            log.warn("회원 통계 캐시 조회 실패 - key: {}, field: {}", key, field, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return 세대 키 값 (키가 없으면 빈 문자열, 조회에 실패하면 null)
+     */
+    private String readGeneration(Long memberId) {
+        try {
+            var generation = redisHandler.get(generationKey(memberId));
+            return generation != null ? generation : "";
+        }
+        catch (Exception e) {
+            log.warn("회원 통계 캐시 세대 조회 실패 - memberId: {}", memberId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 계산 전에 읽은 세대가 그대로일 때만 저장
+     * @return 저장했거나 Redis 오류로 저장하지 못했으면 true, 그 사이 무효화되었으면 false
+     */
+    private boolean write(Long memberId, String field, Object value, String generation) {
+        if (generation == null) {
+            return true;
+        }
+        var key = key(memberId);
+        try {
+            return redisHandler.setHashValueIfVersion(key, field, value, generationKey(memberId), generation,
+                    Duration.ofMinutes(ttlMinutes));
+        }
+        catch (Exception e) {
+            log.warn("회원 통계 캐시 저장 실패 - key: {}, field: {}", key, field, e);
+            return true;
+        }
+    }
+
+    private Counter counter(String result) {
+        return meterRegistry.counter("member_stats.cache", "result", result);
+    }
+
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private String generationKey(Long memberId) {
+        return KEY_PREFIX + memberId + GENERATION_SUFFIX;
+    }
+
+    /**
+     * @param members 로컬 캐시에 있는 회원 수
+     */
+    public record Stats(long localHits, long redisHits, long misses, int members) {
+
+        public double hitRatio() {
+            var total = localHits + redisHits + misses;
+            return total == 0 ? 0 : (double) (localHits + redisHits) / total;
+        }
+
+    }
+
+    private record LocalEntry(Map<String, Object> values, long expiresAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+
+    }
+
+}
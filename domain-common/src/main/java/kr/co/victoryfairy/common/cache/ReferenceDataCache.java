@@ -0,0 +1,268 @@
+package kr.co.victoryfairy.common.cache;
+
+import io.dodn.springboot.core.enums.MatchEnum;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.victoryfairy.common.model.CommonDto;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import kr.co.victoryfairy.storage.db.core.entity.StadiumEntity;
+import kr.co.victoryfairy.storage.db.core.entity.TeamEntity;
+import kr.co.victoryfairy.storage.db.core.repository.StadiumRepository;
+import kr.co.victoryfairy.storage.db.core.repository.TeamRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 팀 / 경기장 기준 정보 캐시
+ * <p>
+ * 기동 시 전체 팀, 경기장을 불변 맵으로 적재하고, Redis 버전 키가 바뀌면 다시 적재합니다. 기준 정보를 수정하는 트랜잭션에서
+ * {@link #publishChangeAfterCommit()} 를 호출하면 커밋 후 모든 노드가 수 초 내에 갱신됩니다.
+ */
+@Component
+public class ReferenceDataCache {
+
+    public static final String VERSION_KEY = "reference_data_version";
+
+    private final Logger log = LoggerFactory.getLogger(ReferenceDataCache.class);
+
+    private final TeamRepository teamRepository;
+
+    private final StadiumRepository stadiumRepository;
+
+    private final RedisHandler redisHandler;
+
+    @Value("${reference.cache.refresh-millis:3000}")
+    private long refreshMillis;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private ScheduledExecutorService scheduler;
+
+    public ReferenceDataCache(TeamRepository teamRepository, StadiumRepository stadiumRepository,
+            RedisHandler redisHandler) {
+        this.teamRepository = teamRepository;
+        this.stadiumRepository = stadiumRepository;
+        this.redisHandler = redisHandler;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        reload(currentVersion());
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "reference-data-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refreshIfChanged, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 팀 단건 조회
+     */
+    public Optional<CommonDto.TeamDto> findTeam(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(snapshot.teamById().get(id));
+    }
+
+    /**
+     * KBO 팀 코드로 팀 조회 (크롤링 데이터 매핑용)
+     */
+    public Optional<CommonDto.TeamDto> findTeamByKboNm(String kboNm) {
+        return kboNm == null ? Optional.empty() : Optional.ofNullable(snapshot.teamByKboNm().get(kboNm));
+    }
+
+    /**
+     * WBC 국가 코드로 팀 조회
+     */
+    public Optional<CommonDto.TeamDto> findTeamByCountryCode(String countryCode) {
+        return countryCode == null ? Optional.empty()
+                : Optional.ofNullable(snapshot.teamByCountryCode().get(countryCode));
+    }
+
+    /**
+     * 정렬 순서(orderNo) 기준 팀 목록 조회
+     * @param league 리그 (null 이면 전체)
+     */
+    public List<CommonDto.TeamDto> findTeams(MatchEnum.LeagueType league) {
+        var teams = snapshot.teams();
+        if (league == null) {
+            return teams;
+        }
+        return teams.stream().filter(team -> league.equals(team.league())).toList();
+    }
+
+    /**
+     * 여러 팀 id 에 대한 팀 맵 조회
+     */
+    public Map<Long, CommonDto.TeamDto> findTeamMap(Collection<Long> ids) {
+        return pick(snapshot.teamById(), ids);
+    }
+
+    /**
+     * 경기장 단건 조회
+     */
+    public Optional<CommonDto.StadiumDto> findStadium(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(snapshot.stadiumById().get(id));
+    }
+
+    /**
+     * 외부(KBO) 경기장 id 로 경기장 조회
+     */
+    public Optional<CommonDto.StadiumDto> findStadiumByExternalId(Integer externalId) {
+        return externalId == null ? Optional.empty()
+                : Optional.ofNullable(snapshot.stadiumByExternalId().get(externalId));
+    }
+
+    /**
+     * 지역명으로 경기장 조회 (KBO 일정 페이지 표기 기준)
+     */
+    public Optional<CommonDto.StadiumDto> findStadiumByRegion(String region) {
+        return region == null ? Optional.empty() : Optional.ofNullable(snapshot.stadiumByRegion().get(region));
+    }
+
+    /**
+     * 여러 경기장 id 에 대한 경기장 맵 조회
+     */
+    public Map<Long, CommonDto.StadiumDto> findStadiumMap(Collection<Long> ids) {
+        return pick(snapshot.stadiumById(), ids);
+    }
+
+    /**
+     * 기준 정보 변경 알림
+     * <p>
+     * 버전 키를 증가시켜 다른 노드의 캐시가 다시 적재되도록 하고, 현재 노드는 즉시 다시 적재합니다.
+     */
+    public void publishChange() {
+        var version = redisHandler.increment(VERSION_KEY);
+        reload(String.valueOf(version));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 변경 알림 (트랜잭션 밖이면 바로 알림)
+     * <p>
+     * 커밋 전에 알리면 다른 노드가 변경 전 데이터를 다시 적재할 수 있으므로 기준 정보 수정 경로에서는 이 메서드를 사용합니다.
+     */
+    public void publishChangeAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishChange();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    publishChange();
+                }
+                catch (Exception e) {
+                    log.warn("기준 정보 변경 알림 실패 - version: {}", snapshot.version(), e);
+                }
+            }
+        });
+    }
+
+    void refreshIfChanged() {
+        try {
+            var version = currentVersion();
+            if (!Objects.equals(version, snapshot.version())) {
+                reload(version);
+            }
+        }
+        catch (Exception e) {
+            log.warn("기준 정보 캐시 갱신 실패 - version: {}", snapshot.version(), e);
+        }
+    }
+
+    synchronized void reload(String version) {
+        var teams = teamRepository.findAll()
+            .stream()
+            .map(ReferenceDataCache::toDto)
+            .sorted(Comparator.comparing(CommonDto.TeamDto::orderNo, Comparator.nullsLast(Comparator.naturalOrder())))
+            .toList();
+        var stadiums = stadiumRepository.findAll().stream().map(ReferenceDataCache::toDto).toList();
+
+        snapshot = new Snapshot(version, teams, index(teams, CommonDto.TeamDto::id),
+                index(teams, CommonDto.TeamDto::kboNm), index(teams, CommonDto.TeamDto::countryCode),
+                index(stadiums, CommonDto.StadiumDto::id), index(stadiums, CommonDto.StadiumDto::externalId),
+                index(stadiums, CommonDto.StadiumDto::region));
+
+        log.info("기준 정보 캐시 적재 - version: {}, teams: {}, stadiums: {}", version, teams.size(), stadiums.size());
+    }
+
+    private String currentVersion() {
+        try {
+            return redisHandler.get(VERSION_KEY);
+        }
+        catch (Exception e) {
+            log.warn("기준 정보 버전 조회 실패", e);
+            return snapshot.version();
+        }
+    }
+
+    private static CommonDto.TeamDto toDto(TeamEntity entity) {
+        return new CommonDto.TeamDto(entity.getId(), entity.getName(), entity.getKboNm(), entity.getSponsorNm(),
+                entity.getLabel(), entity.getOrderNo(), entity.getLeague(), entity.getCountryCode());
+    }
+
+    private static CommonDto.StadiumDto toDto(StadiumEntity entity) {
+        return new CommonDto.StadiumDto(entity.getId(), entity.getFullName(), entity.getShortName(),
+                entity.getRegion(), entity.getExternalId());
+    }
+
+    private static <K, V> Map<K, V> index(List<V> values, Function<V, K> keyMapper) {
+        Map<K, V> map = new LinkedHashMap<>();
+        for (V value : values) {
+            var key = keyMapper.apply(value);
+            if (key != null) {
+                map.putIfAbsent(key, value);
+            }
+        }
+        return Map.copyOf(map);
+    }
+
+    private static <K, V> Map<K, V> pick(Map<K, V> source, Collection<K> keys) {
+        Map<K, V> map = new LinkedHashMap<>();
+        if (keys != null) {
+            keys.stream().filter(Objects::nonNull).distinct().forEach(key -> {
+                var value = source.get(key);
+                if (value != null) {
+                    map.put(key, value);
+                }
+            });
+        }
+        return map;
+    }
+
+    private record Snapshot(String version, List<CommonDto.TeamDto> teams, Map<Long, CommonDto.TeamDto> teamById,
+            Map<String, CommonDto.TeamDto> teamByKboNm, Map<String, CommonDto.TeamDto> teamByCountryCode,
+            Map<Long, CommonDto.StadiumDto> stadiumById, Map<Integer, CommonDto.StadiumDto> stadiumByExternalId,
+            Map<String, CommonDto.StadiumDto> stadiumByRegion) {
+
+        private static final Snapshot EMPTY = new Snapshot(null, List.of(), Map.of(), Map.of(), Map.of(), Map.of(),
+                Map.of(), Map.of());
+
+    }
+
+}
@@ -1,6 +1,6 @@
 package kr.co.victoryfairy.common.model;
 
-import java.util.List;
+import io.dodn.springboot.core.enums.MatchEnum;
 
 /**
  * 공통 DTO 인터페이스
@@ -27,4 +27,17 @@ public interface CommonDto {
     record PartnerResponse(String name, Long teamId) {
     }
 
-}
\ No newline at end of file
+    /**
+     * 팀 기준 정보 DTO (영속성 컨텍스트와 분리된 캐시용)
+     */
+    record TeamDto(Long id, String name, String kboNm, String sponsorNm, String label, Short orderNo,
+            MatchEnum.LeagueType league, String countryCode) {
+    }
+
+    /**
+     * 경기장 기준 정보 DTO (영속성 컨텍스트와 분리된 캐시용)
+     */
+    record StadiumDto(Long id, String fullName, String shortName, String region, Integer externalId) {
+    }
+
+}
@@ -0,0 +1,45 @@
+package kr.co.victoryfairy.common.model;
+
+import io.dodn.springboot.core.enums.MatchEnum;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 배치가 미리 렌더링해 발행하는 스코어보드 스냅샷
+ * <p>
+ * 필드 구성은 경기 목록 API 응답(MatchListResponse)과 동일하며, 회원별 일기 작성 여부는 비워 둔 채 발행합니다.
+ */
+public interface ScoreboardDto {
+
+    record Board(LocalDate date, List<Match> matchList) {
+    }
+
+    record Match(String id, LocalDate date, String time, String stadium, MatchEnum.MatchStatus status,
+            String statusDetail, Team awayTeam, Team homeTeam, Boolean isWrited, Long diaryId,
+            MatchEnum.LeagueType leagueType) {
+    }
+
+    record Team(Long id, String name, Short score, MatchEnum.ResultType result) {
+    }
+
+    /**
+     * 점수 / 상태가 바뀐 경기 한 건 (실시간 전송용)
+     */
+    record Delta(String id, LocalDate date, String time, MatchEnum.MatchStatus status, String statusDetail,
+            Team awayTeam, Team homeTeam, MatchEnum.LeagueType leagueType) {
+
+        public static Delta of(Match match) {
+            return new Delta(match.id(), match.date(), match.time(), match.status(), match.statusDetail(),
+                    match.awayTeam(), match.homeTeam(), match.leagueType());
+        }
+
+    }
+
+    /**
+     * Redis 에 저장된 스냅샷 (ETag, JSON 본문)
+     */
+    record Snapshot(String eTag, String body) {
+    }
+
+}
@@ -1,6 +1,7 @@
 package kr.co.victoryfairy.common.service;
 
 import io.dodn.springboot.core.enums.RefType;
+import kr.co.victoryfairy.common.cache.ReferenceDataCache;
 import kr.co.victoryfairy.common.model.CommonDto;
 import kr.co.victoryfairy.storage.db.core.entity.PartnerEntity;
 import kr.co.victoryfairy.storage.db.core.entity.TeamEntity;
@@ -28,6 +29,8 @@ public class PartnerDomainService {
 
     private final TeamRepository teamRepository;
 
+    private final ReferenceDataCache referenceDataCache;
+
     /**
      * 동행자 목록 저장
      * @param refType 참조 타입 (DIARY, FREE_DIARY)
@@ -45,11 +48,11 @@ public class PartnerDomainService {
             TeamEntity partnerTeamEntity = null;
             String partnerTeamName = null;
 
-            if (partnerDto.teamId() != null) {
-                partnerTeamEntity = teamRepository.findById(partnerDto.teamId()).orElse(null);
-                if (partnerTeamEntity != null) {
-                    partnerTeamName = partnerTeamEntity.getName();
-                }
+            var partnerTeam = referenceDataCache.findTeam(partnerDto.teamId()).orElse(null);
+            if (partnerTeam != null) {
+                // 캐시로 존재 여부를 확인했으므로 select 없이 참조만 연결
+                partnerTeamEntity = teamRepository.getReferenceById(partnerTeam.id());
+                partnerTeamName = partnerTeam.name();
             }
 
             PartnerEntity partnerEntity = PartnerEntity.builder()
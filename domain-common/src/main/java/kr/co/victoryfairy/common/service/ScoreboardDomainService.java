@@ -0,0 +1,150 @@
+package kr.co.victoryfairy.common.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dodn.springboot.core.enums.MatchEnum;
+import kr.co.victoryfairy.common.model.ScoreboardDto;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 스코어보드 스냅샷 도메인 서비스
+ * <p>
+ * 배치는 날짜 / 리그별로 렌더링된 JSON 과 ETag 를 하나의 hash 에 함께 저장하고, API 는 ETag 만 비교해 바뀐 경우에만 본문을 읽습니다.
+ * 이전 스냅샷과 비교해 점수 / 상태가 바뀐 경기는 {@link #DELTA_CHANNEL} 로 한 건씩 발행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScoreboardDomainService {
+
+    public static final String DELTA_CHANNEL = "score_delta";
+
+    private static final String ALL_LEAGUE = "ALL";
+
+    private static final String ETAG_FIELD = "etag";
+
+    private static final String BODY_FIELD = "body";
+
+    private final Logger log = LoggerFactory.getLogger(ScoreboardDomainService.class);
+
+    private final RedisHandler redisHandler;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 스냅샷 발행 (전체 + 리그별)
+     * <p>
+     * 내용이 바뀌지 않은 스냅샷은 다시 쓰지 않으므로 ETag 가 유지됩니다.
+     */
+    public void publish(LocalDate date, List<ScoreboardDto.Match> matches) {
+        var sorted = matches.stream()
+            .sorted(Comparator.comparing(ScoreboardDto.Match::time, Comparator.nullsLast(Comparator.naturalOrder())))
+            .toList();
+
+        var previous = find(date, null).map(this::readMatches).orElse(Map.of());
+        if (publish(date, null, sorted)) {
+            publishDeltas(previous, sorted);
+        }
+        sorted.stream()
+            .filter(match -> match.leagueType() != null)
+            .collect(Collectors.groupingBy(ScoreboardDto.Match::leagueType))
+            .forEach((league, leagueMatches) -> publish(date, league, leagueMatches));
+    }
+
+    /**
+     * 현재 스냅샷의 ETag 조회 (본문은 읽지 않음)
+     * @param league 리그 (null 이면 전체)
+     */
+    public String findETag(LocalDate date, MatchEnum.LeagueType league) {
+        return redisHandler.get(key(date, league), ETAG_FIELD);
+    }
+
+    /**
+     * 스냅샷 조회 (ETag, 본문을 한 번에 읽어 서로 어긋나지 않도록 함)
+     * @param league 리그 (null 이면 전체)
+     */
+    public Optional<ScoreboardDto.Snapshot> find(LocalDate date, MatchEnum.LeagueType league) {
+        var entries = redisHandler.getMap(key(date, league));
+        var eTag = entries.get(ETAG_FIELD);
+        var body = entries.get(BODY_FIELD);
+        if (eTag == null || body == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new ScoreboardDto.Snapshot(eTag, body));
+    }
+
+    /**
+     * @return 스냅샷이 바뀌어 새로 저장했으면 true
+     */
+    private boolean publish(LocalDate date, MatchEnum.LeagueType league, List<ScoreboardDto.Match> matches) {
+        var key = key(date, league);
+        try {
+            var body = objectMapper.writeValueAsString(new ScoreboardDto.Board(date, matches));
+            var eTag = DigestUtils.md5DigestAsHex(body.getBytes(StandardCharsets.UTF_8));
+            if (Objects.equals(eTag, redisHandler.get(key, ETAG_FIELD))) {
+                return false;
+            }
+            redisHandler.setMap(key, Map.of(ETAG_FIELD, eTag, BODY_FIELD, body));
+            return true;
+        }
+        catch (JsonProcessingException e) {
+            log.error("스코어보드 스냅샷 직렬화 실패 - key: {}", key, e);
+            return false;
+        }
+    }
+
+    private void publishDeltas(Map<String, ScoreboardDto.Match> previous, List<ScoreboardDto.Match> matches) {
+        for (ScoreboardDto.Match match : matches) {
+            var before = previous.get(match.id());
+            if (before != null && !isChanged(before, match)) {
+                continue;
+            }
+            try {
+                redisHandler.publish(DELTA_CHANNEL, objectMapper.writeValueAsString(ScoreboardDto.Delta.of(match)));
+            }
+            catch (JsonProcessingException e) {
+                log.error("스코어 변경 이벤트 직렬화 실패 - id: {}", match.id(), e);
+            }
+        }
+    }
+
+    private boolean isChanged(ScoreboardDto.Match before, ScoreboardDto.Match after) {
+        return !Objects.equals(before.status(), after.status())
+                || !Objects.equals(before.statusDetail(), after.statusDetail())
+                || !Objects.equals(before.awayTeam(), after.awayTeam())
+                || !Objects.equals(before.homeTeam(), after.homeTeam());
+    }
+
+    private Map<String, ScoreboardDto.Match> readMatches(ScoreboardDto.Snapshot snapshot) {
+        try {
+            return objectMapper.readValue(snapshot.body(), ScoreboardDto.Board.class)
+                .matchList()
+                .stream()
+                .collect(Collectors.toMap(ScoreboardDto.Match::id, match -> match, (a, b) -> a));
+        }
+        catch (JsonProcessingException e) {
+            log.warn("이전 스코어보드 스냅샷 역직렬화 실패 - eTag: {}", snapshot.eTag(), e);
+            return Map.of();
+        }
+    }
+
+    private String key(LocalDate date, MatchEnum.LeagueType league) {
+        return date.format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "_scoreboard_"
+                + (league != null ? league.name() : ALL_LEAGUE);
+    }
+
+}
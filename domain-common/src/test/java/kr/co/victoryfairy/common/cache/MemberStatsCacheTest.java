@@ -0,0 +1,160 @@
+package kr.co.victoryfairy.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@DisplayName("MemberStatsCache 테스트")
+class MemberStatsCacheTest {
+
+    @Mock
+    private RedisHandler redisHandler;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MemberStatsCache memberStatsCache;
+
+    @BeforeEach
+    void setUp() {
+        given(meterRegistryProvider.getIfAvailable(any())).willReturn(meterRegistry);
+        memberStatsCache = new MemberStatsCache(redisHandler, meterRegistryProvider);
+        ReflectionTestUtils.setField(memberStatsCache, "ttlMinutes", 360L);
+        ReflectionTestUtils.setField(memberStatsCache, "localTtlSeconds", 30L);
+    }
+
+    @Test
+    @DisplayName("한 번 계산한 값은 같은 노드의 로컬 캐시에서 응답한다")
+    void get_shouldServeFromLocalCache() {
+        // given
+        given(redisHandler.setHashValueIfVersion(any(), any(), any(), any(), any(), any())).willReturn(true);
+        var loads = new AtomicInteger();
+
+        // when
+        var first = memberStatsCache.get(1L, MemberStatsCache.REPORT, "2025", String.class,
+                () -> "report" + loads.incrementAndGet());
+        var second = memberStatsCache.get(1L, MemberStatsCache.REPORT, "2025", String.class,
+                () -> "report" + loads.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("report1");
+        assertThat(second).isEqualTo("report1");
+        verify(redisHandler, times(1)).getHashValue("member_stats_1", "report_2025", String.class);
+        verify(redisHandler).setHashValueIfVersion(eq("member_stats_1"), eq("report_2025"), eq("report1"),
+                eq("member_stats_1_gen"), eq(""), any());
+
+        var stats = memberStatsCache.stats();
+        assertThat(stats.localHits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRatio()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("member_stats.recompute").tag("name", "report").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시가 없으면 Redis 값을 사용하고 다시 계산하지 않는다")
+    void get_whenRedisHit_shouldNotRecompute() {
+        // given
+        given(redisHandler.getHashValue("member_stats_1", "victory_power_2025", String.class)).willReturn("cached");
+
+        // when
+        var value = memberStatsCache.get(1L, MemberStatsCache.VICTORY_POWER, "2025", String.class, () -> "loaded");
+
+        // then
+        assertThat(value).isEqualTo("cached");
+        assertThat(memberStatsCache.stats().redisHits()).isEqualTo(1);
+        verify(redisHandler, never()).setHashValueIfVersion(anyString(), anyString(), any(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("계산 중 무효화되면 계산한 값을 캐시에 저장하지 않는다")
+    void get_whenEvictedWhileLoading_shouldNotStore() {
+        // when
+        var value = memberStatsCache.get(1L, MemberStatsCache.REPORT, "2025", String.class, () -> {
+            memberStatsCache.onEvicted("1");
+            return "stale";
+        });
+
+        // then
+        assertThat(value).isEqualTo("stale");
+        verify(redisHandler, never()).setHashValueIfVersion(anyString(), anyString(), any(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 계산 도중 무효화하면 (세대 키 증가) 계산한 값을 Redis / 로컬 캐시에 남기지 않는다")
+    void get_whenOtherNodeEvictsWhileLoading_shouldNotStore() {
+        // given (Redis 의 세대 키와 조건부 저장을 흉내냄)
+        var generation = new AtomicLong(3);
+        given(redisHandler.get("member_stats_1_gen")).willAnswer(invocation -> String.valueOf(generation.get()));
+        given(redisHandler.setHashValueIfVersion(eq("member_stats_1"), anyString(), any(), eq("member_stats_1_gen"),
+                anyString(), any()))
+            .willAnswer(invocation -> invocation.getArgument(4).equals(String.valueOf(generation.get())));
+        var loads = new AtomicInteger();
+
+        // when (첫 계산 중 다른 노드의 evict 가 세대를 올리고 hash 를 지움)
+        var stale = memberStatsCache.get(1L, MemberStatsCache.REPORT, "2025", String.class, () -> {
+            loads.incrementAndGet();
+            generation.incrementAndGet();
+            return "stale";
+        });
+        var fresh = memberStatsCache.get(1L, MemberStatsCache.REPORT, "2025", String.class,
+                () -> "fresh" + loads.incrementAndGet());
+        var cached = memberStatsCache.get(1L, MemberStatsCache.REPORT, "2025", String.class,
+                () -> "again" + loads.incrementAndGet());
+
+        // then
+        assertThat(stale).isEqualTo("stale");
+        assertThat(fresh).isEqualTo("fresh2");
+        assertThat(cached).isEqualTo("fresh2");
+        verify(redisHandler).setHashValueIfVersion(eq("member_stats_1"), eq("report_2025"), eq("stale"),
+                eq("member_stats_1_gen"), eq("3"), any());
+        verify(redisHandler).setHashValueIfVersion(eq("member_stats_1"), eq("report_2025"), eq("fresh2"),
+                eq("member_stats_1_gen"), eq("4"), any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 무효화하면 바로 Redis 키를 지우고 회원 id 를 발행한다")
+    void evictAfterCommit_withoutTransaction_shouldEvictImmediately() {
+        // given
+        memberStatsCache.get(1L, MemberStatsCache.REPORT, "2025", String.class, () -> "report");
+
+        // when
+        memberStatsCache.evictAfterCommit(List.of(1L, 2L, 1L));
+
+        // then
+        verify(redisHandler).increment("member_stats_1_gen");
+        verify(redisHandler).increment("member_stats_2_gen");
+        verify(redisHandler).expire("member_stats_1_gen", Duration.ofMinutes(360));
+        verify(redisHandler).expire("member_stats_2_gen", Duration.ofMinutes(360));
+        verify(redisHandler).deleteKeys(List.of("member_stats_1", "member_stats_2"));
+        verify(redisHandler).publish(MemberStatsCache.EVICT_CHANNEL, "1,2");
+        assertThat(memberStatsCache.stats().members()).isZero();
+    }
+
+}
@@ -0,0 +1,177 @@
+package kr.co.victoryfairy.common.cache;
+
+import io.dodn.springboot.core.enums.MatchEnum;
+import kr.co.victoryfairy.common.model.CommonDto;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import kr.co.victoryfairy.storage.db.core.entity.StadiumEntity;
+import kr.co.victoryfairy.storage.db.core.entity.TeamEntity;
+import kr.co.victoryfairy.storage.db.core.repository.StadiumRepository;
+import kr.co.victoryfairy.storage.db.core.repository.TeamRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@DisplayName("ReferenceDataCache 테스트")
+class ReferenceDataCacheTest {
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private StadiumRepository stadiumRepository;
+
+    @Mock
+    private RedisHandler redisHandler;
+
+    private ReferenceDataCache referenceDataCache;
+
+    @BeforeEach
+    void setUp() {
+        referenceDataCache = new ReferenceDataCache(teamRepository, stadiumRepository, redisHandler);
+        // 주기 갱신은 테스트에서 직접 호출
+        ReflectionTestUtils.setField(referenceDataCache, "refreshMillis", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        referenceDataCache.shutdown();
+    }
+
+    @Test
+    @DisplayName("기동 시 팀 / 경기장을 적재하고 코드별로 조회한다")
+    void initialize_shouldLoadAndIndex() {
+        // given
+        given(redisHandler.get(ReferenceDataCache.VERSION_KEY)).willReturn("1");
+        given(teamRepository.findAll()).willReturn(List.of(team(2L, "LG", (short) 2), team(1L, "SS", (short) 1)));
+        given(stadiumRepository.findAll()).willReturn(List.of(stadium(10L, "잠실", 1)));
+
+        // when
+        referenceDataCache.initialize();
+
+        // then
+        assertThat(referenceDataCache.findTeams(null)).extracting(CommonDto.TeamDto::id).containsExactly(1L, 2L);
+        assertThat(referenceDataCache.findTeams(MatchEnum.LeagueType.WBC)).isEmpty();
+        assertThat(referenceDataCache.findTeam(2L)).map(CommonDto.TeamDto::kboNm).contains("LG");
+        assertThat(referenceDataCache.findTeamByKboNm("SS")).map(CommonDto.TeamDto::id).contains(1L);
+        assertThat(referenceDataCache.findTeamMap(List.of(1L, 3L))).containsOnlyKeys(1L);
+        assertThat(referenceDataCache.findStadiumByRegion("잠실")).map(CommonDto.StadiumDto::id).contains(10L);
+        assertThat(referenceDataCache.findStadiumByExternalId(1)).isPresent();
+        assertThat(referenceDataCache.findTeam(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버전 키가 바뀐 경우에만 다시 적재한다")
+    void refreshIfChanged_shouldReloadOnlyWhenVersionChanges() {
+        // given
+        given(redisHandler.get(ReferenceDataCache.VERSION_KEY)).willReturn("1", "1", "2");
+        given(teamRepository.findAll()).willReturn(List.of(team(1L, "SS", (short) 1)),
+                List.of(team(1L, "SS", (short) 1), team(2L, "LG", (short) 2)));
+        given(stadiumRepository.findAll()).willReturn(List.of());
+        referenceDataCache.initialize();
+
+        // when
+        referenceDataCache.refreshIfChanged();
+        var beforeChange = referenceDataCache.findTeam(2L);
+        referenceDataCache.refreshIfChanged();
+
+        // then
+        assertThat(beforeChange).isEmpty();
+        assertThat(referenceDataCache.findTeam(2L)).isPresent();
+        verify(teamRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("버전 조회에 실패하면 기존 데이터를 유지한다")
+    void refreshIfChanged_whenRedisFails_shouldKeepSnapshot() {
+        // given
+        given(redisHandler.get(ReferenceDataCache.VERSION_KEY)).willReturn("1")
+            .willThrow(new IllegalStateException("down"));
+        given(teamRepository.findAll()).willReturn(List.of(team(1L, "SS", (short) 1)));
+        given(stadiumRepository.findAll()).willReturn(List.of());
+        referenceDataCache.initialize();
+
+        // when
+        referenceDataCache.refreshIfChanged();
+
+        // then
+        assertThat(referenceDataCache.findTeam(1L)).isPresent();
+        verify(teamRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경 알림은 커밋된 뒤 버전 키를 올리고 다시 적재한다")
+    void publishChangeAfterCommit_shouldWaitForCommit() {
+        // given
+        given(redisHandler.increment(ReferenceDataCache.VERSION_KEY)).willReturn(2L);
+        given(teamRepository.findAll()).willReturn(List.of(team(1L, "SS", (short) 1)));
+        given(stadiumRepository.findAll()).willReturn(List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            referenceDataCache.publishChangeAfterCommit();
+
+            // then
+            verify(redisHandler, never()).increment(ReferenceDataCache.VERSION_KEY);
+            assertThat(referenceDataCache.findTeam(1L)).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(redisHandler).increment(ReferenceDataCache.VERSION_KEY);
+            assertThat(referenceDataCache.findTeam(1L)).isPresent();
+        }
+        finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 변경 알림은 바로 버전 키를 올린다")
+    void publishChangeAfterCommit_withoutTransaction_shouldPublishNow() {
+        // given
+        given(redisHandler.increment(ReferenceDataCache.VERSION_KEY)).willReturn(3L);
+        given(teamRepository.findAll()).willReturn(List.of(team(1L, "SS", (short) 1)));
+        given(stadiumRepository.findAll()).willReturn(List.of());
+
+        // when
+        referenceDataCache.publishChangeAfterCommit();
+
+        // then
+        verify(redisHandler).increment(ReferenceDataCache.VERSION_KEY);
+        assertThat(referenceDataCache.findTeam(1L)).isPresent();
+    }
+
+    private TeamEntity team(Long id, String kboNm, short orderNo) {
+        var team = new TeamEntity(id, kboNm + " 팀", kboNm);
+        team.update(null, null, orderNo);
+        return team;
+    }
+
+    private StadiumEntity stadium(Long id, String region, Integer externalId) {
+        return StadiumEntity.builder()
+            .id(id)
+            .fullName(region + " 야구장")
+            .shortName(region)
+            .region(region)
+            .externalId(externalId)
+            .build();
+    }
+
+}
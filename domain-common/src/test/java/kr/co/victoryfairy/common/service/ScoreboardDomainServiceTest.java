@@ -0,0 +1,129 @@
+package kr.co.victoryfairy.common.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dodn.springboot.core.enums.MatchEnum;
+import kr.co.victoryfairy.common.model.ScoreboardDto;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@DisplayName("ScoreboardDomainService 테스트")
+class ScoreboardDomainServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 8, 1);
+
+    private static final String ALL_KEY = "20250801_scoreboard_ALL";
+
+    private static final String KBO_KEY = "20250801_scoreboard_KBO";
+
+    @Mock
+    private RedisHandler redisHandler;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ScoreboardDomainService scoreboardDomainService;
+
+    @BeforeEach
+    void setUp() {
+        scoreboardDomainService = new ScoreboardDomainService(redisHandler, objectMapper);
+    }
+
+    @Test
+    @DisplayName("전체 / 리그별 스냅샷을 ETag 와 함께 저장하고 처음 보는 경기는 변경분으로 발행한다")
+    void publish_shouldStoreSnapshotsAndDeltas() {
+        // when
+        scoreboardDomainService.publish(DATE, List.of(match("20250801LGOB0", "18:30", 3, 2)));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> stored = ArgumentCaptor.forClass(Map.class);
+        verify(redisHandler).setMap(eq(ALL_KEY), stored.capture());
+        assertThat(stored.getValue()).containsKeys("etag", "body");
+        assertThat(stored.getValue().get("body")).contains("20250801LGOB0");
+        verify(redisHandler).setMap(eq(KBO_KEY), anyMap());
+        verify(redisHandler).publish(eq(ScoreboardDomainService.DELTA_CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("내용이 같으면 다시 쓰지 않아 ETag 가 유지되고 변경분도 발행하지 않는다")
+    void publish_whenUnchanged_shouldSkipWrite() {
+        // given
+        var matches = List.of(match("20250801LGOB0", "18:30", 3, 2));
+        scoreboardDomainService.publish(DATE, matches);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> stored = ArgumentCaptor.forClass(Map.class);
+        verify(redisHandler).setMap(eq(ALL_KEY), stored.capture());
+        var eTag = stored.getValue().get("etag");
+        given(redisHandler.getMap(ALL_KEY)).willReturn(stored.getValue());
+        given(redisHandler.get(ALL_KEY, "etag")).willReturn(eTag);
+
+        // when
+        scoreboardDomainService.publish(DATE, matches);
+
+        // then
+        verify(redisHandler, times(1)).setMap(eq(ALL_KEY), anyMap());
+        verify(redisHandler, times(1)).publish(any(), any());
+        assertThat(scoreboardDomainService.findETag(DATE, null)).isEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("이전 스냅샷과 비교해 점수가 바뀐 경기만 변경분으로 발행한다")
+    void publish_shouldPublishOnlyChangedMatches() throws Exception {
+        // given
+        var unchanged = match("20250801LGOB0", "18:30", 3, 2);
+        var before = match("20250801SSHT0", "18:30", 0, 0);
+        var previousBody = objectMapper.writeValueAsString(new ScoreboardDto.Board(DATE, List.of(unchanged, before)));
+        given(redisHandler.getMap(ALL_KEY)).willReturn(Map.of("etag", "old", "body", previousBody));
+
+        // when
+        scoreboardDomainService.publish(DATE, List.of(unchanged, match("20250801SSHT0", "18:30", 1, 0)));
+
+        // then
+        ArgumentCaptor<String> deltas = ArgumentCaptor.forClass(String.class);
+        verify(redisHandler).publish(eq(ScoreboardDomainService.DELTA_CHANNEL), deltas.capture());
+        assertThat(deltas.getValue()).contains("20250801SSHT0");
+    }
+
+    @Test
+    @DisplayName("ETag 또는 본문이 없으면 스냅샷이 없는 것으로 본다")
+    void find_whenFieldMissing_shouldReturnEmpty() {
+        // given
+        given(redisHandler.getMap(ALL_KEY)).willReturn(Map.of("etag", "v1"));
+        given(redisHandler.getMap(KBO_KEY)).willReturn(Map.of("etag", "v1", "body", "{}"));
+
+        // when & then
+        assertThat(scoreboardDomainService.find(DATE, null)).isEmpty();
+        assertThat(scoreboardDomainService.find(DATE, MatchEnum.LeagueType.KBO))
+            .contains(new ScoreboardDto.Snapshot("v1", "{}"));
+        verify(redisHandler, never()).get(any(), any());
+    }
+
+    private ScoreboardDto.Match match(String id, String time, int awayScore, int homeScore) {
+        return new ScoreboardDto.Match(id, DATE, time, "잠실", MatchEnum.MatchStatus.PROGRESS, null,
+                new ScoreboardDto.Team(1L, "LG", (short) awayScore, null),
+                new ScoreboardDto.Team(2L, "두산", (short) homeScore, null), null, null, MatchEnum.LeagueType.KBO);
+    }
+
+}
@@ -0,0 +1,30 @@
+-- 파일 변환본 / 내용 해시 중복 제거 / 저장 이름 조회
+--
+-- 적용 순서: 이 스크립트 실행 -> core-file 배포 (-> core-batch 배포)
+-- 기존 파일은 hash 가 NULL 이라 중복 제거 대상에서 빠지고, 변환본 행이 없으면 디스크의 기존 변환본 / 원본으로 응답함
+
+-- 1. 내용 해시 (같은 hash / size 업로드는 기존 파일을 공유)
+ALTER TABLE file
+    ADD COLUMN hash VARCHAR(64) NULL COMMENT '내용 해시 (SHA-256, 같은 내용의 업로드는 이 파일을 공유)' AFTER size,
+    ADD INDEX idx_file_hash (hash);
+
+-- 2. 저장 이름 유니크 인덱스 (파일 조회 URL 이 저장 이름 기준)
+--    아래 조회 결과가 비어 있지 않으면 중복 행을 먼저 정리해야 인덱스가 만들어짐
+--    SELECT save_name, COUNT(*) FROM file GROUP BY save_name HAVING COUNT(*) > 1;
+ALTER TABLE file
+    ADD UNIQUE INDEX idx_file_save_name (save_name);
+
+-- 3. 리사이즈 / 인코딩 변환본 (너비별 1건)
+CREATE TABLE file_variant
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    file_id    BIGINT      NOT NULL,
+    width      INT         NULL COMMENT '변환 너비',
+    status     VARCHAR(20) NULL COMMENT '변환 상태',
+    size       BIGINT      NULL COMMENT '변환본 Size',
+    is_use     BIT(1)      NOT NULL DEFAULT b'1',
+    created_at DATETIME(6) NULL,
+    updated_at DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_file_variant_file FOREIGN KEY (file_id) REFERENCES file (id)
+);
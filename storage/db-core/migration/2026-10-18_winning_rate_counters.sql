@@ -0,0 +1,47 @@
+-- winning_rate 회원 / 시즌 집계 컬럼
+--
+-- 적용 순서: 이 스크립트 실행 -> core-batch 배포 (기동 시 WinningRateChecker 가 전체 시즌을 검증 / 재계산해 백필)
+--            -> core-api / core-event 배포
+-- 증감 upsert(GREATEST(col + ?, 0))는 NULL 을 0 으로 보지 않으므로 집계 컬럼은 모두 NOT NULL DEFAULT 0 이어야 함
+
+-- 1. 같은 회원 / 시즌의 중복 행 정리 (가장 먼저 만든 행만 남기고 값은 백필에서 다시 계산)
+DELETE w
+FROM winning_rate w
+         JOIN winning_rate keep
+              ON keep.member_id = w.member_id AND keep.season = w.season AND keep.id < w.id;
+
+-- 2. 기존 집계 컬럼 NULL 정리
+UPDATE winning_rate
+SET total_cnt       = COALESCE(total_cnt, 0),
+    total_win_cnt   = COALESCE(total_win_cnt, 0),
+    home_cnt        = COALESCE(home_cnt, 0),
+    home_win_cnt    = COALESCE(home_win_cnt, 0),
+    stadium_cnt     = COALESCE(stadium_cnt, 0),
+    stadium_win_cnt = COALESCE(stadium_win_cnt, 0);
+
+-- 3. 컬럼 추가 / 변경, 사용하지 않는 승률 컬럼 삭제
+ALTER TABLE winning_rate
+    MODIFY total_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '시즌 총 기록 수',
+    MODIFY total_win_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '전체 승 수',
+    MODIFY home_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '집관 기록 수',
+    MODIFY home_win_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '집관 승 수',
+    MODIFY stadium_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '직관 기록 수',
+    MODIFY stadium_win_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '직관 승 수',
+    ADD COLUMN home_lose_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '집관 패 수' AFTER home_win_cnt,
+    ADD COLUMN home_draw_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '집관 무 수' AFTER home_lose_cnt,
+    ADD COLUMN home_cancel_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '집관 취소 수' AFTER home_draw_cnt,
+    ADD COLUMN stadium_lose_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '직관 패 수' AFTER stadium_win_cnt,
+    ADD COLUMN stadium_draw_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '직관 무 수' AFTER stadium_lose_cnt,
+    ADD COLUMN stadium_cancel_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '직관 취소 수' AFTER stadium_draw_cnt,
+    ADD COLUMN stadium_home_game_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '직관 중 응원 팀 홈 경기 수'
+        AFTER stadium_cancel_cnt,
+    ADD COLUMN stadium_home_game_win_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '직관 중 응원 팀 홈 경기 승 수'
+        AFTER stadium_home_game_cnt,
+    ADD COLUMN stadium_away_game_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '직관 중 응원 팀 원정 경기 수'
+        AFTER stadium_home_game_win_cnt,
+    ADD COLUMN stadium_away_game_win_cnt SMALLINT NOT NULL DEFAULT 0 COMMENT '직관 중 응원 팀 원정 경기 승 수'
+        AFTER stadium_away_game_cnt,
+    DROP COLUMN total_avg,
+    DROP COLUMN home_avg,
+    DROP COLUMN stadium_avg,
+    ADD CONSTRAINT uk_winning_rate_member_season UNIQUE (member_id, season);
@@ -11,7 +11,7 @@ import org.springframework.context.annotation.Configuration;
 import java.util.Locale;
 
 /**
- * P6Spy 설정 - 에러 발생 시 쿼리 로깅을 위해 SQL을 ThreadLocal에 저장
+ * P6Spy 설정 - 작업 단위별 SQL 통계 수집 (prepared 문장 기준) 및 에러 발생 시 쿼리 로깅용 저장
  */
 @Configuration
 public class P6SpyConfig {
@@ -31,8 +31,8 @@ public class P6SpyConfig {
                 return "";
             }
 
-            // SQL을 ThreadLocal에 저장 (에러 시 조회용)
-            SqlLoggingHolder.addSql(sql, elapsed);
+            // 작업 단위 통계에 기록 (에러 시 조회용, 작업 단위 밖이면 무시)
+            SqlLoggingHolder.addSql(prepared, sql, elapsed);
 
             // 일반 로깅은 하지 않음 (에러 시에만 ExceptionAdvice에서 로깅)
             // 느린 쿼리만 로깅 (500ms 이상)
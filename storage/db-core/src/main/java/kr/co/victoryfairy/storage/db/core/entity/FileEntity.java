@@ -10,6 +10,8 @@ import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
 @Entity(name = "file")
+@Table(indexes = { @Index(name = "idx_file_hash", columnList = "hash"),
+        @Index(name = "idx_file_save_name", columnList = "save_name", unique = true) })
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -41,4 +43,8 @@ public class FileEntity extends BaseEntity {
     @Comment("Size")
     private Long size;
 
+    @Comment("내용 해시 (SHA-256, 같은 내용의 업로드는 이 파일을 공유)")
+    @Column(length = 64)
+    private String hash;
+
 }
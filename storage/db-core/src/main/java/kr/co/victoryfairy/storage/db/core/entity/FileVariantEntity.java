@@ -0,0 +1,50 @@
+package kr.co.victoryfairy.storage.db.core.entity;
+
+import io.dodn.springboot.core.enums.FileEnum;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+
+/**
+ * 업로드 파일의 리사이즈 / 인코딩 변환본 (너비별 1건)
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicInsert
+@DynamicUpdate
+@Entity(name = "file_variant")
+public class FileVariantEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "file_id")
+    private FileEntity fileEntity;
+
+    @Comment("변환 너비")
+    private Integer width;
+
+    @Comment("변환 상태")
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private FileEnum.VariantStatus status;
+
+    @Comment("변환본 Size")
+    private Long size;
+
+    public void ready(Long size) {
+        this.status = FileEnum.VariantStatus.READY;
+        this.size = size;
+    }
+
+    public void fail() {
+        this.status = FileEnum.VariantStatus.FAILED;
+    }
+
+}
@@ -28,4 +28,10 @@ public class StadiumEntity extends BaseEntity {
 
     private Integer externalId;
 
+    public void update(String fullName, String shortName, String region) {
+        this.fullName = fullName;
+        this.shortName = shortName;
+        this.region = region;
+    }
+
 }
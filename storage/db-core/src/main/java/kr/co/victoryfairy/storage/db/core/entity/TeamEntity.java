@@ -79,4 +79,10 @@ public class TeamEntity extends BaseEntity {
         return countryCode;
     }
 
+    public void update(String sponsorNm, String label, Short orderNo) {
+        this.sponsorNm = sponsorNm;
+        this.label = label;
+        this.orderNo = orderNo;
+    }
+
 }
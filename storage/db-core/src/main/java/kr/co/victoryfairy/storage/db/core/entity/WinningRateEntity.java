@@ -6,7 +6,14 @@ import lombok.Builder;
 import lombok.Getter;
 import org.hibernate.annotations.Comment;
 
+/**
+ * 회원 / 시즌별 응원 기록 집계
+ * <p>
+ * game_record 가 쓰이거나 바뀔 때 같은 트랜잭션에서 증감분을 반영하고, 배치가 주기적으로 원본 기록과 비교해 다르면 다시 계산합니다.
+ */
 @Entity(name = "winning_rate")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_winning_rate_member_season",
+        columnNames = { "member_id", "season" }))
 @Getter
 @AllArgsConstructor
 @Builder
@@ -29,17 +36,20 @@ public class WinningRateEntity extends BaseEntity {
     @Comment("전체 승 수")
     private Short totalWinCnt;
 
-    @Comment("전체 승률")
-    private Float totalAvg;
-
-    @Comment("집관 기룩 수")
+    @Comment("집관 기록 수")
     private Short homeCnt;
 
     @Comment("집관 승 수")
     private Short homeWinCnt;
 
-    @Comment("집관 승률")
-    private Float homeAvg;
+    @Comment("집관 패 수")
+    private Short homeLoseCnt;
+
+    @Comment("집관 무 수")
+    private Short homeDrawCnt;
+
+    @Comment("집관 취소 수")
+    private Short homeCancelCnt;
 
     @Comment("직관 기록 수")
     private Short stadiumCnt;
@@ -47,8 +57,26 @@ public class WinningRateEntity extends BaseEntity {
     @Comment("직관 승 수")
     private Short stadiumWinCnt;
 
-    @Comment("직관 승률")
-    private Float stadiumAvg;
+    @Comment("직관 패 수")
+    private Short stadiumLoseCnt;
+
+    @Comment("직관 무 수")
+    private Short stadiumDrawCnt;
+
+    @Comment("직관 취소 수")
+    private Short stadiumCancelCnt;
+
+    @Comment("직관 중 응원 팀 홈 경기 수")
+    private Short stadiumHomeGameCnt;
+
+    @Comment("직관 중 응원 팀 홈 경기 승 수")
+    private Short stadiumHomeGameWinCnt;
+
+    @Comment("직관 중 응원 팀 원정 경기 수")
+    private Short stadiumAwayGameCnt;
+
+    @Comment("직관 중 응원 팀 원정 경기 승 수")
+    private Short stadiumAwayGameWinCnt;
 
     public WinningRateEntity() {
     }
@@ -58,17 +86,4 @@ public class WinningRateEntity extends BaseEntity {
         this.season = season;
     }
 
-    public void updateWinningRate(Short totalCnt, Short totalWinCnt, Float totalAvg, Short homeCnt, Short homeWinCnt,
-            Float homeAvg, Short stadiumCnt, Short stadiumWinCnt, Float stadiumAvg) {
-        this.totalCnt = totalCnt;
-        this.totalWinCnt = totalWinCnt;
-        this.totalAvg = totalAvg;
-        this.homeCnt = homeCnt;
-        this.homeWinCnt = homeWinCnt;
-        this.homeAvg = homeAvg;
-        this.stadiumCnt = stadiumCnt;
-        this.stadiumWinCnt = stadiumWinCnt;
-        this.stadiumAvg = stadiumAvg;
-    }
-
 }
@@ -16,7 +16,18 @@ public interface DiaryModel {
     record DailyListRequest(Long memberId, LocalDate date) {
     }
 
-    record DiaryListRequest(LocalDate date, MatchEnum.MatchStatus status, Integer page, Integer size) {
+    /**
+     * @param cursor 이전 응답의 nextCursor (있으면 page 보다 우선)
+     * @param exactTotal 캐시된 총 건수 대신 정확한 건수 조회
+     */
+    record DiaryListRequest(LocalDate date, MatchEnum.MatchStatus status, Integer page, Integer size, String cursor,
+            Boolean exactTotal) {
+    }
+
+    /**
+     * 경기 종료 후 일괄 평가 대상 일기
+     */
+    record RatingTarget(Long id, Long memberId, Long teamId, DiaryEnum.ViewType viewType) {
     }
 
     @Getter
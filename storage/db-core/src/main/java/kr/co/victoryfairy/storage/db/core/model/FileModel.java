@@ -0,0 +1,17 @@
+package kr.co.victoryfairy.storage.db.core.model;
+
+public interface FileModel {
+
+    /**
+     * 정리 대상 파일 (디스크 경로 계산에 필요한 값만 조회)
+     */
+    record Orphan(Long id, String path, String saveName, String ext, Long size) {
+    }
+
+    /**
+     * 파일별 변환본 너비
+     */
+    record VariantWidth(Long fileId, Integer width) {
+    }
+
+}
@@ -0,0 +1,27 @@
+package kr.co.victoryfairy.storage.db.core.model;
+
+import io.dodn.springboot.core.enums.DiaryEnum;
+import io.dodn.springboot.core.enums.MatchEnum;
+
+import java.time.LocalDateTime;
+
+public interface GameRecordModel {
+
+    /**
+     * game_record 일괄 저장용 행 (연관 엔티티 대신 id 만 보관)
+     */
+    record InsertRow(Long memberId, Long diaryId, String gameMatchId, Long teamId, String teamName,
+            Long opponentTeamId, String opponentTeamName, Long stadiumId, DiaryEnum.ViewType viewType,
+            MatchEnum.MatchStatus status, MatchEnum.ResultType resultType, String season,
+            MatchEnum.LeagueType leagueType) {
+    }
+
+    /**
+     * 기록 통계 계산용 행 (경기 / 구장 정보를 함께 조회해 연관 엔티티를 읽지 않음)
+     */
+    record StatRow(DiaryEnum.ViewType viewType, MatchEnum.MatchStatus status, MatchEnum.ResultType resultType,
+            Long teamId, Long homeTeamId, Long opponentTeamId, String opponentTeamName, Long stadiumId,
+            String stadiumName, LocalDateTime matchAt) {
+    }
+
+}
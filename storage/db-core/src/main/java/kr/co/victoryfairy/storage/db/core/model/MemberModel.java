@@ -32,7 +32,18 @@ public interface MemberModel {
 
     }
 
-    record MemberListRequest(MemberEnum.SnsType snsType, String keyword, Integer page, Integer size) {
+    /**
+     * 푸시 발송 대상 토큰 (id 기준 페이지 조회용)
+     */
+    record FcmToken(Long id, String fcmToken) {
+    }
+
+    /**
+     * @param cursor 이전 응답의 nextCursor (있으면 page 보다 우선)
+     * @param exactTotal 캐시된 총 건수 대신 정확한 건수 조회
+     */
+    record MemberListRequest(MemberEnum.SnsType snsType, String keyword, Integer page, Integer size, String cursor,
+            Boolean exactTotal) {
     }
 
     @Getter
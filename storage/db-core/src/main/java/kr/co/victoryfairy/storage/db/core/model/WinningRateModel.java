@@ -0,0 +1,165 @@
+package kr.co.victoryfairy.storage.db.core.model;
+
+import io.dodn.springboot.core.enums.DiaryEnum;
+import io.dodn.springboot.core.enums.MatchEnum;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Predicate;
+
+public interface WinningRateModel {
+
+    /**
+     * winning_rate 집계 컬럼
+     * <p>
+     * 컬럼마다 증분 반영 조건(Java)과 재계산 조건(SQL, r = game_record, m = game_match)을 함께 두어 두 경로의 기준이 어긋나지
+     * 않도록 합니다. 승 / 패는 종료된 경기만, 무는 취소가 아닌 경기만, 취소는 경기 상태로 셉니다.
+     */
+    enum Counter {
+
+        TOTAL("total_cnt", "1 = 1", fact -> true),
+        TOTAL_WIN("total_win_cnt", "r.status = 'END' AND r.result_type = 'WIN'",
+                fact -> fact.isEnded() && fact.resultType() == MatchEnum.ResultType.WIN),
+
+        STADIUM("stadium_cnt", "r.view_type = 'STADIUM'", fact -> fact.is(DiaryEnum.ViewType.STADIUM)),
+        STADIUM_WIN("stadium_win_cnt", "r.view_type = 'STADIUM' AND r.status = 'END' AND r.result_type = 'WIN'",
+                fact -> fact.is(DiaryEnum.ViewType.STADIUM) && fact.isEnded()
+                        && fact.resultType() == MatchEnum.ResultType.WIN),
+        STADIUM_LOSE("stadium_lose_cnt", "r.view_type = 'STADIUM' AND r.status = 'END' AND r.result_type = 'LOSS'",
+                fact -> fact.is(DiaryEnum.ViewType.STADIUM) && fact.isEnded()
+                        && fact.resultType() == MatchEnum.ResultType.LOSS),
+        STADIUM_DRAW("stadium_draw_cnt",
+                "r.view_type = 'STADIUM' AND COALESCE(r.status, '') <> 'CANCELED' AND r.result_type = 'DRAW'",
+                fact -> fact.is(DiaryEnum.ViewType.STADIUM) && !fact.isCanceled()
+                        && fact.resultType() == MatchEnum.ResultType.DRAW),
+        STADIUM_CANCEL("stadium_cancel_cnt", "r.view_type = 'STADIUM' AND r.status = 'CANCELED'",
+                fact -> fact.is(DiaryEnum.ViewType.STADIUM) && fact.isCanceled()),
+
+        HOME("home_cnt", "r.view_type = 'HOME'", fact -> fact.is(DiaryEnum.ViewType.HOME)),
+        HOME_WIN("home_win_cnt", "r.view_type = 'HOME' AND r.status = 'END' AND r.result_type = 'WIN'",
+                fact -> fact.is(DiaryEnum.ViewType.HOME) && fact.isEnded()
+                        && fact.resultType() == MatchEnum.ResultType.WIN),
+        HOME_LOSE("home_lose_cnt", "r.view_type = 'HOME' AND r.status = 'END' AND r.result_type = 'LOSS'",
+                fact -> fact.is(DiaryEnum.ViewType.HOME) && fact.isEnded()
+                        && fact.resultType() == MatchEnum.ResultType.LOSS),
+        HOME_DRAW("home_draw_cnt",
+                "r.view_type = 'HOME' AND COALESCE(r.status, '') <> 'CANCELED' AND r.result_type = 'DRAW'",
+                fact -> fact.is(DiaryEnum.ViewType.HOME) && !fact.isCanceled()
+                        && fact.resultType() == MatchEnum.ResultType.DRAW),
+        HOME_CANCEL("home_cancel_cnt", "r.view_type = 'HOME' AND r.status = 'CANCELED'",
+                fact -> fact.is(DiaryEnum.ViewType.HOME) && fact.isCanceled()),
+
+        // 직관 중 응원 팀이 홈 / 원정이었던 경기
+        STADIUM_HOME_GAME("stadium_home_game_cnt", "r.view_type = 'STADIUM' AND m.home_id <=> r.team_id",
+                fact -> fact.is(DiaryEnum.ViewType.STADIUM) && fact.homeTeam()),
+        STADIUM_HOME_GAME_WIN("stadium_home_game_win_cnt",
+                "r.view_type = 'STADIUM' AND m.home_id <=> r.team_id AND r.result_type = 'WIN'",
+                fact -> fact.is(DiaryEnum.ViewType.STADIUM) && fact.homeTeam()
+                        && fact.resultType() == MatchEnum.ResultType.WIN),
+        STADIUM_AWAY_GAME("stadium_away_game_cnt", "r.view_type = 'STADIUM' AND NOT (m.home_id <=> r.team_id)",
+                fact -> fact.is(DiaryEnum.ViewType.STADIUM) && !fact.homeTeam()),
+        STADIUM_AWAY_GAME_WIN("stadium_away_game_win_cnt",
+                "r.view_type = 'STADIUM' AND NOT (m.home_id <=> r.team_id) AND r.result_type = 'WIN'",
+                fact -> fact.is(DiaryEnum.ViewType.STADIUM) && !fact.homeTeam()
+                        && fact.resultType() == MatchEnum.ResultType.WIN);
+
+        private final String column;
+
+        private final String condition;
+
+        private final Predicate<Fact> predicate;
+
+        Counter(String column, String condition, Predicate<Fact> predicate) {
+            this.column = column;
+            this.condition = condition;
+            this.predicate = predicate;
+        }
+
+        public String column() {
+            return column;
+        }
+
+        public String condition() {
+            return condition;
+        }
+
+        public boolean test(Fact fact) {
+            return predicate.test(fact);
+        }
+
+    }
+
+    /**
+     * 집계에 필요한 game_record 한 건의 값
+     * @param homeTeam 응원 팀이 해당 경기의 홈 팀인지 여부
+     */
+    record Fact(DiaryEnum.ViewType viewType, MatchEnum.MatchStatus status, MatchEnum.ResultType resultType,
+            boolean homeTeam) {
+
+        boolean is(DiaryEnum.ViewType type) {
+            return viewType == type;
+        }
+
+        boolean isEnded() {
+            return status == MatchEnum.MatchStatus.END;
+        }
+
+        boolean isCanceled() {
+            return status == MatchEnum.MatchStatus.CANCELED;
+        }
+
+    }
+
+    /**
+     * 회원 / 시즌 집계 증감분 (counts 는 {@link Counter} 순서)
+     */
+    record Delta(Long memberId, String season, int[] counts) {
+
+        /**
+         * @param sign 기록 추가는 1, 삭제는 -1
+         */
+        public static Delta of(Long memberId, String season, Fact fact, int sign) {
+            var counts = new int[Counter.values().length];
+            for (Counter counter : Counter.values()) {
+                counts[counter.ordinal()] = counter.test(fact) ? sign : 0;
+            }
+            return new Delta(memberId, season, counts);
+        }
+
+        /**
+         * 같은 회원 / 시즌 증감분을 한 행으로 합침
+         */
+        public static List<Delta> merge(Collection<Delta> deltas) {
+            var merged = new LinkedHashMap<String, Delta>();
+            deltas.forEach(delta -> merged.merge(delta.memberId() + "_" + delta.season(), delta, Delta::plus));
+            return merged.values().stream().filter(delta -> !delta.isEmpty()).toList();
+        }
+
+        public int count(Counter counter) {
+            return counts[counter.ordinal()];
+        }
+
+        public Delta plus(Delta other) {
+            var sum = Arrays.copyOf(counts, counts.length);
+            for (int i = 0; i < sum.length; i++) {
+                sum[i] += other.counts()[i];
+            }
+            return new Delta(memberId, season, sum);
+        }
+
+        public boolean isEmpty() {
+            return Arrays.stream(counts).allMatch(count -> count == 0);
+        }
+
+    }
+
+    /**
+     * 집계와 원본 기록이 다른 회원
+     * @param counters 값이 다른 집계 컬럼
+     */
+    record Mismatch(Long memberId, String season, List<Counter> counters) {
+    }
+
+}
@@ -4,6 +4,7 @@ import kr.co.victoryfairy.storage.db.core.model.DiaryModel;
 import kr.co.victoryfairy.support.model.PageResult;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface DiaryCustomRepository {
@@ -14,4 +15,8 @@ public interface DiaryCustomRepository {
 
     PageResult<DiaryModel.DiaryListResponse> findAll(DiaryModel.DiaryListRequest request);
 
+    List<DiaryModel.RatingTarget> findUnratedByGameMatchId(String gameMatchId);
+
+    long updateRated(Collection<Long> diaryIds);
+
 }
@@ -1,12 +1,27 @@
 package kr.co.victoryfairy.storage.db.core.repository;
 
-import kr.co.victoryfairy.storage.db.core.entity.FileEntity;
+import kr.co.victoryfairy.storage.db.core.model.FileModel;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface FileCustomRepository {
 
-    List<FileEntity> findMissingFile(LocalDateTime date);
+    /**
+     * 참조(사용 중인 FileRef)가 하나도 없고 {@code date} 이후 등록 / 재사용되지 않은 파일 (id 오름차순 페이지)
+     * @param lastId 이전 페이지의 마지막 id (첫 페이지는 null)
+     */
+    List<FileModel.Orphan> findMissingFile(LocalDateTime date, Long lastId, int size);
+
+    /**
+     * 주어진 파일 중 사용 중인 FileRef 가 있는 파일 id
+     */
+    List<Long> findReferencedIds(Collection<Long> fileIds);
+
+    /**
+     * 미사용 FileRef, 변환본 행을 먼저 지운 뒤 파일 행 삭제
+     */
+    long deleteFiles(Collection<Long> fileIds);
 
 }
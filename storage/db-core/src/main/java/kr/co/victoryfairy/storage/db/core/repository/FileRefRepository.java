@@ -10,7 +10,10 @@ import java.util.Optional;
 
 public interface FileRefRepository extends JpaRepository<FileRefEntity, Long> {
 
-    Optional<FileRefEntity> findByFileEntityIdAndIsUseTrue(Long fileId);
+    /**
+     * 파일 참조 수 (여러 업로드가 같은 파일을 공유하므로 0 이 되어야 삭제 대상)
+     */
+    long countByFileEntityIdAndIsUseTrue(Long fileId);
 
     @EntityGraph(attributePaths = { "fileEntity" })
     List<FileRefEntity> findByRefTypeAndRefIdInAndIsUseTrue(RefType refType, List<Long> refIds);
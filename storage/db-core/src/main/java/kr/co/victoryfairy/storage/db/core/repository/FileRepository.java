@@ -8,4 +8,8 @@ import java.util.Optional;
 
 public interface FileRepository extends JpaRepository<FileEntity, Long> {
 
+    Optional<FileEntity> findFirstByHashAndSizeOrderByIdAsc(String hash, Long size);
+
+    Optional<FileEntity> findBySaveName(String saveName);
+
 }
@@ -0,0 +1,22 @@
+package kr.co.victoryfairy.storage.db.core.repository;
+
+import kr.co.victoryfairy.storage.db.core.model.FileModel;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface FileVariantCustomRepository {
+
+    /**
+     * 변환 대기 중인 변환본이 남아 있는 파일 id (재처리용)
+     * @param before 이 시각 이전에 등록된 변환본만 조회
+     */
+    List<Long> findPendingFileIds(LocalDateTime before, int limit);
+
+    /**
+     * 파일별로 등록된 변환본 너비 (상태 무관)
+     */
+    List<FileModel.VariantWidth> findWidths(Collection<Long> fileIds);
+
+}
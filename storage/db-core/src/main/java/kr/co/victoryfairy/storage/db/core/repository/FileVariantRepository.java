@@ -0,0 +1,15 @@
+package kr.co.victoryfairy.storage.db.core.repository;
+
+import io.dodn.springboot.core.enums.FileEnum;
+import kr.co.victoryfairy.storage.db.core.entity.FileVariantEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface FileVariantRepository extends JpaRepository<FileVariantEntity, Long> {
+
+    List<FileVariantEntity> findAllByFileEntityId(Long fileId);
+
+    List<FileVariantEntity> findAllByFileEntityIdAndStatus(Long fileId, FileEnum.VariantStatus status);
+
+}
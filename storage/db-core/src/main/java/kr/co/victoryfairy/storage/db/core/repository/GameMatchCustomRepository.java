@@ -4,6 +4,7 @@ import io.dodn.springboot.core.enums.MatchEnum;
 import kr.co.victoryfairy.storage.db.core.entity.GameMatchEntity;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +20,10 @@ public interface GameMatchCustomRepository {
 
     List<GameMatchEntity> findByYearAndMonthAndEqLeague(String year, String month, MatchEnum.LeagueType league);
 
+    /**
+     * 경기 내용 크롤링 완료 처리
+     * @return 변경된 경기 수
+     */
+    long updateMatchInfoCraw(Collection<String> ids);
+
 }
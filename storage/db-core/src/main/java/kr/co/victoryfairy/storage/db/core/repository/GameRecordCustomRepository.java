@@ -0,0 +1,20 @@
+package kr.co.victoryfairy.storage.db.core.repository;
+
+import kr.co.victoryfairy.storage.db.core.model.GameRecordModel;
+
+import java.util.List;
+
+public interface GameRecordCustomRepository {
+
+    /**
+     * game_record JDBC 배치 저장
+     * @return 저장된 행 수
+     */
+    int saveAllInBatch(List<GameRecordModel.InsertRow> rows);
+
+    /**
+     * 회원 시즌 기록 통계용 조회 (경기 시각 순)
+     */
+    List<GameRecordModel.StatRow> findStatRows(Long memberId, String season);
+
+}
@@ -0,0 +1,15 @@
+package kr.co.victoryfairy.storage.db.core.repository;
+
+import kr.co.victoryfairy.storage.db.core.entity.HitterRecordEntity;
+
+import java.util.List;
+
+public interface HitterRecordCustomRepository {
+
+    /**
+     * hitter_record JDBC 배치 저장
+     * @return 저장된 행 수
+     */
+    int saveAllInBatch(List<HitterRecordEntity> records);
+
+}
@@ -3,6 +3,7 @@ package kr.co.victoryfairy.storage.db.core.repository;
 import kr.co.victoryfairy.storage.db.core.model.MemberModel;
 import kr.co.victoryfairy.support.model.PageResult;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,16 @@ public interface MemberCustomRepository {
 
     PageResult<MemberModel.MemberListResponse> findAll(MemberModel.MemberListRequest request);
 
-    List<MemberModel.MemberInfo> findFcmTokenByTeamId(Long awayId, Long homeId);
+    /**
+     * 응원 팀 회원의 fcm 토큰 페이지 조회 (id 오름차순)
+     * @param lastId 이전 페이지의 마지막 회원 id (첫 페이지는 null)
+     */
+    List<MemberModel.FcmToken> findFcmTokenByTeamId(Long awayId, Long homeId, Long lastId, int size);
+
+    /**
+     * 만료된 fcm 토큰 일괄 삭제
+     * @return 변경된 회원 수
+     */
+    long clearFcmTokens(Collection<String> fcmTokens);
 
 }
@@ -0,0 +1,15 @@
+package kr.co.victoryfairy.storage.db.core.repository;
+
+import kr.co.victoryfairy.storage.db.core.entity.PitcherRecordEntity;
+
+import java.util.List;
+
+public interface PitcherRecordCustomRepository {
+
+    /**
+     * pitcher_record JDBC 배치 저장
+     * @return 저장된 행 수
+     */
+    int saveAllInBatch(List<PitcherRecordEntity> records);
+
+}
@@ -0,0 +1,34 @@
+package kr.co.victoryfairy.storage.db.core.repository;
+
+import kr.co.victoryfairy.storage.db.core.model.WinningRateModel;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface WinningRateCustomRepository {
+
+    /**
+     * 증감분 반영 (회원 / 시즌 행이 없으면 생성, 호출한 트랜잭션에 포함)
+     * @return 반영한 행 수
+     */
+    int applyAll(Collection<WinningRateModel.Delta> deltas);
+
+    /**
+     * game_record 로 시즌 집계 재계산 (기록이 없는 회원의 행은 삭제)
+     * @return 다시 계산한 회원 수
+     */
+    int rebuild(String season);
+
+    /**
+     * 저장된 집계와 game_record 로 계산한 값이 다른 회원
+     */
+    List<WinningRateModel.Mismatch> findMismatches(String season);
+
+    /**
+     * game_record 에 존재하는 시즌
+     */
+    List<String> findSeasons();
+
+    long deleteByMemberId(Long memberId);
+
+}
@@ -11,9 +11,8 @@ import kr.co.victoryfairy.storage.db.core.entity.DiaryEntity;
 import kr.co.victoryfairy.storage.db.core.entity.QTeamEntity;
 import kr.co.victoryfairy.storage.db.core.model.DiaryModel;
 import kr.co.victoryfairy.storage.db.core.repository.DiaryCustomRepository;
-import kr.co.victoryfairy.storage.db.core.utils.PageUtils;
+import kr.co.victoryfairy.storage.db.core.utils.KeysetPager;
 import kr.co.victoryfairy.support.model.PageResult;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.stereotype.Repository;
 
@@ -21,6 +20,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.List;
 
 import static kr.co.victoryfairy.storage.db.core.entity.QDiaryEntity.diaryEntity;
@@ -40,9 +40,12 @@ public class DiaryCustomRepositoryImpl extends QuerydslRepositorySupport impleme
 
     private final JPAQueryFactory jpaQueryFactory;
 
-    public DiaryCustomRepositoryImpl(JPAQueryFactory jpaQueryFactory) {
+    private final KeysetPager keysetPager;
+
+    public DiaryCustomRepositoryImpl(JPAQueryFactory jpaQueryFactory, KeysetPager keysetPager) {
         super(DiaryEntity.class);
         this.jpaQueryFactory = jpaQueryFactory;
+        this.keysetPager = keysetPager;
     }
 
     @Override
@@ -91,8 +94,6 @@ public class DiaryCustomRepositoryImpl extends QuerydslRepositorySupport impleme
 
     @Override
     public PageResult<DiaryModel.DiaryListResponse> findAll(DiaryModel.DiaryListRequest request) {
-        var pageRequest = PageRequest.of(request.page() - 1, request.size());
-
         var query = jpaQueryFactory
             .select(Projections.fields(DiaryModel.DiaryListResponse.class, diaryEntity.id, teamEntity.id.as("teamId"),
                     teamEntity.name.as("teamName"), diaryEntity.content, memberEntity.id.as("memberId"),
@@ -111,10 +112,34 @@ public class DiaryCustomRepositoryImpl extends QuerydslRepositorySupport impleme
             // .leftJoin(partnerEntity).on(diaryEntity.id.eq(partnerEntity.diaryEntity.id))
             // .leftJoin(seatUseHistoryEntity).on(diaryEntity.id.eq(seatUseHistoryEntity.diaryEntity.id))
             // .leftJoin(seatEntity).on(seatUseHistoryEntity.seatEntity.id.eq(seatEntity.id))
-            .orderBy(diaryEntity.id.desc())
-            .where(this.eqMatchAt(request.date()), this.eqStatus(request.status()));
+            .where(this.betweenMatchAt(request.date(), request.date()), this.eqStatus(request.status()));
+
+        var countKey = "diary:" + request.date() + ":" + request.status();
+        return keysetPager.fetch(query, diaryEntity.id, DiaryModel.DiaryListResponse::getId,
+                new KeysetPager.Request(countKey, request.cursor(), request.page(), request.size(),
+                        Boolean.TRUE.equals(request.exactTotal())));
+    }
+
+    @Override
+    public List<DiaryModel.RatingTarget> findUnratedByGameMatchId(String gameMatchId) {
+        return jpaQueryFactory
+            .select(Projections.constructor(DiaryModel.RatingTarget.class, diaryEntity.id, diaryEntity.member.id,
+                    diaryEntity.teamEntity.id, diaryEntity.viewType))
+            .from(diaryEntity)
+            .where(diaryEntity.gameMatchEntity.id.eq(gameMatchId).and(diaryEntity.isRated.isFalse()))
+            .fetch();
+    }
 
-        return PageUtils.getPageResult(query, pageRequest);
+    @Override
+    public long updateRated(Collection<Long> diaryIds) {
+        if (diaryIds.isEmpty()) {
+            return 0;
+        }
+        return jpaQueryFactory.update(diaryEntity)
+            .set(diaryEntity.isRated, true)
+            .set(diaryEntity.updatedAt, LocalDateTime.now())
+            .where(diaryEntity.id.in(diaryIds).and(diaryEntity.isRated.isFalse()))
+            .execute();
     }
 
     private BooleanExpression betweenMatchAt(LocalDate startDate, LocalDate endDate) {
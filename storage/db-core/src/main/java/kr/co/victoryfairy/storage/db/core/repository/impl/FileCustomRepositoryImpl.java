@@ -4,16 +4,19 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import kr.co.victoryfairy.storage.db.core.entity.FileEntity;
 import kr.co.victoryfairy.storage.db.core.entity.QFileRefEntity;
+import kr.co.victoryfairy.storage.db.core.model.FileModel;
 import kr.co.victoryfairy.storage.db.core.repository.FileCustomRepository;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import static kr.co.victoryfairy.storage.db.core.entity.QFileEntity.fileEntity;
 import static kr.co.victoryfairy.storage.db.core.entity.QFileRefEntity.fileRefEntity;
+import static kr.co.victoryfairy.storage.db.core.entity.QFileVariantEntity.fileVariantEntity;
 
 @Service
 public class FileCustomRepositoryImpl extends QuerydslRepositorySupport implements FileCustomRepository {
@@ -26,15 +29,47 @@ public class FileCustomRepositoryImpl extends QuerydslRepositorySupport implemen
     }
 
     @Override
-    public List<FileEntity> findMissingFile(LocalDateTime date) {
+    public List<FileModel.Orphan> findMissingFile(LocalDateTime date, Long lastId, int size) {
+        var activeRef = new QFileRefEntity("activeRef");
         return jpaQueryFactory
-            .select(Projections.fields(FileEntity.class, fileEntity.id, fileEntity.name, fileEntity.saveName,
-                    fileEntity.path, fileEntity.ext, fileEntity.size))
+            .select(Projections.constructor(FileModel.Orphan.class, fileEntity.id, fileEntity.path,
+                    fileEntity.saveName, fileEntity.ext, fileEntity.size))
             .from(fileEntity)
-            .leftJoin(fileRefEntity)
-            .on(fileEntity.id.eq(fileRefEntity.fileEntity.id))
-            .where(fileRefEntity.fileEntity.id.isNull().and(fileEntity.createdAt.before(date)))
+            .leftJoin(activeRef)
+            .on(fileEntity.id.eq(activeRef.fileEntity.id).and(activeRef.isUse.eq(true)))
+            .where(activeRef.id.isNull()
+                .and(lastId != null ? fileEntity.id.gt(lastId) : null)
+                .and(fileEntity.createdAt.before(date))
+                // 중복 업로드로 재사용된 파일은 마지막 재사용 시점부터 다시 유예
+                .and(fileEntity.updatedAt.isNull().or(fileEntity.updatedAt.before(date))))
+            .orderBy(fileEntity.id.asc())
+            .limit(size)
             .fetch();
     }
 
+    @Override
+    public List<Long> findReferencedIds(Collection<Long> fileIds) {
+        if (fileIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaQueryFactory.select(fileRefEntity.fileEntity.id)
+            .distinct()
+            .from(fileRefEntity)
+            .where(fileRefEntity.fileEntity.id.in(fileIds).and(fileRefEntity.isUse.eq(true)))
+            .fetch();
+    }
+
+    @Override
+    @Transactional
+    public long deleteFiles(Collection<Long> fileIds) {
+        if (fileIds.isEmpty()) {
+            return 0;
+        }
+        jpaQueryFactory.delete(fileRefEntity)
+            .where(fileRefEntity.fileEntity.id.in(fileIds).and(fileRefEntity.isUse.eq(false)))
+            .execute();
+        jpaQueryFactory.delete(fileVariantEntity).where(fileVariantEntity.fileEntity.id.in(fileIds)).execute();
+        return jpaQueryFactory.delete(fileEntity).where(fileEntity.id.in(fileIds)).execute();
+    }
+
 }
@@ -0,0 +1,53 @@
+package kr.co.victoryfairy.storage.db.core.repository.impl;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.dodn.springboot.core.enums.FileEnum;
+import kr.co.victoryfairy.storage.db.core.entity.FileVariantEntity;
+import kr.co.victoryfairy.storage.db.core.model.FileModel;
+import kr.co.victoryfairy.storage.db.core.repository.FileVariantCustomRepository;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static kr.co.victoryfairy.storage.db.core.entity.QFileVariantEntity.fileVariantEntity;
+
+@Service
+public class FileVariantCustomRepositoryImpl extends QuerydslRepositorySupport implements FileVariantCustomRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    public FileVariantCustomRepositoryImpl(JPAQueryFactory jpaQueryFactory) {
+        super(FileVariantEntity.class);
+        this.jpaQueryFactory = jpaQueryFactory;
+    }
+
+    @Override
+    public List<Long> findPendingFileIds(LocalDateTime before, int limit) {
+        return jpaQueryFactory.select(fileVariantEntity.fileEntity.id)
+            .distinct()
+            .from(fileVariantEntity)
+            .where(fileVariantEntity.status.eq(FileEnum.VariantStatus.PENDING)
+                .and(fileVariantEntity.createdAt.before(before)))
+            .orderBy(fileVariantEntity.fileEntity.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<FileModel.VariantWidth> findWidths(Collection<Long> fileIds) {
+        if (fileIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaQueryFactory
+            .select(Projections.constructor(FileModel.VariantWidth.class, fileVariantEntity.fileEntity.id,
+                    fileVariantEntity.width))
+            .from(fileVariantEntity)
+            .where(fileVariantEntity.fileEntity.id.in(fileIds))
+            .fetch();
+    }
+
+}
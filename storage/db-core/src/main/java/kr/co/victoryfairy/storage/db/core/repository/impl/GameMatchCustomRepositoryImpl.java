@@ -13,6 +13,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -133,6 +134,17 @@ public class GameMatchCustomRepositoryImpl extends QuerydslRepositorySupport imp
             .fetch();
     }
 
+    @Override
+    public long updateMatchInfoCraw(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaQueryFactory.update(gameMatchEntity)
+            .set(gameMatchEntity.isMatchInfoCraw, true)
+            .where(gameMatchEntity.id.in(ids))
+            .execute();
+    }
+
     private BooleanExpression eqMatchAt(LocalDate matchAt) {
         if (matchAt == null) {
             return null;
@@ -0,0 +1,91 @@
+package kr.co.victoryfairy.storage.db.core.repository.impl;
+
+import io.dodn.springboot.core.enums.DiaryEnum;
+import io.dodn.springboot.core.enums.MatchEnum;
+import kr.co.victoryfairy.storage.db.core.model.GameRecordModel;
+import kr.co.victoryfairy.storage.db.core.repository.GameRecordCustomRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+@Repository
+public class GameRecordCustomRepositoryImpl implements GameRecordCustomRepository {
+
+    // IDENTITY 전략은 Hibernate 배치 insert 가 동작하지 않으므로 JDBC 배치로 저장
+    // (다중 행 insert 로 합쳐 보내려면 DB URL 에 rewriteBatchedStatements=true 필요, 없으면 행마다 전송)
+    private static final String INSERT_SQL = """
+            INSERT INTO game_record (member_id, diary_id, game_match_id, team_id, team_name, opponent_team_id,
+                opponent_team_name, stadium_id, view_type, status, result_type, season, league_type, is_use,
+                created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String STAT_SQL = """
+            SELECT r.view_type, r.status, r.result_type, r.team_id, m.home_id, r.opponent_team_id,
+                r.opponent_team_name, r.stadium_id, s.full_name, m.match_at
+            FROM game_record r
+                JOIN game_match m ON m.id = r.game_match_id
+                LEFT JOIN stadium s ON s.id = r.stadium_id
+            WHERE r.member_id = ? AND r.season = ?
+            ORDER BY m.match_at, r.id
+            """;
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GameRecordCustomRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int saveAllInBatch(List<GameRecordModel.InsertRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        var result = jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setObject(1, row.memberId(), Types.BIGINT);
+            ps.setObject(2, row.diaryId(), Types.BIGINT);
+            ps.setString(3, row.gameMatchId());
+            ps.setObject(4, row.teamId(), Types.BIGINT);
+            ps.setString(5, row.teamName());
+            ps.setObject(6, row.opponentTeamId(), Types.BIGINT);
+            ps.setString(7, row.opponentTeamName());
+            ps.setObject(8, row.stadiumId(), Types.BIGINT);
+            ps.setString(9, row.viewType() != null ? row.viewType().name() : null);
+            ps.setString(10, row.status() != null ? row.status().name() : null);
+            ps.setString(11, row.resultType() != null ? row.resultType().name() : null);
+            ps.setString(12, row.season());
+            ps.setString(13, row.leagueType() != null ? row.leagueType().name() : null);
+            ps.setBoolean(14, true);
+            ps.setTimestamp(15, now);
+            ps.setTimestamp(16, now);
+        });
+
+        return Arrays.stream(result).flatMapToInt(Arrays::stream).map(count -> Math.max(count, 1)).sum();
+    }
+
+    @Override
+    public List<GameRecordModel.StatRow> findStatRows(Long memberId, String season) {
+        return jdbcTemplate.query(STAT_SQL, (rs, rowNum) -> {
+            var matchAt = rs.getTimestamp(10);
+            return new GameRecordModel.StatRow(toEnum(DiaryEnum.ViewType.class, rs.getString(1)),
+                    toEnum(MatchEnum.MatchStatus.class, rs.getString(2)),
+                    toEnum(MatchEnum.ResultType.class, rs.getString(3)), rs.getObject(4, Long.class),
+                    rs.getObject(5, Long.class), rs.getObject(6, Long.class), rs.getString(7),
+                    rs.getObject(8, Long.class), rs.getString(9), matchAt != null ? matchAt.toLocalDateTime() : null);
+        }, memberId, season);
+    }
+
+    private static <E extends Enum<E>> E toEnum(Class<E> type, String value) {
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+
+}
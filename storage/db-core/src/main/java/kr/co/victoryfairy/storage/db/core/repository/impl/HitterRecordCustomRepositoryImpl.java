@@ -0,0 +1,60 @@
+package kr.co.victoryfairy.storage.db.core.repository.impl;
+
+import kr.co.victoryfairy.storage.db.core.entity.HitterRecordEntity;
+import kr.co.victoryfairy.storage.db.core.repository.HitterRecordCustomRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+@Repository
+public class HitterRecordCustomRepositoryImpl implements HitterRecordCustomRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO hitter_record (turn, name, position, hit_count, score, hit, home_run, hit_score, ball_four,
+                strike_out, game_match_id, season, is_home, is_use, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public HitterRecordCustomRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int saveAllInBatch(List<HitterRecordEntity> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        var result = jdbcTemplate.batchUpdate(INSERT_SQL, records, BATCH_SIZE, (ps, record) -> {
+            ps.setObject(1, record.getTurn(), Types.SMALLINT);
+            ps.setString(2, record.getName());
+            ps.setString(3, record.getPosition());
+            ps.setObject(4, record.getHitCount(), Types.SMALLINT);
+            ps.setObject(5, record.getScore(), Types.SMALLINT);
+            ps.setObject(6, record.getHit(), Types.SMALLINT);
+            ps.setObject(7, record.getHomeRun(), Types.SMALLINT);
+            ps.setObject(8, record.getHitScore(), Types.SMALLINT);
+            ps.setObject(9, record.getBallFour(), Types.SMALLINT);
+            ps.setObject(10, record.getStrikeOut(), Types.SMALLINT);
+            ps.setString(11, record.getGameMatchEntity() != null ? record.getGameMatchEntity().getId() : null);
+            ps.setString(12, record.getSeason());
+            ps.setObject(13, record.getHome(), Types.BOOLEAN);
+            ps.setBoolean(14, true);
+            ps.setTimestamp(15, now);
+            ps.setTimestamp(16, now);
+        });
+
+        return Arrays.stream(result).flatMapToInt(Arrays::stream).map(count -> Math.max(count, 1)).sum();
+    }
+
+}
@@ -8,13 +8,14 @@ import io.dodn.springboot.core.enums.RefType;
 import kr.co.victoryfairy.storage.db.core.entity.MemberEntity;
 import kr.co.victoryfairy.storage.db.core.model.MemberModel;
 import kr.co.victoryfairy.storage.db.core.repository.MemberCustomRepository;
-import kr.co.victoryfairy.storage.db.core.utils.PageUtils;
+import kr.co.victoryfairy.storage.db.core.utils.KeysetPager;
 import kr.co.victoryfairy.support.model.PageResult;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,9 +30,12 @@ public class MemberCustomRepositoryImpl extends QuerydslRepositorySupport implem
 
     private final JPAQueryFactory jpaQueryFactory;
 
-    public MemberCustomRepositoryImpl(JPAQueryFactory jpaQueryFactory) {
+    private final KeysetPager keysetPager;
+
+    public MemberCustomRepositoryImpl(JPAQueryFactory jpaQueryFactory, KeysetPager keysetPager) {
         super(MemberEntity.class);
         this.jpaQueryFactory = jpaQueryFactory;
+        this.keysetPager = keysetPager;
     }
 
     @Override
@@ -58,8 +62,6 @@ public class MemberCustomRepositoryImpl extends QuerydslRepositorySupport implem
 
     @Override
     public PageResult<MemberModel.MemberListResponse> findAll(MemberModel.MemberListRequest request) {
-        var pageRequest = PageRequest.of(request.page() - 1, request.size());
-
         var query = jpaQueryFactory
             .select(Projections.fields(MemberModel.MemberListResponse.class, memberEntity.id, memberInfoEntity.nickNm,
                     memberInfoEntity.snsType, memberInfoEntity.email, teamEntity.id.as("teamId"),
@@ -76,31 +78,49 @@ public class MemberCustomRepositoryImpl extends QuerydslRepositorySupport implem
                 .and(fileRefEntity.isUse.eq(true)))
             .leftJoin(fileEntity)
             .on(fileRefEntity.fileEntity.id.eq(fileEntity.id))
-            .orderBy(memberEntity.id.desc())
             .where(this.likeKeyword(request.keyword()), eqSnsType(request.snsType()));
-        return PageUtils.getPageResult(query, pageRequest);
+
+        var countKey = "member:" + request.snsType() + ":" + request.keyword();
+        return keysetPager.fetch(query, memberEntity.id, MemberModel.MemberListResponse::getId,
+                new KeysetPager.Request(countKey, request.cursor(), request.page(), request.size(),
+                        Boolean.TRUE.equals(request.exactTotal())));
     }
 
     @Override
-    public List<MemberModel.MemberInfo> findFcmTokenByTeamId(Long awayId, Long homeId) {
+    public List<MemberModel.FcmToken> findFcmTokenByTeamId(Long awayId, Long homeId, Long lastId, int size) {
         return jpaQueryFactory
-            .select(Projections.fields(MemberModel.MemberInfo.class, memberEntity.id, memberEntity.fcmToken,
-                    memberInfoEntity.nickNm, memberInfoEntity.snsType, teamEntity.id.as("teamId"),
-                    teamEntity.name.as("teamName"), teamEntity.sponsorNm))
+            .select(Projections.constructor(MemberModel.FcmToken.class, memberEntity.id, memberEntity.fcmToken))
             .from(memberEntity)
             .innerJoin(memberInfoEntity)
             .on(memberInfoEntity.memberEntity.id.eq(memberEntity.id))
-            .leftJoin(teamEntity)
-            .on(memberInfoEntity.teamEntity.id.eq(teamEntity.id))
-            .where(memberInfoEntity.teamEntity.id.in(awayId, homeId))
+            .where(memberInfoEntity.teamEntity.id.in(awayId, homeId), memberEntity.fcmToken.isNotNull(),
+                    memberEntity.fcmToken.ne(""), gtId(lastId))
+            .orderBy(memberEntity.id.asc())
+            .limit(size)
             .fetch();
     }
 
+    @Override
+    @Transactional
+    public long clearFcmTokens(Collection<String> fcmTokens) {
+        if (fcmTokens.isEmpty()) {
+            return 0;
+        }
+        return jpaQueryFactory.update(memberEntity)
+            .setNull(memberEntity.fcmToken)
+            .where(memberEntity.fcmToken.in(fcmTokens))
+            .execute();
+    }
+
     private BooleanExpression likeKeyword(String keyword) {
         return StringUtils.hasText(keyword)
                 ? memberInfoEntity.nickNm.like(keyword).or(memberInfoEntity.email.like(keyword)) : null;
     }
 
+    private BooleanExpression gtId(Long lastId) {
+        return lastId != null ? memberEntity.id.gt(lastId) : null;
+    }
+
     private BooleanExpression eqSnsType(MemberEnum.SnsType snsType) {
         return snsType != null ? memberInfoEntity.snsType.eq(snsType) : null;
     }
@@ -0,0 +1,60 @@
+package kr.co.victoryfairy.storage.db.core.repository.impl;
+
+import kr.co.victoryfairy.storage.db.core.entity.PitcherRecordEntity;
+import kr.co.victoryfairy.storage.db.core.repository.PitcherRecordCustomRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+@Repository
+public class PitcherRecordCustomRepositoryImpl implements PitcherRecordCustomRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO pitcher_record (turn, name, position, inning, pitching, ball_four, strike_out, hit, home_run,
+                score, game_match_id, season, is_home, is_use, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PitcherRecordCustomRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int saveAllInBatch(List<PitcherRecordEntity> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        var result = jdbcTemplate.batchUpdate(INSERT_SQL, records, BATCH_SIZE, (ps, record) -> {
+            ps.setObject(1, record.getTurn(), Types.SMALLINT);
+            ps.setString(2, record.getName());
+            ps.setString(3, record.getPosition());
+            ps.setString(4, record.getInning());
+            ps.setObject(5, record.getPitching(), Types.SMALLINT);
+            ps.setObject(6, record.getBallFour(), Types.SMALLINT);
+            ps.setObject(7, record.getStrikeOut(), Types.SMALLINT);
+            ps.setObject(8, record.getHit(), Types.SMALLINT);
+            ps.setObject(9, record.getHomeRun(), Types.SMALLINT);
+            ps.setObject(10, record.getScore(), Types.SMALLINT);
+            ps.setString(11, record.getGameMatchEntity() != null ? record.getGameMatchEntity().getId() : null);
+            ps.setString(12, record.getSeason());
+            ps.setObject(13, record.getHome(), Types.BOOLEAN);
+            ps.setBoolean(14, true);
+            ps.setTimestamp(15, now);
+            ps.setTimestamp(16, now);
+        });
+
+        return Arrays.stream(result).flatMapToInt(Arrays::stream).map(count -> Math.max(count, 1)).sum();
+    }
+
+}
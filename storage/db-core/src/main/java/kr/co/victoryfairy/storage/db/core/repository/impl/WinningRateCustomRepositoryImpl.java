@@ -0,0 +1,155 @@
+package kr.co.victoryfairy.storage.db.core.repository.impl;
+
+import kr.co.victoryfairy.storage.db.core.model.WinningRateModel;
+import kr.co.victoryfairy.storage.db.core.repository.WinningRateCustomRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+public class WinningRateCustomRepositoryImpl implements WinningRateCustomRepository {
+
+    private static final WinningRateModel.Counter[] COUNTERS = WinningRateModel.Counter.values();
+
+    private static final String COLUMNS = Arrays.stream(COUNTERS)
+        .map(WinningRateModel.Counter::column)
+        .collect(Collectors.joining(", "));
+
+    // 행 단위 잠금으로 증감하므로 같은 회원의 일기가 동시에 평가되어도 값이 유실되지 않음
+    // 증감분은 두 번 바인딩 (VALUES(col) 는 0 으로 맞춘 삽입 값이라 감소분을 잃음)
+    private static final String UPSERT_SQL = "INSERT INTO winning_rate (member_id, season, " + COLUMNS
+            + ", is_use, created_at, updated_at) VALUES (?, ?, "
+            + String.join(", ", Collections.nCopies(COUNTERS.length, "GREATEST(?, 0)")) + ", ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE " + Arrays.stream(COUNTERS)
+                .map(counter -> counter.column() + " = GREATEST(" + counter.column() + " + ?, 0)")
+                .collect(Collectors.joining(", "))
+            + ", updated_at = VALUES(updated_at)";
+
+    private static final String AGGREGATE_SELECT = "SELECT r.member_id, " + Arrays.stream(COUNTERS)
+        .map(counter -> "SUM(CASE WHEN " + counter.condition() + " THEN 1 ELSE 0 END)")
+        .collect(Collectors.joining(", "))
+            + " FROM game_record r LEFT JOIN game_match m ON m.id = r.game_match_id"
+            + " WHERE r.season = ? AND r.member_id IS NOT NULL GROUP BY r.member_id";
+
+    private static final String REBUILD_SQL = "INSERT INTO winning_rate (member_id, " + COLUMNS
+            + ", season, is_use, created_at, updated_at) SELECT aggregate.*, ?, TRUE, NOW(), NOW() FROM ("
+            + AGGREGATE_SELECT + ") aggregate ON DUPLICATE KEY UPDATE "
+            + Arrays.stream(COUNTERS)
+                .map(counter -> counter.column() + " = VALUES(" + counter.column() + ")")
+                .collect(Collectors.joining(", "))
+            + ", updated_at = VALUES(updated_at)";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WinningRateCustomRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int applyAll(Collection<WinningRateModel.Delta> deltas) {
+        var rows = WinningRateModel.Delta.merge(deltas);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            var index = 1;
+            ps.setLong(index++, row.memberId());
+            ps.setString(index++, row.season());
+            for (WinningRateModel.Counter counter : COUNTERS) {
+                ps.setInt(index++, row.count(counter));
+            }
+            ps.setBoolean(index++, true);
+            ps.setTimestamp(index++, now);
+            ps.setTimestamp(index++, now);
+            for (WinningRateModel.Counter counter : COUNTERS) {
+                ps.setInt(index++, row.count(counter));
+            }
+        });
+        return rows.size();
+    }
+
+    @Override
+    @Transactional
+    public int rebuild(String season) {
+        jdbcTemplate.update(REBUILD_SQL, season, season);
+        jdbcTemplate.update("DELETE FROM winning_rate WHERE season = ? AND member_id NOT IN "
+                + "(SELECT member_id FROM game_record WHERE season = ? AND member_id IS NOT NULL)", season, season);
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM winning_rate WHERE season = ?", Integer.class,
+                season);
+    }
+
+    @Override
+    public List<WinningRateModel.Mismatch> findMismatches(String season) {
+        var expected = new HashMap<Long, int[]>();
+        jdbcTemplate.query(AGGREGATE_SELECT, rs -> {
+            expected.put(rs.getLong(1), readCounts(rs));
+        }, season);
+
+        var actual = new HashMap<Long, int[]>();
+        jdbcTemplate.query("SELECT member_id, " + COLUMNS + " FROM winning_rate WHERE season = ?", rs -> {
+            actual.put(rs.getLong(1), readCounts(rs));
+        }, season);
+
+        var memberIds = new HashSet<Long>(expected.keySet());
+        memberIds.addAll(actual.keySet());
+
+        List<WinningRateModel.Mismatch> mismatches = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            var counters = diff(expected.get(memberId), actual.get(memberId));
+            if (!counters.isEmpty()) {
+                mismatches.add(new WinningRateModel.Mismatch(memberId, season, counters));
+            }
+        }
+        return mismatches;
+    }
+
+    @Override
+    public List<String> findSeasons() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT season FROM game_record WHERE season IS NOT NULL",
+                String.class);
+    }
+
+    @Override
+    @Transactional
+    public long deleteByMemberId(Long memberId) {
+        return jdbcTemplate.update("DELETE FROM winning_rate WHERE member_id = ?", memberId);
+    }
+
+    private List<WinningRateModel.Counter> diff(int[] expected, int[] actual) {
+        var counters = new ArrayList<WinningRateModel.Counter>();
+        for (WinningRateModel.Counter counter : COUNTERS) {
+            var expectedCount = expected != null ? expected[counter.ordinal()] : 0;
+            var actualCount = actual != null ? actual[counter.ordinal()] : 0;
+            if (expectedCount != actualCount) {
+                counters.add(counter);
+            }
+        }
+        return counters;
+    }
+
+    private int[] readCounts(ResultSet rs) throws SQLException {
+        var counts = new int[COUNTERS.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = rs.getInt(i + 2);
+        }
+        return counts;
+    }
+
+}
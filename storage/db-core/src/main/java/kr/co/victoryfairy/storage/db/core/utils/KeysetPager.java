@@ -0,0 +1,107 @@
+package kr.co.victoryfairy.storage.db.core.utils;
+
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import kr.co.victoryfairy.support.model.PageResult;
+import kr.co.victoryfairy.support.utils.CursorUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * id 내림차순 keyset(커서) 페이징
+ * <p>
+ * 다음 페이지는 {@code id < 마지막 id} 조건으로 읽으므로 페이지 깊이와 무관하게 인덱스에서 바로 시작합니다. 총 건수는 조건별로 잠시 캐시해 두고
+ * (캐시 값이면 추정치로 표시), 정확한 건수를 요청했거나 캐시가 없을 때만 count 쿼리를 실행합니다.
+ */
+@Component
+public class KeysetPager {
+
+    static final int MAX_COUNT_ENTRIES = 1000;
+
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    @Value("${victory-fairy.page.count-ttl-seconds:60}")
+    private long countTtlSeconds;
+
+    /**
+     * @param query 조건만 적용한 목록 쿼리 (정렬 / 커서 조건은 여기서 추가)
+     * @param id 정렬 / 커서 기준 id
+     * @param idOf 결과에서 id 추출
+     */
+    public <T> PageResult<T> fetch(JPAQuery<T> query, NumberPath<Long> id, Function<T, Long> idOf, Request request) {
+        var lastId = CursorUtils.decode(request.cursor());
+        var countQuery = query.clone();
+
+        var listQuery = query.orderBy(id.desc()).limit(request.size() + 1L);
+        if (lastId != null) {
+            listQuery.where(id.lt(lastId));
+        }
+        else if (request.page() != null && request.page() > 1) {
+            // 커서 없이 페이지 번호로 요청한 이전 클라이언트 호환 (깊은 페이지는 느림)
+            listQuery.offset((long) (request.page() - 1) * request.size());
+        }
+        var rows = listQuery.fetch();
+
+        var hasNext = rows.size() > request.size();
+        List<T> contents = hasNext ? rows.subList(0, request.size()) : rows;
+        var nextCursor = hasNext ? CursorUtils.encode(idOf.apply(contents.get(contents.size() - 1))) : null;
+
+        // 첫 페이지가 다 차지 않았으면 그 자체가 전체 건수
+        if (lastId == null && (request.page() == null || request.page() <= 1) && !hasNext) {
+            putCount(request.countKey(), contents.size());
+            return new PageResult<>(contents, contents.size(), null, false);
+        }
+
+        var cached = request.exactTotal() ? null : counts.get(request.countKey());
+        if (cached != null && !cached.isExpired()) {
+            return new PageResult<>(contents, cached.value(), nextCursor, true);
+        }
+        var total = countQuery.select(Expressions.ONE.count()).fetchOne();
+        putCount(request.countKey(), total != null ? total : 0);
+        return new PageResult<>(contents, total != null ? total : 0, nextCursor, false);
+    }
+
+    private void putCount(String key, long value) {
+        if (counts.size() >= MAX_COUNT_ENTRIES) {
+            counts.entrySet().removeIf(entry -> entry.getValue().isExpired());
+            if (counts.size() >= MAX_COUNT_ENTRIES) {
+                counts.clear();
+            }
+        }
+        counts.put(key, new CachedCount(value, System.currentTimeMillis() + countTtlSeconds * 1000));
+    }
+
+    /**
+     * @param countKey 총 건수 캐시 키 (목록 종류 + 검색 조건)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param page 커서 없이 요청한 경우의 페이지 번호 (1부터)
+     * @param size 페이지 크기 (없거나 1 미만이면 {@link #DEFAULT_SIZE})
+     * @param exactTotal 캐시를 쓰지 않고 정확한 총 건수 조회
+     */
+    public record Request(String countKey, String cursor, Integer page, Integer size, boolean exactTotal) {
+
+        public static final int DEFAULT_SIZE = 10;
+
+        public Request {
+            if (size == null || size < 1) {
+                size = DEFAULT_SIZE;
+            }
+        }
+
+    }
+
+    private record CachedCount(long value, long expiresAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,59 @@
+package kr.co.victoryfairy.storage.db.core.model;
+
+import io.dodn.springboot.core.enums.DiaryEnum;
+import io.dodn.springboot.core.enums.MatchEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("WinningRateModel 테스트")
+class WinningRateModelTest {
+
+    @Test
+    @DisplayName("취소된 경기는 무가 아닌 취소로만 집계한다")
+    void of_whenCanceled_shouldCountCancelOnly() {
+        // given
+        var fact = new WinningRateModel.Fact(DiaryEnum.ViewType.STADIUM, MatchEnum.MatchStatus.CANCELED,
+                MatchEnum.ResultType.DRAW, true);
+
+        // when
+        var delta = WinningRateModel.Delta.of(1L, "2025", fact, 1);
+
+        // then
+        assertThat(delta.count(WinningRateModel.Counter.TOTAL)).isEqualTo(1);
+        assertThat(delta.count(WinningRateModel.Counter.STADIUM)).isEqualTo(1);
+        assertThat(delta.count(WinningRateModel.Counter.STADIUM_CANCEL)).isEqualTo(1);
+        assertThat(delta.count(WinningRateModel.Counter.STADIUM_DRAW)).isZero();
+        assertThat(delta.count(WinningRateModel.Counter.STADIUM_HOME_GAME)).isEqualTo(1);
+        assertThat(delta.count(WinningRateModel.Counter.HOME)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 회원 / 시즌 증감분은 합치고 상쇄된 행은 제외한다")
+    void merge_shouldSumPerMemberAndSeason() {
+        // given
+        var win = new WinningRateModel.Fact(DiaryEnum.ViewType.HOME, MatchEnum.MatchStatus.END,
+                MatchEnum.ResultType.WIN, false);
+        var loss = new WinningRateModel.Fact(DiaryEnum.ViewType.HOME, MatchEnum.MatchStatus.END,
+                MatchEnum.ResultType.LOSS, false);
+
+        // when (1번 회원: 승 -> 패 수정, 2번 회원: 추가 후 삭제)
+        var merged = WinningRateModel.Delta.merge(List.of(WinningRateModel.Delta.of(1L, "2025", win, -1),
+                WinningRateModel.Delta.of(1L, "2025", loss, 1), WinningRateModel.Delta.of(2L, "2025", win, 1),
+                WinningRateModel.Delta.of(2L, "2025", win, -1)));
+
+        // then
+        assertThat(merged).singleElement().satisfies(delta -> {
+            assertThat(delta.memberId()).isEqualTo(1L);
+            assertThat(delta.count(WinningRateModel.Counter.TOTAL)).isZero();
+            assertThat(delta.count(WinningRateModel.Counter.HOME_WIN)).isEqualTo(-1);
+            assertThat(delta.count(WinningRateModel.Counter.HOME_LOSE)).isEqualTo(1);
+        });
+    }
+
+}
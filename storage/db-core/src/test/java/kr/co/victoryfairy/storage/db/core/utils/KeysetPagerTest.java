@@ -0,0 +1,176 @@
+package kr.co.victoryfairy.storage.db.core.utils;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import kr.co.victoryfairy.support.utils.CursorUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Tag("unit")
+@DisplayName("KeysetPager 테스트")
+class KeysetPagerTest {
+
+    private static final NumberPath<Long> ID = Expressions.numberPath(Long.class, "id");
+
+    private KeysetPager keysetPager;
+
+    private JPAQuery<Long> listQuery;
+
+    private JPAQuery<Long> countQuery;
+
+    private JPAQuery<Long> countSelect;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        keysetPager = new KeysetPager();
+        ReflectionTestUtils.setField(keysetPager, "countTtlSeconds", 60L);
+
+        listQuery = mock(JPAQuery.class, RETURNS_SELF);
+        countQuery = mock(JPAQuery.class);
+        countSelect = mock(JPAQuery.class);
+        doReturn(countQuery).when(listQuery).clone();
+        doReturn(countSelect).when(countQuery).select(any(Expression.class));
+        doReturn(100L).when(countSelect).fetchOne();
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 id < 마지막 id 조건으로 읽고 OFFSET 을 쓰지 않는다")
+    void fetch_withCursor_shouldUseKeyset() {
+        // given
+        doReturn(List.of(49L, 48L, 47L)).when(listQuery).fetch();
+
+        // when
+        var result = keysetPager.fetch(listQuery, ID, id -> id, request("diary", CursorUtils.encode(50L), null, 2));
+
+        // then
+        verify(listQuery).where(ID.lt(50L));
+        verify(listQuery).limit(3L);
+        verify(listQuery, never()).offset(anyLong());
+        assertThat(result.getContents()).containsExactly(49L, 48L);
+        assertThat(result.getNextCursor()).isEqualTo(CursorUtils.encode(48L));
+        assertThat(result.getTotal()).isEqualTo(100);
+        assertThat(result.isTotalEstimated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서 없이 페이지 번호로 요청하면 OFFSET 으로 읽는다")
+    void fetch_withPage_shouldUseOffset() {
+        // given
+        doReturn(List.of(40L, 39L)).when(listQuery).fetch();
+
+        // when
+        var result = keysetPager.fetch(listQuery, ID, id -> id, request("diary", null, 3, 2));
+
+        // then
+        verify(listQuery).offset(4L);
+        verify(listQuery, never()).where(any());
+        assertThat(result.getContents()).containsExactly(40L, 39L);
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getTotal()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("첫 페이지가 다 차지 않으면 count 쿼리 없이 그 건수를 총 건수로 쓰고 캐시한다")
+    void fetch_shortFirstPage_shouldSkipCountQuery() {
+        // given
+        doReturn(List.of(3L, 2L)).when(listQuery).fetch();
+
+        // when
+        var first = keysetPager.fetch(listQuery, ID, id -> id, request("diary", null, null, 5));
+        var next = keysetPager.fetch(listQuery, ID, id -> id, request("diary", null, 2, 5));
+
+        // then
+        assertThat(first.getTotal()).isEqualTo(2);
+        assertThat(first.getNextCursor()).isNull();
+        assertThat(next.getTotal()).isEqualTo(2);
+        assertThat(next.isTotalEstimated()).isTrue();
+        verify(countQuery, never()).select(any(Expression.class));
+    }
+
+    @Test
+    @DisplayName("같은 조건의 총 건수는 캐시 값을 추정치로 쓰고, 정확한 건수 요청은 캐시를 건너뛴다")
+    void fetch_cachedCount_shouldBeReusedUnlessExact() {
+        // given
+        doReturn(List.of(10L, 9L, 8L)).when(listQuery).fetch();
+        keysetPager.fetch(listQuery, ID, id -> id, request("diary", null, null, 2));
+
+        // when
+        var cached = keysetPager.fetch(listQuery, ID, id -> id, request("diary", CursorUtils.encode(9L), null, 2));
+        var exact = keysetPager.fetch(listQuery, ID, id -> id,
+                new KeysetPager.Request("diary", CursorUtils.encode(9L), null, 2, true));
+
+        // then
+        assertThat(cached.getTotal()).isEqualTo(100);
+        assertThat(cached.isTotalEstimated()).isTrue();
+        assertThat(exact.isTotalEstimated()).isFalse();
+        verify(countSelect, times(2)).fetchOne();
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 총 건수는 다시 count 쿼리로 구한다")
+    void fetch_expiredCount_shouldRecount() {
+        // given
+        ReflectionTestUtils.setField(keysetPager, "countTtlSeconds", -1L);
+        doReturn(List.of(10L, 9L, 8L)).when(listQuery).fetch();
+        keysetPager.fetch(listQuery, ID, id -> id, request("diary", null, null, 2));
+
+        // when
+        var result = keysetPager.fetch(listQuery, ID, id -> id, request("diary", CursorUtils.encode(9L), null, 2));
+
+        // then
+        assertThat(result.isTotalEstimated()).isFalse();
+        verify(countSelect, times(2)).fetchOne();
+    }
+
+    @Test
+    @DisplayName("캐시 항목이 최대치이고 모두 유효하면 전체를 비운다")
+    void fetch_whenCountCacheFull_shouldReset() {
+        // given
+        doReturn(List.of(1L)).when(listQuery).fetch();
+        LongStream.range(0, KeysetPager.MAX_COUNT_ENTRIES)
+            .forEach(i -> keysetPager.fetch(listQuery, ID, id -> id, request("member:" + i, null, null, 5)));
+
+        // when
+        keysetPager.fetch(listQuery, ID, id -> id, request("member:new", null, null, 5));
+        var evicted = keysetPager.fetch(listQuery, ID, id -> id, request("member:0", null, 2, 5));
+
+        // then
+        assertThat(evicted.isTotalEstimated()).isFalse();
+        assertThat(evicted.getTotal()).isEqualTo(100);
+        verify(countSelect, times(1)).fetchOne();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 없으면 기본 크기를 쓴다")
+    void request_withoutSize_shouldUseDefault() {
+        // when
+        var request = new KeysetPager.Request("diary", null, null, null, false);
+
+        // then
+        assertThat(request.size()).isEqualTo(KeysetPager.Request.DEFAULT_SIZE);
+    }
+
+    private KeysetPager.Request request(String countKey, String cursor, Integer page, int size) {
+        return new KeysetPager.Request(countKey, cursor, page, size, false);
+    }
+
+}
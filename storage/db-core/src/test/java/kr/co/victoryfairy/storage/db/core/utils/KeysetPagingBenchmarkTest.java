@@ -0,0 +1,176 @@
+package kr.co.victoryfairy.storage.db.core.utils;
+
+import io.dodn.springboot.core.enums.MatchEnum;
+import io.dodn.springboot.test.benchmark.JmhRunner;
+import kr.co.victoryfairy.storage.db.core.model.DiaryModel;
+import kr.co.victoryfairy.storage.db.core.model.MemberModel;
+import kr.co.victoryfairy.storage.db.core.repository.impl.DiaryCustomRepositoryImpl;
+import kr.co.victoryfairy.storage.db.core.repository.impl.MemberCustomRepositoryImpl;
+import kr.co.victoryfairy.support.model.PageResult;
+import kr.co.victoryfairy.support.utils.CursorUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 실제 DiaryCustomRepositoryImpl / MemberCustomRepositoryImpl 목록 조회를 페이지 깊이별로 OFFSET 과 커서로 비교
+ * <p>
+ * 실제 MySQL 이 필요하므로 {@code BENCH_MYSQL_URL} (예:
+ * jdbc:mysql://localhost:3306/bench?user=root&password=root&rewriteBatchedStatements=true) 이 설정된 경우에만 실행합니다.
+ * 스키마는 엔티티로 새로 만들고 일기 / 회원을 {@code BENCH_ROWS} 건씩 넣습니다. 총 건수는 첫 호출 뒤 캐시되므로 목록 쿼리만 측정됩니다.
+ */
+@Tag("develop")
+@DisplayName("keyset 페이징 벤치마크")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KeysetPagingBenchmarkTest {
+
+    private static final String URL = System.getenv("BENCH_MYSQL_URL");
+
+    private static final int ROWS = Integer.parseInt(System.getenv().getOrDefault("BENCH_ROWS", "100000"));
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final LocalDate MATCH_DATE = LocalDate.of(2025, 8, 1);
+
+    private static ConfigurableApplicationContext context;
+
+    @Param({ "1", "100", "2000" })
+    public int page;
+
+    private DiaryCustomRepositoryImpl diaryRepository;
+
+    private MemberCustomRepositoryImpl memberRepository;
+
+    private String diaryCursor;
+
+    private String memberCursor;
+
+    @Setup
+    public void setUp() {
+        if (context == null) {
+            context = new SpringApplicationBuilder(BenchmarkApplication.class).web(WebApplicationType.NONE)
+                .properties("storage.datasource.core.jdbc-url=" + URL, "spring.jpa.hibernate.ddl-auto=create",
+                        "victory-fairy.page.count-ttl-seconds=3600")
+                .run();
+            prepare(context.getBean(JdbcTemplate.class));
+        }
+        diaryRepository = context.getBean(DiaryCustomRepositoryImpl.class);
+        memberRepository = context.getBean(MemberCustomRepositoryImpl.class);
+
+        // 이전 페이지 마지막 id (일기는 모두 같은 경기라 조건과 무관하게 id 순서가 같음)
+        var jdbcTemplate = context.getBean(JdbcTemplate.class);
+        diaryCursor = cursorAt(jdbcTemplate, "diary");
+        memberCursor = cursorAt(jdbcTemplate, "member");
+    }
+
+    @Benchmark
+    public PageResult<DiaryModel.DiaryListResponse> diaryOffset() {
+        return diaryRepository.findAll(new DiaryModel.DiaryListRequest(MATCH_DATE, null, page, PAGE_SIZE, null, false));
+    }
+
+    @Benchmark
+    public PageResult<DiaryModel.DiaryListResponse> diaryKeyset() {
+        return diaryRepository
+            .findAll(new DiaryModel.DiaryListRequest(MATCH_DATE, null, null, PAGE_SIZE, diaryCursor, false));
+    }
+
+    @Benchmark
+    public PageResult<MemberModel.MemberListResponse> memberOffset() {
+        return memberRepository.findAll(new MemberModel.MemberListRequest(null, null, page, PAGE_SIZE, null, false));
+    }
+
+    @Benchmark
+    public PageResult<MemberModel.MemberListResponse> memberKeyset() {
+        return memberRepository
+            .findAll(new MemberModel.MemberListRequest(null, null, null, PAGE_SIZE, memberCursor, false));
+    }
+
+    @Test
+    @DisplayName("깊은 페이지에서 커서 조회가 OFFSET 조회보다 빠르다")
+    void compare() throws Exception {
+        assumeTrue(URL != null && !URL.isBlank(), "BENCH_MYSQL_URL 미설정");
+
+        try {
+            var results = JmhRunner.run(getClass());
+
+            var deepest = "2000";
+            assertThat(results.get("diaryKeyset", "page", deepest).score()).as("diary")
+                .isLessThan(results.get("diaryOffset", "page", deepest).score());
+            assertThat(results.get("memberKeyset", "page", deepest).score()).as("member")
+                .isLessThan(results.get("memberOffset", "page", deepest).score());
+        }
+        finally {
+            if (context != null) {
+                context.close();
+                context = null;
+            }
+        }
+    }
+
+    private String cursorAt(JdbcTemplate jdbcTemplate, String table) {
+        if (page <= 1) {
+            return null;
+        }
+        var lastId = jdbcTemplate.queryForObject("SELECT id FROM " + table + " ORDER BY id DESC LIMIT 1 OFFSET ?",
+                Long.class, (page - 1) * PAGE_SIZE - 1);
+        return CursorUtils.encode(lastId);
+    }
+
+    private void prepare(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO game_match (id, league, match_at, status, is_use, created_at) "
+                + "VALUES ('20250801LGOB0', 'KBO', ?, ?, 1, NOW())", MATCH_DATE.atTime(18, 30),
+                MatchEnum.MatchStatus.END.name());
+
+        var members = new ArrayList<Object[]>();
+        var infos = new ArrayList<Object[]>();
+        var diaries = new ArrayList<Object[]>();
+        for (long i = 1; i <= ROWS; i++) {
+            members.add(new Object[] { "NORMAL" });
+            infos.add(new Object[] { i, "sns" + i, "member" + i + "@bench.kr", "member" + i, "KAKAO" });
+            diaries.add(new Object[] { i, "diary content " + i });
+            if (i % 10_000 == 0 || i == ROWS) {
+                jdbcTemplate.batchUpdate("INSERT INTO member (status, is_use, created_at) VALUES (?, 1, NOW())",
+                        members);
+                jdbcTemplate.batchUpdate("INSERT INTO member_info (member_id, sns_id, email, nick_nm, sns_type, "
+                        + "created_at) VALUES (?, ?, ?, ?, ?, NOW())", infos);
+                jdbcTemplate.batchUpdate("INSERT INTO diary (member_id, game_match_id, content, is_use, is_rated, "
+                        + "created_at) VALUES (?, '20250801LGOB0', ?, 1, 0, NOW())", diaries);
+                members.clear();
+                infos.clear();
+                diaries.clear();
+            }
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan("kr.co.victoryfairy.storage.db.core")
+    static class BenchmarkApplication {
+
+    }
+
+}
@@ -0,0 +1,59 @@
+package kr.co.victoryfairy.support.browser;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경기 한 건의 타자 / 투수 기록
+ */
+public record BoxScore(List<Hitter> awayHitters, List<Pitcher> awayPitchers, List<Hitter> homeHitters,
+        List<Pitcher> homePitchers) {
+
+    public record Hitter(Short turn, String name, String position, Short hitCount, Short score, Short hit,
+            Short homeRun, Short hitScore, Short ballFour, Short strikeOut) {
+
+        /**
+         * 진행 중 경기 Redis 저장 형식
+         */
+        public Map<String, String> toMap() {
+            Map<String, String> map = new LinkedHashMap<>();
+            map.put("turn", String.valueOf(turn));
+            map.put("name", name);
+            map.put("position", position);
+            map.put("hitCount", String.valueOf(hitCount));
+            map.put("score", String.valueOf(score));
+            map.put("hit", String.valueOf(hit));
+            map.put("homeRun", String.valueOf(homeRun));
+            map.put("hitScore", String.valueOf(hitScore));
+            map.put("ballFour", String.valueOf(ballFour));
+            map.put("strikeOut", String.valueOf(strikeOut));
+            return map;
+        }
+
+    }
+
+    public record Pitcher(Short turn, String name, String position, String inning, Short pitching, Short ballFour,
+            Short strikeOut, Short hit, Short homeRun, Short score) {
+
+        /**
+         * 진행 중 경기 Redis 저장 형식
+         */
+        public Map<String, String> toMap() {
+            Map<String, String> map = new LinkedHashMap<>();
+            map.put("turn", String.valueOf(turn));
+            map.put("name", name);
+            map.put("position", position);
+            map.put("inning", inning);
+            map.put("pitching", String.valueOf(pitching));
+            map.put("ballFour", String.valueOf(ballFour));
+            map.put("strikeOut", String.valueOf(strikeOut));
+            map.put("hit", String.valueOf(hit));
+            map.put("homeRun", String.valueOf(homeRun));
+            map.put("score", String.valueOf(score));
+            return map;
+        }
+
+    }
+
+}
@@ -0,0 +1,178 @@
+package kr.co.victoryfairy.support.browser;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 경기별 타자 / 투수 기록 병렬 수집
+ * <p>
+ * 경기마다 브라우저 풀에서 페이지를 빌려 최대 {@code parallelism} 경기를 동시에 읽고, 페이지 요청은 {@link RateLimiter} 로 간격을
+ * 둡니다. 표 하나는 {@code evaluate} 한 번으로 JSON 배열을 받아 파싱하므로 셀 단위 왕복이 없습니다. 결과는 호출한 스레드에서 완료된 순서대로
+ * 전달하므로, 저장(트랜잭션)은 호출한 스레드에서만 일어납니다.
+ */
+public class BoxScoreScraper {
+
+    private static final String HITTER_TABLE = "#HitterRank";
+
+    private static final String PITCHER_TABLE = "#PitcherRank";
+
+    // 고정 컬럼(타순, 이름, 포지션)과 스크롤 영역 기록 컬럼을 행 단위로 묶어 반환
+    private static final String TABLE_SCRIPT = """
+            (selector) => {
+              const root = document.querySelector(selector);
+              if (!root) return '[]';
+              const infoRows = root.querySelectorAll('table.tbl-new.fixed tbody tr');
+              const statRows = root.querySelectorAll('.scroll-box table.tbl-new tbody tr');
+              const text = (element) => element ? element.innerText.trim() : '';
+              const rows = [];
+              for (let i = 0; i < Math.min(infoRows.length, statRows.length); i++) {
+                const nameCell = infoRows[i].querySelector('td.name');
+                rows.push({
+                  turn: text(infoRows[i].querySelector('td')),
+                  name: text(nameCell && nameCell.querySelector('p')),
+                  position: text(nameCell && nameCell.querySelector('span')),
+                  stats: Array.from(statRows[i].querySelectorAll('td'), td => td.innerText.trim())
+                });
+              }
+              return JSON.stringify(rows);
+            }
+            """;
+
+    private final Logger log = LoggerFactory.getLogger(BoxScoreScraper.class);
+
+    private final BrowserPool browserPool;
+
+    private final BoxScoreSource source;
+
+    private final ObjectMapper objectMapper;
+
+    private final RateLimiter rateLimiter;
+
+    private final int parallelism;
+
+    /**
+     * @param seriesValue 시리즈 코드 (p_sr_id)
+     */
+    public record Game(String id, String seriesValue) {
+    }
+
+    /**
+     * @param boxScore 수집에 실패하면 null
+     */
+    public record Result(Game game, BoxScore boxScore, Exception error) {
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+    }
+
+    record Row(String turn, String name, String position, List<String> stats) {
+    }
+
+    public BoxScoreScraper(BrowserPool browserPool, BoxScoreSource source, ObjectMapper objectMapper,
+            int parallelism, double pagesPerSecond) {
+        this.browserPool = browserPool;
+        this.source = source;
+        this.objectMapper = objectMapper;
+        this.rateLimiter = new RateLimiter(pagesPerSecond);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 경기 목록을 병렬로 수집해 완료되는 대로 {@code sink} 에 전달 (모든 경기를 전달한 뒤 반환)
+     */
+    public void scrape(List<Game> games, Consumer<Result> sink) {
+        if (games.isEmpty()) {
+            return;
+        }
+
+        var workers = Math.max(1, Math.min(Math.min(parallelism, browserPool.maxSize()), games.size()));
+        var sequence = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(workers, runnable -> {
+            var thread = new Thread(runnable, "box-score-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        BlockingQueue<Result> results = new LinkedBlockingQueue<>();
+        var startedAt = System.currentTimeMillis();
+        var failures = 0;
+        try {
+            games.forEach(game -> executor.execute(() -> results.add(scrape(game))));
+            for (int i = 0; i < games.size(); i++) {
+                var result = results.take();
+                if (!result.isSuccess()) {
+                    failures++;
+                }
+                sink.accept(result);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        log.info("box score scraped - games: {}, failures: {}, workers: {}, elapsed: {}ms", games.size(), failures,
+                workers, System.currentTimeMillis() - startedAt);
+    }
+
+    private Result scrape(Game game) {
+        try (var lease = browserPool.lease()) {
+            var page = lease.page();
+
+            rateLimiter.acquire();
+            source.load(page, game, false);
+            var awayHitters = readTable(page, HITTER_TABLE).stream().map(this::toHitter).toList();
+            var awayPitchers = readTable(page, PITCHER_TABLE).stream().map(this::toPitcher).toList();
+
+            rateLimiter.acquire();
+            source.load(page, game, true);
+            var homeHitters = readTable(page, HITTER_TABLE).stream().map(this::toHitter).toList();
+            var homePitchers = readTable(page, PITCHER_TABLE).stream().map(this::toPitcher).toList();
+
+            return new Result(game, new BoxScore(awayHitters, awayPitchers, homeHitters, homePitchers), null);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(game, null, e);
+        }
+        catch (Exception e) {
+            return new Result(game, null, e);
+        }
+    }
+
+    private List<Row> readTable(Page page, String selector) throws Exception {
+        var json = (String) page.evaluate(TABLE_SCRIPT, selector);
+        return objectMapper.readValue(json, new TypeReference<>() {
+        });
+    }
+
+    private BoxScore.Hitter toHitter(Row row) {
+        var stats = row.stats();
+        return new BoxScore.Hitter(Short.parseShort(row.turn()), row.name(), row.position(),
+                Short.parseShort(stats.get(0)), Short.parseShort(stats.get(1)), Short.parseShort(stats.get(2)),
+                Short.parseShort(stats.get(3)), Short.parseShort(stats.get(4)), Short.parseShort(stats.get(5)),
+                Short.parseShort(stats.get(6)));
+    }
+
+    private BoxScore.Pitcher toPitcher(Row row) {
+        var stats = row.stats();
+        return new BoxScore.Pitcher(Short.valueOf(row.turn()), row.name(), row.position(), stats.get(0),
+                Short.parseShort(stats.get(1)), Short.parseShort(stats.get(6)), Short.parseShort(stats.get(7)),
+                Short.parseShort(stats.get(4)), Short.parseShort(stats.get(5)), Short.parseShort(stats.get(8)));
+    }
+
+}
@@ -0,0 +1,16 @@
+package kr.co.victoryfairy.support.browser;
+
+import com.microsoft.playwright.Page;
+
+/**
+ * 경기 기록 페이지를 불러오는 방법 (실제 사이트 / 저장된 HTML)
+ */
+public interface BoxScoreSource {
+
+    /**
+     * 원정 / 홈 기록 표가 보이는 상태로 페이지를 준비
+     * @param isHome false 면 원정팀, true 면 홈팀 탭 (원정 탭을 먼저 불러온 뒤 호출)
+     */
+    void load(Page page, BoxScoreScraper.Game game, boolean isHome);
+
+}
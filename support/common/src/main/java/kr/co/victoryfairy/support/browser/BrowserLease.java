@@ -0,0 +1,43 @@
+package kr.co.victoryfairy.support.browser;
+
+import com.microsoft.playwright.Page;
+
+/**
+ * 풀에서 빌린 브라우저 페이지
+ * <p>
+ * try-with-resources 로 사용하며, 닫으면 페이지를 정리하고 브라우저를 풀에 돌려줍니다. 빌린 스레드 외의 스레드에서 페이지를 사용하면 안 됩니다.
+ */
+public class BrowserLease implements AutoCloseable {
+
+    private final BrowserPool pool;
+
+    private final PooledBrowser browser;
+
+    private final Page page;
+
+    private boolean released;
+
+    BrowserLease(BrowserPool pool, PooledBrowser browser, Page page) {
+        this.pool = pool;
+        this.browser = browser;
+        this.page = page;
+    }
+
+    public Page page() {
+        return page;
+    }
+
+    PooledBrowser browser() {
+        return browser;
+    }
+
+    @Override
+    public void close() {
+        if (released) {
+            return;
+        }
+        released = true;
+        pool.release(this);
+    }
+
+}
@@ -0,0 +1,259 @@
+package kr.co.victoryfairy.support.browser;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import kr.co.victoryfairy.support.properties.BrowserPoolProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Playwright 브라우저 풀
+ * <p>
+ * 브라우저 실행(수 초)은 풀을 만들 때와 브라우저가 죽었을 때만 하고, 작업마다 미리 만들어 둔 context 에서 새 페이지만 엽니다. context 는
+ * {@code maxUses} 번 사용하면 새로 만들고, 연결이 끊긴 브라우저는 버린 뒤 다음 lease 에서 다시 띄웁니다.
+ */
+public class BrowserPool implements AutoCloseable {
+
+    private final Logger log = LoggerFactory.getLogger(BrowserPool.class);
+
+    private final BrowserPoolProperties properties;
+
+    private final Supplier<Launched> launcher;
+
+    private final BlockingDeque<PooledBrowser> idle = new LinkedBlockingDeque<>();
+
+    private final Semaphore permits;
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final LongAdder launched = new LongAdder();
+
+    private final LongAdder recycled = new LongAdder();
+
+    private final LongAdder discarded = new LongAdder();
+
+    private final LongAdder leases = new LongAdder();
+
+    private final LongAdder leaseTimeouts = new LongAdder();
+
+    private final LongAdder leaseWaitNanos = new LongAdder();
+
+    private volatile boolean closed;
+
+    /**
+     * 브라우저 실행 결과
+     * @param owner 브라우저와 함께 닫을 자원 (Playwright 인스턴스)
+     */
+    public record Launched(AutoCloseable owner, Browser browser) {
+    }
+
+    /**
+     * @param size 떠 있는 브라우저 수
+     * @param idle 대기 중인 브라우저 수
+     * @param leased 사용 중인 브라우저 수
+     * @param averageLeaseWaitMillis lease 평균 대기 시간
+     */
+    public record Stats(int size, int idle, int leased, long launched, long recycled, long discarded, long leases,
+            long leaseTimeouts, double averageLeaseWaitMillis) {
+    }
+
+    public BrowserPool(BrowserPoolProperties properties) {
+        this(properties, () -> launchChromium(properties));
+    }
+
+    public BrowserPool(BrowserPoolProperties properties, Supplier<Launched> launcher) {
+        this.properties = properties;
+        this.launcher = launcher;
+        this.permits = new Semaphore(properties.getMaxSize(), true);
+    }
+
+    /**
+     * warmSize 만큼 브라우저를 미리 실행 (실패해도 첫 lease 에서 다시 시도)
+     */
+    public void warmUp() {
+        var count = Math.min(properties.getWarmSize(), properties.getMaxSize());
+        for (int i = idle.size(); i < count; i++) {
+            try {
+                idle.offerLast(launch());
+            }
+            catch (RuntimeException e) {
+                log.warn("browser warm up failed", e);
+                return;
+            }
+        }
+        log.info("browser pool warmed up - size: {}", size.get());
+    }
+
+    /**
+     * 브라우저 페이지를 빌림
+     * @throws IllegalStateException leaseTimeout 안에 사용 가능한 브라우저가 없을 때
+     */
+    public BrowserLease lease() {
+        if (closed) {
+            throw new IllegalStateException("browser pool is closed");
+        }
+
+        var startedAt = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(properties.getLeaseTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                leaseTimeouts.increment();
+                throw new IllegalStateException("browser lease timed out after " + properties.getLeaseTimeout());
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for browser", e);
+        }
+
+        try {
+            var browser = idle.pollFirst();
+            if (browser != null && !browser.isHealthy()) {
+                discard(browser);
+                browser = null;
+            }
+            if (browser == null) {
+                browser = launch();
+            }
+
+            Page page;
+            try {
+                page = browser.newPage();
+            }
+            catch (RuntimeException e) {
+                // context 가 깨진 경우 브라우저를 다시 띄워 한 번 더 시도
+                log.warn("browser page open failed, relaunching", e);
+                discard(browser);
+                browser = launch();
+                page = openOrDiscard(browser);
+            }
+
+            var lease = new BrowserLease(this, browser, page);
+            leases.increment();
+            leaseWaitNanos.add(System.nanoTime() - startedAt);
+            return lease;
+        }
+        catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 페이지를 빌려 작업을 실행하고 반납
+     */
+    public <T> T execute(Function<Page, T> work) {
+        try (var lease = lease()) {
+            return work.apply(lease.page());
+        }
+    }
+
+    /**
+     * 동시에 빌릴 수 있는 최대 페이지 수
+     */
+    public int maxSize() {
+        return properties.getMaxSize();
+    }
+
+    public Stats stats() {
+        var totalLeases = leases.sum();
+        var averageWait = totalLeases == 0 ? 0 : leaseWaitNanos.sum() / (double) totalLeases / 1_000_000;
+        return new Stats(size.get(), idle.size(), properties.getMaxSize() - permits.availablePermits(),
+                launched.sum(), recycled.sum(), discarded.sum(), totalLeases, leaseTimeouts.sum(), averageWait);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        PooledBrowser browser;
+        while ((browser = idle.pollFirst()) != null) {
+            discard(browser);
+        }
+        log.info("browser pool closed - {}", stats());
+    }
+
+    void release(BrowserLease lease) {
+        var browser = lease.browser();
+        try {
+            try {
+                lease.page().close();
+            }
+            catch (RuntimeException e) {
+                log.debug("page close failed", e);
+            }
+
+            if (closed || !browser.isHealthy()) {
+                discard(browser);
+                return;
+            }
+            if (browser.uses() >= properties.getMaxUses()) {
+                browser.recycleContext();
+                recycled.increment();
+            }
+            idle.offerFirst(browser);
+        }
+        catch (RuntimeException e) {
+            log.warn("browser release failed, discarding", e);
+            discard(browser);
+        }
+        finally {
+            permits.release();
+        }
+    }
+
+    private Page openOrDiscard(PooledBrowser browser) {
+        try {
+            return browser.newPage();
+        }
+        catch (RuntimeException e) {
+            discard(browser);
+            throw e;
+        }
+    }
+
+    private PooledBrowser launch() {
+        var launched = launcher.get();
+        PooledBrowser browser;
+        try {
+            browser = new PooledBrowser(launched, properties.getPageTimeout());
+        }
+        catch (RuntimeException e) {
+            PooledBrowser.closeQuietly(launched.browser()::close);
+            PooledBrowser.closeQuietly(launched.owner());
+            throw e;
+        }
+        size.incrementAndGet();
+        launched.increment();
+        return browser;
+    }
+
+    private void discard(PooledBrowser browser) {
+        browser.close();
+        size.decrementAndGet();
+        discarded.increment();
+    }
+
+    private static Launched launchChromium(BrowserPoolProperties properties) {
+        var playwright = Playwright.create();
+        try {
+            var browser = playwright.chromium()
+                .launch(new BrowserType.LaunchOptions().setHeadless(properties.isHeadless()));
+            return new Launched(playwright, browser);
+        }
+        catch (RuntimeException e) {
+            playwright.close();
+            throw e;
+        }
+    }
+
+}
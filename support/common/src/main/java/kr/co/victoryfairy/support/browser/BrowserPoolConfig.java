@@ -0,0 +1,32 @@
+package kr.co.victoryfairy.support.browser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.victoryfairy.support.properties.BrowserPoolProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Path;
+
+/**
+ * 브라우저 풀 / 박스스코어 스크래퍼 빈 설정
+ * <p>
+ * support 모듈을 쓰는 모든 앱이 브라우저를 띄우지 않도록 컴포넌트 스캔 대상에서 빼고, 크롤링하는 앱(batch / craw)에서만
+ * {@code @Import(BrowserPoolConfig.class)} 로 등록합니다.
+ */
+public class BrowserPoolConfig {
+
+    @Bean(initMethod = "warmUp", destroyMethod = "close")
+    public BrowserPool browserPool(BrowserPoolProperties browserPoolProperties) {
+        return new BrowserPool(browserPoolProperties);
+    }
+
+    @Bean
+    public BoxScoreScraper boxScoreScraper(BrowserPool browserPool, BrowserPoolProperties browserPoolProperties,
+            ObjectMapper objectMapper) {
+        var source = StringUtils.hasText(browserPoolProperties.getFixtureDir())
+                ? new FixtureBoxScoreSource(Path.of(browserPoolProperties.getFixtureDir())) : new LiveBoxScoreSource();
+        return new BoxScoreScraper(browserPool, source, objectMapper, browserPoolProperties.getScrapeParallelism(),
+                browserPoolProperties.getPagesPerSecond());
+    }
+
+}
@@ -0,0 +1,34 @@
+package kr.co.victoryfairy.support.browser;
+
+import com.microsoft.playwright.Page;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 저장해 둔 경기 기록 HTML ({gameId}_away.html, {gameId}_home.html) 을 읽는 소스
+ * <p>
+ * 네트워크 없이 파싱 / 병렬 처리 속도를 측정할 때 사용합니다.
+ */
+public class FixtureBoxScoreSource implements BoxScoreSource {
+
+    private final Path directory;
+
+    public FixtureBoxScoreSource(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public void load(Page page, BoxScoreScraper.Game game, boolean isHome) {
+        var file = directory.resolve(game.id() + (isHome ? "_home" : "_away") + ".html");
+        try {
+            page.setContent(Files.readString(file));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("box score fixture not found: " + file, e);
+        }
+    }
+
+}
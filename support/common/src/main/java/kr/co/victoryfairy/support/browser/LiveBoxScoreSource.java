@@ -0,0 +1,26 @@
+package kr.co.victoryfairy.support.browser;
+
+import com.microsoft.playwright.Page;
+
+/**
+ * KBO 모바일 경기 기록 페이지
+ */
+public class LiveBoxScoreSource implements BoxScoreSource {
+
+    private static final String RECORD_URL = "https://m.koreabaseball.com/Kbo/Live/Record.aspx?p_le_id=1";
+
+    @Override
+    public void load(Page page, BoxScoreScraper.Game game, boolean isHome) {
+        if (isHome) {
+            // 탭 클릭해서 홈팀으로 전환
+            page.click("#liveRecordSubTabB");
+            page.waitForTimeout(1000); // 탭 전환 후 데이터 로딩 기다림
+        }
+        else {
+            page.navigate(RECORD_URL + "&p_sr_id=" + game.seriesValue() + "&p_g_id=" + game.id());
+        }
+        page.waitForSelector("#HitterRank table tbody tr"); // 타자
+        page.waitForSelector("#PitcherRank table tbody tr"); // 투수
+    }
+
+}
@@ -0,0 +1,72 @@
+package kr.co.victoryfairy.support.browser;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+
+import java.time.Duration;
+
+/**
+ * 풀이 관리하는 브라우저 한 개 (Playwright 인스턴스, 브라우저, 재사용하는 context)
+ * <p>
+ * Playwright 객체는 스레드 안전하지 않으므로 한 번에 한 lease 만 사용합니다.
+ */
+class PooledBrowser {
+
+    private final AutoCloseable owner;
+
+    private final Browser browser;
+
+    private final Duration pageTimeout;
+
+    private BrowserContext context;
+
+    private int uses;
+
+    PooledBrowser(BrowserPool.Launched launched, Duration pageTimeout) {
+        this.owner = launched.owner();
+        this.browser = launched.browser();
+        this.pageTimeout = pageTimeout;
+        this.context = browser.newContext();
+    }
+
+    Page newPage() {
+        uses++;
+        var page = context.newPage();
+        page.setDefaultTimeout(pageTimeout.toMillis());
+        return page;
+    }
+
+    int uses() {
+        return uses;
+    }
+
+    boolean isHealthy() {
+        return browser.isConnected();
+    }
+
+    /**
+     * context 를 새로 만들어 이전 사용 흔적을 정리 (브라우저 프로세스는 유지)
+     */
+    void recycleContext() {
+        closeQuietly(context::close);
+        context = browser.newContext();
+        uses = 0;
+    }
+
+    void close() {
+        closeQuietly(context::close);
+        closeQuietly(browser::close);
+        closeQuietly(owner);
+    }
+
+    static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        }
+        catch (Exception ignored) {
+            // 이미 종료된 브라우저
+        }
+    }
+
+}
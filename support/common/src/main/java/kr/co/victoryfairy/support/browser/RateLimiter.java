@@ -0,0 +1,37 @@
+package kr.co.victoryfairy.support.browser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 간격 제한 (여러 스레드가 공유)
+ * <p>
+ * 호출 순서대로 최소 간격을 두고 통과시키며, 초당 허용 수가 0 이하이면 제한하지 않습니다.
+ */
+public class RateLimiter {
+
+    private final long intervalNanos;
+
+    private long nextNanos = System.nanoTime();
+
+    public RateLimiter(double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+    }
+
+    public void acquire() throws InterruptedException {
+        if (intervalNanos == 0) {
+            return;
+        }
+
+        long waitNanos;
+        synchronized (this) {
+            var now = System.nanoTime();
+            var grantedAt = Math.max(nextNanos, now);
+            nextNanos = grantedAt + intervalNanos;
+            waitNanos = grantedAt - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+}
@@ -15,14 +15,19 @@ import org.springframework.web.filter.ForwardedHeaderFilter;
 @Configuration
 public class BeanConfig {
 
+    private static final String[] STREAMING_PATHS = { "/files/", "/upload/chunked/", "/match/stream" };
+
     @Bean
     ForwardedHeaderFilter forwardedHeaderFilter() {
         return new ForwardedHeaderFilter();
     }
 
+    /**
+     * 파일 조회 / 분할 업로드 조각 / 실시간 점수 구독은 본문을 스트리밍하므로 캐싱하지 않음
+     */
     @Bean
     public Filter requestResponseCachingFilter() {
-        return new RequestResponseCachingFilter();
+        return new RequestResponseCachingFilter(STREAMING_PATHS);
     }
 
     @Bean
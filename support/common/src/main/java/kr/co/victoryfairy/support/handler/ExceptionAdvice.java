@@ -98,19 +98,21 @@ public class ExceptionAdvice {
      * SQL 에러 발생 시 실행된 쿼리들을 포맷팅해서 로깅
      */
     private void logSqlOnError(Exception e) {
-        var sqlList = SqlLoggingHolder.getSqlList();
-        if (sqlList == null || sqlList.isEmpty()) {
+        var stats = SqlLoggingHolder.current();
+        if (stats == null || stats.count() == 0) {
             log.error("[SQL ERROR] {}", e.getMessage(), e);
             return;
         }
 
+        var sqlList = stats.recent();
         StringBuilder sb = new StringBuilder();
         sb.append("\n╔══════════════════════════════════════════════════════════════╗");
         sb.append("\n║                    SQL ERROR OCCURRED                        ║");
         sb.append("\n╠══════════════════════════════════════════════════════════════╣");
         sb.append("\n║ Error: ").append(truncate(e.getMessage(), 55));
         sb.append("\n╠══════════════════════════════════════════════════════════════╣");
-        sb.append("\n║ Executed Queries (").append(sqlList.size()).append("):").append(" ".repeat(40)).append("║");
+        sb.append("\n║ Executed Queries (").append(sqlList.size()).append("/").append(stats.count()).append("):")
+            .append(" ".repeat(40)).append("║");
         sb.append("\n╟──────────────────────────────────────────────────────────────╢");
 
         int idx = 1;
@@ -118,6 +120,8 @@ public class ExceptionAdvice {
             sb.append("\n║ [").append(idx++).append("] ").append(sqlInfo.toFormattedString());
         }
 
+        sb.append("\n╟──────────────────────────────────────────────────────────────╢");
+        sb.append("\n║ Last Query: ").append(SqlLoggingHolder.SqlInfo.formatSql(stats.lastSql()));
         sb.append("\n╚══════════════════════════════════════════════════════════════╝");
 
         log.error(sb.toString(), e);
@@ -39,6 +39,13 @@ public class CustomResponse<T> {
     @Schema(title = "데이터 총 갯수", example = "1")
     private Long totalCount;
 
+    // 커서 페이징 일때 표기
+    @Schema(title = "다음 페이지 커서 (마지막 페이지면 없음)")
+    private String nextCursor;
+
+    @Schema(title = "총 갯수가 캐시된 추정치인지 여부", example = "false")
+    private Boolean totalEstimated;
+
     @Schema(title = "데이터")
     private T data;
 
@@ -65,6 +72,20 @@ public class CustomResponse<T> {
             .build();
     }
 
+    /**
+     * API Success (커서 페이징)
+     */
+    public static <T> CustomResponse<T> ok(T data, PageResult<?> pageResult) {
+        return (CustomResponse<T>) CustomResponse.builder()
+            .rowCount((data instanceof List list ? list.size() : null))
+            .totalCount(pageResult.getTotal())
+            .nextCursor(pageResult.getNextCursor())
+            .totalEstimated(pageResult.isTotalEstimated())
+            .status(HttpStatus.OK.value())
+            .data(data)
+            .build();
+    }
+
     public static <T> CustomResponse<T> ok(EnumDescriptor enumDescriptor) {
         return (CustomResponse<T>) CustomResponse.builder()
             .status(HttpStatus.OK.value())
@@ -11,9 +11,32 @@ public class PageResult<T> {
 
     private final long total;
 
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private final String nextCursor;
+
+    /**
+     * total 이 캐시된 값이라 실제 건수와 다를 수 있으면 true
+     */
+    private final boolean totalEstimated;
+
     public PageResult(List<T> content, long total) {
+        this(content, total, null, false);
+    }
+
+    public PageResult(List<T> content, long total, String nextCursor, boolean totalEstimated) {
         this.contents = content;
         this.total = total;
+        this.nextCursor = nextCursor;
+        this.totalEstimated = totalEstimated;
+    }
+
+    /**
+     * 목록만 바꾼 결과 (페이지 정보 유지)
+     */
+    public <R> PageResult<R> withContents(List<R> contents) {
+        return new PageResult<>(contents, total, nextCursor, totalEstimated);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package kr.co.victoryfairy.support.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "victory-fairy.browser")
+@Getter
+@Setter
+public class BrowserPoolProperties {
+
+    /**
+     * 동시에 띄워 둘 최대 브라우저 수
+     */
+    private int maxSize = 2;
+
+    /**
+     * 기동 시 미리 띄워 둘 브라우저 수
+     */
+    private int warmSize = 1;
+
+    /**
+     * 사용 가능한 브라우저를 기다리는 최대 시간
+     */
+    private Duration leaseTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 이 횟수만큼 페이지를 연 context 는 새로 만듦 (쿠키 / 메모리 정리)
+     */
+    private int maxUses = 50;
+
+    /**
+     * 페이지 기본 대기 시간 (navigate, waitForSelector)
+     */
+    private Duration pageTimeout = Duration.ofSeconds(30);
+
+    private boolean headless = true;
+
+    /**
+     * 경기 기록을 동시에 수집할 페이지 수 (maxSize 이하로 제한)
+     */
+    private int scrapeParallelism = 2;
+
+    /**
+     * 초당 페이지 요청 수 (0 이하면 제한 없음)
+     */
+    private double pagesPerSecond = 2;
+
+    /**
+     * 지정하면 실제 사이트 대신 저장된 경기 기록 HTML 을 읽음
+     */
+    private String fixtureDir;
+
+}
@@ -17,4 +17,53 @@ public class FileProperties {
 
     private Integer[] videoResizes;
 
+    /**
+     * 변환 작업 큐 (Redis Stream)
+     */
+    private String variantStreamKey = "file_variant";
+
+    private String variantStreamGroup = "file_variant_group";
+
+    private String variantStreamConsumer = "file_worker";
+
+    /**
+     * 변환 워커 수 (동시에 리사이즈 / 인코딩하는 파일 수)
+     */
+    private int variantWorkers = 2;
+
+    /**
+     * 워커별 대기 큐 크기 (가득 차면 큐 읽기를 멈춤)
+     */
+    private int variantQueueCapacity = 20;
+
+    /**
+     * 파일별 변환 최대 시도 횟수 (일시적 실패는 큐에 다시 넣고, 마지막 시도에서도 실패하면 FAILED)
+     */
+    private int variantMaxAttempts = 3;
+
+    /**
+     * 분할 업로드 조각 크기 (마지막 조각만 더 작을 수 있음)
+     */
+    private int chunkSize = 5 * 1024 * 1024;
+
+    /**
+     * 분할 업로드 최대 파일 크기
+     */
+    private long chunkedMaxSize = 2L * 1024 * 1024 * 1024;
+
+    /**
+     * 분할 업로드 세션 유지 시간 (마지막 조각 수신 기준, 지나면 임시 파일도 정리 대상)
+     */
+    private int uploadSessionHours = 24;
+
+    /**
+     * 미사용 파일 정리 시 한 번에 조회 / 삭제하는 파일 수
+     */
+    private int sweepPageSize = 500;
+
+    /**
+     * 미사용 파일 정리 시 동시에 디스크 삭제를 수행하는 스레드 수
+     */
+    private int sweepParallelism = 8;
+
 }
@@ -0,0 +1,130 @@
+package kr.co.victoryfairy.support.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import kr.co.victoryfairy.logging.util.LogMaskingUtils;
+import kr.co.victoryfairy.support.constant.StatusEnum;
+import kr.co.victoryfairy.support.exception.CustomException;
+import kr.co.victoryfairy.support.model.oauth.MemberAccount;
+import kr.co.victoryfairy.support.properties.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import javax.xml.bind.DatatypeConverter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 검증
+ * <p>
+ * 서명 키와 파서는 기동 시 한 번만 만들어 모든 요청이 공유합니다 (jjwt 파서는 불변이라 스레드 안전). 검증에 성공한 토큰은 토큰 문자열을 키로
+ * 토큰의 만료 시각(exp)까지 캐시해 두어, 같은 토큰으로 다시 요청하면 서명 검증 / 역직렬화 없이 회원 정보를 돌려줍니다.
+ */
+@Slf4j
+@Component
+public class AccessTokenVerifier {
+
+    private static final String ACCOUNT_CLAIM = "accountByToken";
+
+    private static final int MAX_VERIFIED_TOKENS = 10000;
+
+    private final JwtParser parser;
+
+    private final Map<String, Verified> verified = new ConcurrentHashMap<>();
+
+    public AccessTokenVerifier(JwtProperties jwtProperties) {
+        var key = new SecretKeySpec(DatatypeConverter.parseBase64Binary(jwtProperties.getSecretKey()),
+                SignatureAlgorithm.HS256.getJcaName());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+    }
+
+    /**
+     * Access Token 검증 (캐시 사용)
+     * @return 토큰에 저장된 회원 정보 (호출마다 새 객체)
+     * @throws CustomException 서명 / 형식이 잘못되면 401, 만료되었으면 403 (Refresh Token 으로 재발급 필요)
+     */
+    public MemberAccount verify(String token) {
+        var cached = verified.get(token);
+        if (cached != null) {
+            if (System.currentTimeMillis() < cached.expiresAt()) {
+                return cached.toAccount();
+            }
+            verified.remove(token);
+        }
+
+        var account = toVerified(parse(token));
+        // 만료 시각이 없는 토큰은 캐시하지 않음
+        if (account.expiresAt() > 0) {
+            put(token, account);
+        }
+        return account.toAccount();
+    }
+
+    /**
+     * 캐시 없이 검증 (Refresh Token 등 한 번만 쓰는 토큰)
+     */
+    public MemberAccount parseAccount(String token) {
+        return toVerified(parse(token)).toAccount();
+    }
+
+    private Claims parse(String token) {
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        }
+        catch (ExpiredJwtException e) {
+            log.warn("accessToken is expired, need check refreshToken : {}", LogMaskingUtils.maskToken(token));
+            throw new CustomException(HttpStatus.FORBIDDEN, StatusEnum.STATUS_902);
+        }
+        catch (JwtException | IllegalArgumentException e) {
+            log.warn("accessToken is wrong : {}", LogMaskingUtils.maskToken(token));
+            throw new CustomException(HttpStatus.UNAUTHORIZED, StatusEnum.STATUS_901);
+        }
+    }
+
+    /**
+     * claims 의 회원 정보를 바로 읽음 (ObjectMapper 변환 없이)
+     */
+    @SuppressWarnings("unchecked")
+    private Verified toVerified(Claims claims) {
+        if (!(claims.get(ACCOUNT_CLAIM) instanceof Map<?, ?> account) || !(account.get("id") instanceof Number id)) {
+            log.warn("accessToken has no account : {}", claims.getId());
+            throw new CustomException(HttpStatus.UNAUTHORIZED, StatusEnum.STATUS_901);
+        }
+        var roles = account.get("roles") instanceof List<?> list ? Collections.unmodifiableList((List<String>) list)
+                : null;
+        var expiration = claims.getExpiration();
+        return new Verified(id.longValue(), (String) account.get("ip"), (String) account.get("expireMinutes"), roles,
+                expiration != null ? expiration.getTime() : 0);
+    }
+
+    private void put(String token, Verified account) {
+        if (verified.size() >= MAX_VERIFIED_TOKENS) {
+            var now = System.currentTimeMillis();
+            verified.values().removeIf(entry -> now >= entry.expiresAt());
+            if (verified.size() >= MAX_VERIFIED_TOKENS) {
+                verified.clear();
+            }
+        }
+        verified.put(token, account);
+    }
+
+    /**
+     * @param expiresAt 토큰 만료 시각 (epoch millis, 없으면 0)
+     */
+    private record Verified(Long id, String ip, String expireMinutes, List<String> roles, long expiresAt) {
+
+        MemberAccount toAccount() {
+            return MemberAccount.builder().id(id).ip(ip).expireMinutes(expireMinutes).roles(roles).build();
+        }
+
+    }
+
+}
@@ -24,6 +24,8 @@ public class JwtService {
 
     private final RefreshTokenRepository refreshTokenRepository;
 
+    private final AccessTokenVerifier accessTokenVerifier;
+
     /**
      * JWT 토큰 생성 (Member용) - Access Token: jwtProperties.accessTokenExpireMinutes 사용 -
      * Refresh Token: jwtProperties.refreshTokenExpireDays 사용 + Redis 저장
@@ -86,7 +88,7 @@ public class JwtService {
      */
     public AccessTokenDto checkMemberRefreshToken(String refreshToken) {
         // JWT 자체 검증 (서명, 만료 등)
-        MemberAccount memberAccount = AccessTokenUtils.parseRefreshToken(refreshToken, jwtProperties);
+        MemberAccount memberAccount = AccessTokenUtils.parseRefreshToken(refreshToken, accessTokenVerifier);
 
         // Redis에 저장된 Refresh Token과 비교
         boolean isValid = refreshTokenRepository.validate(memberAccount.getId(), refreshToken);
@@ -117,7 +119,7 @@ public class JwtService {
      */
     public AccessTokenDto checkAdminRefreshToken(String refreshToken) {
         // JWT 자체 검증 (서명, 만료 등)
-        MemberAccount adminAccount = AccessTokenUtils.parseRefreshToken(refreshToken, jwtProperties);
+        MemberAccount adminAccount = AccessTokenUtils.parseRefreshToken(refreshToken, accessTokenVerifier);
 
         // Redis에 저장된 Admin Refresh Token과 비교
         boolean isValid = refreshTokenRepository.validateAdmin(adminAccount.getId(), refreshToken);
@@ -1,12 +1,12 @@
 package kr.co.victoryfairy.support.utils;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import kr.co.victoryfairy.support.constant.MessageEnum;
 import kr.co.victoryfairy.support.constant.StatusEnum;
 import kr.co.victoryfairy.support.exception.CustomException;
 import kr.co.victoryfairy.support.model.oauth.MemberAccount;
 import kr.co.victoryfairy.support.properties.JwtProperties;
+import kr.co.victoryfairy.support.service.AccessTokenVerifier;
 import kr.co.victoryfairy.logging.util.LogMaskingUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,7 +33,7 @@ public class AccessTokenUtils {
         return null;
     }
 
-    public static Boolean checkToken(HttpServletRequest request, JwtProperties jwtProperties) {
+    public static Boolean checkToken(HttpServletRequest request, AccessTokenVerifier accessTokenVerifier) {
         var accessToken = getAccessToken(request);
         log.debug("accessToken : {}", LogMaskingUtils.maskToken(accessToken));
         // accessToken 유무 판단
@@ -42,41 +42,23 @@ public class AccessTokenUtils {
         }
 
         // 유효시간내의 토큰 해석
-        checkAccessToken(accessToken, jwtProperties, request);
+        checkAccessToken(accessToken, accessTokenVerifier, request);
         return true;
     }
 
-    //토큰 체크
-    public static Boolean checkAccessToken(String accessToken, JwtProperties jwtProperties, HttpServletRequest request) {
-
-        var parseToken = JwtUtils.parseToken(accessToken, jwtProperties.getSecretKey());
-        boolean isCertifiedToken = Boolean.parseBoolean(parseToken.get("isCertifiedToken").toString());
-        if (!isCertifiedToken) {
-            // accessToken is wrong
-            return accessError(accessToken);
-        }
-        boolean isExpired = Boolean.parseBoolean(parseToken.get("isExpired").toString());
-        if (isExpired) {
-            // RefreshToken 요청
-            return needCheckRefreshTokenError(accessToken);
-        }
-
-        // token 중에 저장된 유저정보 가져오기
-        Object accountByToken = parseToken.get("accountByToken");
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        var account = objectMapper.convertValue(accountByToken, MemberAccount.class);
-
-        if (account == null) {
-            return accessError(accessToken);
-        } else {
-            // URL이 /mgt로 시작하면 ADMIN 권한 확인
-            String requestURI = request.getRequestURI();
-            if (requestURI.contains("/mgt/")) {
-                checkRoles(account.getRoles(), "ADMIN", accessToken);
-            }
-            request.setAttribute("accountByToken", account);
+    /**
+     * 토큰 체크 (서명 / 만료 검증은 {@link AccessTokenVerifier}, 여기서는 권한 확인 후 요청에 회원 정보 저장)
+     */
+    public static Boolean checkAccessToken(String accessToken, AccessTokenVerifier accessTokenVerifier,
+            HttpServletRequest request) {
+        var account = accessTokenVerifier.verify(accessToken);
+
+        // URL이 /mgt로 시작하면 ADMIN 권한 확인
+        String requestURI = request.getRequestURI();
+        if (requestURI.contains("/mgt/")) {
+            checkRoles(account.getRoles(), "ADMIN", accessToken);
         }
+        request.setAttribute("accountByToken", account);
         return true;
     }
 
@@ -108,28 +90,17 @@ public class AccessTokenUtils {
     /**
      * Refresh Token 파싱 (JWT 검증만, Redis 검증은 별도)
      * @param refreshToken Refresh Token
-     * @param jwtProperties JWT 설정
+     * @param accessTokenVerifier JWT 검증
      * @return MemberAccount 정보
      */
-    public static MemberAccount parseRefreshToken(String refreshToken, JwtProperties jwtProperties) {
-        var parseToken = JwtUtils.parseToken(refreshToken, jwtProperties.getSecretKey());
-
-        boolean isCertifiedToken = Boolean.parseBoolean(parseToken.get("isCertifiedToken").toString());
-        if (!isCertifiedToken) {
-            log.warn("Refresh Token 서명 검증 실패: {}", LogMaskingUtils.maskToken(refreshToken));
-            throw new CustomException(HttpStatus.UNAUTHORIZED, StatusEnum.STATUS_903);
+    public static MemberAccount parseRefreshToken(String refreshToken, AccessTokenVerifier accessTokenVerifier) {
+        try {
+            return accessTokenVerifier.parseAccount(refreshToken);
         }
-
-        boolean isExpired = Boolean.parseBoolean(parseToken.get("isExpired").toString());
-        if (isExpired) {
-            log.warn("Refresh Token 만료됨: {}", LogMaskingUtils.maskToken(refreshToken));
+        catch (CustomException e) {
+            log.warn("Refresh Token 검증 실패 ({}): {}", e.getStatusEnum(), LogMaskingUtils.maskToken(refreshToken));
             throw new CustomException(HttpStatus.UNAUTHORIZED, StatusEnum.STATUS_903);
         }
-
-        // token에서 회원 정보 추출
-        Object accountByToken = parseToken.get("accountByToken");
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.convertValue(accountByToken, MemberAccount.class);
     }
 
     private static void checkRoles(List<String> roles, String targetRoles, String accessToken) {
@@ -153,9 +124,4 @@ public class AccessTokenUtils {
         throw new CustomException(MessageEnum.Auth.FAIL_OVERLAP);
     }
 
-    private static Boolean needCheckRefreshTokenError(String accessToken) {
-        log.warn("accessToken is expired, need check refreshToken : {}", LogMaskingUtils.maskToken(accessToken));
-        throw new CustomException(HttpStatus.FORBIDDEN, StatusEnum.STATUS_902);
-    }
-
 }
@@ -0,0 +1,47 @@
+package kr.co.victoryfairy.support.utils;
+
+import kr.co.victoryfairy.support.constant.MessageEnum;
+import kr.co.victoryfairy.support.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 목록 커서 (마지막 id 를 감싼 불투명 문자열, 클라이언트는 받은 값을 그대로 다음 요청에 전달)
+ */
+public class CursorUtils {
+
+    private static final String PREFIX = "id:";
+
+    private CursorUtils() {
+    }
+
+    public static String encode(Long lastId) {
+        if (lastId == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 마지막 id (커서가 없으면 null)
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(PREFIX)) {
+                throw new CustomException(MessageEnum.Common.REQUEST_PARAMETER);
+            }
+            return Long.valueOf(value.substring(PREFIX.length()));
+        }
+        catch (IllegalArgumentException e) {
+            throw new CustomException(MessageEnum.Common.REQUEST_PARAMETER);
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package kr.co.victoryfairy.support.utils;
+
+/**
+ * 저장소 파일명 규칙 (core-file 저장 / core-batch 정리가 같은 규칙을 사용)
+ */
+public class FileNameUtils {
+
+    /**
+     * 업로드 수신 중인 임시 파일 디렉토리 (저장소 루트 기준)
+     */
+    public static final String TEMP_DIRECTORY = ".upload";
+
+    private FileNameUtils() {
+    }
+
+    /**
+     * 원본 파일명
+     */
+    public static String original(String saveName, String ext) {
+        return saveName + "." + ext;
+    }
+
+    /**
+     * 변환본 파일명 (원본과 같은 디렉토리)
+     */
+    public static String variant(String saveName, String ext, int width, boolean isVideo) {
+        // 동영상은 기존 저장 규칙({saveName}.{ext}_{width}.{ext})을 유지
+        return isVideo ? saveName + "." + ext + "_" + width + "." + ext : saveName + "_" + width + "." + ext;
+    }
+
+    /**
+     * 저장 경로의 첫 디렉토리가 파일 종류 (image / video / audio / etc)
+     */
+    public static boolean isVideo(String path) {
+        return path.startsWith("video");
+    }
+
+}
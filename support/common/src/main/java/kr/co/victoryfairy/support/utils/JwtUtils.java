@@ -13,36 +13,6 @@ import java.util.UUID;
 @Slf4j
 public class JwtUtils {
 
-    public static Claims parseToken(String token, String secretKey) {
-        Claims claims = Jwts.claims();
-        try {
-
-            claims = Jwts.parserBuilder()
-                .setSigningKey(DatatypeConverter.parseBase64Binary(secretKey))
-                // .requireAudience(getIp(request))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-            claims.put("isCertifiedToken", Boolean.TRUE);
-            claims.put("isExpired", Boolean.FALSE);
-        }
-        catch (ExpiredJwtException ex) {
-            log.debug("The token is expired", ex);
-            claims = ex.getClaims();
-            claims.put("isCertifiedToken", Boolean.TRUE);
-            claims.put("isExpired", Boolean.TRUE);
-        }
-        catch (JwtException ex) {
-            log.error("JwtException occurs when parseToken", ex);
-            claims.put("isCertifiedToken", Boolean.FALSE);
-        }
-        catch (IllegalArgumentException ex) {
-            log.error("IllegalArgumentException occurs when parseToken", ex);
-            claims.put("isCertifiedToken", Boolean.FALSE);
-        }
-        return claims;
-    }
-
     public static String generateToken(Map<String, Object> claims, int expireMinutes, String secretKey) {
         String token = null;
         try {
@@ -7,6 +7,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import kr.co.victoryfairy.logging.context.LogContext;
 import kr.co.victoryfairy.logging.context.LogContextHolder;
 import kr.co.victoryfairy.logging.sql.SqlLoggingHolder;
+import kr.co.victoryfairy.logging.trace.RequestTracer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.core.Ordered;
@@ -23,16 +25,20 @@ import java.util.UUID;
 @Slf4j
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
 public class MdcLoggingFilter extends OncePerRequestFilter {
 
     public static final String MDC_REQUEST_ID = "requestId";
 
+    private final RequestTracer requestTracer;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
         long startTime = System.currentTimeMillis();
         String requestId = generateRequestId();
+        boolean failed = false;
 
         try {
             // MDC 설정
@@ -41,6 +47,12 @@ public class MdcLoggingFilter extends OncePerRequestFilter {
             // LogContext 설정 (레이어 로깅용)
             LogContextHolder.set(new LogContext(requestId));
 
+            // 호출 트리 기록 시작 (느리거나 실패한 요청, 샘플링된 요청만 출력)
+            requestTracer.begin();
+
+            // SQL 통계 작업 단위 시작
+            SqlLoggingHolder.begin(SqlLoggingHolder.KIND_HTTP, request.getMethod() + " " + request.getRequestURI());
+
             // 요청 시작 로깅
             log.info("[REQUEST] {} {} from {}",
                     request.getMethod(),
@@ -53,6 +65,10 @@ public class MdcLoggingFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
 
         }
+        catch (IOException | ServletException | RuntimeException e) {
+            failed = true;
+            throw e;
+        }
         finally {
             long duration = System.currentTimeMillis() - startTime;
 
@@ -62,20 +78,22 @@ public class MdcLoggingFilter extends OncePerRequestFilter {
                     request.getRequestURI(),
                     response.getStatus(),
                     duration);
+            requestTracer.finish(request.getMethod(), request.getRequestURI(), response.getStatus(), failed);
 
             // 정리
             MDC.clear();
             LogContextHolder.clear();
-            SqlLoggingHolder.clear();
+            SqlLoggingHolder.end();
         }
     }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
-        // 정적 리소스, swagger 제외
+        // 정적 리소스, swagger, actuator(헬스 체크 / 스크랩) 제외
         return path.contains("/swagger")
                 || path.contains("/api-docs")
+                || path.startsWith("/actuator")
                 || path.endsWith(".css")
                 || path.endsWith(".js")
                 || path.endsWith(".ico")
@@ -4,31 +4,43 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.util.AntPathMatcher;
+import org.springframework.http.server.PathContainer;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 경로 패턴에 맞는 요청에만 filterMatched 를 적용하는 필터
+ * <p>
+ * 패턴은 생성 시 한 번만 PathPattern 으로 컴파일하고, URI 별 적용 여부는 캐시해 두어 같은 URI 로 다시 요청하면 패턴을 다시 검사하지
+ * 않습니다. 포함 패턴에 맞고 제외 패턴에 맞지 않는 요청에만 filterMatched 를 적용합니다.
+ */
 public abstract class PathPatternWebFilter extends OncePerRequestFilter {
 
-    private final List<String> includePathPatterns = new ArrayList<>();
+    private static final int MAX_CACHED_URIS = 1024;
 
-    private final List<String> excludePathPatterns = new ArrayList<>();
+    private final List<PathPattern> includePathPatterns;
+
+    private final List<PathPattern> excludePathPatterns;
+
+    private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
+
+    protected PathPatternWebFilter(Routes routes) {
+        this.includePathPatterns = List.copyOf(routes.includes);
+        this.excludePathPatterns = List.copyOf(routes.excludes);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        String requestUri = request.getRequestURI();
-
-        if (excludePathPatterns.stream().anyMatch(pattern -> pathMatches(pattern, requestUri))) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
-        if (includePathPatterns.stream().anyMatch(pattern -> pathMatches(pattern, requestUri))) {
+        if (matches(request.getRequestURI())) {
             filterMatched(request, response, filterChain);
             return;
         }
@@ -36,20 +48,73 @@ public abstract class PathPatternWebFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    protected boolean pathMatches(String pattern, String requestUri) {
-        AntPathMatcher matcher = new AntPathMatcher();
-        return matcher.match(pattern, requestUri);
-    }
+    /**
+     * filterMatched 적용 여부
+     */
+    boolean matches(String requestUri) {
+        var cached = decisions.get(requestUri);
+        if (cached != null) {
+            return cached;
+        }
 
-    protected void addIncludePathPatterns(String... patterns) {
-        includePathPatterns.addAll(List.of(patterns));
-    }
+        PathContainer path;
+        try {
+            path = PathContainer.parsePath(requestUri);
+        }
+        catch (IllegalArgumentException e) {
+            // 디코딩할 수 없는 URI 는 캐시하지 않고 필터를 적용
+            return true;
+        }
+        var matched = includePathPatterns.stream().anyMatch(pattern -> pattern.matches(path))
+                && excludePathPatterns.stream().noneMatch(pattern -> pattern.matches(path));
 
-    protected void addExcludePathPatterns(String... patterns) {
-        excludePathPatterns.addAll(List.of(patterns));
+        if (decisions.size() >= MAX_CACHED_URIS) {
+            decisions.clear();
+        }
+        decisions.put(requestUri, matched);
+        return matched;
     }
 
     public abstract void filterMatched(HttpServletRequest request, HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException;
 
-}
\ No newline at end of file
+    /**
+     * 필터 적용 경로 선언
+     * <pre>
+     * super(Routes.include("/member/**", "/diary/**").exclude("/member/login"));
+     * </pre>
+     */
+    public static final class Routes {
+
+        private final List<PathPattern> includes = new ArrayList<>();
+
+        private final List<PathPattern> excludes = new ArrayList<>();
+
+        private Routes() {
+        }
+
+        public static Routes include(String... patterns) {
+            return new Routes().andInclude(patterns);
+        }
+
+        public Routes andInclude(String... patterns) {
+            includes.addAll(parse(patterns));
+            return this;
+        }
+
+        public Routes exclude(String... patterns) {
+            excludes.addAll(parse(patterns));
+            return this;
+        }
+
+        private static List<PathPattern> parse(String... patterns) {
+            var parsed = new ArrayList<PathPattern>(patterns.length);
+            for (var pattern : patterns) {
+                parsed.add(PathPatternParser.defaultInstance.parse(pattern));
+            }
+            return parsed;
+        }
+
+    }
+
+}
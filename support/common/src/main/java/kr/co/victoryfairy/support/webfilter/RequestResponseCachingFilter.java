@@ -1,15 +1,19 @@
 package kr.co.victoryfairy.support.webfilter;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * <pre>
@@ -17,19 +21,31 @@ import java.io.IOException;
  *     그러기 위해 아래 체이닝 필터가 필요함.
  *
  *     캐싱은 요청/응답이 끝나면 바로 삭제되기 때문에 요청이나 응답이 거대하지 않을경우 큰 이슈는 없어보이나 대량의 트레픽과 거대한 요청/응답 이 있을경우 개선해야 할 것으로 보임
+ *     파일 본문처럼 스트리밍해야 하는 경로는 excludedPaths 로 제외 (캐싱하면 본문 전체가 힙에 쌓이고 Content-Length 가 사라짐)
+ *     SSE(text/event-stream) 요청과 비동기 재디스패치도 제외 (최초 디스패치가 끝난 뒤 쓴 이벤트는 래퍼에 갇혀 클라이언트로 가지 않음)
  * </pre>
  */
 public class RequestResponseCachingFilter implements Filter {
 
+    private final List<String> excludedPaths;
+
+    /**
+     * @param excludedPaths 캐싱하지 않을 경로 접두사 (context path 제외)
+     */
+    public RequestResponseCachingFilter(String... excludedPaths) {
+        this.excludedPaths = List.of(excludedPaths);
+    }
+
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, jakarta.servlet.ServletException {
-        if (!(request instanceof HttpServletRequest) || !(response instanceof HttpServletResponse)) {
+        if (!(request instanceof HttpServletRequest httpRequest) || !(response instanceof HttpServletResponse)
+                || isStreaming(httpRequest) || isExcluded(httpRequest)) {
             chain.doFilter(request, response);
             return;
         }
 
-        ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper((HttpServletRequest) request);
+        ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(httpRequest);
         ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(
                 (HttpServletResponse) response);
 
@@ -41,4 +57,22 @@ public class RequestResponseCachingFilter implements Filter {
         }
     }
 
-}
\ No newline at end of file
+    private boolean isStreaming(HttpServletRequest request) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        var accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    private boolean isExcluded(HttpServletRequest request) {
+        var path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String excludedPath : excludedPaths) {
+            if (path.startsWith(excludedPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
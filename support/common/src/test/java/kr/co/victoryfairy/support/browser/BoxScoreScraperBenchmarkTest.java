@@ -0,0 +1,103 @@
+package kr.co.victoryfairy.support.browser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dodn.springboot.test.benchmark.JmhRunner;
+import kr.co.victoryfairy.support.properties.BrowserPoolProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장된 HTML 30경기 수집 시간 비교 (페이지 1개 순차 vs 4개 동시, Chromium 필요)
+ */
+@Tag("develop")
+@DisplayName("BoxScoreScraper 벤치마크")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BoxScoreScraperBenchmarkTest {
+
+    private static final Path FIXTURE_DIR = Path.of("src/test/resources/fixtures/boxscore");
+
+    private static final String FIXTURE_ID = "20250930SSLG0";
+
+    @Param({ "1", "4" })
+    public int parallelism;
+
+    private Path fixtures;
+
+    private BrowserPool browserPool;
+
+    private BoxScoreScraper scraper;
+
+    private List<BoxScoreScraper.Game> games;
+
+    @Setup
+    public void setUp() throws Exception {
+        var properties = new BrowserPoolProperties();
+        properties.setMaxSize(4);
+        properties.setWarmSize(4);
+        browserPool = new BrowserPool(properties);
+        browserPool.warmUp();
+
+        // 같은 경기 기록을 30경기로 복사
+        fixtures = Files.createTempDirectory("boxscore-benchmark");
+        games = IntStream.range(0, 30).mapToObj(i -> new BoxScoreScraper.Game("game" + i, "0")).toList();
+        for (BoxScoreScraper.Game game : games) {
+            Files.copy(FIXTURE_DIR.resolve(FIXTURE_ID + "_away.html"), fixtures.resolve(game.id() + "_away.html"));
+            Files.copy(FIXTURE_DIR.resolve(FIXTURE_ID + "_home.html"), fixtures.resolve(game.id() + "_home.html"));
+        }
+        scraper = new BoxScoreScraper(browserPool, new FixtureBoxScoreSource(fixtures), new ObjectMapper(),
+                parallelism, 0);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        browserPool.close();
+        FileSystemUtils.deleteRecursively(fixtures);
+    }
+
+    @Benchmark
+    public int scrape() {
+        var succeeded = new AtomicInteger();
+        scraper.scrape(games, result -> {
+            if (result.isSuccess()) {
+                succeeded.incrementAndGet();
+            }
+        });
+        // 실패가 섞이면 시간 비교가 의미 없으므로 벤치마크 실패로 처리
+        if (succeeded.get() != games.size()) {
+            throw new IllegalStateException("scrape failed - succeeded: " + succeeded.get());
+        }
+        return succeeded.get();
+    }
+
+    @Test
+    @DisplayName("여러 페이지로 동시에 수집하면 순차 수집보다 빠르다")
+    void compare() throws Exception {
+        var results = JmhRunner.run(getClass());
+
+        assertThat(results.get("scrape", "parallelism", "4").score())
+            .isLessThan(results.get("scrape", "parallelism", "1").score());
+    }
+
+}
@@ -0,0 +1,81 @@
+package kr.co.victoryfairy.support.browser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.victoryfairy.support.properties.BrowserPoolProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장된 HTML 로 경기 기록 파싱 확인 (Chromium 필요, 수집 속도 비교는 {@link BoxScoreScraperBenchmarkTest})
+ */
+@Tag("develop")
+@DisplayName("BoxScoreScraper 테스트")
+class BoxScoreScraperTest {
+
+    private static final Path FIXTURE_DIR = Path.of("src/test/resources/fixtures/boxscore");
+
+    private static final String FIXTURE_ID = "20250930SSLG0";
+
+    @TempDir
+    Path fixtures;
+
+    private BrowserPool browserPool;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        var properties = new BrowserPoolProperties();
+        properties.setMaxSize(4);
+        properties.setWarmSize(4);
+        browserPool = new BrowserPool(properties);
+        browserPool.warmUp();
+
+        Files.copy(FIXTURE_DIR.resolve(FIXTURE_ID + "_away.html"), fixtures.resolve(FIXTURE_ID + "_away.html"));
+        Files.copy(FIXTURE_DIR.resolve(FIXTURE_ID + "_home.html"), fixtures.resolve(FIXTURE_ID + "_home.html"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        browserPool.close();
+    }
+
+    @Test
+    @DisplayName("저장된 경기 기록 HTML 을 표 단위로 파싱한다")
+    void scrape_shouldParseFixture() {
+        // given
+        var scraper = scraper(1);
+        List<BoxScoreScraper.Result> results = new CopyOnWriteArrayList<>();
+
+        // when
+        scraper.scrape(List.of(new BoxScoreScraper.Game(FIXTURE_ID, "0")), results::add);
+
+        // then
+        assertThat(results).singleElement().satisfies(result -> assertThat(result.isSuccess()).isTrue());
+        var boxScore = results.get(0).boxScore();
+        assertThat(boxScore.awayHitters()).hasSize(9);
+        assertThat(boxScore.homeHitters()).hasSize(9);
+        assertThat(boxScore.awayPitchers()).hasSize(3);
+        assertThat(boxScore.homePitchers()).hasSize(3);
+
+        assertThat(boxScore.awayHitters().get(3)).isEqualTo(new BoxScore.Hitter((short) 4, "디아즈", "1", (short) 4,
+                (short) 1, (short) 2, (short) 1, (short) 3, (short) 0, (short) 1));
+        assertThat(boxScore.homePitchers().get(0)).isEqualTo(new BoxScore.Pitcher((short) 1, "임찬규", "투", "5 1/3",
+                (short) 95, (short) 3, (short) 4, (short) 7, (short) 2, (short) 4));
+    }
+
+    private BoxScoreScraper scraper(int parallelism) {
+        return new BoxScoreScraper(browserPool, new FixtureBoxScoreSource(fixtures), new ObjectMapper(), parallelism,
+                0);
+    }
+
+}
@@ -0,0 +1,115 @@
+package kr.co.victoryfairy.support.browser;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import kr.co.victoryfairy.support.properties.BrowserPoolProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Tag("unit")
+@DisplayName("BrowserPool 테스트")
+class BrowserPoolTest {
+
+    private final List<Browser> browsers = new ArrayList<>();
+
+    private BrowserPoolProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BrowserPoolProperties();
+        properties.setMaxSize(1);
+        properties.setWarmSize(1);
+        properties.setMaxUses(2);
+        properties.setLeaseTimeout(Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("미리 띄운 브라우저를 재사용하고 maxUses 마다 context 를 새로 만든다")
+    void lease_shouldReuseBrowserAndRecycleContext() {
+        // given
+        var pool = new BrowserPool(properties, this::launch);
+        pool.warmUp();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            try (var lease = pool.lease()) {
+                assertThat(lease.page()).isNotNull();
+            }
+        }
+
+        // then
+        assertThat(browsers).hasSize(1);
+        verify(browsers.get(0), times(2)).newContext();
+
+        var stats = pool.stats();
+        assertThat(stats.launched()).isEqualTo(1);
+        assertThat(stats.recycled()).isEqualTo(1);
+        assertThat(stats.leases()).isEqualTo(3);
+        assertThat(stats.idle()).isEqualTo(1);
+        assertThat(stats.leased()).isZero();
+    }
+
+    @Test
+    @DisplayName("모든 브라우저가 사용 중이면 leaseTimeout 후 실패한다")
+    void lease_whenExhausted_shouldTimeout() {
+        // given
+        var pool = new BrowserPool(properties, this::launch);
+
+        // when
+        try (var lease = pool.lease()) {
+            // then
+            assertThatThrownBy(pool::lease).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(pool.stats().leaseTimeouts()).isEqualTo(1);
+        assertThat(pool.stats().leased()).isZero();
+    }
+
+    @Test
+    @DisplayName("연결이 끊긴 브라우저는 버리고 다시 띄운다")
+    void lease_whenBrowserCrashed_shouldRelaunch() {
+        // given
+        var pool = new BrowserPool(properties, this::launch);
+        try (var lease = pool.lease()) {
+            given(browsers.get(0).isConnected()).willReturn(false);
+        }
+
+        // when
+        try (var lease = pool.lease()) {
+            assertThat(lease.page()).isNotNull();
+        }
+
+        // then
+        assertThat(browsers).hasSize(2);
+        verify(browsers.get(0)).close();
+        assertThat(pool.stats().discarded()).isEqualTo(1);
+        assertThat(pool.stats().size()).isEqualTo(1);
+    }
+
+    private BrowserPool.Launched launch() {
+        var browser = mock(Browser.class);
+        given(browser.isConnected()).willReturn(true);
+        given(browser.newContext()).willAnswer(invocation -> {
+            var context = mock(BrowserContext.class);
+            given(context.newPage()).willAnswer(pageInvocation -> mock(Page.class));
+            return context;
+        });
+        browsers.add(browser);
+        return new BrowserPool.Launched(() -> {
+        }, browser);
+    }
+
+}
@@ -0,0 +1,47 @@
+package kr.co.victoryfairy.support.browser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("RateLimiter 테스트")
+class RateLimiterTest {
+
+    @Test
+    @DisplayName("초당 허용 수만큼 간격을 두고 통과시킨다")
+    void acquire_shouldSpacePermits() throws Exception {
+        // given
+        var rateLimiter = new RateLimiter(20);
+
+        // when
+        var startedAt = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire();
+        }
+        var elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then (첫 요청은 즉시, 이후 4번은 50ms 간격)
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(190);
+    }
+
+    @Test
+    @DisplayName("초당 허용 수가 0 이하면 제한하지 않는다")
+    void acquire_whenUnlimited_shouldNotWait() throws Exception {
+        // given
+        var rateLimiter = new RateLimiter(0);
+
+        // when
+        var startedAt = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.acquire();
+        }
+        var elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertThat(elapsedMillis).isLessThan(100);
+    }
+
+}
@@ -0,0 +1,107 @@
+package kr.co.victoryfairy.support.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dodn.springboot.test.benchmark.JmhRunner;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import kr.co.victoryfairy.support.model.oauth.MemberAccount;
+import kr.co.victoryfairy.support.properties.JwtProperties;
+import kr.co.victoryfairy.support.utils.JwtUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.xml.bind.DatatypeConverter;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 검증 1건당 시간 / 할당량 비교 (기존 요청마다 파서 생성 + ObjectMapper 변환 vs AccessTokenVerifier)
+ */
+@Tag("develop")
+@DisplayName("AccessTokenVerifier 벤치마크")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessTokenVerifierBenchmarkTest {
+
+    private static final String SECRET = Base64.getEncoder()
+        .encodeToString("victory-fairy-access-token-secret-key".getBytes(StandardCharsets.UTF_8));
+
+    private String token;
+
+    private AccessTokenVerifier accessTokenVerifier;
+
+    @Setup
+    public void setUp() {
+        var jwtProperties = new JwtProperties();
+        jwtProperties.setSecretKey(SECRET);
+        accessTokenVerifier = new AccessTokenVerifier(jwtProperties);
+
+        var account = MemberAccount.builder().id(7L).ip("127.0.0.1").expireMinutes("30").roles(List.of()).build();
+        token = JwtUtils.generateToken(Map.of("accountByToken", account), 30, SECRET);
+    }
+
+    /**
+     * 변경 전 AccessTokenUtils.checkAccessToken 과 같은 방식 (요청마다 키 디코딩 / 파서 생성 / ObjectMapper 생성, 제거된
+     * JwtUtils.parseToken 을 그대로 옮김)
+     */
+    @Benchmark
+    public MemberAccount legacy() {
+        Claims claims;
+        try {
+            claims = Jwts.parserBuilder()
+                .setSigningKey(DatatypeConverter.parseBase64Binary(SECRET))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        }
+        catch (JwtException e) {
+            throw new IllegalStateException(e);
+        }
+        return new ObjectMapper().convertValue(claims.get("accountByToken"), MemberAccount.class);
+    }
+
+    /**
+     * 미리 만든 파서로 매번 서명 검증
+     */
+    @Benchmark
+    public MemberAccount prebuiltParser() {
+        return accessTokenVerifier.parseAccount(token);
+    }
+
+    /**
+     * 검증된 토큰 캐시 사용 (같은 토큰으로 반복 요청)
+     */
+    @Benchmark
+    public MemberAccount cached() {
+        return accessTokenVerifier.verify(token);
+    }
+
+    @Test
+    @DisplayName("토큰 검증")
+    void verify() throws Exception {
+        var results = JmhRunner.run(getClass());
+
+        var legacy = results.get("legacy");
+        var prebuiltParser = results.get("prebuiltParser");
+        var cached = results.get("cached");
+        assertThat(prebuiltParser.score()).isLessThan(legacy.score());
+        assertThat(prebuiltParser.allocated()).isLessThan(legacy.allocated());
+        assertThat(cached.score()).isLessThan(prebuiltParser.score());
+    }
+
+}
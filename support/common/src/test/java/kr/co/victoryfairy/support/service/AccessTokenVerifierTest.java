@@ -0,0 +1,113 @@
+package kr.co.victoryfairy.support.service;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import kr.co.victoryfairy.support.constant.StatusEnum;
+import kr.co.victoryfairy.support.exception.CustomException;
+import kr.co.victoryfairy.support.model.oauth.MemberAccount;
+import kr.co.victoryfairy.support.properties.JwtProperties;
+import kr.co.victoryfairy.support.utils.JwtUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+@DisplayName("AccessTokenVerifier 테스트")
+class AccessTokenVerifierTest {
+
+    private static final String SECRET = Base64.getEncoder()
+        .encodeToString("victory-fairy-access-token-secret-key".getBytes(StandardCharsets.UTF_8));
+
+    private final AccessTokenVerifier accessTokenVerifier = new AccessTokenVerifier(jwtProperties(SECRET));
+
+    @Test
+    @DisplayName("검증한 토큰의 회원 정보를 claims 에서 바로 읽고 만료 시각까지 캐시한다")
+    void verify_shouldMapAccountAndCache() {
+        // given
+        var token = token(SECRET, 30);
+
+        // when
+        var first = accessTokenVerifier.verify(token);
+        var second = accessTokenVerifier.verify(token);
+
+        // then
+        assertThat(first.getId()).isEqualTo(7L);
+        assertThat(first.getIp()).isEqualTo("127.0.0.1");
+        assertThat(first.getRoles()).containsExactly("ADMIN");
+        // 캐시된 값으로 만들어도 요청마다 다른 객체
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getId()).isEqualTo(7L);
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(accessTokenVerifier, "verified")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 403 (재발급 필요) 으로 거절한다")
+    void verify_whenExpired_shouldThrowForbidden() {
+        // given
+        var token = Jwts.builder()
+            .setClaims(Map.of("accountByToken", Map.of("id", 7)))
+            .setExpiration(new Date(System.currentTimeMillis() - 1000))
+            .signWith(new SecretKeySpec(Base64.getDecoder().decode(SECRET), SignatureAlgorithm.HS256.getJcaName()),
+                    SignatureAlgorithm.HS256)
+            .compact();
+
+        // when & then
+        assertThatThrownBy(() -> accessTokenVerifier.verify(token)).isInstanceOf(CustomException.class)
+            .satisfies(e -> {
+                assertThat(((CustomException) e).getHttpStatus()).isEqualTo(HttpStatus.FORBIDDEN);
+                assertThat(((CustomException) e).getStatusEnum()).isEqualTo(StatusEnum.STATUS_902);
+            });
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰은 401 로 거절하고 캐시하지 않는다")
+    void verify_whenSignatureInvalid_shouldThrowUnauthorized() {
+        // given
+        var otherSecret = Base64.getEncoder()
+            .encodeToString("another-secret-key-for-signature-test".getBytes(StandardCharsets.UTF_8));
+        var token = token(otherSecret, 30);
+
+        // when & then
+        assertThatThrownBy(() -> accessTokenVerifier.verify(token)).isInstanceOf(CustomException.class)
+            .satisfies(e -> assertThat(((CustomException) e).getStatusEnum()).isEqualTo(StatusEnum.STATUS_901));
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(accessTokenVerifier, "verified")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 없는 토큰은 검증만 하고 캐시하지 않는다")
+    void verify_whenNoExpiration_shouldNotCache() {
+        // given
+        var token = token(SECRET, 0);
+
+        // when
+        var account = accessTokenVerifier.verify(token);
+
+        // then
+        assertThat(account.getId()).isEqualTo(7L);
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(accessTokenVerifier, "verified")).isEmpty();
+    }
+
+    private String token(String secret, int expireMinutes) {
+        var account = MemberAccount.builder().id(7L).ip("127.0.0.1").expireMinutes("30").roles(List.of("ADMIN")).build();
+        return JwtUtils.generateToken(Map.of("accountByToken", account), expireMinutes, secret);
+    }
+
+    private static JwtProperties jwtProperties(String secret) {
+        var jwtProperties = new JwtProperties();
+        jwtProperties.setSecretKey(secret);
+        return jwtProperties;
+    }
+
+}
@@ -0,0 +1,54 @@
+package kr.co.victoryfairy.support.utils;
+
+import kr.co.victoryfairy.support.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+@DisplayName("CursorUtils 테스트")
+class CursorUtilsTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 마지막 id 가 나온다")
+    void decode_shouldReturnEncodedId() {
+        // given
+        var cursor = CursorUtils.encode(1234567L);
+
+        // when
+        var lastId = CursorUtils.decode(cursor);
+
+        // then
+        assertThat(lastId).isEqualTo(1234567L);
+        assertThat(cursor).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 null 을 반환한다")
+    void decode_whenBlank_shouldReturnNull() {
+        // when & then
+        assertThat(CursorUtils.decode(null)).isNull();
+        assertThat(CursorUtils.decode(" ")).isNull();
+        assertThat(CursorUtils.encode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 요청 파라미터 오류로 처리한다")
+    void decode_whenInvalid_shouldThrow() {
+        // given
+        var foreign = Base64.getUrlEncoder().encodeToString("page:3".getBytes(StandardCharsets.UTF_8));
+        var notNumber = Base64.getUrlEncoder().encodeToString("id:abc".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThatThrownBy(() -> CursorUtils.decode("%%%")).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> CursorUtils.decode(foreign)).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> CursorUtils.decode(notNumber)).isInstanceOf(CustomException.class);
+    }
+
+}
@@ -0,0 +1,97 @@
+package kr.co.victoryfairy.support.webfilter;
+
+import io.dodn.springboot.test.benchmark.JmhRunner;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 1건당 경로 판단 시간 / 할당량 비교 (core-api AccessTokenWebFilter 와 같은 패턴 수)
+ */
+@Tag("develop")
+@DisplayName("PathPatternWebFilter 벤치마크")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PathPatternWebFilterBenchmarkTest {
+
+    private static final String[] INCLUDES = { "/v2/api/member/**", "/v2/api/my-page/**", "/v2/api/diary/**",
+            "/member/**", "/my-page/**", "/diary/**" };
+
+    private static final String[] EXCLUDES = { "/", "/swagger-ui/**", "/swagger/**", "/v2/api/member/auth-path",
+            "/v2/api/member/login", "/member/login", "/member/auth-path", "/v2/api/member/refresh-token",
+            "/member/refresh-token", "/v2/api/match/list", "/match/list", "/v2/api/diary/list", "/diary/list",
+            "/v2/api/diary/daily-list", "/diary/daily-list", "/v2/api/member/match-today", "/member/match-today",
+            "/v2/api/my-page/member", "/my-page/member", "/v2/api/my-page/victory-power", "/my-page/victory-power" };
+
+    private static final String[] URIS = { "/v2/api/diary/1024", "/v2/api/my-page/report", "/v2/api/match/list",
+            "/v2/api/member/info", "/v2/api/diary/daily-list", "/v2/api/match/20250930SSLG0", "/swagger-ui/index.html",
+            "/v2/api/my-page/victory-power" };
+
+    private PathPatternWebFilter compiled;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        compiled = new PathPatternWebFilter(PathPatternWebFilter.Routes.include(INCLUDES).exclude(EXCLUDES)) {
+            @Override
+            public void filterMatched(HttpServletRequest request, HttpServletResponse response,
+                    FilterChain filterChain) {
+            }
+        };
+    }
+
+    /**
+     * 변경 전 방식 (제외 / 포함 패턴을 순서대로 검사하며 패턴마다 AntPathMatcher 생성)
+     */
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        var uri = nextUri();
+        var excluded = List.of(EXCLUDES).stream().anyMatch(pattern -> new AntPathMatcher().match(pattern, uri));
+        blackhole.consume(!excluded
+                && List.of(INCLUDES).stream().anyMatch(pattern -> new AntPathMatcher().match(pattern, uri)));
+    }
+
+    /**
+     * 미리 컴파일한 PathPattern + URI 별 판단 캐시
+     */
+    @Benchmark
+    public void compiled(Blackhole blackhole) {
+        blackhole.consume(compiled.matches(nextUri()));
+    }
+
+    private String nextUri() {
+        index = (index + 1) % URIS.length;
+        return URIS[index];
+    }
+
+    @Test
+    @DisplayName("경로 판단")
+    void matches() throws Exception {
+        var results = JmhRunner.run(getClass());
+
+        var legacy = results.get("legacy");
+        var compiled = results.get("compiled");
+        assertThat(compiled.score()).isLessThan(legacy.score());
+        assertThat(compiled.allocated()).isLessThan(legacy.allocated());
+    }
+
+}
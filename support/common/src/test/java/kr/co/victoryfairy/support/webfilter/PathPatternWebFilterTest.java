@@ -0,0 +1,85 @@
+package kr.co.victoryfairy.support.webfilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("PathPatternWebFilter 테스트")
+class PathPatternWebFilterTest {
+
+    private final CountingFilter filter = new CountingFilter();
+
+    @Test
+    @DisplayName("포함 패턴에 맞고 제외 패턴에 맞지 않는 요청에만 filterMatched 를 적용한다")
+    void doFilter_shouldApplyOnlyToIncludedPaths() throws Exception {
+        // when
+        doFilter("/v2/api/member/info");
+        doFilter("/v2/api/member/login");
+        doFilter("/v2/api/match/list");
+        doFilter("/");
+
+        // then
+        assertThat(filter.matched.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 URI 는 캐시된 판단을 사용하고 캐시 크기는 제한된다")
+    void matches_shouldCacheDecisionWithBound() {
+        // when
+        assertThat(filter.matches("/diary/1")).isTrue();
+        assertThat(filter.matches("/diary/1")).isTrue();
+        for (int i = 0; i < 2000; i++) {
+            filter.matches("/diary/" + i);
+        }
+
+        // then
+        var decisions = (Map<?, ?>) ReflectionTestUtils.getField(filter, "decisions");
+        assertThat(decisions).hasSizeLessThanOrEqualTo(1024);
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 URI 는 캐시하지 않고 필터를 적용한다")
+    void matches_whenUriMalformed_shouldApplyFilter() {
+        // when
+        var matched = filter.matches("/member/%zz");
+
+        // then
+        assertThat(matched).isTrue();
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(filter, "decisions")).isEmpty();
+    }
+
+    private void doFilter(String uri) throws Exception {
+        var request = new MockHttpServletRequest("GET", uri);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private static class CountingFilter extends PathPatternWebFilter {
+
+        private final AtomicInteger matched = new AtomicInteger();
+
+        CountingFilter() {
+            super(Routes.include("/v2/api/member/**", "/member/**", "/diary/**")
+                .exclude("/", "/v2/api/member/login", "/member/login"));
+        }
+
+        @Override
+        public void filterMatched(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) {
+            matched.incrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,33 @@
+package kr.co.victoryfairy.logging.aspect;
+
+import kr.co.victoryfairy.logging.sql.SqlLoggingHolder;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code @Scheduled} 메서드 실행 단위로 SQL 통계 수집
+ * <p>
+ * 요청 스레드는 MdcLoggingFilter, Redis Stream 소비 스레드는 StreamConsumerEngine 이 작업 단위를 열고 닫습니다. 스케줄러 스레드는
+ * 둘 다 거치지 않으므로 여기서 열고 닫아 ThreadLocal 이 남지 않도록 합니다.
+ */
+@Aspect
+@Component
+public class JobSqlStatsAop {
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled) && within(kr.co.victoryfairy..*)")
+    public Object collect(ProceedingJoinPoint pjp) throws Throwable {
+        var started = SqlLoggingHolder.begin(SqlLoggingHolder.KIND_JOB,
+                pjp.getSignature().getDeclaringType().getSimpleName() + "." + pjp.getSignature().getName());
+        try {
+            return pjp.proceed();
+        }
+        finally {
+            if (started) {
+                SqlLoggingHolder.end();
+            }
+        }
+    }
+
+}
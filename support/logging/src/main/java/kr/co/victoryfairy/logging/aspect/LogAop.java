@@ -2,20 +2,51 @@ package kr.co.victoryfairy.logging.aspect;
 
 import kr.co.victoryfairy.logging.LayerLogger;
 import kr.co.victoryfairy.logging.context.LogContextHolder;
+import kr.co.victoryfairy.logging.trace.RequestTracer;
+import kr.co.victoryfairy.logging.trace.TraceMode;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Controller / Service / Repository 메서드 호출 기록
+ * <p>
+ * 기본(TRACE)은 RequestTracer 의 요청별 버퍼에 span 시간만 기록하고, LAYER 는 호출마다 LayerLogger 로 출력합니다.
+ */
 @Slf4j
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class LogAop {
 
     private static final long SLOW_THRESHOLD_MS = 500;
 
+    /**
+     * 대상 클래스별 span 이름 캐시 (호출마다 클래스명 / 메서드명 문자열을 만들지 않도록)
+     */
+    private static final ClassValue<Map<Method, String>> SPAN_NAMES = new ClassValue<>() {
+        @Override
+        protected Map<Method, String> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final RequestTracer requestTracer;
+
+    @Value("${logging.trace.mode:TRACE}")
+    private TraceMode mode = TraceMode.TRACE;
+
     @Pointcut("@within(org.springframework.web.bind.annotation.RestController)")
     public void restControllerAnnotatedClass() {
     }
@@ -34,6 +65,31 @@ public class LogAop {
 
     @Around("(restControllerAnnotatedClass() || serviceAnnotatedClass() || repositoryAnnotatedClass()) && withinProject()")
     public Object logMethodCall(ProceedingJoinPoint pjp) throws Throwable {
+        return switch (mode) {
+            case TRACE -> trace(pjp);
+            case LAYER -> layer(pjp);
+            case OFF -> pjp.proceed();
+        };
+    }
+
+    private Object trace(ProceedingJoinPoint pjp) throws Throwable {
+        var buffer = requestTracer.current();
+        if (buffer == null) {
+            return pjp.proceed();
+        }
+
+        var span = buffer.enter(spanName(pjp));
+        try {
+            var result = pjp.proceed();
+            buffer.exit(span, null);
+            return result;
+        } catch (Throwable e) {
+            buffer.exit(span, e.getClass().getSimpleName());
+            throw e;
+        }
+    }
+
+    private Object layer(ProceedingJoinPoint pjp) throws Throwable {
         if (LogContextHolder.get() == null) {
             return pjp.proceed();
         }
@@ -59,6 +115,13 @@ public class LogAop {
         }
     }
 
+    private String spanName(ProceedingJoinPoint pjp) {
+        var targetClass = pjp.getTarget().getClass();
+        var method = ((MethodSignature) pjp.getSignature()).getMethod();
+        return SPAN_NAMES.get(targetClass)
+            .computeIfAbsent(method, key -> ClassUtils.getUserClass(targetClass).getSimpleName() + "." + key.getName());
+    }
+
     private String getClassSimpleName(ProceedingJoinPoint pjp) {
         Class<?> clazz = pjp.getTarget().getClass();
         String className = clazz.getSimpleName();
@@ -1,63 +1,149 @@
 package kr.co.victoryfairy.logging.sql;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
- * 현재 스레드에서 실행된 SQL을 저장하는 ThreadLocal 홀더
- * 에러 발생 시 ExceptionAdvice에서 조회하여 로깅
+ * 현재 스레드의 작업 단위(요청 / 배치 잡 / 이벤트 소비)에서 실행된 SQL 통계 홀더
+ * <p>
+ * begin 으로 작업 단위를 연 스레드에서만 SQL 을 집계하고 end 에서 ThreadLocal 을 비웁니다 (작업 단위 밖에서 실행된 SQL 은 저장하지 않음).
+ * end 시 요약 메트릭을 기록하고, 문장 수 / 총 시간 / 반복 문장(N+1 의심)이 기준을 넘으면 경고 로그를 남깁니다.
+ * 에러 발생 시 ExceptionAdvice 에서 조회하여 로깅
  */
+@Slf4j
 public final class SqlLoggingHolder {
 
-    private static final ThreadLocal<Deque<SqlInfo>> SQL_HOLDER = ThreadLocal.withInitial(ArrayDeque::new);
-    private static final int MAX_SQL_COUNT = 50; // 최대 저장 개수
+    public static final String KIND_HTTP = "http";
+
+    public static final String KIND_JOB = "job";
+
+    /**
+     * 작업 단위당 문장 수 경고 기준
+     */
+    static final int STATEMENT_WARN_THRESHOLD = 50;
+
+    /**
+     * 작업 단위당 SQL 총 시간 경고 기준 (ms)
+     */
+    static final long TIME_WARN_THRESHOLD_MS = 1000;
+
+    /**
+     * 같은 문장 반복 횟수 경고 기준 (N+1 의심)
+     */
+    static final int REPEAT_WARN_THRESHOLD = 10;
+
+    private static final int MAX_FINGERPRINT_LENGTH = 200;
+
+    private static final ThreadLocal<SqlStats> SQL_HOLDER = new ThreadLocal<>();
 
     private SqlLoggingHolder() {
     }
 
     /**
-     * SQL 정보 저장
+     * 작업 단위 시작
+     * @return 새로 시작했으면 true (이미 열린 작업 단위 안이면 false, 이 경우 end 를 호출하지 않음)
      */
-    public static void addSql(String sql, long executionTimeMs) {
-        Deque<SqlInfo> deque = SQL_HOLDER.get();
-        if (deque.size() >= MAX_SQL_COUNT) {
-            deque.pollFirst(); // 오래된 것 제거
+    public static boolean begin(String kind, String name) {
+        if (SQL_HOLDER.get() != null) {
+            return false;
         }
-        deque.addLast(new SqlInfo(sql, executionTimeMs, System.currentTimeMillis()));
+        SQL_HOLDER.set(new SqlStats(kind, name));
+        return true;
     }
 
     /**
-     * 저장된 모든 SQL 조회
+     * 작업 단위 종료 (요약 메트릭 기록, 기준 초과 시 경고 후 ThreadLocal 정리)
      */
-    public static Deque<SqlInfo> getSqlList() {
-        return SQL_HOLDER.get();
+    public static SqlStats end() {
+        var stats = SQL_HOLDER.get();
+        SQL_HOLDER.remove();
+        if (stats == null) {
+            return null;
+        }
+
+        Metrics.summary("sql.statements", "kind", stats.kind()).record(stats.count());
+        Metrics.timer("sql.time", "kind", stats.kind()).record(stats.totalMs(), TimeUnit.MILLISECONDS);
+
+        var repeated = stats.repeated(REPEAT_WARN_THRESHOLD);
+        if (!repeated.isEmpty()) {
+            Metrics.counter("sql.repeated", "kind", stats.kind()).increment();
+        }
+        if (stats.count() >= STATEMENT_WARN_THRESHOLD || stats.totalMs() >= TIME_WARN_THRESHOLD_MS
+                || !repeated.isEmpty()) {
+            log.warn("{}", summary(stats, repeated));
+        }
+        return stats;
     }
 
     /**
-     * 마지막 SQL 조회
+     * SQL 실행 기록 (작업 단위 밖이면 무시)
+     * @param prepared 바인딩 전 문장 (fingerprint)
+     * @param sql 바인딩 값이 들어간 문장 (마지막 문장만 보관)
      */
-    public static SqlInfo getLastSql() {
-        Deque<SqlInfo> deque = SQL_HOLDER.get();
-        return deque.isEmpty() ? null : deque.peekLast();
+    public static void addSql(String prepared, String sql, long executionTimeMs) {
+        var stats = SQL_HOLDER.get();
+        if (stats != null) {
+            stats.add(prepared, sql, executionTimeMs);
+        }
     }
 
     /**
-     * 초기화 (요청 종료 시 호출)
+     * 현재 작업 단위 통계 (작업 단위 밖이면 null)
+     */
+    public static SqlStats current() {
+        return SQL_HOLDER.get();
+    }
+
+    /**
+     * 초기화
      */
     public static void clear() {
         SQL_HOLDER.remove();
     }
 
+    private static String summary(SqlStats stats, List<SqlStats.FingerprintStat> repeated) {
+        var sb = new StringBuilder("[SQL STATS] ").append(stats.kind())
+            .append(' ')
+            .append(stats.name())
+            .append(" - statements=")
+            .append(stats.count())
+            .append(", distinct=")
+            .append(stats.distinctCount())
+            .append(", sqlTime=")
+            .append(stats.totalMs())
+            .append("ms, elapsed=")
+            .append(stats.elapsedMs())
+            .append("ms");
+        for (var stat : repeated) {
+            sb.append("\n  [N+1?] x")
+                .append(stat.count())
+                .append(" (")
+                .append(stat.totalMs())
+                .append("ms) ")
+                .append(truncate(stat.fingerprint()));
+        }
+        return sb.toString();
+    }
+
+    private static String truncate(String sql) {
+        var oneLine = sql.replaceAll("\\s+", " ").trim();
+        return oneLine.length() > MAX_FINGERPRINT_LENGTH ? oneLine.substring(0, MAX_FINGERPRINT_LENGTH) + "..."
+                : oneLine;
+    }
+
     /**
      * SQL 정보 레코드
      */
-    public record SqlInfo(String sql, long executionTimeMs, long timestamp) {
+    public record SqlInfo(String sql, long executionTimeMs) {
 
         public String toFormattedString() {
             return String.format("[%dms] %s", executionTimeMs, formatSql(sql));
         }
 
-        private static String formatSql(String sql) {
+        public static String formatSql(String sql) {
             if (sql == null) {
                 return "";
             }
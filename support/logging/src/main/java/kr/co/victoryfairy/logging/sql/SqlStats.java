@@ -0,0 +1,154 @@
+package kr.co.victoryfairy.logging.sql;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 작업 단위(요청 / 배치 잡 / 이벤트 소비) 하나에서 실행된 SQL 통계
+ * <p>
+ * SQL 은 바인딩 값이 들어가기 전의 prepared 문장(fingerprint)으로만 집계하고, 최근 문장은 고정 크기 링 버퍼에 참조만 보관합니다.
+ * 포맷팅은 에러 로그를 남길 때만 합니다.
+ */
+public final class SqlStats {
+
+    /**
+     * 최근 문장 보관 개수
+     */
+    static final int RECENT_CAPACITY = 50;
+
+    /**
+     * 집계하는 fingerprint 최대 개수 (넘으면 개수 / 시간만 합산)
+     */
+    static final int MAX_FINGERPRINTS = 200;
+
+    private final String kind;
+
+    private final String name;
+
+    private final long startNanos = System.nanoTime();
+
+    private final Map<String, FingerprintStat> fingerprints = new HashMap<>();
+
+    private final String[] recentPrepared = new String[RECENT_CAPACITY];
+
+    private final long[] recentElapsedMs = new long[RECENT_CAPACITY];
+
+    private long count;
+
+    private long totalMs;
+
+    private String lastSql;
+
+    SqlStats(String kind, String name) {
+        this.kind = kind;
+        this.name = name;
+    }
+
+    void add(String prepared, String sql, long elapsedMs) {
+        var fingerprint = prepared != null && !prepared.isBlank() ? prepared : sql;
+        var slot = (int) (count % RECENT_CAPACITY);
+        recentPrepared[slot] = fingerprint;
+        recentElapsedMs[slot] = elapsedMs;
+        count++;
+        totalMs += elapsedMs;
+        lastSql = sql;
+
+        var stat = fingerprints.get(fingerprint);
+        if (stat == null && fingerprints.size() < MAX_FINGERPRINTS) {
+            stat = new FingerprintStat(fingerprint);
+            fingerprints.put(fingerprint, stat);
+        }
+        if (stat != null) {
+            stat.count++;
+            stat.totalMs += elapsedMs;
+        }
+    }
+
+    public String kind() {
+        return kind;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long totalMs() {
+        return totalMs;
+    }
+
+    public long elapsedMs() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    public int distinctCount() {
+        return fingerprints.size();
+    }
+
+    /**
+     * 마지막으로 실행된 SQL (바인딩 값 포함)
+     */
+    public String lastSql() {
+        return lastSql;
+    }
+
+    /**
+     * threshold 번 이상 반복된 fingerprint (N+1 의심), 많이 실행된 순
+     */
+    public List<FingerprintStat> repeated(int threshold) {
+        var repeated = new ArrayList<FingerprintStat>();
+        for (var stat : fingerprints.values()) {
+            if (stat.count >= threshold) {
+                repeated.add(stat);
+            }
+        }
+        repeated.sort(Comparator.comparingLong(FingerprintStat::count).reversed());
+        return repeated;
+    }
+
+    /**
+     * 최근 실행된 문장 (오래된 순)
+     */
+    public List<SqlLoggingHolder.SqlInfo> recent() {
+        var size = (int) Math.min(count, RECENT_CAPACITY);
+        var recent = new ArrayList<SqlLoggingHolder.SqlInfo>(size);
+        for (var seq = count - size; seq < count; seq++) {
+            var slot = (int) (seq % RECENT_CAPACITY);
+            recent.add(new SqlLoggingHolder.SqlInfo(recentPrepared[slot], recentElapsedMs[slot]));
+        }
+        return recent;
+    }
+
+    public static final class FingerprintStat {
+
+        private final String fingerprint;
+
+        private long count;
+
+        private long totalMs;
+
+        private FingerprintStat(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        public String fingerprint() {
+            return fingerprint;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long totalMs() {
+            return totalMs;
+        }
+
+    }
+
+}
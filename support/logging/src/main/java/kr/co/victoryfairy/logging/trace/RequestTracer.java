@@ -0,0 +1,95 @@
+package kr.co.victoryfairy.logging.trace;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 단위 호출 트리 기록
+ * <p>
+ * 요청 동안 LogAop 가 span 시간을 TraceBuffer 에 기록하고, 요청이 끝나면 느리거나(slow-ms 이상) 실패한 요청, 또는 sample-rate 비율로
+ * 샘플링된 요청만 호출 트리를 한 번에 출력합니다. 그 외 요청은 로그를 남기지 않습니다.
+ */
+@Slf4j
+@Component
+public class RequestTracer {
+
+    @Value("${logging.trace.slow-ms:500}")
+    private long slowMs;
+
+    @Value("${logging.trace.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Value("${logging.trace.capacity:256}")
+    private int capacity;
+
+    private final ThreadLocal<TraceBuffer> buffers = new ThreadLocal<>();
+
+    /**
+     * 요청 시작 (스레드의 버퍼를 재사용)
+     */
+    public void begin() {
+        var buffer = buffers.get();
+        if (buffer == null) {
+            buffer = new TraceBuffer(capacity);
+            buffers.set(buffer);
+        }
+        buffer.reset(ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * 현재 요청의 버퍼 (요청 밖이면 null)
+     */
+    public TraceBuffer current() {
+        var buffer = buffers.get();
+        return buffer != null && buffer.isActive() ? buffer : null;
+    }
+
+    /**
+     * 요청 종료
+     * @param failed 필터 체인 밖으로 예외가 전파되었는지
+     * @return 호출 트리를 출력했는지
+     */
+    public boolean finish(String method, String uri, int status, boolean failed) {
+        var buffer = current();
+        if (buffer == null) {
+            return false;
+        }
+        buffer.deactivate();
+
+        var elapsedNanos = buffer.elapsedNanos();
+        var slow = elapsedNanos >= slowMs * 1_000_000;
+        var error = failed || buffer.isFailed() || status >= 500;
+        if (!slow && !error && !buffer.isSampled()) {
+            return false;
+        }
+
+        var out = new StringBuilder(256).append("[TRACE] ")
+            .append(method)
+            .append(' ')
+            .append(uri)
+            .append(" - ")
+            .append(status)
+            .append(" (");
+        TraceBuffer.appendMillis(out, elapsedNanos);
+        out.append(", spans=").append(buffer.spanCount()).append(')');
+        if (slow) {
+            out.append(" [SLOW]");
+        }
+        if (error) {
+            out.append(" [ERROR]");
+        }
+        buffer.render(out);
+
+        if (slow || error) {
+            log.warn("{}", out);
+        }
+        else {
+            log.info("{}", out);
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,151 @@
+package kr.co.victoryfairy.logging.trace;
+
+/**
+ * 요청 하나의 메서드 호출(span) 기록용 링 버퍼
+ * <p>
+ * 배열은 스레드마다 한 번만 할당하고 요청마다 reset 으로 재사용합니다. 용량을 넘으면 가장 오래된 span 부터 덮어씁니다.
+ */
+public final class TraceBuffer {
+
+    private static final String CALL_PREFIX = "|--->";
+
+    private static final String INDENT = "|    ";
+
+    private final int capacity;
+
+    private final String[] names;
+
+    private final long[] seqs;
+
+    private final long[] startNanos;
+
+    private final long[] elapsedNanos;
+
+    private final int[] depths;
+
+    private final String[] errors;
+
+    private long next;
+
+    private int depth;
+
+    private long requestStartNanos;
+
+    private boolean sampled;
+
+    private boolean failed;
+
+    private boolean active;
+
+    public TraceBuffer(int capacity) {
+        this.capacity = capacity;
+        this.names = new String[capacity];
+        this.seqs = new long[capacity];
+        this.startNanos = new long[capacity];
+        this.elapsedNanos = new long[capacity];
+        this.depths = new int[capacity];
+        this.errors = new String[capacity];
+    }
+
+    void reset(boolean sampled) {
+        this.next = 0;
+        this.depth = 0;
+        this.requestStartNanos = System.nanoTime();
+        this.sampled = sampled;
+        this.failed = false;
+        this.active = true;
+    }
+
+    void deactivate() {
+        this.active = false;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    boolean isSampled() {
+        return sampled;
+    }
+
+    boolean isFailed() {
+        return failed;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - requestStartNanos;
+    }
+
+    /**
+     * span 시작
+     * @return exit 에 넘길 span 번호
+     */
+    public long enter(String name) {
+        var seq = next++;
+        var slot = (int) (seq % capacity);
+        names[slot] = name;
+        seqs[slot] = seq;
+        startNanos[slot] = System.nanoTime();
+        elapsedNanos[slot] = -1;
+        depths[slot] = depth++;
+        errors[slot] = null;
+        return seq;
+    }
+
+    /**
+     * span 종료
+     * @param error 예외로 끝났으면 예외 클래스명, 정상 종료면 null
+     */
+    public void exit(long seq, String error) {
+        depth--;
+        if (error != null) {
+            failed = true;
+        }
+        var slot = (int) (seq % capacity);
+        // 이미 덮어쓴 span 은 기록하지 않음
+        if (seqs[slot] != seq) {
+            return;
+        }
+        elapsedNanos[slot] = System.nanoTime() - startNanos[slot];
+        errors[slot] = error;
+    }
+
+    /**
+     * 기록된 span 수 (덮어쓴 span 포함)
+     */
+    long spanCount() {
+        return next;
+    }
+
+    /**
+     * 남아 있는 span 을 호출 트리로 출력
+     */
+    void render(StringBuilder out) {
+        var first = Math.max(0, next - capacity);
+        if (first > 0) {
+            out.append("\n(").append(first).append(" earlier spans dropped)");
+        }
+        for (var seq = first; seq < next; seq++) {
+            var slot = (int) (seq % capacity);
+            out.append('\n');
+            for (int i = 0; i < depths[slot]; i++) {
+                out.append(INDENT);
+            }
+            out.append(CALL_PREFIX).append(names[slot]).append("() ");
+            if (elapsedNanos[slot] < 0) {
+                out.append("(unfinished)");
+            }
+            else {
+                appendMillis(out, elapsedNanos[slot]);
+            }
+            if (errors[slot] != null) {
+                out.append(" throws ").append(errors[slot]);
+            }
+        }
+    }
+
+    static void appendMillis(StringBuilder out, long nanos) {
+        out.append(nanos / 1_000_000).append('.').append(nanos / 100_000 % 10).append("ms");
+    }
+
+}
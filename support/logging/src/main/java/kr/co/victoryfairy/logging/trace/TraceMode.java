@@ -0,0 +1,23 @@
+package kr.co.victoryfairy.logging.trace;
+
+/**
+ * LogAop 동작 방식 (logging.trace.mode)
+ */
+public enum TraceMode {
+
+    /**
+     * 메서드 호출을 요청별 링 버퍼에 기록하고 느리거나 실패한 요청, 샘플링된 요청만 호출 트리를 출력
+     */
+    TRACE,
+
+    /**
+     * 메서드 호출 / 반환마다 LayerLogger 로 한 줄씩 출력 (기존 방식, 로컬 디버깅용)
+     */
+    LAYER,
+
+    /**
+     * 기록하지 않음
+     */
+    OFF
+
+}
@@ -0,0 +1,139 @@
+package kr.co.victoryfairy.logging.aspect;
+
+import io.dodn.springboot.test.benchmark.JmhRunner;
+import kr.co.victoryfairy.logging.context.LogContext;
+import kr.co.victoryfairy.logging.context.LogContextHolder;
+import kr.co.victoryfairy.logging.trace.RequestTracer;
+import kr.co.victoryfairy.logging.trace.TraceMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 1건(Controller -> Service -> Repository 10회 호출) 처리량 비교 (LogAop OFF / LAYER / TRACE)
+ * <p>
+ * LAYER 는 실제 로그 출력 비용까지 포함합니다.
+ */
+@Tag("develop")
+@DisplayName("LogAop 벤치마크")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LogAopBenchmarkTest {
+
+    @Param({ "OFF", "LAYER", "TRACE" })
+    public TraceMode mode;
+
+    private RequestTracer requestTracer;
+
+    private SampleController controller;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        requestTracer = new RequestTracer();
+        ReflectionTestUtils.setField(requestTracer, "slowMs", 500L);
+        ReflectionTestUtils.setField(requestTracer, "sampleRate", 0.01);
+        ReflectionTestUtils.setField(requestTracer, "capacity", 256);
+        var logAop = new LogAop(requestTracer);
+        ReflectionTestUtils.setField(logAop, "mode", mode);
+
+        var repository = proxy(new SampleRepository(), logAop);
+        var service = proxy(new SampleService(repository), logAop);
+        controller = proxy(new SampleController(service), logAop);
+    }
+
+    @Benchmark
+    public int request() {
+        LogContextHolder.set(new LogContext("bench"));
+        requestTracer.begin();
+        try {
+            return controller.list();
+        }
+        finally {
+            requestTracer.finish("GET", "/v2/api/match/list", 200, false);
+            LogContextHolder.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("LogAop 모드별 처리량")
+    void request_throughput() throws Exception {
+        var results = JmhRunner.run(getClass());
+
+        var layer = results.get("request", "mode", "LAYER");
+        var trace = results.get("request", "mode", "TRACE");
+        assertThat(trace.score()).isGreaterThan(layer.score());
+        assertThat(trace.allocated()).isLessThan(layer.allocated());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, LogAop logAop) {
+        var factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(logAop);
+        return (T) factory.getProxy();
+    }
+
+    @RestController
+    public static class SampleController {
+
+        private final SampleService service;
+
+        public SampleController(SampleService service) {
+            this.service = service;
+        }
+
+        public int list() {
+            return service.list().size();
+        }
+
+    }
+
+    @Service
+    public static class SampleService {
+
+        private final SampleRepository repository;
+
+        public SampleService(SampleRepository repository) {
+            this.repository = repository;
+        }
+
+        public List<Integer> list() {
+            var rows = new Integer[10];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = repository.find(i);
+            }
+            return List.of(rows);
+        }
+
+    }
+
+    @Repository
+    public static class SampleRepository {
+
+        public Integer find(int id) {
+            return id;
+        }
+
+    }
+
+}
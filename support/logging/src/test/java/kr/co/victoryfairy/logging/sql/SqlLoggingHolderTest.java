@@ -0,0 +1,88 @@
+package kr.co.victoryfairy.logging.sql;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("SqlLoggingHolder 테스트")
+class SqlLoggingHolderTest {
+
+    private static final String FIND_DIARY = "select * from diary where member_id = ?";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlLoggingHolder.clear();
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("작업 단위 밖에서 실행된 SQL 은 저장하지 않는다")
+    void addSql_withoutUnit_shouldNotStore() {
+        // when
+        SqlLoggingHolder.addSql(FIND_DIARY, "select * from diary where member_id = 1", 3);
+
+        // then
+        assertThat(SqlLoggingHolder.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 prepared 문장은 하나로 집계하고 반복 횟수가 기준을 넘으면 N+1 로 표시한다")
+    void end_shouldAggregateByFingerprint() {
+        // given
+        SqlLoggingHolder.begin(SqlLoggingHolder.KIND_HTTP, "GET /v2/api/diary/list");
+        SqlLoggingHolder.addSql("select * from member where id = ?", "select * from member where id = 1", 2);
+        for (int i = 0; i < SqlLoggingHolder.REPEAT_WARN_THRESHOLD; i++) {
+            SqlLoggingHolder.addSql(FIND_DIARY, "select * from diary where member_id = " + i, 1);
+        }
+
+        // when
+        var stats = SqlLoggingHolder.end();
+
+        // then
+        assertThat(stats.count()).isEqualTo(11);
+        assertThat(stats.totalMs()).isEqualTo(12);
+        assertThat(stats.distinctCount()).isEqualTo(2);
+        assertThat(stats.lastSql()).isEqualTo("select * from diary where member_id = 9");
+        assertThat(stats.repeated(SqlLoggingHolder.REPEAT_WARN_THRESHOLD)).singleElement()
+            .satisfies(stat -> assertThat(stat.fingerprint()).isEqualTo(FIND_DIARY));
+        assertThat(SqlLoggingHolder.current()).isNull();
+        assertThat(meterRegistry.get("sql.statements").tag("kind", "http").summary().totalAmount()).isEqualTo(11);
+        assertThat(meterRegistry.get("sql.repeated").tag("kind", "http").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최근 문장은 고정 개수만 보관하고 이미 열린 작업 단위 안에서는 새로 시작하지 않는다")
+    void recent_shouldKeepLatestStatements() {
+        // given
+        SqlLoggingHolder.begin(SqlLoggingHolder.KIND_JOB, "ScoreJob.batchScore");
+        for (int i = 0; i < SqlStats.RECENT_CAPACITY + 5; i++) {
+            SqlLoggingHolder.addSql("select " + i, "select " + i, i);
+        }
+
+        // when
+        var nested = SqlLoggingHolder.begin(SqlLoggingHolder.KIND_JOB, "nested");
+        var recent = SqlLoggingHolder.current().recent();
+
+        // then
+        assertThat(nested).isFalse();
+        assertThat(recent).hasSize(SqlStats.RECENT_CAPACITY);
+        assertThat(recent.get(0).sql()).isEqualTo("select 5");
+        assertThat(recent.get(recent.size() - 1).executionTimeMs()).isEqualTo(SqlStats.RECENT_CAPACITY + 4);
+        assertThat(SqlLoggingHolder.current().name()).isEqualTo("ScoreJob.batchScore");
+    }
+
+}
@@ -0,0 +1,87 @@
+package kr.co.victoryfairy.logging.trace;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("RequestTracer 테스트")
+class RequestTracerTest {
+
+    private final RequestTracer requestTracer = new RequestTracer();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(requestTracer, "slowMs", 500L);
+        ReflectionTestUtils.setField(requestTracer, "sampleRate", 0.0);
+        ReflectionTestUtils.setField(requestTracer, "capacity", 4);
+    }
+
+    @Test
+    @DisplayName("빠르게 끝난 정상 요청은 샘플링되지 않으면 출력하지 않는다")
+    void finish_whenFastAndNotSampled_shouldNotEmit() {
+        // given
+        requestTracer.begin();
+        var buffer = requestTracer.current();
+        buffer.exit(buffer.enter("MatchController.findList"), null);
+
+        // when
+        var emitted = requestTracer.finish("GET", "/v2/api/match/list", 200, false);
+
+        // then
+        assertThat(emitted).isFalse();
+        assertThat(requestTracer.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("span 이 예외로 끝난 요청은 호출 트리를 출력한다")
+    void finish_whenSpanFailed_shouldEmit() {
+        // given
+        requestTracer.begin();
+        var buffer = requestTracer.current();
+        var controller = buffer.enter("DiaryController.write");
+        buffer.exit(buffer.enter("DiaryServiceImpl.write"), "CustomException");
+        buffer.exit(controller, "CustomException");
+
+        // when
+        var emitted = requestTracer.finish("POST", "/v2/api/diary", 400, false);
+
+        // then
+        assertThat(emitted).isTrue();
+        var out = new StringBuilder();
+        buffer.render(out);
+        assertThat(out.toString()).contains("|--->DiaryController.write()", "|    |--->DiaryServiceImpl.write()",
+                "throws CustomException");
+    }
+
+    @Test
+    @DisplayName("버퍼 용량을 넘으면 오래된 span 부터 덮어쓰고 버퍼는 요청마다 재사용한다")
+    void enter_whenOverCapacity_shouldOverwriteOldest() {
+        // given
+        requestTracer.begin();
+        var buffer = requestTracer.current();
+        var root = buffer.enter("MyPageController.findReport");
+        for (int i = 0; i < 5; i++) {
+            buffer.exit(buffer.enter("GameRecordRepository.find" + i), null);
+        }
+        // 이미 덮어쓴 root span 종료는 무시
+        buffer.exit(root, null);
+
+        // when
+        var out = new StringBuilder();
+        buffer.render(out);
+        requestTracer.finish("GET", "/v2/api/my-page/report", 200, false);
+        requestTracer.begin();
+
+        // then
+        assertThat(out.toString()).contains("(2 earlier spans dropped)", "find4")
+            .doesNotContain("MyPageController", "find0");
+        assertThat(requestTracer.current()).isSameAs(buffer);
+        assertThat(buffer.spanCount()).isZero();
+    }
+
+}
@@ -0,0 +1,17 @@
+package kr.co.victoryfairy.monitoring;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 공통 모니터링 설정
+ * <p>
+ * Actuator / Prometheus 레지스트리는 Spring Boot 자동 설정을 그대로 사용하고, 노출 범위 / 공통 태그 / 구간 분포 기본값만
+ * monitoring.properties 로 제공합니다. Hikari 커넥션 풀(hikaricp.connections.*), HTTP 요청(http.server.requests), JVM 지표는
+ * 자동 설정으로 수집됩니다.
+ */
+@Configuration
+@PropertySource("classpath:monitoring.properties")
+public class MonitoringConfig {
+
+}
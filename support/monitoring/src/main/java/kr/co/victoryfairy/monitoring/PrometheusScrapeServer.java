@@ -0,0 +1,92 @@
+package kr.co.victoryfairy.monitoring;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnNotWebApplication;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 웹 서버가 없는 애플리케이션(core-event, core-batch)용 Prometheus 스크랩 엔드포인트
+ * <p>
+ * 웹 애플리케이션은 Actuator 의 /actuator/prometheus 를 사용하고, 그 외에는 monitoring.scrape.port 에서 같은 경로로 노출합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnNotWebApplication
+public class PrometheusScrapeServer implements SmartLifecycle {
+
+    static final String PATH = "/actuator/prometheus";
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final ObjectProvider<PrometheusMeterRegistry> registryProvider;
+
+    @Value("${monitoring.scrape.port:9464}")
+    private int port;
+
+    private HttpServer server;
+
+    public PrometheusScrapeServer(ObjectProvider<PrometheusMeterRegistry> registryProvider) {
+        this.registryProvider = registryProvider;
+    }
+
+    @Override
+    public void start() {
+        var registry = registryProvider.getIfAvailable();
+        if (registry == null) {
+            log.info("prometheus registry is disabled, scrape server not started");
+            return;
+        }
+
+        try {
+            server = HttpServer.create(new InetSocketAddress(port), 0);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("prometheus scrape server start failed - port: " + port, e);
+        }
+        server.createContext(PATH, exchange -> scrape(exchange, registry));
+        server.start();
+        log.info("prometheus scrape server started - port: {}", port());
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    int port() {
+        return server != null ? server.getAddress().getPort() : port;
+    }
+
+    private void scrape(HttpExchange exchange, PrometheusMeterRegistry registry) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            var body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package kr.co.victoryfairy.monitoring;
+
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@Tag("unit")
+@DisplayName("PrometheusScrapeServer 테스트")
+class PrometheusScrapeServerTest {
+
+    private PrometheusScrapeServer server;
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("레지스트리의 지표를 Prometheus 텍스트 형식으로 노출한다")
+    void scrape_shouldExposeRegistry() throws Exception {
+        // given
+        var registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.counter("redis.hash.get", "key", "match_list", "result", "hit").increment(3);
+        server = new PrometheusScrapeServer(provider(registry));
+        ReflectionTestUtils.setField(server, "port", 0);
+        server.start();
+
+        // when
+        var response = HttpClient.newHttpClient()
+            .send(HttpRequest.newBuilder(URI.create("http://localhost:" + server.port() + PrometheusScrapeServer.PATH))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                contentType -> assertThat(contentType).startsWith("text/plain"));
+        assertThat(response.body()).contains("redis_hash_get_total{key=\"match_list\",result=\"hit\",} 3.0");
+    }
+
+    @Test
+    @DisplayName("Prometheus 레지스트리가 없으면 서버를 띄우지 않는다")
+    void start_withoutRegistry_shouldNotStart() {
+        // given
+        server = new PrometheusScrapeServer(provider(null));
+
+        // when
+        server.start();
+
+        // then
+        assertThat(server.isRunning()).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<PrometheusMeterRegistry> provider(PrometheusMeterRegistry registry) {
+        var provider = (ObjectProvider<PrometheusMeterRegistry>) mock(ObjectProvider.class);
+        given(provider.getIfAvailable()).willReturn(registry);
+        return provider;
+    }
+
+}
@@ -0,0 +1,245 @@
+package kr.co.victoryfairy.redis.consumer;
+
+import kr.co.victoryfairy.logging.sql.SqlLoggingHolder;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Redis Stream 소비 엔진
+ * <p>
+ * 읽기 스레드 하나가 XREADGROUP BLOCK 으로 메시지를 기다렸다가, 파티션 키(예: gameId) 해시로 고른 워커 큐에 넘깁니다. 같은 파티션 키의
+ * 메시지는 항상 같은 워커가 순서대로 처리하고, 처리에 성공한 메시지는 모아서 한 번에 ack 합니다. 워커 큐가 가득 차면 읽기가 멈춰 메모리 사용량이
+ * 제한됩니다. 메시지 하나의 처리가 SQL 통계 작업 단위(작업 이름 = 엔진 이름)입니다.
+ */
+public class StreamConsumerEngine {
+
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+
+    private final Logger log = LoggerFactory.getLogger(StreamConsumerEngine.class);
+
+    private final String name;
+
+    private final RedisHandler redisHandler;
+
+    private final String key;
+
+    private final String group;
+
+    private final String consumer;
+
+    private final Options options;
+
+    private final Function<MapRecord<String, Object, Object>, Object> partitioner;
+
+    private final Predicate<MapRecord<String, Object, Object>> handler;
+
+    private final List<BlockingQueue<MapRecord<String, Object, Object>>> queues = new ArrayList<>();
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final BlockingQueue<String> pendingAcks = new LinkedBlockingQueue<>();
+
+    private final Object ackLock = new Object();
+
+    private ScheduledExecutorService acker;
+
+    private Thread reader;
+
+    private volatile boolean running;
+
+    /**
+     * @param block XREADGROUP 대기 시간
+     * @param count 한 번에 읽을 최대 메시지 수
+     * @param workers 워커 수 (파티션 수)
+     * @param queueCapacity 워커별 대기 큐 크기
+     * @param ackBatchSize 모이면 즉시 ack 할 메시지 수
+     * @param ackInterval 배치가 차지 않아도 ack 하는 주기
+     */
+    public record Options(Duration block, int count, int workers, int queueCapacity, int ackBatchSize,
+            Duration ackInterval) {
+    }
+
+    public StreamConsumerEngine(String name, RedisHandler redisHandler, String key, String group, String consumer,
+            Options options, Function<MapRecord<String, Object, Object>, Object> partitioner,
+            Predicate<MapRecord<String, Object, Object>> handler) {
+        this.name = name;
+        this.redisHandler = redisHandler;
+        this.key = key;
+        this.group = group;
+        this.consumer = consumer;
+        this.options = options;
+        this.partitioner = partitioner;
+        this.handler = handler;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+
+        for (int i = 0; i < options.workers(); i++) {
+            BlockingQueue<MapRecord<String, Object, Object>> queue = new ArrayBlockingQueue<>(options.queueCapacity());
+            queues.add(queue);
+
+            var worker = new Thread(() -> work(queue), name + "-worker-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+
+        acker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, name + "-ack");
+            thread.setDaemon(true);
+            return thread;
+        });
+        acker.scheduleWithFixedDelay(this::flushAcks, options.ackInterval().toMillis(),
+                options.ackInterval().toMillis(), TimeUnit.MILLISECONDS);
+
+        reader = new Thread(this::read, name + "-reader");
+        reader.setDaemon(true);
+        reader.start();
+
+        log.info("[{}] stream consumer started - key: {}, group: {}, workers: {}", name, key, group,
+                options.workers());
+    }
+
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        reader.interrupt();
+        for (Thread worker : workers) {
+            try {
+                // 이미 받은 메시지는 처리 후 종료
+                worker.join(options.block().toMillis() + 5_000);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        acker.shutdownNow();
+        flushAcks();
+
+        log.info("[{}] stream consumer stopped", name);
+    }
+
+    /**
+     * 아직 ack 하지 않은 처리 완료 메시지 수
+     */
+    int pendingAckCount() {
+        return pendingAcks.size();
+    }
+
+    private void read() {
+        while (running) {
+            try {
+                var messages = redisHandler.getEventMessages(key, group, consumer, options.block(), options.count());
+                if (messages == null) {
+                    continue;
+                }
+                for (MapRecord<String, Object, Object> message : messages) {
+                    queues.get(partition(message)).put(message);
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.error("[{}] stream read failed - key: {}", name, key, e);
+                sleep(ERROR_BACKOFF);
+            }
+        }
+    }
+
+    private void work(BlockingQueue<MapRecord<String, Object, Object>> queue) {
+        while (running || !queue.isEmpty()) {
+            MapRecord<String, Object, Object> message;
+            try {
+                message = queue.poll(100, TimeUnit.MILLISECONDS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (message == null) {
+                continue;
+            }
+
+            var started = SqlLoggingHolder.begin(SqlLoggingHolder.KIND_JOB, name);
+            try {
+                if (handler.test(message)) {
+                    pendingAcks.add(message.getId().getValue());
+                    if (pendingAcks.size() >= options.ackBatchSize()) {
+                        flushAcks();
+                    }
+                }
+                else {
+                    log.warn("[{}] event processing skipped: {}", name, message.getId());
+                }
+            }
+            catch (Exception e) {
+                log.error("[{}] error processing message: {}", name, message, e);
+            }
+            finally {
+                if (started) {
+                    SqlLoggingHolder.end();
+                }
+            }
+        }
+    }
+
+    private void flushAcks() {
+        synchronized (ackLock) {
+            List<String> ids = new ArrayList<>();
+            pendingAcks.drainTo(ids);
+            if (ids.isEmpty()) {
+                return;
+            }
+            try {
+                redisHandler.eventKnowEdge(key, group, ids);
+            }
+            catch (Exception e) {
+                // 다음 주기에 다시 시도
+                pendingAcks.addAll(ids);
+                log.error("[{}] stream ack failed - size: {}", name, ids.size(), e);
+            }
+        }
+    }
+
+    private int partition(MapRecord<String, Object, Object> message) {
+        return Math.floorMod(Objects.hashCode(partitioner.apply(message)), queues.size());
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package kr.co.victoryfairy.redis.consumer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis Stream 소비 지표 (ack 전 메시지 수 / 전달 지연)
+ * <p>
+ * 값은 refresh 를 호출할 때 Redis 에서 읽어 두고 게이지는 읽어 둔 값만 반환합니다 (스크랩마다 Redis 를 호출하지 않도록).
+ */
+public class StreamMetrics {
+
+    private final Logger log = LoggerFactory.getLogger(StreamMetrics.class);
+
+    private final RedisHandler redisHandler;
+
+    private final String key;
+
+    private final String group;
+
+    private final AtomicLong pending = new AtomicLong();
+
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public StreamMetrics(RedisHandler redisHandler, MeterRegistry meterRegistry, String key, String group) {
+        this.redisHandler = redisHandler;
+        this.key = key;
+        this.group = group;
+
+        Gauge.builder("redis.stream.pending", pending, AtomicLong::get)
+            .description("ack 전 메시지 수")
+            .tag("stream", key)
+            .tag("group", group)
+            .register(meterRegistry);
+        TimeGauge.builder("redis.stream.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .description("아직 전달되지 않은 가장 오래된 메시지의 대기 시간")
+            .tag("stream", key)
+            .tag("group", group)
+            .register(meterRegistry);
+    }
+
+    public void refresh() {
+        try {
+            pending.set(redisHandler.getPendingCount(key, group));
+            lagMillis.set(redisHandler.getDeliveryLagMillis(key, group));
+        }
+        catch (RuntimeException e) {
+            // 이전 값 유지
+            log.warn("stream metrics refresh failed - stream: {}, group: {}", key, group, e);
+        }
+    }
+
+}
@@ -3,32 +3,63 @@ package kr.co.victoryfairy.redis.handler;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import kr.co.victoryfairy.support.constant.MessageEnum;
 import kr.co.victoryfairy.support.exception.CustomException;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
 import org.springframework.data.redis.connection.stream.*;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 @Component
-@RequiredArgsConstructor
 public class RedisHandler {
 
+    // 버전 키가 기대값(없으면 빈 문자열)과 같을 때만 HSET + PEXPIRE
+    private static final DefaultRedisScript<Long> SET_HASH_IF_VERSION = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then return 0 end "
+                    + "redis.call('HSET', KEYS[1], ARGV[2], ARGV[3]) "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[4]) return 1",
+            Long.class);
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private static final TypeReference<List<Object>> LIST_TYPE = new TypeReference<>() {
+    };
+
     private final RedisTemplate<String, Object> redisTemplate;
 
     private final ObjectMapper objectMapper;
 
+    private final MeterRegistry meterRegistry;
+
     private Logger log = LoggerFactory.getLogger(RedisHandler.class);
 
+    public RedisHandler(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
     public void setMap(String key, Map<String, String> map) {
         HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
         hashOperations.putAll(key, map);
@@ -54,11 +85,25 @@ public class RedisHandler {
         return (String) o;
     }
 
+    /**
+     * 숫자 값 1 증가 (버전 키 갱신 등)
+     */
+    public Long increment(String key) {
+        return redisTemplate.opsForValue().increment(key);
+    }
+
     public Map<String, String> getMap(String key) {
         HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
         return hashOperations.entries(key);
     }
 
+    /**
+     * 만료 시간 설정 (갱신 시 다시 호출)
+     */
+    public void expire(String key, Duration timeout) {
+        redisTemplate.expire(key, timeout);
+    }
+
     public void delete(String key, String hashKey) {
         redisTemplate.opsForHash().delete(key, hashKey);
     }
@@ -67,6 +112,16 @@ public class RedisHandler {
         redisTemplate.delete(key); // 전체 삭제
     }
 
+    /**
+     * 여러 키를 한 번에 삭제 (DEL 1회)
+     */
+    public void deleteKeys(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(keys);
+    }
+
     /**
      * hash 구조로 저장된 데이터에서 key 값으로 데이터 조회
      */
@@ -104,6 +159,25 @@ public class RedisHandler {
         }
     }
 
+    /**
+     * 버전 키 값이 읽어 둔 값과 같을 때만 hash 에 객체 Json 직렬화 저장 후 만료 시간 설정 (비교와 저장을 한 번에 실행)
+     * @param expectedVersion 저장할 값을 계산하기 전에 읽은 버전 키 값 (키가 없었으면 null)
+     * @return 저장했으면 true, 그 사이 버전 키가 바뀌었으면 false
+     */
+    public boolean setHashValueIfVersion(String hashKey, String key, Object value, String versionKey,
+            String expectedVersion, Duration timeout) {
+        try {
+            String json = objectMapper.writeValueAsString(value);
+            Long result = redisTemplate.execute(SET_HASH_IF_VERSION, List.of(hashKey, versionKey),
+                    expectedVersion != null ? expectedVersion : "", key, json, String.valueOf(timeout.toMillis()));
+            return Long.valueOf(1).equals(result);
+        }
+        catch (JsonProcessingException e) {
+            log.error("Redis JSON 직렬화 실패 - hashKey: {}, key: {}", hashKey, key, e);
+            throw new CustomException(MessageEnum.Common.REQUEST_FAIL);
+        }
+    }
+
     /**
      * hash 데이터 삭제
      */
@@ -125,13 +199,30 @@ public class RedisHandler {
         }
     }
 
+    /**
+     * Redis pub/sub 채널 발행 (구독자가 없으면 버려짐)
+     */
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
     public void initEvent(String key, String groupName) {
         redisTemplate.opsForStream().createGroup(key, ReadOffset.latest(), groupName);
     }
 
     public List<MapRecord<String, Object, Object>> getEventMessages(String key, String groupName, String consumer) {
+        return getEventMessages(key, groupName, consumer, Duration.ofSeconds(2), 10);
+    }
+
+    /**
+     * Redis Stream 블로킹 읽기 (XREADGROUP BLOCK)
+     * @param block 새 메시지가 없을 때 대기할 최대 시간
+     * @param count 한 번에 읽을 최대 메시지 수
+     */
+    public List<MapRecord<String, Object, Object>> getEventMessages(String key, String groupName, String consumer,
+            Duration block, int count) {
         return redisTemplate.opsForStream()
-            .read(Consumer.from(groupName, consumer), StreamReadOptions.empty().block(Duration.ofSeconds(2)).count(10),
+            .read(Consumer.from(groupName, consumer), StreamReadOptions.empty().block(block).count(count),
                     StreamOffset.create(key, ReadOffset.lastConsumed()));
     }
 
@@ -142,6 +233,50 @@ public class RedisHandler {
         log.info(">> eventKnowEdge: ack={}, delete={}", acked, deleted);
     }
 
+    /**
+     * 여러 메시지를 한 번에 ack 후 삭제 (XACK / XDEL 각 1회)
+     */
+    public void eventKnowEdge(String key, String groupName, List<String> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        var ids = recordIds.toArray(String[]::new);
+        Long acked = redisTemplate.opsForStream().acknowledge(key, groupName, ids);
+        Long deleted = redisTemplate.opsForStream().delete(key, ids);
+
+        log.debug(">> eventKnowEdge: size={}, ack={}, delete={}", ids.length, acked, deleted);
+    }
+
+    /**
+     * 소비자 그룹의 ack 전 메시지 수 (XPENDING)
+     */
+    public long getPendingCount(String key, String groupName) {
+        var summary = redisTemplate.opsForStream().pending(key, groupName);
+        return summary != null ? summary.getTotalPendingMessages() : 0;
+    }
+
+    /**
+     * 소비자 그룹에 아직 전달되지 않은 가장 오래된 메시지의 대기 시간 (ms, 없으면 0)
+     */
+    public long getDeliveryLagMillis(String key, String groupName) {
+        var group = redisTemplate.opsForStream()
+            .groups(key)
+            .stream()
+            .filter(info -> groupName.equals(info.groupName()))
+            .findFirst()
+            .orElse(null);
+        if (group == null) {
+            return 0;
+        }
+        var next = redisTemplate.opsForStream()
+            .range(key, Range.of(Range.Bound.exclusive(group.lastDeliveredId()), Range.Bound.unbounded()),
+                    Limit.limit().count(1));
+        if (next == null || next.isEmpty()) {
+            return 0;
+        }
+        return Math.max(0, System.currentTimeMillis() - next.get(0).getId().getTimestamp());
+    }
+
     public void pushHash(String key, String id, Object data) {
         try {
             String json = objectMapper.writeValueAsString(data);
@@ -163,18 +298,9 @@ public class RedisHandler {
     public Map<String, Map<String, Object>> getHashMap(String key) {
         Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
         Map<String, Map<String, Object>> result = new HashMap<>();
+        countHashGet(key, !entries.isEmpty());
 
-        entries.forEach((rKey, value) -> {
-            try {
-                String id = rKey.toString();
-                Map<String, Object> matchData = objectMapper.readValue(value.toString(), new TypeReference<>() {
-                });
-                result.put(id, matchData);
-            }
-            catch (JsonProcessingException e) {
-                throw new RuntimeException("Redis JSON 역직렬화 실패", e);
-            }
-        });
+        entries.forEach((rKey, value) -> result.put(rKey.toString(), readJson(key, value, MAP_TYPE)));
 
         return result;
     }
@@ -183,21 +309,85 @@ public class RedisHandler {
         Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
         Map<String, List<Object>> result = new HashMap<>();
 
-        entries.forEach((rKey, value) -> {
-            try {
-                String id = rKey.toString();
-                List<Object> matchData = objectMapper.readValue(value.toString(), new TypeReference<>() {
-                });
-                result.put(id, matchData);
+        entries.forEach((rKey, value) -> result.put(rKey.toString(), readJson(key, value, LIST_TYPE)));
+
+        return result;
+    }
+
+    /**
+     * hash 의 단일 필드만 조회 (HGET) 후 역직렬화
+     * <p>
+     * 필드가 없으면 null 을 반환합니다.
+     */
+    public <T> T getHashField(String key, String field, TypeReference<T> type) {
+        Object value = redisTemplate.opsForHash().get(key, field);
+        countHashGet(key, value != null);
+        return value != null ? readJson(key, value, type) : null;
+    }
+
+    /**
+     * hash 의 지정한 필드들만 조회 (HMGET) 후 역직렬화
+     * <p>
+     * 존재하지 않는 필드는 결과에서 제외됩니다.
+     */
+    public <T> Map<String, T> getHashFields(String key, Collection<String> fields, TypeReference<T> type) {
+        Map<String, T> result = new LinkedHashMap<>();
+        if (fields == null || fields.isEmpty()) {
+            return result;
+        }
+
+        List<Object> hashFields = new ArrayList<>(fields);
+        List<Object> values = redisTemplate.opsForHash().multiGet(key, hashFields);
+        for (int i = 0; i < hashFields.size(); i++) {
+            Object value = values.get(i);
+            countHashGet(key, value != null);
+            if (value != null) {
+                result.put(hashFields.get(i).toString(), readJson(key, value, type));
             }
-            catch (JsonProcessingException e) {
-                throw new RuntimeException("Redis JSON 역직렬화 실패", e);
+        }
+        return result;
+    }
+
+    /**
+     * 여러 hash 에서 같은 필드를 한 번의 왕복으로 조회 (파이프라인 HGET)
+     * <p>
+     * 결과는 hash key 기준이며, 필드가 없는 hash 는 결과에서 제외됩니다.
+     */
+    public <T> Map<String, T> getHashFieldFromKeys(Collection<String> keys, String field, TypeReference<T> type) {
+        Map<String, T> result = new LinkedHashMap<>();
+        if (keys == null || keys.isEmpty()) {
+            return result;
+        }
+
+        List<String> hashKeys = new ArrayList<>(keys);
+        List<Object> values = redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                hashKeys.forEach(key -> operations.opsForHash().get(key, field));
+                return null;
             }
         });
-
+        for (int i = 0; i < hashKeys.size(); i++) {
+            Object value = values.get(i);
+            countHashGet(hashKeys.get(i), value != null);
+            if (value != null) {
+                result.put(hashKeys.get(i), readJson(hashKeys.get(i), value, type));
+            }
+        }
         return result;
     }
 
+    private <T> T readJson(String key, Object value, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(value.toString(), type);
+        }
+        catch (JsonProcessingException e) {
+            log.error("Redis JSON 역직렬화 실패 - key: {}", key, e);
+            throw new CustomException(MessageEnum.Common.REQUEST_FAIL);
+        }
+    }
+
     /**
      * 락 시도
      */
@@ -213,4 +403,25 @@ public class RedisHandler {
         redisTemplate.delete(key);
     }
 
-}
\ No newline at end of file
+    /**
+     * hash 조회 적중 / 미스 지표 (필드 단위 조회는 필드마다 기록)
+     */
+    private void countHashGet(String key, boolean hit) {
+        meterRegistry.counter("redis.hash.get", "key", keyName(key), "result", hit ? "hit" : "miss").increment();
+    }
+
+    /**
+     * 지표 태그용 키 이름 (날짜 접두어 제거, 예: 20250930_match_list -> match_list)
+     */
+    private static String keyName(String key) {
+        var start = 0;
+        while (start < key.length() && Character.isDigit(key.charAt(start))) {
+            start++;
+        }
+        if (start > 0 && start < key.length() && key.charAt(start) == '_') {
+            start++;
+        }
+        return key.substring(start);
+    }
+
+}
@@ -0,0 +1,161 @@
+package kr.co.victoryfairy.redis.consumer;
+
+import kr.co.victoryfairy.logging.sql.SqlLoggingHolder;
+import kr.co.victoryfairy.logging.sql.SqlStats;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@DisplayName("StreamConsumerEngine 테스트")
+class StreamConsumerEngineTest {
+
+    @Mock
+    private RedisHandler redisHandler;
+
+    @Test
+    @DisplayName("같은 경기 이벤트는 순서대로 처리하고 ack 는 묶어서 보낸다")
+    void consume_shouldKeepOrderPerGameAndBatchAcks() throws Exception {
+        // given
+        var games = List.of("20250930SSLG0", "20250930HTOB0", "20250930NCKT0");
+        List<MapRecord<String, Object, Object>> messages = IntStream.range(0, 30)
+            .mapToObj(i -> message(i, games.get(i % games.size())))
+            .toList();
+
+        given(redisHandler.getEventMessages(eq("write_diary"), eq("diary_group"), eq("consumer"), any(), anyInt()))
+            .willReturn(messages)
+            .willAnswer(invocation -> {
+                Thread.sleep(10);
+                return Collections.emptyList();
+            });
+
+        Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+        var latch = new CountDownLatch(messages.size());
+        var engine = new StreamConsumerEngine("test", redisHandler, "write_diary", "diary_group", "consumer",
+                new StreamConsumerEngine.Options(Duration.ofMillis(10), 50, 3, 10, 5, Duration.ofMillis(20)),
+                message -> message.getValue().get("gameId"), message -> {
+                    var gameId = (String) message.getValue().get("gameId");
+                    processed.computeIfAbsent(gameId, key -> new CopyOnWriteArrayList<>())
+                        .add(Integer.parseInt((String) message.getValue().get("seq")));
+                    latch.countDown();
+                    return true;
+                });
+
+        // when
+        engine.start();
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        engine.stop();
+
+        // then
+        games.forEach(game -> assertThat(processed.get(game)).isSorted().hasSize(10));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> acked = ArgumentCaptor.forClass(List.class);
+        verify(redisHandler, atLeastOnce()).eventKnowEdge(eq("write_diary"), eq("diary_group"), acked.capture());
+        List<String> ackedIds = new ArrayList<>();
+        acked.getAllValues().forEach(ackedIds::addAll);
+        assertThat(ackedIds).hasSize(messages.size());
+        assertThat(acked.getAllValues().size()).isLessThan(messages.size());
+        assertThat(engine.pendingAckCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 메시지는 ack 하지 않는다")
+    void consume_whenHandlerFails_shouldNotAck() throws Exception {
+        // given
+        given(redisHandler.getEventMessages(any(), any(), any(), any(), anyInt()))
+            .willReturn(List.of(message(0, "20250930SSLG0")))
+            .willAnswer(invocation -> {
+                Thread.sleep(10);
+                return Collections.emptyList();
+            });
+
+        var latch = new CountDownLatch(1);
+        var engine = new StreamConsumerEngine("test", redisHandler, "write_diary", "diary_group", "consumer",
+                new StreamConsumerEngine.Options(Duration.ofMillis(10), 50, 2, 10, 5, Duration.ofMillis(20)),
+                message -> message.getValue().get("gameId"), message -> {
+                    latch.countDown();
+                    return false;
+                });
+
+        // when
+        engine.start();
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        engine.stop();
+
+        // then
+        verify(redisHandler, never()).eventKnowEdge(any(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("메시지 하나의 처리를 엔진 이름의 SQL 통계 작업 단위로 감싼다")
+    void consume_shouldOpenSqlStatsUnitPerMessage() throws Exception {
+        // given
+        given(redisHandler.getEventMessages(any(), any(), any(), any(), anyInt()))
+            .willReturn(List.of(message(0, "20250930SSLG0")))
+            .willAnswer(invocation -> {
+                Thread.sleep(10);
+                return Collections.emptyList();
+            });
+
+        var latch = new CountDownLatch(1);
+        var seen = new AtomicReference<SqlStats>();
+        var engine = new StreamConsumerEngine("diary-consumer", redisHandler, "write_diary", "diary_group", "consumer",
+                new StreamConsumerEngine.Options(Duration.ofMillis(10), 50, 2, 10, 5, Duration.ofMillis(20)),
+                message -> message.getValue().get("gameId"), message -> {
+                    seen.set(SqlLoggingHolder.current());
+                    latch.countDown();
+                    return true;
+                });
+
+        // when
+        engine.start();
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        engine.stop();
+
+        // then
+        assertThat(seen.get()).isNotNull();
+        assertThat(seen.get().kind()).isEqualTo(SqlLoggingHolder.KIND_JOB);
+        assertThat(seen.get().name()).isEqualTo("diary-consumer");
+    }
+
+    private MapRecord<String, Object, Object> message(int seq, String gameId) {
+        Map<Object, Object> body = Map.of("gameId", gameId, "seq", String.valueOf(seq));
+        return StreamRecords.newRecord()
+            .in("write_diary")
+            .withId(RecordId.of(1_000L + seq, 0L))
+            .ofMap(body);
+    }
+
+}
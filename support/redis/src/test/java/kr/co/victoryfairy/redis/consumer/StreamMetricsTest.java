@@ -0,0 +1,62 @@
+package kr.co.victoryfairy.redis.consumer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.victoryfairy.redis.handler.RedisHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@DisplayName("StreamMetrics 테스트")
+class StreamMetricsTest {
+
+    @Mock
+    private RedisHandler redisHandler;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("refresh 한 값을 스트림 / 그룹 태그의 게이지로 노출한다")
+    void refresh_shouldUpdateGauges() {
+        // given
+        var streamMetrics = new StreamMetrics(redisHandler, meterRegistry, "write_diary", "diary_group");
+        given(redisHandler.getPendingCount("write_diary", "diary_group")).willReturn(12L);
+        given(redisHandler.getDeliveryLagMillis("write_diary", "diary_group")).willReturn(1500L);
+
+        // when
+        streamMetrics.refresh();
+
+        // then
+        var tags = new String[] { "stream", "write_diary", "group", "diary_group" };
+        assertThat(meterRegistry.get("redis.stream.pending").tags(tags).gauge().value()).isEqualTo(12);
+        assertThat(meterRegistry.get("redis.stream.lag").tags(tags).timeGauge().value(TimeUnit.SECONDS))
+            .isEqualTo(1.5);
+    }
+
+    @Test
+    @DisplayName("Redis 조회에 실패하면 이전 값을 유지한다")
+    void refresh_whenRedisFails_shouldKeepPreviousValue() {
+        // given
+        var streamMetrics = new StreamMetrics(redisHandler, meterRegistry, "push_fcm", "fcm_group");
+        given(redisHandler.getPendingCount("push_fcm", "fcm_group")).willReturn(3L)
+            .willThrow(new RedisConnectionFailureException("down"));
+        streamMetrics.refresh();
+
+        // when
+        streamMetrics.refresh();
+
+        // then
+        assertThat(meterRegistry.get("redis.stream.pending").tag("stream", "push_fcm").gauge().value()).isEqualTo(3);
+    }
+
+}
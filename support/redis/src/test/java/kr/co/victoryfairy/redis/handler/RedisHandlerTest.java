@@ -0,0 +1,248 @@
+package kr.co.victoryfairy.redis.handler;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.victoryfairy.support.constant.MessageEnum;
+import kr.co.victoryfairy.support.exception.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@DisplayName("RedisHandler 테스트")
+class RedisHandlerTest {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RedisHandler redisHandler;
+
+    @BeforeEach
+    void setUp() {
+        given(meterRegistryProvider.getIfAvailable(any())).willReturn(meterRegistry);
+        redisHandler = new RedisHandler(redisTemplate, new ObjectMapper(), meterRegistryProvider);
+    }
+
+    @Test
+    @DisplayName("마지막 전달 id 다음의 가장 오래된 메시지로 전달 지연을 계산한다")
+    @SuppressWarnings("unchecked")
+    void getDeliveryLagMillis_shouldReadRangeAfterLastDeliveredId() {
+        // given
+        givenGroup("diary_group", "1759200000000-3");
+        var createdAt = System.currentTimeMillis() - 5_000;
+        doReturn(List.of(StreamRecords.newRecord()
+            .in("write_diary")
+            .withId(RecordId.of(createdAt, 0))
+            .ofMap(Map.of("gameId", "20250930SSLG0")))).when(streamOperations)
+            .range(eq("write_diary"), any(Range.class), any(Limit.class));
+
+        // when
+        var lag = redisHandler.getDeliveryLagMillis("write_diary", "diary_group");
+
+        // then
+        ArgumentCaptor<Range<String>> range = ArgumentCaptor.forClass(Range.class);
+        ArgumentCaptor<Limit> limit = ArgumentCaptor.forClass(Limit.class);
+        verify(streamOperations).range(eq("write_diary"), range.capture(), limit.capture());
+        assertThat(range.getValue().getLowerBound().isInclusive()).isFalse();
+        assertThat(range.getValue().getLowerBound().getValue()).contains("1759200000000-3");
+        assertThat(range.getValue().getUpperBound().isBounded()).isFalse();
+        assertThat(limit.getValue().getCount()).isEqualTo(1);
+        assertThat(lag).isBetween(5_000L, 10_000L);
+    }
+
+    @Test
+    @DisplayName("소비자 그룹이 없으면 지연은 0 이고 스트림을 읽지 않는다")
+    void getDeliveryLagMillis_whenNoGroup_shouldReturnZero() {
+        // given
+        var groups = mock(StreamInfo.XInfoGroups.class);
+        given(groups.stream()).willReturn(Stream.empty());
+        given(redisTemplate.opsForStream()).willReturn(streamOperations);
+        given(streamOperations.groups("write_diary")).willReturn(groups);
+
+        // when
+        var lag = redisHandler.getDeliveryLagMillis("write_diary", "diary_group");
+
+        // then
+        assertThat(lag).isZero();
+        verify(streamOperations, never()).range(any(), any(Range.class), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("전달되지 않은 메시지가 없으면 지연은 0 이다")
+    void getDeliveryLagMillis_whenNothingUndelivered_shouldReturnZero() {
+        // given
+        givenGroup("diary_group", "1759200000000-3");
+        given(streamOperations.range(eq("write_diary"), any(), any())).willReturn(List.of());
+
+        // when
+        var lag = redisHandler.getDeliveryLagMillis("write_diary", "diary_group");
+
+        // then
+        assertThat(lag).isZero();
+    }
+
+    @Test
+    @DisplayName("지표 태그의 키 이름에서 날짜 접두어를 뗀다")
+    void getHashMap_shouldTagKeyWithoutDatePrefix() {
+        // given
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries(any())).willReturn(Map.of());
+
+        // when
+        redisHandler.getHashMap("20250930_match_list");
+        redisHandler.getHashMap("member_stats");
+
+        // then
+        assertThat(meterRegistry.get("redis.hash.get").tags("key", "match_list", "result", "miss").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("redis.hash.get").tags("key", "member_stats", "result", "miss").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.find("redis.hash.get").tag("key", "20250930_match_list").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("단일 필드 조회도 적중 / 미스를 기록한다")
+    void getHashField_shouldCountHitAndMiss() {
+        // given
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.get("20250930_match_list", "20250930SSLG0")).willReturn("{\"status\":\"END\"}");
+        given(hashOperations.get("20250930_match_list", "20250930HTOB0")).willReturn(null);
+
+        // when
+        redisHandler.getHashField("20250930_match_list", "20250930SSLG0", MAP_TYPE);
+        redisHandler.getHashField("20250930_match_list", "20250930HTOB0", MAP_TYPE);
+
+        // then
+        assertThat(hashGetCount("match_list", "hit")).isEqualTo(1);
+        assertThat(hashGetCount("match_list", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 필드 조회는 필드마다 적중 / 미스를 기록한다")
+    void getHashFields_shouldCountEachField() {
+        // given
+        var fields = List.of("20250930SSLG0", "20250930HTOB0", "20250930NCKT0");
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.multiGet("20250930_match_list", List.<Object>copyOf(fields)))
+            .willReturn(Arrays.asList("{\"status\":\"END\"}", null, "{\"status\":\"READY\"}"));
+
+        // when
+        var result = redisHandler.getHashFields("20250930_match_list", fields, MAP_TYPE);
+
+        // then
+        assertThat(result).containsOnlyKeys("20250930SSLG0", "20250930NCKT0");
+        assertThat(hashGetCount("match_list", "hit")).isEqualTo(2);
+        assertThat(hashGetCount("match_list", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("파이프라인 조회는 hash 별로 적중 / 미스를 기록한다")
+    @SuppressWarnings("unchecked")
+    void getHashFieldFromKeys_shouldCountEachKey() {
+        // given
+        given(redisTemplate.executePipelined(any(SessionCallback.class)))
+            .willReturn(Arrays.asList("{\"hits\":1}", null));
+
+        // when
+        var result = redisHandler.getHashFieldFromKeys(List.of("away_batter", "home_batter"), "20250930SSLG0",
+                MAP_TYPE);
+
+        // then
+        assertThat(result).containsOnlyKeys("away_batter");
+        assertThat(hashGetCount("away_batter", "hit")).isEqualTo(1);
+        assertThat(hashGetCount("home_batter", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("hash 필드 값을 역직렬화하지 못하면 요청 실패 예외를 던진다")
+    void getHashField_whenJsonBroken_shouldThrowRequestFail() {
+        // given
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.get("member_stats_1", "record")).willReturn("{broken");
+
+        var type = new TypeReference<Map<String, Integer>>() {
+        };
+
+        // when & then
+        assertThatThrownBy(() -> redisHandler.getHashField("member_stats_1", "record", type))
+            .isInstanceOf(CustomException.class)
+            .hasMessage(MessageEnum.Common.REQUEST_FAIL.getDescKr());
+    }
+
+    @Test
+    @DisplayName("hash 전체 조회도 역직렬화하지 못하면 요청 실패 예외를 던진다")
+    void getHashMap_whenJsonBroken_shouldThrowRequestFail() {
+        // given
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("20250930_match_list")).willReturn(Map.of("20250930SSLG0", "{broken"));
+
+        // when & then
+        assertThatThrownBy(() -> redisHandler.getHashMap("20250930_match_list")).isInstanceOf(CustomException.class)
+            .hasMessage(MessageEnum.Common.REQUEST_FAIL.getDescKr());
+        assertThatThrownBy(() -> redisHandler.getHashMapList("20250930_match_list"))
+            .isInstanceOf(CustomException.class)
+            .hasMessage(MessageEnum.Common.REQUEST_FAIL.getDescKr());
+    }
+
+    private double hashGetCount(String key, String result) {
+        return meterRegistry.get("redis.hash.get").tags("key", key, "result", result).counter().count();
+    }
+
+    private void givenGroup(String groupName, String lastDeliveredId) {
+        var group = mock(StreamInfo.XInfoGroup.class);
+        given(group.groupName()).willReturn(groupName);
+        given(group.lastDeliveredId()).willReturn(lastDeliveredId);
+        var groups = mock(StreamInfo.XInfoGroups.class);
+        given(groups.stream()).willReturn(Stream.of(group));
+        given(redisTemplate.opsForStream()).willReturn(streamOperations);
+        given(streamOperations.groups("write_diary")).willReturn(groups);
+    }
+
+}
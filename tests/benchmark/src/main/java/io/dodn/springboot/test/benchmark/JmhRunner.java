@@ -0,0 +1,101 @@
+package io.dodn.springboot.test.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * JUnit 테스트 안에서 JMH 벤치마크 실행 (fork 없이 같은 JVM, GC 프로파일러 포함)
+ * <p>
+ * 측정값은 JMH 가 콘솔에 출력하고 build/jmh/{클래스명}.json 에도 남기므로, 테스트는 반환된 결과로 비교만 합니다.
+ */
+public final class JmhRunner {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private JmhRunner() {
+    }
+
+    /**
+     * 기본 설정 (워밍업 3회 / 측정 5회, 각 1초)
+     */
+    public static Results run(Class<?> benchmark) throws RunnerException {
+        return run(benchmark, UnaryOperator.identity());
+    }
+
+    /**
+     * @param customizer 반복 횟수 / 파라미터 등 기본 설정 변경
+     */
+    public static Results run(Class<?> benchmark, UnaryOperator<ChainedOptionsBuilder> customizer)
+            throws RunnerException {
+        new File("build/jmh").mkdirs();
+        var options = new OptionsBuilder().include(benchmark.getName() + "\\.")
+            .forks(0)
+            .warmupIterations(3)
+            .warmupTime(TimeValue.seconds(1))
+            .measurementIterations(5)
+            .measurementTime(TimeValue.seconds(1))
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result("build/jmh/" + benchmark.getSimpleName() + ".json");
+        return new Results(new Runner(customizer.apply(options).build()).run());
+    }
+
+    /**
+     * 벤치마크 메서드 이름(과 @Param 값)으로 찾는 실행 결과
+     */
+    public static final class Results {
+
+        private final Collection<RunResult> runs;
+
+        private Results(Collection<RunResult> runs) {
+            this.runs = runs;
+        }
+
+        public Score get(String benchmark) {
+            return get(benchmark, Map.of());
+        }
+
+        public Score get(String benchmark, String param, String value) {
+            return get(benchmark, Map.of(param, value));
+        }
+
+        private Score get(String benchmark, Map<String, String> params) {
+            return runs.stream()
+                .filter(run -> run.getParams().getBenchmark().endsWith("." + benchmark))
+                .filter(run -> params.entrySet()
+                    .stream()
+                    .allMatch(param -> param.getValue().equals(run.getParams().getParam(param.getKey()))))
+                .findFirst()
+                .map(Score::of)
+                .orElseThrow(() -> new IllegalArgumentException("no benchmark result - " + benchmark + params));
+        }
+
+    }
+
+    /**
+     * @param score 주 측정값 (벤치마크의 BenchmarkMode / OutputTimeUnit 단위)
+     * @param allocated 호출당 할당량 (byte)
+     */
+    public record Score(double score, double allocated) {
+
+        private static Score of(RunResult run) {
+            Result<?> allocation = run.getSecondaryResults().get(ALLOCATION);
+            return new Score(run.getPrimaryResult().getScore(),
+                    allocation != null ? allocation.getScore() : Double.NaN);
+        }
+
+    }
+
+}